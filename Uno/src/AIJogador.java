@@ -1,6 +1,4 @@
-import java.util.Comparator;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
 
 /**
  * Uno
@@ -22,11 +20,22 @@ public class AIJogador extends Jogador {
      * Ofensivo: Usa primeiras cartas de baixo valor.
      * Defensivo: Usa as primeiras cartas de alto valor.
      * Caótico: Usa cartas solicitadas de qualquer uma que possa ser jogada.
+     * Busca: Escolhe a carta com uma busca ISMCTS (ver BuscaISMCTS) durante o
+     * atraso do turno.
+     * Fora a Caótica, todas passam a usar o SolucionadorFinal no fim de
+     * rodadas de dois jogadores.
      */
     public enum AIStrategy {
-        Ofensivo, Defensivo, Caotico, Aleatorio
+        Ofensivo, Defensivo, Caotico, Aleatorio, Busca
     }
 
+    /**
+     * Chance mínima de blefe estimada para desafiar um +4. Desafiar e errar
+     * custa 6 cartas, e acertar dá 4 ao oponente, contra 4 cartas por recusar:
+     * com uma chance p de blefe, desafiar compensa quando 6(1 - p) - 4p < 4.
+     */
+    private static final double CHALLENGE_THRESHOLD = 0.2;
+
     /**
      * A estratégia a ser usada para selecionar como as cartas serão jogadas.
      */
@@ -57,6 +66,37 @@ public class AIJogador extends Jogador {
      * Temporizador até que um salto seja executado, se ainda permitido.
      */
     private double consideringJumpInTimer;
+    /**
+     * A busca usada pela estratégia Busca, ou nula nas outras estratégias.
+     */
+    private BuscaISMCTS search;
+    /**
+     * Tempo máximo de cada busca em milissegundos.
+     */
+    private int searchTimeBudget;
+    /**
+     * O resultado da última busca usada para jogar, ou nulo.
+     */
+    private BuscaISMCTS.Resultado lastSearchResult;
+    /**
+     * A cor escolhida pela busca para o curinga que está sendo jogado, ou -1.
+     */
+    private int searchWildColourID;
+    /**
+     * O que esta IA estima sobre as mãos dos oponentes, atualizado pelos
+     * eventos da partida.
+     */
+    private final ModeloOponentes opponentModel;
+    /**
+     * O solucionador usado no fim de rodadas de dois jogadores, criado na
+     * primeira vez que é necessário por causa da sua tabela de transposição.
+     */
+    private SolucionadorFinal endgameSolver;
+    /**
+     * Limite de tempo de cada jogada do SolucionadorFinal em milissegundos, ou
+     * SolucionadorFinal.NO_TIME_LIMIT para parar apenas pelo orçamento de nós.
+     */
+    private int endgameTimeBudget;
 
     /**
      * Define uma IA em cima de um jogador básico pronto para realizar ações
@@ -75,42 +115,112 @@ public class AIJogador extends Jogador {
     public AIJogador(int playerNumber, String playerName, Retangulo bounds, AIStrategy strategy,
             boolean showPlayerNameLeft) {
         super(playerNumber, playerName, PlayerType.AIJogador, bounds, showPlayerNameLeft);
-        if (strategy == AIStrategy.Aleatorio) {
-            selectRandomStrategy();
-        } else {
-            this.strategy = strategy;
+        // Aleatorio é resolvido na primeira atualização, com o fluxo da IA da
+        // partida, para que a escolha dependa só da semente.
+        this.strategy = strategy;
+        if (this.strategy == AIStrategy.Busca) {
+            configureSearch(BuscaISMCTS.DEFAULT_TIME_BUDGET, BuscaISMCTS.getDefaultThreadCount());
         }
         resetDelayTimer();
         consideringDelayTimer = -1;
+        searchWildColourID = -1;
+        endgameTimeBudget = SolucionadorFinal.NO_TIME_LIMIT;
+        opponentModel = new ModeloOponentes(this);
     }
 
     /**
      * Escolhe uma estratégia aleatória.
+     *
+     * @param random O fluxo da IA da partida.
      */
-    private void selectRandomStrategy() {
-        switch ((int) (Math.random() * 3)) {
+    private void selectRandomStrategy(SplittableRandom random) {
+        switch (random.nextInt(3)) {
             case 0 -> strategy = AIStrategy.Ofensivo;
             case 1 -> strategy = AIStrategy.Defensivo;
             case 2 -> strategy = AIStrategy.Caotico;
         }
     }
 
+    /**
+     * Obtém a estratégia usada por esta IA.
+     *
+     * @return A estratégia escolhida (Aleatorio só até a primeira
+     *         atualização).
+     */
+    public AIStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Define o orçamento de tempo e o número de threads das buscas da
+     * estratégia Busca. Não tem efeito nas outras estratégias.
+     *
+     * @param timeBudget Tempo máximo de cada busca em milissegundos.
+     * @param threads    Número de árvores construídas em paralelo.
+     */
+    public void configureSearch(int timeBudget, int threads) {
+        if (strategy != AIStrategy.Busca)
+            return;
+        if (search != null) {
+            search.cancel();
+        }
+        search = new BuscaISMCTS(threads);
+        searchTimeBudget = timeBudget;
+    }
+
+    /**
+     * Define um limite de tempo para cada jogada do SolucionadorFinal. Sem
+     * ele (o padrão) as escolhas no fim da rodada dependem só da semente; a
+     * interface usa SolucionadorFinal.INTERACTIVE_TIME_BUDGET para garantir a
+     * resposta dentro do atraso do turno.
+     *
+     * @param timeBudget Tempo máximo em milissegundos, ou
+     *                   SolucionadorFinal.NO_TIME_LIMIT.
+     */
+    public void setEndgameTimeBudget(int timeBudget) {
+        endgameTimeBudget = timeBudget;
+    }
+
+    /**
+     * Obtém o resultado da última busca usada para escolher uma carta, com as
+     * iterações por segundo daquela jogada.
+     *
+     * @return O último resultado, ou nulo se nenhuma busca foi usada.
+     */
+    public BuscaISMCTS.Resultado getLastSearchResult() {
+        return lastSearchResult;
+    }
+
     /**
      * Verifica ações válidas que podem ser realizadas por este jogador e
      * executa-os se houver capacidade para isso.
      *
+     * @param game      O jogo do qual este jogador participa.
      * @param deltaTime Tempo desde a última atualização.
      */
     @Override
-    public void update(int deltaTime) {
-        updateAntiUnoCheck(deltaTime);
-        updateJumpInCheck(deltaTime);
+    public void update(MotorJogo game, int deltaTime) {
+        if (strategy == AIStrategy.Aleatorio) {
+            selectRandomStrategy(game.getRandom().getAIRandom());
+        }
+        opponentModel.attach(game);
+        updateAntiUnoCheck(game, deltaTime);
+        updateJumpInCheck(game, deltaTime);
 
         // Não faça mais nada se este não for o jogador atual.
-        if (InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerID() != getPlayerID()) {
+        if (game.getCurrentPlayer().getPlayerID() != getPlayerID()) {
+            if (search != null) {
+                search.cancel();
+            }
             return;
         }
 
+        // A busca começa com o turno para usar o atraso como tempo de pensar.
+        if (search != null && game.getCurrentTurnAction() == null && !search.isSearching()
+                && !usesEndgameSolver(game)) {
+            search.start(game, searchTimeBudget);
+        }
+
         // Atraso até
         delayTimer -= deltaTime;
         if (delayTimer <= 0) {
@@ -122,44 +232,96 @@ public class AIJogador extends Jogador {
         // Se não houver nenhuma ação de turno para lidar com isso significa que o
         // jogador está
         // realizando seu turno normal
-        if (InterfaceJogo.getCurrentGame().getCurrentTurnAction() == null) {
-            performTurn();
+        if (game.getCurrentTurnAction() == null) {
+            if (!usesEndgameSolver(game) || !playEndgameMove(game)) {
+                performTurn(game);
+            }
         } else {
             // Trata a ação turn se for necessário
-            TurnActionFactory.TurnAction currentAction = InterfaceJogo.getCurrentGame().getCurrentTurnAction();
-            if (currentAction instanceof TurnActionFactory.TurnDecisionAction) {
-                TurnActionFactory.TurnDecisionAction decisionAction = (TurnActionFactory.TurnDecisionAction) currentAction;
-                if (decisionAction.timeOut) {
-                    handleTurnDecision(decisionAction);
-                }
+            TurnActionFactory.TurnSequence currentAction = game.getCurrentTurnAction();
+            TurnActionFactory.TurnDecisionAction decisionNode = currentAction.getDecision();
+            if (decisionNode != null && decisionNode.timeOut
+                    && (!usesEndgameSolver(game) || !playEndgameMove(game))) {
+                handleTurnDecision(game, currentAction);
             }
         }
     }
 
+    /**
+     * Verifica se esta IA deve usar o SolucionadorFinal na posição atual. A
+     * estratégia Caótica continua jogando ao acaso.
+     *
+     * @param game O jogo do qual este jogador participa.
+     * @return Verdadeiro no fim de uma rodada de dois jogadores.
+     */
+    private boolean usesEndgameSolver(MotorJogo game) {
+        return strategy != AIStrategy.Caotico && SolucionadorFinal.isEndgame(game);
+    }
+
+    /**
+     * Escolhe a jogada com o SolucionadorFinal e a aplica, chamando UNO antes
+     * de jogar a penúltima carta como nos outros caminhos. A busca da
+     * estratégia Busca e a cor que ela tiver guardado são descartadas.
+     *
+     * @param game O jogo do qual este jogador participa.
+     * @return Verdadeiro se uma jogada foi aplicada.
+     */
+    private boolean playEndgameMove(MotorJogo game) {
+        if (endgameSolver == null) {
+            endgameSolver = new SolucionadorFinal();
+        }
+        if (search != null) {
+            search.cancel();
+        }
+        searchWildColourID = -1;
+        int move = endgameSolver.solve(game, opponentModel, game.getRandom().getAIRandom(), endgameTimeBudget);
+        if (move == -1) {
+            return false;
+        }
+        if (CodigoJogada.getType(move) == CodigoJogada.PLAY_CARD) {
+            checkCallUNO(game);
+        }
+        return game.applyMove(getPlayerID(), move);
+    }
+
+    /**
+     * Verifica se a IA está contando o atraso do turno, considerando chamar o
+     * UNO de alguém ou considerando saltar com uma carta.
+     *
+     * @param game O jogo do qual este jogador participa.
+     * @return Verdadeiro enquanto algum desses cronômetros está contando.
+     */
+    @Override
+    public boolean hasActiveTimer(MotorJogo game) {
+        return game.getCurrentPlayer() == this || consideringPlayerID != -1 || consideringJumpIn;
+    }
+
     /**
      * Verifica o status atual de quaisquer chamadas anti-uno disponíveis e faz uma
      * decisão de chamá-los.
      *
+     * @param game      O jogo do qual este jogador participa.
      * @param deltaTime Tempo desde a última atualização.
      */
-    private void updateAntiUnoCheck(int deltaTime) {
-        for (Jogador player : InterfaceJogo.getCurrentGame().getAllPlayers()) {
-            if (player != this && !player.isSafe() && player.getHand().size() == 1) {
+    private void updateAntiUnoCheck(MotorJogo game, int deltaTime) {
+        for (Jogador player : game.getAllPlayers()) {
+            if (player != this && !player.isSafe() && player.getHandSize() == 1) {
                 if (consideringPlayerID != player.getPlayerID()) {
-                    consideringDelayTimer = Math.random() * 800 + 200;
+                    consideringDelayTimer = game.getRandom().getAIRandom().nextDouble() * 800 + 200;
                 }
                 consideringPlayerID = player.getPlayerID();
             }
         }
         if (consideringPlayerID == -1
-                || InterfaceJogo.getCurrentGame().getPlayerByID(consideringPlayerID).isSafe()) {
+                || game.getPlayerByID(consideringPlayerID).isSafe()) {
             consideringPlayerID = -1;
         } else {
             consideringDelayTimer -= deltaTime;
             if (consideringDelayTimer <= 0) {
-                consideringDelayTimer = Math.random() * 1200 + 300;
-                if (Math.random() * 100 < 30) {
-                    InterfaceJogo.getCurrentGame().applyAntiUno(consideringPlayerID);
+                SplittableRandom random = game.getRandom().getAIRandom();
+                consideringDelayTimer = random.nextDouble() * 1200 + 300;
+                if (random.nextInt(100) < 30) {
+                    game.applyAntiUno(consideringPlayerID);
                 }
             }
         }
@@ -169,21 +331,19 @@ public class AIJogador extends Jogador {
      * Atualiza o estado do salto se for permitido e possível para isso
      * jogador.
      *
+     * @param game      O jogo do qual este jogador participa.
      * @param deltaTime Tempo desde a última atualização.
      */
-    private void updateJumpInCheck(int deltaTime) {
-        if (InterfaceJogo.getCurrentGame().getRuleSet().allowJumpInRule()
-                && InterfaceJogo.getCurrentGame().getCurrentTurnAction() == null
-                && InterfaceJogo.getCurrentGame().getCurrentPlayer() != this) {
-            Carta topCard = InterfaceJogo.getCurrentGame().getTopCard();
-            List<Carta> validCards = getHand().stream()
-                    .filter(card -> card.getFaceValueID() == topCard.getFaceValueID()
-                            && card.getColourID() == topCard.getColourID())
-                    .collect(Collectors.toList());
-            if (!validCards.isEmpty()) {
+    private void updateJumpInCheck(MotorJogo game, int deltaTime) {
+        if (game.getRuleSet().allowJumpInRule()
+                && game.getCurrentTurnAction() == null
+                && game.getCurrentPlayer() != this) {
+            int topCard = game.getTopCard();
+            if (hasCard(CodigoCarta.getFaceValueID(topCard), CodigoCarta.getColourID(topCard))) {
                 if (!canJumpIn) {
-                    consideringJumpIn = Math.random() * 100 < 80;
-                    consideringJumpInTimer = Math.random() * 200 + 100;
+                    SplittableRandom random = game.getRandom().getAIRandom();
+                    consideringJumpIn = random.nextInt(100) < 80;
+                    consideringJumpInTimer = random.nextDouble() * 200 + 100;
                 }
                 canJumpIn = true;
             } else {
@@ -198,13 +358,9 @@ public class AIJogador extends Jogador {
         if (consideringJumpIn) {
             consideringJumpInTimer -= deltaTime;
             if (consideringJumpInTimer <= 0) {
-                Carta topCard = InterfaceJogo.getCurrentGame().getTopCard();
-                List<Carta> validCards = getHand().stream()
-                        .filter(card -> card.getFaceValueID() == topCard.getFaceValueID()
-                                && card.getColourID() == topCard.getColourID())
-                        .collect(Collectors.toList());
-                if (!validCards.isEmpty()) {
-                    InterfaceJogo.getCurrentGame().jumpIn(getPlayerID(), validCards.get(0));
+                int jumpInCard = findJumpInCard(game.getTopCard());
+                if (jumpInCard != CodigoCarta.NO_CARD) {
+                    game.applyMove(getPlayerID(), CodigoJogada.playCard(jumpInCard));
                 }
             }
         }
@@ -216,18 +372,22 @@ public class AIJogador extends Jogador {
      * Caso contrário, uma carta é escolhida entre os movimentos válidos e jogada
      * inicializando um
      * TurnAction.
+     *
+     * @param game O jogo do qual este jogador participa.
      */
-    private void performTurn() {
-        Carta topCard = InterfaceJogo.getCurrentGame().getTopCard();
-        List<Carta> validMoves = getValidMoves(topCard.getFaceValueID(), topCard.getColourID());
-        if (validMoves.isEmpty()) {
-            InterfaceJogo.getCurrentGame()
-                    .setCurrentTurnAction(TurnActionFactory.drawCardAsAction(getPlayerID()));
+    private void performTurn(MotorJogo game) {
+        int topCard = game.getTopCard();
+        int topFaceValueID = CodigoCarta.getFaceValueID(topCard);
+        int topColourID = CodigoCarta.getColourID(topCard);
+        if (countValidMoves(topFaceValueID, topColourID) == 0) {
+            if (search != null) {
+                search.cancel();
+            }
+            game.applyMove(getPlayerID(), CodigoJogada.encode(CodigoJogada.DRAW_CARD, 0));
         } else {
-            Carta cardToPlay = chooseCard(validMoves);
-            checkCallUNO();
-            InterfaceJogo.getCurrentGame().setCurrentTurnAction(TurnActionFactory.playCardAsAction(
-                    getPlayerID(), cardToPlay.getCardID(), cardToPlay.getFaceValueID(), cardToPlay.getColourID()));
+            int cardToPlay = chooseCard(game, getValidMoves(topFaceValueID, topColourID));
+            checkCallUNO(game);
+            game.applyMove(getPlayerID(), CodigoJogada.playCard(cardToPlay));
         }
     }
 
@@ -242,123 +402,208 @@ public class AIJogador extends Jogador {
      * Pega uma lista de cartas que podem ser jogadas e escolhe a carta
      * com base na estratégia selecionada para a IA.
      *
-     * @param validCards Uma coleção de cartas válidas para serem jogadas.
-     * @return Uma única carta válida selecionada para ser jogada.
+     * @param game       O jogo do qual este jogador participa.
+     * @param validCards As cartas codificadas válidas para serem jogadas.
+     * @return Uma única carta codificada válida selecionada para ser jogada.
      */
-    private Carta chooseCard(List<Carta> validCards) {
+    private int chooseCard(MotorJogo game, int[] validCards) {
+        if (strategy == AIStrategy.Busca) {
+            int chosenCard = chooseCardBySearch(game, validCards);
+            if (chosenCard != CodigoCarta.NO_CARD) {
+                return chosenCard;
+            }
+        }
         if (strategy == AIStrategy.Caotico) {
-            return validCards.get((int) (Math.random() * validCards.size()));
+            return validCards[game.getRandom().getAIRandom().nextInt(validCards.length)];
         }
 
-        validCards.sort(Comparator.comparingInt(Carta::getScoreValue));
+        int chosenCard = validCards[0];
+        for (int i = 1; i < validCards.length; i++) {
+            int score = CodigoCarta.getScoreValue(validCards[i]);
+            int chosenScore = CodigoCarta.getScoreValue(chosenCard);
+            if (strategy == AIStrategy.Defensivo ? score >= chosenScore : score < chosenScore) {
+                chosenCard = validCards[i];
+            }
+        }
+        return chosenCard;
+    }
 
-        if (strategy == AIStrategy.Defensivo) {
-            return validCards.get(validCards.size() - 1);
-        } else { // Ofensivo
-            return validCards.get(0);
+    /**
+     * Obtém o resultado da busca começada no início do turno (esperando o fim
+     * do orçamento se necessário) e procura entre as cartas válidas uma com a
+     * face e a cor escolhidas. Para um curinga, a cor escolhida pela busca é
+     * guardada para chooseWildColour. A mão pode ter mudado durante a busca, por
+     * exemplo por uma penalidade de UNO, e nesse caso a escolha pode não estar
+     * mais entre as válidas.
+     *
+     * @param game       O jogo do qual este jogador participa.
+     * @param validCards As cartas codificadas válidas para serem jogadas.
+     * @return A carta escolhida pela busca, ou CodigoCarta.NO_CARD para usar a
+     *         escolha Ofensiva.
+     */
+    private int chooseCardBySearch(MotorJogo game, int[] validCards) {
+        if (!search.isSearching()) {
+            search.start(game, searchTimeBudget);
         }
+        lastSearchResult = search.awaitResult();
+        for (int card : validCards) {
+            if (EstadoJogo.isActionForCard(lastSearchResult.action(), card)) {
+                if (CodigoCarta.getFaceValueID(card) >= 13) {
+                    searchWildColourID = lastSearchResult.action() % CodigoCarta.COLOUR_COUNT;
+                }
+                return card;
+            }
+        }
+        return CodigoCarta.NO_CARD;
+    }
+
+    /**
+     * Procura na mão uma carta com a mesma face e cor da carta do topo, que
+     * pode ser usada para um salto.
+     *
+     * @param topCard A carta codificada do topo da pilha.
+     * @return A primeira carta codificada encontrada ou CodigoCarta.NO_CARD.
+     */
+    private int findJumpInCard(int topCard) {
+        if (!hasCard(CodigoCarta.getFaceValueID(topCard), CodigoCarta.getColourID(topCard)))
+            return CodigoCarta.NO_CARD;
+        for (int i = 0; i < getHandSize(); i++) {
+            if (CodigoCarta.isSameFaceAndColour(getCard(i), topCard)) {
+                return getCard(i);
+            }
+        }
+        return CodigoCarta.NO_CARD;
+    }
+
+    /**
+     * Procura na mão uma carta com o faceValueID.
+     *
+     * @param faceValueID O faceValueID procurado.
+     * @return A primeira carta codificada encontrada ou CodigoCarta.NO_CARD.
+     */
+    private int findCardWithFaceValue(int faceValueID) {
+        if (!hasFaceValue(faceValueID))
+            return CodigoCarta.NO_CARD;
+        for (int i = 0; i < getHandSize(); i++) {
+            if (CodigoCarta.getFaceValueID(getCard(i)) == faceValueID) {
+                return getCard(i);
+            }
+        }
+        return CodigoCarta.NO_CARD;
     }
 
     /**
      * Verifica o flagName da decisãoAction para determinar um
      * resposta apropriada baseada em outros métodos desta classe.
      *
+     * @param game           O jogo do qual este jogador participa.
      * @param DecisionAction Referência à ação atual que requer uma decisão.
      */
-    private void handleTurnDecision(TurnActionFactory.TurnDecisionAction decisionAction) {
-        switch (decisionAction.flagName) {
-            case "wildColour" -> chooseWildColour(decisionAction);
-            case "keepOrPlay" -> chooseKeepOrPlay(decisionAction);
-            case "otherPlayer" -> choosePlayerToSwapWith(decisionAction);
-            case "isChallenging" -> chooseChallengeOrDecline(decisionAction);
-            case "isStacking" -> chooseStackPlus2(decisionAction);
+    private void handleTurnDecision(MotorJogo game, TurnActionFactory.TurnSequence decisionAction) {
+        switch (decisionAction.getDecision().flagName) {
+            case WildColour -> chooseWildColour(game, decisionAction);
+            case KeepOrPlay -> chooseKeepOrPlay(game, decisionAction);
+            case OtherPlayer -> choosePlayerToSwapWith(game, decisionAction);
+            case IsChallenging -> chooseChallengeOrDecline(game, decisionAction);
+            case IsStacking -> chooseStackPlus2(game, decisionAction);
         }
     }
 
     /**
-     * Obtém uma lista de cartas coloridas na mão do AIJogador. Se não houver nenhum,
-     * ou
-     * aleatoriamente
-     * possibilidade de a cor ser escolhida aleatoriamente. Caso contrário, a
-     * primeira carta da lista será
-     * selecionado
-     * conforme a cor a ser aplicada.
+     * Escolhe a cor do curinga que está sendo jogado. Na estratégia Busca, a
+     * cor escolhida pela busca junto com a carta tem prioridade. Caso
+     * contrário, cada cor vale o número de cartas dela na mão da IA menos a
+     * chance estimada de o próximo jogador ter a cor, de forma que entre cores
+     * parecidas a IA prefere uma que o próximo jogador provavelmente não tem.
      *
+     * @param game           O jogo do qual este jogador participa.
      * @param DecisionAction Referência à ação atual que requer uma decisão.
      */
-    private void chooseWildColour(TurnActionFactory.TurnDecisionAction decisionAction) {
-        List<Carta> colouredHandCards = getHand().stream().filter(card -> card.getColourID() != 4)
-                .collect(Collectors.toList());
-
-        // Sem cartas, ou apenas curingas, ou chance rara de 10%: escolha a cor
-        // aleatoriamente
-        if (colouredHandCards.isEmpty() || Math.random() * 100 > 90) {
-            decisionAction.injectProperty("colourID", (int) (Math.random() * 4));
-        } else { // Use o primeiro cartão colorido
-            decisionAction.injectProperty("colourID", colouredHandCards.get(0).getColourID());
+    private void chooseWildColour(MotorJogo game, TurnActionFactory.TurnSequence decisionAction) {
+        if (searchWildColourID != -1) {
+            game.applyMove(getPlayerID(), CodigoJogada.chooseColour(searchWildColourID));
+            searchWildColourID = -1;
+            return;
         }
-        decisionAction.injectFlagProperty(1);
+        int nextPlayerID = getNextPlayerID(game);
+        int chosenColourID = 0;
+        double chosenScore = Double.NEGATIVE_INFINITY;
+        for (int colourID = 0; colourID < CodigoCarta.WILD_COLOUR; colourID++) {
+            double score = getColourCount(colourID) - opponentModel.getColourProbability(nextPlayerID, colourID);
+            if (score > chosenScore) {
+                chosenColourID = colourID;
+                chosenScore = score;
+            }
+        }
+        game.applyMove(getPlayerID(), CodigoJogada.chooseColour(chosenColourID));
     }
 
     /**
      * Sempre opta por jogar cartas que foram compradas.
      *
+     * @param game           O jogo do qual este jogador participa.
      * @param DecisionAction Referência à ação atual que requer uma decisão.
      */
-    private void chooseKeepOrPlay(TurnActionFactory.TurnDecisionAction decisionAction) {
-        checkCallUNO();
-        decisionAction.injectFlagProperty(1);
+    private void chooseKeepOrPlay(MotorJogo game, TurnActionFactory.TurnSequence decisionAction) {
+        checkCallUNO(game);
+        game.applyMove(getPlayerID(), CodigoJogada.playCard(
+                getCardByID(decisionAction.get(TurnActionFactory.DataSlot.CardID))));
     }
 
     /**
      * Encontra a mão com o menor número de cartas além das suas e
-     * swaps indica uma preferência de troca com esse alvo.
+     * swaps indica uma preferência de troca com esse alvo. Entre mãos do mesmo
+     * tamanho, prefere a que tem mais chance de ter um curinga ou +4.
      *
+     * @param game           O jogo do qual este jogador participa.
      * @param DecisionAction Referência à ação atual que requer uma decisão.
      */
-    private void choosePlayerToSwapWith(TurnActionFactory.TurnDecisionAction decisionAction) {
+    private void choosePlayerToSwapWith(MotorJogo game, TurnActionFactory.TurnSequence decisionAction) {
         Jogador chosenPlayer = this;
-        int cardCount = 9999;
-        for (Jogador player : InterfaceJogo.getCurrentGame().getAllPlayers()) {
-            if (player.getHand().size() < cardCount && player != this) {
+        double chosenScore = Double.POSITIVE_INFINITY;
+        for (Jogador player : game.getAllPlayers()) {
+            if (player == this) {
+                continue;
+            }
+            double score = player.getHandSize()
+                    - opponentModel.getColourProbability(player.getPlayerID(), CodigoCarta.WILD_COLOUR);
+            if (score < chosenScore) {
                 chosenPlayer = player;
-                cardCount = chosenPlayer.getHand().size();
+                chosenScore = score;
             }
         }
-        decisionAction.injectFlagProperty(chosenPlayer.getPlayerID());
+        game.applyMove(getPlayerID(), CodigoJogada.swapHands(chosenPlayer.getPlayerID()));
     }
 
     /**
      * Verifica se as cartas podem ser empilhadas e sempre encadeia se podem ser com
      * uma carta válida
      * cartão.
-     * Caso contrário, decidirá aleatoriamente se desafiará ou recusará.
+     * Caso contrário, desafia quando a chance estimada de quem jogou o +4 ter
+     * uma carta colorida jogável sobre a carta anterior (um blefe) chega a
+     * CHALLENGE_THRESHOLD, e recusa nos demais casos.
      *
+     * @param game           O jogo do qual este jogador participa.
      * @param DecisionAction Referência à ação atual que requer uma decisão.
      */
-    private void chooseChallengeOrDecline(TurnActionFactory.TurnDecisionAction decisionAction) {
+    private void chooseChallengeOrDecline(MotorJogo game, TurnActionFactory.TurnSequence decisionAction) {
         // Sempre empilhe uma carta se ela for permitida e estiver disponível.
-        if (InterfaceJogo.getCurrentGame().getRuleSet().canStackCards()) {
-            Carta validCard = getHand().stream().filter(card -> card.getFaceValueID() == 13).findFirst().orElse(null);
-            if (validCard != null) {
-                checkCallUNO();
-                decisionAction.injectProperty("faceValueID", validCard.getFaceValueID());
-                decisionAction.injectProperty("colourID", validCard.getColourID());
-                decisionAction.injectProperty("cardID", validCard.getCardID());
-                decisionAction.injectProperty("isChaining", 1);
-                decisionAction.injectFlagProperty(0);
+        if (game.getRuleSet().canStackCards()) {
+            int validCard = findCardWithFaceValue(13);
+            if (validCard != CodigoCarta.NO_CARD) {
+                checkCallUNO(game);
+                game.applyMove(getPlayerID(), CodigoJogada.playCard(validCard));
                 return;
             }
         }
-        decisionAction.injectProperty("isChaining", 0);
-        // Escolha aleatoriamente 50-50 entre desafiar ou recusar
         // Não é necessário verificar a regra de não blefar porque este método só é
-        // chamado
-        // se uma escolha válida estiver disponível
-        // E a IA SEMPRE escolherá empilhar uma carta, o que significa que isso nunca
-        // executará o
-        // chance aleatória de desafio nesses casos.
-        decisionAction.injectFlagProperty((int) (Math.random() * 2));
+        // chamado se uma escolha válida estiver disponível.
+        int plus4PlayerID = opponentModel.getLastPlacerID();
+        int cardBeforeTop = game.getCardBeforeTop();
+        boolean challenge = plus4PlayerID != -1 && cardBeforeTop != CodigoCarta.NO_CARD
+                && opponentModel.getColouredMatchProbability(plus4PlayerID, CodigoCarta.getFaceValueID(cardBeforeTop),
+                        CodigoCarta.getColourID(cardBeforeTop)) >= CHALLENGE_THRESHOLD;
+        game.applyMove(getPlayerID(), CodigoJogada.encode(challenge ? CodigoJogada.CHALLENGE : CodigoJogada.DECLINE, 0));
     }
 
     /**
@@ -367,32 +612,43 @@ public class AIJogador extends Jogador {
      * e permitido.
      * Caso contrário indica que não está sendo feito.
      *
+     * @param game           O jogo do qual este jogador participa.
      * @param DecisionAction Referência à ação atual que requer uma decisão.
      */
-    private void chooseStackPlus2(TurnActionFactory.TurnDecisionAction decisionAction) {
-        if (InterfaceJogo.getCurrentGame().getRuleSet().canStackCards()) {
-            Carta validCard = getHand().stream().filter(card -> card.getFaceValueID() == 10).findFirst().orElse(null);
-            if (validCard != null) {
-                checkCallUNO();
-                decisionAction.injectProperty("faceValueID", validCard.getFaceValueID());
-                decisionAction.injectProperty("colourID", validCard.getColourID());
-                decisionAction.injectProperty("cardID", validCard.getCardID());
-                decisionAction.injectFlagProperty(1);
+    private void chooseStackPlus2(MotorJogo game, TurnActionFactory.TurnSequence decisionAction) {
+        if (game.getRuleSet().canStackCards()) {
+            int validCard = findCardWithFaceValue(10);
+            if (validCard != CodigoCarta.NO_CARD) {
+                checkCallUNO(game);
+                game.applyMove(getPlayerID(), CodigoJogada.playCard(validCard));
                 return;
             }
         }
-        decisionAction.injectFlagProperty(0);
+        game.applyMove(getPlayerID(), CodigoJogada.encode(CodigoJogada.DECLINE, 0));
+    }
+
+    /**
+     * Obtém o jogador que joga depois da IA na direção atual.
+     *
+     * @param game O jogo do qual este jogador participa.
+     * @return O playerID do próximo jogador.
+     */
+    private int getNextPlayerID(MotorJogo game) {
+        int playerCount = game.getAllPlayers().size();
+        return (getPlayerID() + (game.isIncreasing() ? 1 : playerCount - 1)) % playerCount;
     }
 
     /**
      * Avalia se deve ligar para UNO para tornar a IA segura.
+     *
+     * @param game O jogo do qual este jogador participa.
      */
-    private void checkCallUNO() {
-        if (getHand().size() != 2)
+    private void checkCallUNO(MotorJogo game) {
+        if (getHandSize() != 2)
             return;
-        if (Math.random() * 100 < 70) {
+        if (game.getRandom().getAIRandom().nextInt(100) < 70) {
             setUnoState(UNOState.Called);
-            InterfaceJogo.getCurrentGame().showGeneralOverlay("UNOCalled" + getPlayerID());
+            game.showGeneralOverlay(OuvinteJogo.OverlayType.UNOCalled, getPlayerID());
         }
     }
 }
@@ -0,0 +1,92 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Uno
+ *
+ * Classe AleatorioJogo:
+ * Define as fontes de números aleatórios de uma única partida. Uma semente dá
+ * origem a fluxos separados para embaralhar e preparar a rodada, para as
+ * decisões da IA e para efeitos visuais, de forma que a mesma semente sempre
+ * reproduz a mesma partida, independentemente do que a interface desenha.
+ * Cada partida tem a sua própria instância, então simulações em paralelo não
+ * disputam um gerador global como o de Math.random.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class AleatorioJogo {
+    /**
+     * A semente que gerou todos os fluxos.
+     */
+    private final long seed;
+    /**
+     * Fluxo para a ordem do baralho, o primeiro jogador, a direção e a cor
+     * inicial.
+     */
+    private final SplittableRandom shuffleRandom;
+    /**
+     * Fluxo para as decisões e atrasos dos AIJogadors.
+     */
+    private final SplittableRandom aiRandom;
+    /**
+     * Fluxo para efeitos visuais que não afetam o estado do jogo.
+     */
+    private final SplittableRandom cosmeticRandom;
+
+    /**
+     * Cria os fluxos a partir de uma semente nova e imprevisível.
+     */
+    public AleatorioJogo() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Cria os fluxos a partir da semente indicada.
+     *
+     * @param seed A semente que identifica a partida.
+     */
+    public AleatorioJogo(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        shuffleRandom = root.split();
+        aiRandom = root.split();
+        cosmeticRandom = root.split();
+    }
+
+    /**
+     * Obtém a semente que gerou os fluxos, para reproduzir a partida.
+     *
+     * @return A semente da partida.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Obtém o fluxo usado para embaralhar e preparar a rodada.
+     *
+     * @return O fluxo de embaralhamento.
+     */
+    public SplittableRandom getShuffleRandom() {
+        return shuffleRandom;
+    }
+
+    /**
+     * Obtém o fluxo usado pelas decisões da IA.
+     *
+     * @return O fluxo da IA.
+     */
+    public SplittableRandom getAIRandom() {
+        return aiRandom;
+    }
+
+    /**
+     * Obtém o fluxo usado para efeitos visuais.
+     *
+     * @return O fluxo cosmético.
+     */
+    public SplittableRandom getCosmeticRandom() {
+        return cosmeticRandom;
+    }
+}
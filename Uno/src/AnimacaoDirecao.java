@@ -84,6 +84,16 @@ public class AnimacaoDirecao {
         g.fillOval(movingObject2.x, movingObject2.y, indicatorSize, indicatorSize);
     }
 
+    /**
+     * Obtém a região percorrida pelas formas ovais durante a volta inteira.
+     *
+     * @return A região a ser redesenhada enquanto a animação gira.
+     */
+    public Retangulo getPaintBounds() {
+        return new Retangulo(centre.x - radiusFromCentre, centre.y - radiusFromCentre,
+                radiusFromCentre * 2 + indicatorSize, radiusFromCentre * 2 + indicatorSize);
+    }
+
     /**
      * Muda a direção do visual.
      *
@@ -11,6 +11,12 @@ import java.awt.*;
  * @versão 2023
  */
 public class AntiUnoButton extends BotaoUno implements GeralOverlayInterface {
+    /**
+     * O texto ! com sombra desenhado no meio do botão.
+     */
+    private static final CacheTexto.Texto ALERT_LABEL = CacheTexto.getText("!", CacheTexto.getFont(Font.BOLD, 50),
+            new Color(226, 173, 67), Color.BLACK, -2, 2);
+
    /**
       * Inicializa o AntiUnoButton.
       *
@@ -31,12 +37,13 @@ public class AntiUnoButton extends BotaoUno implements GeralOverlayInterface {
       */
     @Override
     public void update(int deltaTime) {
-        isActive = false;
+        boolean active = false;
         for (Jogador player : InterfaceJogo.getCurrentGame().getAllPlayers()) {
-            if (player != bottomPlayer && !player.isSafe() && player.getHand().size() == 1) {
-                isActive = true;
+            if (player != bottomPlayer && !player.isSafe() && player.getHandSize() == 1) {
+                active = true;
             }
         }
+        setActive(active);
     }
 
     /**
@@ -50,14 +57,7 @@ public class AntiUnoButton extends BotaoUno implements GeralOverlayInterface {
             return;
 
         drawButtonBackground(g);
-        g.setColor(Color.BLACK);
-        g.setFont(new Font("Arial", Font.BOLD, 50));
-        int strWidth = g.getFontMetrics().stringWidth("!");
-        g.drawString("!", bounds.position.x + bounds.width / 2 - strWidth / 2 - 2,
-                bounds.position.y + bounds.height / 2 + 2 + 10 + 10);
-        g.setColor(new Color(226, 173, 67));
-        g.drawString("!", bounds.position.x + bounds.width / 2 - strWidth / 2,
-                bounds.position.y + bounds.height / 2 + 10 + 10);
+        ALERT_LABEL.paintCentred(g, bounds.position.x + bounds.width / 2, bounds.position.y + bounds.height / 2 + 10 + 10);
     }
 
     /**
@@ -73,7 +73,7 @@ public class AntiUnoButton extends BotaoUno implements GeralOverlayInterface {
     public void handleMousePress(Posicao mousePosition, boolean isLeft) {
         if (isActive && bounds.isPositionInside(mousePosition)) {
             for (Jogador player : InterfaceJogo.getCurrentGame().getAllPlayers()) {
-                if (player != bottomPlayer && !player.isSafe() && player.getHand().size() == 1) {
+                if (player != bottomPlayer && !player.isSafe() && player.getHandSize() == 1) {
                     InterfaceJogo.getCurrentGame().applyAntiUno(player.getPlayerID());
                 }
             }
@@ -0,0 +1,254 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Uno
+ *
+ * Classe AtlasCartas:
+ * Guarda uma imagem pronta de cada combinação de faceValueID e colourID e do
+ * verso das cartas. Cada imagem é desenhada uma única vez, na primeira vez em
+ * que é pedida; depois disso desenhar uma carta é apenas um drawImage, sem
+ * criar Fonts ou Colors a cada quadro. As BufferedImages copiadas repetidamente
+ * são aceleradas pelo Java2D quando possível, então não é preciso gerenciar
+ * VolatileImages.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public final class AtlasCartas {
+    /**
+     * Fonte dos rótulos curtos.
+     */
+    private static final Font LARGE_FONT = new Font("Arial", Font.BOLD, 20);
+    /**
+     * Fonte dos rótulos longos (por exemplo "Reverter").
+     */
+    private static final Font SMALL_FONT = new Font("Arial", Font.BOLD, 10);
+    /**
+     * Fonte da contagem nas pilhas de cartas.
+     */
+    private static final Font BADGE_FONT = new Font("Arial", Font.BOLD, 14);
+    /**
+     * Cor do oval no verso das cartas.
+     */
+    private static final Color BACK_OVAL_COLOUR = new Color(147, 44, 44);
+    /**
+     * Cor do texto UNO no verso das cartas.
+     */
+    private static final Color BACK_TEXT_COLOUR = new Color(226, 173, 67);
+    /**
+     * Número de versos desenhados em cada pilha de cartas.
+     */
+    private static final int STACK_DEPTH = 3;
+    /**
+     * Deslocamento em pixels entre os versos de uma pilha.
+     */
+    private static final int STACK_OFFSET = 4;
+    /**
+     * Diâmetro do círculo com a contagem de cartas de uma pilha.
+     */
+    private static final int STACK_BADGE_SIZE = 30;
+
+    /**
+     * As imagens das frentes, indexadas por faceValueID * COLOUR_COUNT +
+     * colourID. Uma posição nula ainda não foi desenhada.
+     */
+    private static final BufferedImage[] cardFaces = new BufferedImage[CodigoCarta.FACE_VALUE_COUNT
+            * CodigoCarta.COLOUR_COUNT];
+    /**
+     * A imagem do verso, ou nula se ainda não foi desenhada.
+     */
+    private static BufferedImage cardBack;
+    /**
+     * As imagens das pilhas de cartas, indexadas pelo número de cartas. Uma
+     * posição nula ainda não foi desenhada.
+     */
+    private static final BufferedImage[] cardStacks = new BufferedImage[Deck.DECK_SIZE + 1];
+
+    /**
+     * Não é instanciada; todos os métodos são estáticos.
+     */
+    private AtlasCartas() {
+    }
+
+    /**
+     * Obtém a imagem da frente de uma carta, desenhando-a se for a primeira vez.
+     *
+     * @param faceValueID O faceValueID da carta.
+     * @param colourID    O colourID da carta.
+     * @return A imagem da carta com CARD_WIDTH x CARD_HEIGHT.
+     */
+    public static BufferedImage getCardFace(int faceValueID, int colourID) {
+        int index = faceValueID * CodigoCarta.COLOUR_COUNT + colourID;
+        BufferedImage image = cardFaces[index];
+        if (image == null) {
+            image = createImage();
+            Graphics2D g = image.createGraphics();
+            renderCardFace(g, faceValueID, colourID);
+            g.dispose();
+            cardFaces[index] = image;
+        }
+        return image;
+    }
+
+    /**
+     * Obtém a imagem do verso das cartas, desenhando-a se for a primeira vez.
+     *
+     * @return A imagem do verso com CARD_WIDTH x CARD_HEIGHT.
+     */
+    public static BufferedImage getCardBack() {
+        if (cardBack == null) {
+            BufferedImage image = createImage();
+            Graphics2D g = image.createGraphics();
+            renderCardBack(g);
+            g.dispose();
+            cardBack = image;
+        }
+        return cardBack;
+    }
+
+    /**
+     * Obtém a imagem de uma pilha de cartas viradas para baixo com a contagem
+     * de cartas, desenhando-a se for a primeira vez. É usada no lugar de toda
+     * mão virada para baixo.
+     *
+     * @param count O número de cartas mostrado na pilha.
+     * @return A imagem da pilha, com fundo transparente.
+     */
+    public static BufferedImage getCardStack(int count) {
+        if (count >= cardStacks.length) {
+            return renderCardStack(count);
+        }
+        if (cardStacks[count] == null) {
+            cardStacks[count] = renderCardStack(count);
+        }
+        return cardStacks[count];
+    }
+
+    /**
+     * Desenha uma pilha de versos deslocados (até STACK_DEPTH, menos quando há
+     * menos cartas) com um círculo mostrando a contagem no canto inferior
+     * direito.
+     *
+     * @param count O número de cartas mostrado na pilha.
+     * @return A nova imagem da pilha.
+     */
+    private static BufferedImage renderCardStack(int count) {
+        int spread = (STACK_DEPTH - 1) * STACK_OFFSET;
+        int width = Carta.CARD_WIDTH + spread + STACK_BADGE_SIZE / 2;
+        int height = Carta.CARD_HEIGHT + spread + STACK_BADGE_SIZE / 2;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        BufferedImage back = getCardBack();
+        for (int i = 0; i < Math.min(count, STACK_DEPTH); i++) {
+            g.drawImage(back, i * STACK_OFFSET, spread - i * STACK_OFFSET, null);
+        }
+        int badgeX = width - STACK_BADGE_SIZE;
+        int badgeY = height - STACK_BADGE_SIZE;
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(Color.WHITE);
+        g.fillOval(badgeX, badgeY, STACK_BADGE_SIZE, STACK_BADGE_SIZE);
+        g.setColor(BACK_OVAL_COLOUR);
+        g.fillOval(badgeX + 2, badgeY + 2, STACK_BADGE_SIZE - 4, STACK_BADGE_SIZE - 4);
+        String label = String.valueOf(count);
+        g.setFont(label.length() > 2 ? SMALL_FONT : BADGE_FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        g.setColor(Color.WHITE);
+        g.drawString(label, badgeX + (STACK_BADGE_SIZE - metrics.stringWidth(label)) / 2,
+                badgeY + (STACK_BADGE_SIZE + metrics.getAscent() - metrics.getDescent()) / 2);
+        g.dispose();
+        return image;
+    }
+
+    /**
+     * Cria uma imagem do tamanho de uma carta. As cartas preenchem todo o
+     * retângulo, então a imagem é opaca e pode ser copiada sem mistura de
+     * transparência.
+     *
+     * @return A imagem vazia.
+     */
+    private static BufferedImage createImage() {
+        return new BufferedImage(Carta.CARD_WIDTH, Carta.CARD_HEIGHT, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Desenha a frente de uma carta na posição (0, 0).
+     *
+     * @param g           Referência ao objeto Graphics da imagem.
+     * @param faceValueID O faceValueID da carta.
+     * @param colourID    O colourID da carta.
+     */
+    private static void renderCardFace(Graphics g, int faceValueID, int colourID) {
+        int width = Carta.CARD_WIDTH;
+        int height = Carta.CARD_HEIGHT;
+        String cardLabel = Carta.getCardLabel(faceValueID);
+        String cornerLabel = Carta.getCornerLabel(faceValueID);
+        Color drawColour = Carta.getColourByID(colourID);
+
+        // Desenha o fundo do cartão com borda branca e cor do cartão
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(drawColour);
+        g.fillRect(2, 2, width - 4, height - 4);
+
+        if (colourID != 4) {
+            // Desenhe um oval branco para qualquer não-selvagem no meio.
+            g.setColor(Color.WHITE);
+            g.fillOval(4, height / 2 - ((width - 8) / 4), width - 8, (width - 8) / 2);
+        } else {
+            // Segmentos vermelhos, azuis, verdes e amarelos para qualquer curinga no meio.
+            for (int i = 0; i < 4; i++) {
+                g.setColor(Carta.getColourByID(i));
+                g.fillArc(4, height / 2 - ((width - 8) / 4) - 5,
+                        width - 8, (width - 8) / 2 + 10, 270 + 90 * i, 90);
+            }
+        }
+
+        int fontHeight = (cardLabel.length() > 4) ? 10 : 20;
+        g.setFont(fontHeight == 10 ? SMALL_FONT : LARGE_FONT);
+        int strWidth = g.getFontMetrics().stringWidth(cardLabel);
+        // Desenha texto sombreado (preto) para o rótulo central
+        if (colourID == 4 || cardLabel.length() <= 4) {
+            g.setColor(Color.BLACK);
+            g.drawString(cardLabel, width / 2 - strWidth / 2 - 1, height / 2 + fontHeight / 2 + 1);
+        }
+        // Cor para tornar o texto primário visível com base na adição de uma sombra.
+        if (colourID == 4) {
+            g.setColor(Color.WHITE);
+        } else {
+            g.setColor(cardLabel.length() <= 4 ? drawColour : Color.BLACK);
+        }
+        // Desenha o rótulo central
+        g.drawString(cardLabel, width / 2 - strWidth / 2, height / 2 + fontHeight / 2);
+
+        // Desenha rótulos em cada um dos cantos
+        fontHeight = (cornerLabel.length() > 2) ? 10 : 20;
+        g.setFont(fontHeight == 10 ? SMALL_FONT : LARGE_FONT);
+        strWidth = g.getFontMetrics().stringWidth(cornerLabel);
+        g.setColor(Color.WHITE);
+        g.drawString(cornerLabel, 5, 5 + fontHeight);
+        g.drawString(cornerLabel, width - strWidth - 5, height - 5);
+    }
+
+    /**
+     * Desenha o verso de uma carta na posição (0, 0).
+     *
+     * @param g Referência ao objeto Graphics da imagem.
+     */
+    private static void renderCardBack(Graphics g) {
+        int width = Carta.CARD_WIDTH;
+        int height = Carta.CARD_HEIGHT;
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        g.fillRect(2, 2, width - 4, height - 4);
+        g.setColor(BACK_OVAL_COLOUR);
+        g.fillOval(4, height / 2 - ((width - 8) / 4), width - 8, (width - 8) / 2);
+        g.setColor(Color.BLACK);
+        g.setFont(LARGE_FONT);
+        int strWidth = g.getFontMetrics().stringWidth("UNO");
+        g.drawString("UNO", width / 2 - strWidth / 2 - 2, height / 2 - ((width - 8) / 4) + 2 + 20);
+        g.setColor(BACK_TEXT_COLOUR);
+        g.drawString("UNO", width / 2 - strWidth / 2, height / 2 - ((width - 8) / 4) + 20);
+    }
+}
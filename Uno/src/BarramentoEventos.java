@@ -0,0 +1,180 @@
+import java.util.Arrays;
+
+/**
+ * Uno
+ *
+ * Classe BarramentoEventos:
+ * Repassa os eventos publicados pelo MotorJogo para todos os OuvinteJogos
+ * inscritos (a interface, gravadores de partidas, métricas ou a IA). Cada
+ * evento é uma chamada de método com parâmetros primitivos, então publicar não
+ * cria objetos. Sem inscritos, publicar um evento só percorre um array vazio,
+ * o que deixa as partidas sem interface sem custo extra.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class BarramentoEventos implements OuvinteJogo {
+    /**
+     * Array vazio compartilhado por todos os barramentos sem inscritos.
+     */
+    private static final OuvinteJogo[] NO_SUBSCRIBERS = new OuvinteJogo[0];
+
+    /**
+     * Os inscritos na ordem em que se inscreveram. O array é substituído a
+     * cada inscrição, de forma que publicar nunca precisa copiá-lo.
+     */
+    private OuvinteJogo[] subscribers;
+
+    /**
+     * Cria um barramento sem inscritos.
+     */
+    public BarramentoEventos() {
+        subscribers = NO_SUBSCRIBERS;
+    }
+
+    /**
+     * Inscreve um ouvinte para receber os próximos eventos.
+     *
+     * @param subscriber O ouvinte a ser inscrito.
+     */
+    public void subscribe(OuvinteJogo subscriber) {
+        subscribers = Arrays.copyOf(subscribers, subscribers.length + 1);
+        subscribers[subscribers.length - 1] = subscriber;
+    }
+
+    /**
+     * Remove um ouvinte inscrito. Não faz nada se ele não estiver inscrito.
+     *
+     * @param subscriber O ouvinte a ser removido.
+     */
+    public void unsubscribe(OuvinteJogo subscriber) {
+        for (int i = 0; i < subscribers.length; i++) {
+            if (subscribers[i] == subscriber) {
+                OuvinteJogo[] remaining = new OuvinteJogo[subscribers.length - 1];
+                System.arraycopy(subscribers, 0, remaining, 0, i);
+                System.arraycopy(subscribers, i + 1, remaining, i, remaining.length - i);
+                subscribers = remaining.length == 0 ? NO_SUBSCRIBERS : remaining;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Verifica se algum ouvinte está inscrito.
+     *
+     * @return Verdadeiro quando há pelo menos um inscrito.
+     */
+    public boolean hasSubscribers() {
+        return subscribers.length > 0;
+    }
+
+    /**
+     * Repassa a carta colocada para todos os inscritos.
+     *
+     * @param card A carta codificada que acabou de ser colocada.
+     */
+    @Override
+    public void onCardPlaced(int card) {
+        for (OuvinteJogo subscriber : subscribers) {
+            subscriber.onCardPlaced(card);
+        }
+    }
+
+    /**
+     * Repassa a carta comprada para todos os inscritos.
+     *
+     * @param playerID O jogador que comprou a carta.
+     * @param card     A carta codificada comprada.
+     */
+    @Override
+    public void onCardDrawn(int playerID, int card) {
+        for (OuvinteJogo subscriber : subscribers) {
+            subscriber.onCardDrawn(playerID, card);
+        }
+    }
+
+    /**
+     * Repassa a compra no lugar de uma jogada para todos os inscritos.
+     *
+     * @param playerID O jogador que vai comprar.
+     */
+    @Override
+    public void onDrawForTurn(int playerID) {
+        for (OuvinteJogo subscriber : subscribers) {
+            subscriber.onDrawForTurn(playerID);
+        }
+    }
+
+    /**
+     * Repassa a troca de mãos para todos os inscritos.
+     *
+     * @param playerID      O jogador que jogou o 7.
+     * @param otherPlayerID O jogador escolhido para a troca.
+     */
+    @Override
+    public void onHandsSwapped(int playerID, int otherPlayerID) {
+        for (OuvinteJogo subscriber : subscribers) {
+            subscriber.onHandsSwapped(playerID, otherPlayerID);
+        }
+    }
+
+    /**
+     * Repassa a passagem de todas as mãos para todos os inscritos.
+     */
+    @Override
+    public void onHandsPassed() {
+        for (OuvinteJogo subscriber : subscribers) {
+            subscriber.onHandsPassed();
+        }
+    }
+
+    /**
+     * Repassa a nova cor da carta do topo para todos os inscritos.
+     *
+     * @param colourID A nova cor da carta do topo.
+     */
+    @Override
+    public void onTopCardColourChanged(int colourID) {
+        for (OuvinteJogo subscriber : subscribers) {
+            subscriber.onTopCardColourChanged(colourID);
+        }
+    }
+
+    /**
+     * Repassa o pedido de sobreposição geral para todos os inscritos.
+     *
+     * @param overlayType A sobreposição a ser mostrada.
+     * @param playerID    O jogador sobre o qual ela aparece.
+     * @param value       Valor extra da sobreposição; 0 quando não é usado.
+     */
+    @Override
+    public void showGeneralOverlay(OverlayType overlayType, int playerID, int value) {
+        for (OuvinteJogo subscriber : subscribers) {
+            subscriber.showGeneralOverlay(overlayType, playerID, value);
+        }
+    }
+
+    /**
+     * Repassa a decisão aguardada para todos os inscritos.
+     *
+     * @param decisionAction A decisão que está aguardando uma escolha.
+     */
+    @Override
+    public void showOverlayForTurnAction(TurnActionFactory.TurnSequence decisionAction) {
+        for (OuvinteJogo subscriber : subscribers) {
+            subscriber.showOverlayForTurnAction(decisionAction);
+        }
+    }
+
+    /**
+     * Repassa o fim da rodada para todos os inscritos.
+     *
+     * @param winnerID O jogador que esvaziou a mão.
+     */
+    @Override
+    public void onRoundEnded(int winnerID) {
+        for (OuvinteJogo subscriber : subscribers) {
+            subscriber.onRoundEnded(winnerID);
+        }
+    }
+}
@@ -12,6 +12,10 @@ import java.awt.*;
  * @versão 2023
  */
 public class Botao extends Retangulo {
+    /**
+     * Quanto a borda do botão cresce para fora quando pairado.
+     */
+    private static final int HOVER_BORDER = 3;
     /**
      * Um número que pode ser usado para contextualizar quando o botão foi clicado.
      */
@@ -24,6 +28,10 @@ public class Botao extends Retangulo {
      * Texto para centralizar no botão.
      */
     private final String text;
+    /**
+     * O texto desenhado com a cor normal e com a cor de quando está pairado.
+     */
+    private final CacheTexto.Texto label, hoveredLabel;
 
     /**
      * Configura o botão pronto para exibição e interação.
@@ -40,6 +48,9 @@ public class Botao extends Retangulo {
         this.actionID = actionID;
         isHovered = false;
         this.text = text;
+        Font font = CacheTexto.getFont(Font.BOLD, 20);
+        label = CacheTexto.getText(text, font, Color.BLACK);
+        hoveredLabel = CacheTexto.getText(text, font, Color.WHITE);
     }
 
     /**
@@ -51,7 +62,8 @@ public class Botao extends Retangulo {
     public void paint(Graphics g) {
         if (isHovered) {
             g.setColor(new Color(63, 78, 123));
-            g.fillRect(position.x - 3, position.y - 3, width + 6, height + 6);
+            g.fillRect(position.x - HOVER_BORDER, position.y - HOVER_BORDER, width + HOVER_BORDER * 2,
+                    height + HOVER_BORDER * 2);
         } else {
             g.setColor(new Color(123, 133, 163));
             g.fillRect(position.x, position.y, width, height);
@@ -59,14 +71,13 @@ public class Botao extends Retangulo {
 
         if (isHovered) {
             g.setColor(Color.WHITE);
-            g.drawRect(position.x - 3, position.y - 3, width + 6, height + 6);
+            g.drawRect(position.x - HOVER_BORDER, position.y - HOVER_BORDER, width + HOVER_BORDER * 2,
+                    height + HOVER_BORDER * 2);
         } else {
             g.setColor(Color.BLACK);
             g.drawRect(position.x, position.y, width, height);
         }
-        g.setFont(new Font("Arial", Font.BOLD, 20));
-        int strWidth = g.getFontMetrics().stringWidth(text);
-        g.drawString(text, position.x + width / 2 - strWidth / 2, position.y + height / 2 + 8);
+        (isHovered ? hoveredLabel : label).paintCentred(g, position.x + width / 2, position.y + height / 2 + 8);
     }
 
     /**
@@ -84,8 +95,22 @@ public class Botao extends Retangulo {
      * Atualiza o estado de foco para o valor especificado.
      *
      * @param isHovering Quando verdadeiro as cores mudam no botão.
+     * @return Verdadeiro se o estado mudou e o botão precisa ser redesenhado.
      */
-    public void setHovering(boolean isHovering) {
+    public boolean setHovering(boolean isHovering) {
+        boolean changed = this.isHovered != isHovering;
         this.isHovered = isHovering;
+        return changed;
+    }
+
+    /**
+     * Obtém a região ocupada pelo botão ao ser desenhado, incluindo a borda
+     * maior de quando está pairado.
+     *
+     * @return A região a ser redesenhada quando o botão muda.
+     */
+    public Retangulo getPaintBounds() {
+        return new Retangulo(position.x - HOVER_BORDER, position.y - HOVER_BORDER, width + HOVER_BORDER * 2,
+                height + HOVER_BORDER * 2);
     }
 }
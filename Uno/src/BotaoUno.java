@@ -20,6 +20,11 @@ public class BotaoUno extends WndInterface implements GeralOverlayInterface {
      * Altura do botão.
      */
     public static final int HEIGHT = 60;
+    /**
+     * O texto UNO com sombra desenhado no meio do botão.
+     */
+    private static final CacheTexto.Texto UNO_LABEL = CacheTexto.getText("UNO", CacheTexto.getFont(Font.BOLD, 30),
+            new Color(226, 173, 67), Color.BLACK, -2, 2);
     /**
      * Status atual de foco do botão.
      */
@@ -61,10 +66,33 @@ public class BotaoUno extends WndInterface implements GeralOverlayInterface {
      */
     @Override
     public void update(int deltaTime) {
-        isActive = bottomPlayer.getUnoState() == Jogador.UNOState.NotSafe
+        setActive(bottomPlayer.getUnoState() == Jogador.UNOState.NotSafe
                 || (bottomPlayer.getUnoState() == Jogador.UNOState.Safe
                         && InterfaceJogo.getCurrentGame().getCurrentPlayer() == bottomPlayer
-                        && bottomPlayer.getHand().size() == 2);
+                        && bottomPlayer.getHandSize() == 2));
+    }
+
+    /**
+     * Muda a disponibilidade do botão, marcando-o para ser redesenhado quando
+     * ele aparece ou some.
+     *
+     * @param active Verdadeiro quando o botão deve ficar visível.
+     */
+    protected void setActive(boolean active) {
+        if (active != isActive) {
+            isActive = active;
+            markDirty(getPaintBounds());
+        }
+    }
+
+    /**
+     * Obtém a região do oval expandido de quando o botão está pairado.
+     *
+     * @return A região a ser redesenhada quando o botão muda.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        return new Retangulo(bounds.position.x - 10, bounds.position.y - 10, bounds.width + 20, bounds.height + 20);
     }
 
     /**
@@ -80,14 +108,7 @@ public class BotaoUno extends WndInterface implements GeralOverlayInterface {
             return;
 
         drawButtonBackground(g);
-        g.setColor(Color.BLACK);
-        g.setFont(new Font("Arial", Font.BOLD, 30));
-        int strWidth = g.getFontMetrics().stringWidth("UNO");
-        g.drawString("UNO", bounds.position.x + bounds.width / 2 - strWidth / 2 - 2,
-                bounds.position.y + bounds.height / 2 + 2 + 10);
-        g.setColor(new Color(226, 173, 67));
-        g.drawString("UNO", bounds.position.x + bounds.width / 2 - strWidth / 2,
-                bounds.position.y + bounds.height / 2 + 10);
+        UNO_LABEL.paintCentred(g, bounds.position.x + bounds.width / 2, bounds.position.y + bounds.height / 2 + 10);
     }
 
     protected void drawButtonBackground(Graphics g) {
@@ -104,7 +125,13 @@ public class BotaoUno extends WndInterface implements GeralOverlayInterface {
      */
     @Override
     public void handleMouseMove(Posicao mousePosition) {
-        isHovered = bounds.isPositionInside(mousePosition);
+        boolean hovered = bounds.isPositionInside(mousePosition);
+        if (hovered != isHovered) {
+            isHovered = hovered;
+            if (isActive) {
+                markDirty(getPaintBounds());
+            }
+        }
     }
 
     /**
@@ -119,7 +146,8 @@ public class BotaoUno extends WndInterface implements GeralOverlayInterface {
     public void handleMousePress(Posicao mousePosition, boolean isLeft) {
         if (isActive && bounds.isPositionInside(mousePosition)) {
             bottomPlayer.setUnoState(Jogador.UNOState.Called);
-            InterfaceJogo.getCurrentGame().showGeneralOverlay("UNOCalled" + bottomPlayer.getPlayerID());
+            InterfaceJogo.getCurrentGame().showGeneralOverlay(OuvinteJogo.OverlayType.UNOCalled,
+                    bottomPlayer.getPlayerID(), 0);
         }
     }
 }
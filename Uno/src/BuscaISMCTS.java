@@ -0,0 +1,511 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Uno
+ *
+ * Classe BuscaISMCTS:
+ * Escolhe a carta a ser jogada com uma busca em árvore de Monte Carlo sobre
+ * conjuntos de informação (ISMCTS, na variante de um único observador). Cada
+ * iteração sorteia as mãos dos oponentes e a ordem do baralho entre as cartas
+ * que o jogador não viu (EstadoJogo.determinize), desce pela árvore escolhendo
+ * apenas as ações possíveis nesse sorteio, simula o resto da rodada
+ * (EstadoJogo.playOut) e credita a vitória ao vencedor em cada nó do caminho.
+ * As ações da raiz incluem a cor de cada curinga, que o AIJogador usa depois
+ * na escolha da cor.
+ *
+ * A busca é paralela na raiz: cada thread do pool compartilhado constrói a
+ * sua própria árvore a partir do mesmo estado, sem travas, até o fim do
+ * orçamento de tempo, e as visitas dos filhos da raiz são somadas no final.
+ * A ação mais visitada é a escolhida. Mais núcleos ou mais tempo significam
+ * mais iterações e uma escolha mais confiável.
+ *
+ * Uso: BuscaISMCTS [partidas] [orçamentoMs] [threads]
+ * Joga partidas sem interface de uma IA de busca contra IAs Ofensivas e
+ * mostra a taxa de vitória e as iterações por segundo de cada jogada.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class BuscaISMCTS {
+    /**
+     * Orçamento de tempo padrão por jogada em milissegundos, menor que o
+     * atraso de 1500ms de um AIJogador para que a busca termine durante ele.
+     */
+    public static final int DEFAULT_TIME_BUDGET = 1000;
+    /**
+     * Constante de exploração do UCB.
+     */
+    private static final double EXPLORATION = 0.7;
+    /**
+     * Limite de turnos de uma simulação antes de ser avaliada pelo tamanho
+     * das mãos.
+     */
+    private static final int MAX_ROLLOUT_TURNS = 400;
+    /**
+     * Número máximo de nós por árvore. Depois disso as iterações continuam,
+     * mas sem expandir a árvore.
+     */
+    private static final int MAX_NODES = 1 << 20;
+    /**
+     * Número de iterações entre verificações do relógio.
+     */
+    private static final int ITERATIONS_PER_CLOCK_CHECK = 16;
+
+    /**
+     * Pool compartilhado por todas as buscas, com uma thread por núcleo. As
+     * threads são daemon para não impedir o fim do programa.
+     */
+    private static final ExecutorService pool = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), task -> {
+                Thread thread = new Thread(task, "BuscaISMCTS");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * O resultado de uma busca.
+     *
+     * @param action       A ação escolhida (ver EstadoJogo), ou -1 se nenhuma
+     *                     iteração foi feita.
+     * @param iterations   Iterações feitas somando todas as threads.
+     * @param elapsedNanos Tempo gasto pela busca.
+     * @param threads      Número de threads usadas.
+     */
+    public record Resultado(int action, long iterations, long elapsedNanos, int threads) {
+        /**
+         * Obtém a taxa de iterações da busca.
+         *
+         * @return Iterações por segundo somando todas as threads.
+         */
+        public double getIterationsPerSecond() {
+            return elapsedNanos == 0 ? 0 : iterations * 1e9 / elapsedNanos;
+        }
+    }
+
+    /**
+     * Uno
+     *
+     * Classe Arvore:
+     * A árvore de uma thread, guardada em arrays paralelos indexados pelo
+     * número do nó para que expandir um nó não crie objetos. O nó 0 é a raiz;
+     * os filhos de um nó formam uma lista ligada por nextSibling. Os arrays
+     * são mantidos entre as jogadas e só crescem.
+     *
+     * @autor Cauet Damasceno
+     * @versão 2023
+     */
+    private static class Arvore {
+        /**
+         * A ação que leva do pai até o nó.
+         */
+        private int[] action = new int[1024];
+        /**
+         * O jogador que fez a ação que leva até o nó.
+         */
+        private int[] player = new int[1024];
+        /**
+         * O pai de cada nó, ou -1 na raiz.
+         */
+        private int[] parent = new int[1024];
+        /**
+         * O primeiro filho e o próximo irmão de cada nó, ou -1.
+         */
+        private int[] firstChild = new int[1024], nextSibling = new int[1024];
+        /**
+         * Visitas e número de vezes em que o nó estava disponível para ser
+         * escolhido.
+         */
+        private int[] visits = new int[1024], availability = new int[1024];
+        /**
+         * Vitórias do jogador do nó nas iterações que passaram por ele.
+         */
+        private int[] wins = new int[1024];
+        /**
+         * Número de nós usados.
+         */
+        private int nodeCount;
+        /**
+         * Cópia de trabalho usada por cada iteração.
+         */
+        private final EstadoJogo state = new EstadoJogo(null);
+        /**
+         * Espaço para as ações possíveis e para as ainda não expandidas.
+         */
+        private final int[] actions = new int[EstadoJogo.ACTION_COUNT],
+                untriedActions = new int[EstadoJogo.ACTION_COUNT];
+        /**
+         * Os nós filhos correspondentes a actions durante a seleção.
+         */
+        private final int[] legalChildren = new int[EstadoJogo.ACTION_COUNT];
+
+        /**
+         * Faz iterações a partir do estado da raiz até o prazo ou até ser
+         * cancelada.
+         *
+         * @param root       O estado real visto pela thread do jogo; apenas lido.
+         * @param observerID O jogador que está buscando.
+         * @param deadline   Valor de System.nanoTime() em que a busca para.
+         * @param random     Fluxo exclusivo desta thread.
+         * @param owner      A busca dona da árvore, consultada para cancelamento.
+         * @return O número de iterações feitas.
+         */
+        private long search(EstadoJogo root, int observerID, long deadline, SplittableRandom random,
+                BuscaISMCTS owner) {
+            state.setRandom(random);
+            nodeCount = 0;
+            addNode(-1, -1, -1);
+            long iterations = 0;
+            do {
+                for (int i = 0; i < ITERATIONS_PER_CLOCK_CHECK; i++) {
+                    iterate(root, observerID, random);
+                }
+                iterations += ITERATIONS_PER_CLOCK_CHECK;
+            } while (System.nanoTime() < deadline && !owner.cancelled);
+            return iterations;
+        }
+
+        /**
+         * Uma iteração: sorteio, seleção, expansão, simulação e
+         * retropropagação.
+         *
+         * @param root       O estado da raiz.
+         * @param observerID O jogador que está buscando.
+         * @param random     Fluxo desta thread.
+         */
+        private void iterate(EstadoJogo root, int observerID, SplittableRandom random) {
+            state.copyFrom(root);
+            state.determinize(observerID, random);
+            int node = 0;
+            while (!state.isRoundOver()) {
+                int actionCount = state.getLegalActions(actions);
+                int untriedCount = 0;
+                for (int i = 0; i < actionCount; i++) {
+                    legalChildren[i] = findChild(node, actions[i]);
+                    if (legalChildren[i] == -1) {
+                        untriedActions[untriedCount++] = actions[i];
+                    }
+                }
+                if (untriedCount > 0) {
+                    int chosenAction = untriedActions[random.nextInt(untriedCount)];
+                    int playerID = state.getCurrentPlayerID();
+                    state.applyAction(chosenAction);
+                    if (nodeCount < MAX_NODES) {
+                        node = addNode(node, chosenAction, playerID);
+                    }
+                    break;
+                }
+                node = selectChild(actionCount);
+                state.applyAction(action[node]);
+            }
+            state.playOut(MAX_ROLLOUT_TURNS, random);
+
+            int winnerID = state.isRoundOver() ? state.getWinnerID() : state.getLeaderID();
+            for (int current = node; current != -1; current = parent[current]) {
+                visits[current]++;
+                if (player[current] == winnerID) {
+                    wins[current]++;
+                }
+            }
+        }
+
+        /**
+         * Escolhe pelo UCB o filho entre os que são possíveis neste sorteio e
+         * conta que todos eles estavam disponíveis.
+         *
+         * @param actionCount Número de filhos em legalChildren.
+         * @return O nó escolhido.
+         */
+        private int selectChild(int actionCount) {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < actionCount; i++) {
+                int child = legalChildren[i];
+                availability[child]++;
+                double score = wins[child] / (double) visits[child]
+                        + EXPLORATION * Math.sqrt(Math.log(availability[child]) / visits[child]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Procura o filho de um nó com a ação indicada.
+         *
+         * @param node        O nó pai.
+         * @param childAction A ação procurada.
+         * @return O nó filho, ou -1.
+         */
+        private int findChild(int node, int childAction) {
+            for (int child = firstChild[node]; child != -1; child = nextSibling[child]) {
+                if (action[child] == childAction) {
+                    return child;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Cria um nó no fim dos arrays, aumentando-os se necessário.
+         *
+         * @param parentNode O pai do novo nó, ou -1 para a raiz.
+         * @param nodeAction A ação que leva até o nó.
+         * @param playerID   O jogador que fez a ação.
+         * @return O novo nó.
+         */
+        private int addNode(int parentNode, int nodeAction, int playerID) {
+            if (nodeCount == action.length) {
+                int newLength = nodeCount * 2;
+                action = Arrays.copyOf(action, newLength);
+                player = Arrays.copyOf(player, newLength);
+                parent = Arrays.copyOf(parent, newLength);
+                firstChild = Arrays.copyOf(firstChild, newLength);
+                nextSibling = Arrays.copyOf(nextSibling, newLength);
+                visits = Arrays.copyOf(visits, newLength);
+                availability = Arrays.copyOf(availability, newLength);
+                wins = Arrays.copyOf(wins, newLength);
+            }
+            int node = nodeCount++;
+            action[node] = nodeAction;
+            player[node] = playerID;
+            parent[node] = parentNode;
+            firstChild[node] = -1;
+            visits[node] = 0;
+            availability[node] = 1;
+            wins[node] = 0;
+            if (parentNode != -1) {
+                nextSibling[node] = firstChild[parentNode];
+                firstChild[parentNode] = node;
+            } else {
+                nextSibling[node] = -1;
+            }
+            return node;
+        }
+
+        /**
+         * Soma as visitas dos filhos da raiz por ação.
+         *
+         * @param rootVisits Recebe as visitas, indexadas pela ação.
+         */
+        private void addRootVisits(long[] rootVisits) {
+            for (int child = firstChild[0]; child != -1; child = nextSibling[child]) {
+                rootVisits[action[child]] += visits[child];
+            }
+        }
+    }
+
+    /**
+     * Uma árvore por thread.
+     */
+    private final Arvore[] trees;
+    /**
+     * O estado real no início da busca, lido por todas as threads.
+     */
+    private final EstadoJogo rootState;
+    /**
+     * Espaço para as ações possíveis na raiz.
+     */
+    private final int[] rootActions;
+    /**
+     * As tarefas da busca em andamento, ou uma lista vazia.
+     */
+    private final List<Future<Long>> running;
+    /**
+     * Resultado já conhecido sem busca, quando só há uma ação possível.
+     */
+    private Resultado immediateResult;
+    /**
+     * Quando a busca em andamento começou.
+     */
+    private long startTime;
+    /**
+     * Pede que as threads parem na próxima verificação do relógio.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Prepara uma busca com o número de threads indicado.
+     *
+     * @param threads Número de árvores construídas em paralelo. É limitado ao
+     *                número de núcleos, que é o tamanho do pool.
+     */
+    public BuscaISMCTS(int threads) {
+        int treeCount = Math.max(1, Math.min(threads, Runtime.getRuntime().availableProcessors()));
+        trees = new Arvore[treeCount];
+        for (int i = 0; i < treeCount; i++) {
+            trees[i] = new Arvore();
+        }
+        rootState = new EstadoJogo(null);
+        rootActions = new int[EstadoJogo.ACTION_COUNT];
+        running = new ArrayList<>(treeCount);
+    }
+
+    /**
+     * Obtém o número padrão de threads: um por núcleo.
+     *
+     * @return O número de núcleos disponíveis.
+     */
+    public static int getDefaultThreadCount() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Obtém o número de árvores construídas em paralelo.
+     *
+     * @return O número de threads da busca.
+     */
+    public int getThreadCount() {
+        return trees.length;
+    }
+
+    /**
+     * Começa a buscar a melhor ação do jogador atual sem bloquear. Deve ser
+     * chamado pela thread que atualiza o jogo, que só lê o jogo aqui; as
+     * threads do pool trabalham sobre uma cópia. Uma busca anterior ainda em
+     * andamento é cancelada.
+     *
+     * @param game       O jogo em que o jogador atual vai jogar.
+     * @param timeBudget Tempo máximo da busca em milissegundos.
+     */
+    public void start(MotorJogo game, int timeBudget) {
+        cancel();
+        cancelled = false;
+        startTime = System.nanoTime();
+        rootState.captureFrom(game);
+        int actionCount = rootState.getLegalActions(rootActions);
+        if (actionCount == 1) {
+            immediateResult = new Resultado(rootActions[0], 0, 0, 0);
+            return;
+        }
+        immediateResult = null;
+        long deadline = startTime + timeBudget * 1_000_000L;
+        int observerID = rootState.getCurrentPlayerID();
+        SplittableRandom aiRandom = game.getRandom().getAIRandom();
+        for (Arvore tree : trees) {
+            SplittableRandom random = aiRandom.split();
+            running.add(pool.submit(() -> tree.search(rootState, observerID, deadline, random, this)));
+        }
+    }
+
+    /**
+     * Verifica se existe uma busca começada cujo resultado ainda não foi
+     * obtido.
+     *
+     * @return Verdadeiro entre start() e awaitResult() ou cancel().
+     */
+    public boolean isSearching() {
+        return immediateResult != null || !running.isEmpty();
+    }
+
+    /**
+     * Espera o fim da busca em andamento e combina as árvores de todas as
+     * threads.
+     *
+     * @return O resultado, com a ação mais visitada na raiz.
+     */
+    public Resultado awaitResult() {
+        if (immediateResult != null) {
+            Resultado result = immediateResult;
+            immediateResult = null;
+            return result;
+        }
+        long iterations = waitForTrees();
+        long elapsed = System.nanoTime() - startTime;
+        long[] rootVisits = new long[EstadoJogo.ACTION_COUNT];
+        for (Arvore tree : trees) {
+            tree.addRootVisits(rootVisits);
+        }
+        int bestAction = -1;
+        for (int action = 0; action < rootVisits.length; action++) {
+            if (rootVisits[action] > 0 && (bestAction == -1 || rootVisits[action] > rootVisits[bestAction])) {
+                bestAction = action;
+            }
+        }
+        return new Resultado(bestAction, iterations, elapsed, trees.length);
+    }
+
+    /**
+     * Cancela a busca em andamento, se houver, e espera as threads pararem
+     * para que as árvores possam ser reutilizadas.
+     */
+    public void cancel() {
+        immediateResult = null;
+        if (!running.isEmpty()) {
+            cancelled = true;
+            waitForTrees();
+        }
+    }
+
+    /**
+     * Espera todas as tarefas da busca em andamento.
+     *
+     * @return A soma das iterações de todas as threads.
+     */
+    private long waitForTrees() {
+        long iterations = 0;
+        for (Future<Long> task : running) {
+            try {
+                iterations += task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Falha na busca ISMCTS.", e.getCause());
+            }
+        }
+        running.clear();
+        return iterations;
+    }
+
+    /**
+     * Joga partidas sem interface de uma IA de busca contra IAs Ofensivas e
+     * mostra a taxa de vitória e as iterações por segundo de cada jogada.
+     *
+     * @param args [partidas] [orçamentoMs] [threads]
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int timeBudget = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : getDefaultThreadCount();
+        int wins = 0, moves = 0;
+        double totalRate = 0;
+        for (int gameIndex = 0; gameIndex < games; gameIndex++) {
+            List<Jogador> players = new ArrayList<>();
+            AIJogador searcher = new AIJogador(0, "Busca", null, AIJogador.AIStrategy.Busca, false);
+            searcher.configureSearch(timeBudget, threads);
+            players.add(searcher);
+            for (int i = 1; i < 4; i++) {
+                players.add(new AIJogador(i, "Ofensivo", null, AIJogador.AIStrategy.Ofensivo, false));
+            }
+            MotorJogo game = new MotorJogo(players, new ConjuntoRegras(), null, new AleatorioJogo(gameIndex));
+            Resultado lastResult = null;
+            while (!game.isRoundOver() && game.getTurnCount() < 5000) {
+                game.update(MotorJogo.HEADLESS_UPDATE_TIME);
+                Resultado result = searcher.getLastSearchResult();
+                if (result != lastResult && result.iterations() > 0) {
+                    moves++;
+                    totalRate += result.getIterationsPerSecond();
+                    System.out.println("Partida " + gameIndex + ", turno " + game.getTurnCount() + ": "
+                            + result.iterations() + " iterações, "
+                            + String.format("%.0f", result.getIterationsPerSecond()) + " iterações/s");
+                }
+                lastResult = result;
+            }
+            if (game.getRoundWinner() == searcher) {
+                wins++;
+            }
+        }
+        System.out.println("Busca venceu " + wins + " de " + games + " partidas contra 3 Ofensivos ("
+                + String.format("%.1f", 100.0 * wins / games) + "%, 25% seria o acaso), média de "
+                + String.format("%.0f", moves == 0 ? 0 : totalRate / moves) + " iterações/s por jogada com "
+                + threads + " thread(s) e " + timeBudget + "ms");
+    }
+}
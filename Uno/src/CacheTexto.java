@@ -0,0 +1,221 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Uno
+ *
+ * Classe CacheTexto:
+ * Guarda as fontes e os textos já desenhados usados pelas interfaces. Cada
+ * texto, com a sua fonte, cor e sombra opcional, é desenhado uma única vez em
+ * uma imagem transparente; depois disso pintá-lo é apenas um drawImage, sem
+ * criar Fonts nem medir a String a cada quadro. Quem pinta o mesmo texto em
+ * todo quadro deve guardar o Texto obtido e só pedir outro quando o texto
+ * mudar. Os textos menos usados são descartados quando o cache enche.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public final class CacheTexto {
+    /**
+     * Maior tamanho de fonte guardado.
+     */
+    private static final int MAX_FONT_SIZE = 64;
+    /**
+     * Máximo de textos desenhados guardados ao mesmo tempo.
+     */
+    private static final int MAX_CACHED_TEXTS = 256;
+
+    /**
+     * As fontes Arial, indexadas por estilo e tamanho. Uma posição nula ainda
+     * não foi criada.
+     */
+    private static final Font[][] fonts = new Font[Font.BOLD + Font.ITALIC + 1][MAX_FONT_SIZE + 1];
+    /**
+     * Os textos desenhados, do menos para o mais usado recentemente.
+     */
+    private static final Map<Chave, Texto> texts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Chave, Texto> eldest) {
+            return size() > MAX_CACHED_TEXTS;
+        }
+    };
+    /**
+     * Imagem usada apenas para obter as medidas das fontes.
+     */
+    private static final Graphics2D measureGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB)
+            .createGraphics();
+
+    /**
+     * Não é instanciada; todos os métodos são estáticos.
+     */
+    private CacheTexto() {
+    }
+
+    /**
+     * Obtém a fonte Arial com o estilo e tamanho especificados, criando-a se for
+     * a primeira vez.
+     *
+     * @param style Font.PLAIN, Font.BOLD, Font.ITALIC ou uma combinação.
+     * @param size  Tamanho da fonte em pontos.
+     * @return A fonte compartilhada.
+     */
+    public static synchronized Font getFont(int style, int size) {
+        if (size > MAX_FONT_SIZE) {
+            return new Font("Arial", style, size);
+        }
+        Font font = fonts[style][size];
+        if (font == null) {
+            font = new Font("Arial", style, size);
+            fonts[style][size] = font;
+        }
+        return font;
+    }
+
+    /**
+     * Obtém um texto sem sombra, desenhando-o se ainda não estiver guardado.
+     *
+     * @param text   O texto a ser desenhado.
+     * @param font   A fonte do texto.
+     * @param colour A cor do texto.
+     * @return O texto pronto para ser pintado.
+     */
+    public static Texto getText(String text, Font font, Color colour) {
+        return getText(text, font, colour, null, 0, 0);
+    }
+
+    /**
+     * Obtém um texto com sombra, desenhando-o se ainda não estiver guardado. A
+     * sombra é o mesmo texto deslocado, pintado por baixo.
+     *
+     * @param text         O texto a ser desenhado.
+     * @param font         A fonte do texto.
+     * @param colour       A cor do texto.
+     * @param shadowColour A cor da sombra, ou nula para não ter sombra.
+     * @param shadowX      Deslocamento horizontal da sombra.
+     * @param shadowY      Deslocamento vertical da sombra.
+     * @return O texto pronto para ser pintado.
+     */
+    public static synchronized Texto getText(String text, Font font, Color colour, Color shadowColour,
+            int shadowX, int shadowY) {
+        Chave key = new Chave(text, font, colour, shadowColour, shadowX, shadowY);
+        Texto result = texts.get(key);
+        if (result == null) {
+            result = new Texto(key);
+            texts.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Identifica um texto desenhado pela combinação de tudo que muda a imagem.
+     */
+    private record Chave(String text, Font font, Color colour, Color shadowColour, int shadowX, int shadowY) {
+    }
+
+    /**
+     * Um texto já desenhado em uma imagem, com a largura que a String teria
+     * ao ser desenhada com drawString.
+     */
+    public static final class Texto {
+        /**
+         * Imagem com o texto e a sombra sobre fundo transparente.
+         */
+        private final BufferedImage image;
+        /**
+         * Deslocamento da imagem em relação ao ponto base do texto.
+         */
+        private final int offsetX, offsetY;
+        /**
+         * Largura do texto segundo as FontMetrics da fonte.
+         */
+        private final int width;
+
+        /**
+         * Desenha o texto descrito pela chave.
+         *
+         * @param key A descrição do texto a ser desenhado.
+         */
+        private Texto(Chave key) {
+            width = measureGraphics.getFontMetrics(key.font).stringWidth(key.text);
+            Rectangle textBounds = key.font
+                    .createGlyphVector(measureGraphics.getFontRenderContext(), key.text)
+                    .getPixelBounds(null, 0, 0);
+            if (key.shadowColour != null) {
+                textBounds.add(new Rectangle(textBounds.x + key.shadowX, textBounds.y + key.shadowY,
+                        textBounds.width, textBounds.height));
+            }
+            // Um pixel a mais em cada lado cobre arredondamentos dos limites dos glifos.
+            textBounds.grow(1, 1);
+            offsetX = textBounds.x;
+            offsetY = textBounds.y;
+            image = new BufferedImage(Math.max(1, textBounds.width), Math.max(1, textBounds.height),
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            g.setFont(key.font);
+            if (key.shadowColour != null) {
+                g.setColor(key.shadowColour);
+                g.drawString(key.text, key.shadowX - offsetX, key.shadowY - offsetY);
+            }
+            g.setColor(key.colour);
+            g.drawString(key.text, -offsetX, -offsetY);
+            g.dispose();
+        }
+
+        /**
+         * Obtém a largura do texto, igual a FontMetrics.stringWidth.
+         *
+         * @return A largura em pixels.
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * Pinta o texto com o ponto base na posição especificada, como
+         * drawString faria.
+         *
+         * @param g Referência ao objeto Graphics para renderização.
+         * @param x Posição horizontal do início do texto.
+         * @param y Posição vertical da linha de base do texto.
+         */
+        public void paint(Graphics g, int x, int y) {
+            g.drawImage(image, x + offsetX, y + offsetY, null);
+        }
+
+        /**
+         * Pinta o texto centralizado horizontalmente na posição especificada.
+         *
+         * @param g       Referência ao objeto Graphics para renderização.
+         * @param centreX Posição horizontal do centro do texto.
+         * @param y       Posição vertical da linha de base do texto.
+         */
+        public void paintCentred(Graphics g, int centreX, int y) {
+            paint(g, centreX - width / 2, y);
+        }
+
+        /**
+         * Obtém a região pintada por paint() com o ponto base na posição
+         * especificada.
+         *
+         * @param x Posição horizontal do início do texto.
+         * @param y Posição vertical da linha de base do texto.
+         * @return A região coberta pela imagem do texto.
+         */
+        public Retangulo getPaintBounds(int x, int y) {
+            return new Retangulo(x + offsetX, y + offsetY, image.getWidth(), image.getHeight());
+        }
+
+        /**
+         * Obtém a região pintada por paintCentred() na posição especificada.
+         *
+         * @param centreX Posição horizontal do centro do texto.
+         * @param y       Posição vertical da linha de base do texto.
+         * @return A região coberta pela imagem do texto.
+         */
+        public Retangulo getCentredPaintBounds(int centreX, int y) {
+            return getPaintBounds(centreX - width / 2, y);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+/**
+ * Uno
+ *
+ * Classe CamadaEstatica:
+ * Guarda em uma imagem a parte de uma interface que quase nunca muda (a mesa,
+ * os painéis de fundo, títulos e textos fixos). A camada é desenhada uma vez e
+ * depois cada quadro apenas copia a imagem, e os elementos dinâmicos são
+ * pintados por cima. Quando o conteúdo muda, invalidate() faz a camada ser
+ * desenhada de novo no próximo quadro.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class CamadaEstatica {
+    /**
+     * Região coberta pela camada.
+     */
+    private final Retangulo bounds;
+    /**
+     * Desenha o conteúdo da camada em coordenadas do painel.
+     */
+    private final Consumer<Graphics> renderer;
+    /**
+     * A imagem da camada, ou nula quando precisa ser desenhada de novo.
+     */
+    private BufferedImage image;
+
+    /**
+     * Cria uma camada que será desenhada na primeira vez que for pintada.
+     *
+     * @param bounds   Região coberta pela camada.
+     * @param renderer Desenha o conteúdo da camada em coordenadas do painel,
+     *                 sobre a cor da mesa.
+     */
+    public CamadaEstatica(Retangulo bounds, Consumer<Graphics> renderer) {
+        this.bounds = bounds;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Faz a camada ser desenhada de novo na próxima vez que for pintada.
+     */
+    public void invalidate() {
+        image = null;
+    }
+
+    /**
+     * Copia a camada para a posição dela, desenhando-a antes se necessário.
+     *
+     * @param g Referência ao objeto Graphics para renderização.
+     */
+    public void paint(Graphics g) {
+        if (image == null) {
+            // A camada cobre toda a região sobre a cor da mesa, então pode ser opaca.
+            image = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D imageGraphics = image.createGraphics();
+            imageGraphics.setColor(PainelJogo.TABLE_COLOUR);
+            imageGraphics.fillRect(0, 0, bounds.width, bounds.height);
+            imageGraphics.translate(-bounds.position.x, -bounds.position.y);
+            renderer.accept(imageGraphics);
+            imageGraphics.dispose();
+        }
+        g.drawImage(image, bounds.position.x, bounds.position.y, null);
+    }
+}
@@ -4,8 +4,9 @@ import java.awt.*;
  * Uno
  *
  * Classe de cartão:
- * Define um cartão incluindo suas propriedades e métodos para mostrar a
- * aparência da frente e do verso.
+ * Mostra uma carta codificada (ver CodigoCarta) incluindo métodos para
+ * desenhar a aparência da frente e do verso a partir das imagens do
+ * AtlasCartas. Usada apenas pela interface; o jogo move as cartas como ints.
  *
  * @autor Cauet Damasceno
  * @versão 2023
@@ -26,136 +27,90 @@ public class Carta extends Retangulo {
     private static final String[] cardFaceValues = { "0", "1", "2", "3", "4", "5", "6", "7", "8", "9",
             "+2", "Pular", "Reverter", "+4", "Curinga" };
     /**
-     * A etiqueta no centro do cartão.
+     * As cores de cada colourID, criadas uma única vez. Ver getColourByID.
      */
-    private final String cardLabel;
+    private static final Color[] colours = { new Color(191, 48, 48), new Color(36, 94, 160),
+            new Color(115, 187, 54), new Color(238, 188, 65) };
     /**
-     * A etiqueta em ambos os cantos do cartão.
+     * A carta codificada que esta visualização mostra. Ver CodigoCarta.
      */
-    private final String cornerLabel;
-    /**
-     * O ID usado para determinar qual das quatro cores é (ou 4 se o cartão for
-     * um curinga sem cor definida ainda).
-     */
-    private int colourID;
-    /**
-     * O faceValue para representar que tipo de número ou outra aparência visual o
-     * cartão tem.
-     */
-    private final int faceValueID;
+    private int encodedCard;
+
     /**
-     * A cor usada para desenho com base no colorID.
+     * Cria a visualização de uma carta codificada.
+     *
+     * @param encodedCard A carta codificada a ser mostrada.
      */
-    private Color drawColour;
+    public Carta(int encodedCard) {
+        super(new Posicao(0, 0), CARD_WIDTH, CARD_HEIGHT);
+        this.encodedCard = encodedCard;
+    }
+
     /**
-     * O ID exclusivo baseado na ordem retirada do baralho.
+     * Cria a visualização de uma carta a partir das suas propriedades.
+     *
+     * @param faceValueID O faceValueID da carta.
+     * @param colourID    O colourID da carta.
+     * @param cardID      O ID exclusivo da carta.
      */
-    private final int cardID;
-
     public Carta(int faceValueID, int colourID, int cardID) {
-        super(new Posicao(0, 0), CARD_WIDTH, CARD_HEIGHT);
-        this.faceValueID = faceValueID;
-        this.cardLabel = cardFaceValues[faceValueID];
-        this.colourID = colourID;
-        this.drawColour = getColourByID(colourID);
-        this.cardID = cardID;
-        if (faceValueID == 10) {
-            this.cornerLabel = "+2";
-        } else if (faceValueID == 13) {
-            this.cornerLabel = "+4";
-        } else if (faceValueID == 14) {
-            this.cornerLabel = "";
-        } else {
-            this.cornerLabel = cardLabel;
-        }
+        this(CodigoCarta.encode(faceValueID, colourID, cardID));
     }
 
     /**
-     * Desenha a carta voltada para cima com base nas propriedades e no tipo de
-     * carta.
+     * Desenha a carta voltada para cima copiando a imagem da face e da cor
+     * atuais do AtlasCartas.
      *
      * @param g Referência ao objeto Graphics para renderização.
      */
     public void paint(Graphics g) {
-        // Desenha o fundo do cartão com borda branca e cor do cartão
-        g.setColor(Color.WHITE);
-        g.fillRect(position.x, position.y, width, height);
-        g.setColor(drawColour);
-        g.fillRect(position.x + 2, position.y + 2, width - 4, height - 4);
-
-        if (colourID != 4) {
-            // Desenhe um oval branco para qualquer não-selvagem no meio.
-            g.setColor(Color.WHITE);
-            g.fillOval(position.x + 4, position.y + height / 2 - ((width - 8) / 4),
-                    width - 8, (width - 8) / 2);
-        } else {
-            // Segmentos vermelhos, azuis, verdes e amarelos para qualquer curinga no meio.
-            for (int i = 0; i < 4; i++) {
-                g.setColor(getColourByID(i));
-                g.fillArc(position.x + 4, position.y + height / 2 - ((width - 8) / 4) - 5,
-                        width - 8, (width - 8) / 2 + 10, 270 + 90 * i, 90);
-            }
-        }
-
-        int fontHeight = (cardLabel.length() > 4) ? 10 : 20;
-        g.setFont(new Font("Arial", Font.BOLD, fontHeight));
-        int strWidth = g.getFontMetrics().stringWidth(cardLabel);
-        // Desenha texto sombreado (preto) para o rótulo central
-        if (colourID == 4 || cardLabel.length() <= 4) {
-            g.setColor(Color.BLACK);
-            g.drawString(cardLabel, position.x + width / 2 - strWidth / 2 - 1,
-                    position.y + height / 2 + fontHeight / 2 + 1);
-        }
-        // Cor para tornar o texto primário visível com base na adição de uma sombra.
-        if (colourID == 4) {
-            g.setColor(Color.WHITE);
-        } else {
-            g.setColor(cardLabel.length() <= 4 ? drawColour : Color.BLACK);
-        }
-        // Desenha o rótulo central
-        g.drawString(cardLabel, position.x + width / 2 - strWidth / 2,
-                position.y + height / 2 + fontHeight / 2);
-
-        // Desenha rótulos em cada um dos cantos
-        fontHeight = (cornerLabel.length() > 2) ? 10 : 20;
-        g.setFont(new Font("Arial", Font.BOLD, fontHeight));
-        strWidth = g.getFontMetrics().stringWidth(cornerLabel);
-        g.setColor(Color.WHITE);
-        g.drawString(cornerLabel, position.x + 5, position.y + 5 + fontHeight);
-        g.drawString(cornerLabel, position.x + width - strWidth - 5, position.y + height - 5);
+        g.drawImage(AtlasCartas.getCardFace(getFaceValueID(), getColourID()), position.x, position.y, null);
     }
 
     /**
+     * Desenha o verso de uma carta copiando a imagem do AtlasCartas.
+     *
      * @param g       Referência ao objeto Graphics para renderização.
      * @param limites Limites a serem usados para retirar o cartão.
      */
     public static void paintCardBack(Graphics g, Retangulo bounds) {
-        g.setColor(Color.WHITE);
-        g.fillRect(bounds.position.x, bounds.position.y, bounds.width, bounds.height);
-        g.setColor(Color.BLACK);
-        g.fillRect(bounds.position.x + 2, bounds.position.y + 2, bounds.width - 4, bounds.height - 4);
-        g.setColor(new Color(147, 44, 44));
-        g.fillOval(bounds.position.x + 4, bounds.position.y + bounds.height / 2 - ((bounds.width - 8) / 4),
-                bounds.width - 8, (bounds.width - 8) / 2);
-        g.setColor(Color.BLACK);
-        g.setFont(new Font("Arial", Font.BOLD, 20));
-        int strWidth = g.getFontMetrics().stringWidth("UNO");
-        g.drawString("UNO", bounds.position.x + bounds.width / 2 - strWidth / 2 - 2,
-                bounds.position.y + bounds.height / 2 - ((bounds.width - 8) / 4) + 2 + 20);
-        g.setColor(new Color(226, 173, 67));
-        g.drawString("UNO", bounds.position.x + bounds.width / 2 - strWidth / 2,
-                bounds.position.y + bounds.height / 2 - ((bounds.width - 8) / 4) + 20);
+        g.drawImage(AtlasCartas.getCardBack(), bounds.position.x, bounds.position.y, bounds.width, bounds.height,
+                null);
     }
 
     /**
-     * Define a cor e a cor usada para desenhar.
+     * Obtém a etiqueta no centro de uma carta.
+     *
+     * @param faceValueID O faceValueID da carta.
+     * @return O texto mostrado no centro da carta.
+     */
+    public static String getCardLabel(int faceValueID) {
+        return cardFaceValues[faceValueID];
+    }
+
+    /**
+     * Obtém a etiqueta em ambos os cantos de uma carta.
+     *
+     * @param faceValueID O faceValueID da carta.
+     * @return O texto mostrado nos cantos da carta.
+     */
+    public static String getCornerLabel(int faceValueID) {
+        return switch (faceValueID) {
+            case 10 -> "+2";
+            case 13 -> "+4";
+            case 14 -> "";
+            default -> cardFaceValues[faceValueID];
+        };
+    }
+
+    /**
+     * Define a cor da carta.
      *
      * @param colorID A cor para definir o cartão. 0=Vermelho, 1=Azul, 2=Verde,
      *                3=Amarelo, 4=Selvagem
      */
     public void setColour(int colourID) {
-        this.colourID = colourID;
-        drawColour = getColourByID(colourID);
+        encodedCard = CodigoCarta.withColour(encodedCard, colourID);
     }
 
     /**
@@ -164,7 +119,7 @@ public class Carta extends Retangulo {
      * @return O colorID atual deste cartão.
      */
     public int getColourID() {
-        return colourID;
+        return CodigoCarta.getColourID(encodedCard);
     }
 
     /**
@@ -173,7 +128,7 @@ public class Carta extends Retangulo {
      * @return O faceValueID atual do cartão.
      */
     public int getFaceValueID() {
-        return faceValueID;
+        return CodigoCarta.getFaceValueID(encodedCard);
     }
 
     /**
@@ -182,7 +137,16 @@ public class Carta extends Retangulo {
      * @return O cardID exclusivo que identifica este cartão.
      */
     public int getCardID() {
-        return cardID;
+        return CodigoCarta.getCardID(encodedCard);
+    }
+
+    /**
+     * Obtém a carta codificada mostrada por esta visualização.
+     *
+     * @return A carta codificada.
+     */
+    public int getEncodedCard() {
+        return encodedCard;
     }
 
     /**
@@ -194,13 +158,7 @@ public class Carta extends Retangulo {
      *         Default=Preto.
      */
     public static Color getColourByID(int colourID) {
-        return switch (colourID) {
-            case 0 -> new Color(191, 48, 48);
-            case 1 -> new Color(36, 94, 160);
-            case 2 -> new Color(115, 187, 54);
-            case 3 -> new Color(238, 188, 65);
-            default -> Color.BLACK;
-        };
+        return (colourID >= 0 && colourID < colours.length) ? colours[colourID] : Color.BLACK;
     }
 
     /**
@@ -211,11 +169,6 @@ public class Carta extends Retangulo {
      * @return A pontuação calculada para este cartão.
      */
     public int getScoreValue() {
-        if (faceValueID < 10)
-            return faceValueID;
-        else if (faceValueID == 13 || faceValueID == 14)
-            return 50;
-        else
-            return 20;
+        return CodigoCarta.getScoreValue(encodedCard);
     }
 }
@@ -10,6 +10,16 @@ import java.awt.*;
  * @versão 2023
  */
 public class ChamadaUno extends PlayerFlashOverlay {
+    /**
+     * O texto UNO! em preto desenhado por baixo das letras coloridas.
+     */
+    private static final CacheTexto.Texto UNO_SHADOW = CacheTexto.getText("UNO!", CacheTexto.getFont(Font.BOLD, 40),
+            Color.BLACK);
+    /**
+     * Cada letra de UNO! com a cor de uma carta.
+     */
+    private static final CacheTexto.Texto[] UNO_LETTERS = createLetters();
+
     /**
      * Configura a sobreposição pronta para exibição.
      *
@@ -28,14 +38,62 @@ public class ChamadaUno extends PlayerFlashOverlay {
     @Override
     public void paint(Graphics g) {
         if (displayTimer % 200 < 150) {
-            g.setColor(Color.BLACK);
-            g.setFont(new Font("Arial", Font.BOLD, fontSize));
-            g.drawString(message, bounds.position.x, bounds.position.y);
-            g.setFont(new Font("Arial", Font.BOLD, fontSize));
-            for (int i = 0; i < message.length(); i++) {
-                g.setColor(Carta.getColourByID(i % 4));
-                g.drawString(message.charAt(i) + "", bounds.position.x + 2 + i * 30, bounds.position.y - 2);
-            }
+            paintUnoText(g, bounds.position.x, bounds.position.y);
+        }
+    }
+
+    /**
+     * Desenha UNO! com cada letra de uma cor sobre uma sombra preta. Também é
+     * usado no título das interfaces.
+     *
+     * @param g Referência ao objeto Graphics para renderização.
+     * @param x Posição horizontal do início do texto.
+     * @param y Posição vertical da linha de base da sombra.
+     */
+    public static void paintUnoText(Graphics g, int x, int y) {
+        UNO_SHADOW.paint(g, x, y);
+        for (int i = 0; i < UNO_LETTERS.length; i++) {
+            UNO_LETTERS[i].paint(g, x + 2 + i * 30, y - 2);
+        }
+    }
+
+    /**
+     * Obtém a região pintada por paintUnoText() na mesma posição.
+     *
+     * @param x Posição horizontal do início do texto.
+     * @param y Posição vertical da linha de base da sombra.
+     * @return A região coberta pela sombra e pelas letras.
+     */
+    public static Retangulo getUnoTextBounds(int x, int y) {
+        Retangulo region = UNO_SHADOW.getPaintBounds(x, y);
+        for (int i = 0; i < UNO_LETTERS.length; i++) {
+            region = region.union(UNO_LETTERS[i].getPaintBounds(x + 2 + i * 30, y - 2));
+        }
+        return region;
+    }
+
+    /**
+     * Obtém a região do texto UNO! piscando.
+     *
+     * @return A região a ser redesenhada quando a interface muda.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        return getUnoTextBounds(bounds.position.x, bounds.position.y);
+    }
+
+    /**
+     * Obtém do cache as letras de UNO!, cada uma com a cor de uma carta.
+     *
+     * @return As letras na ordem do texto.
+     */
+    private static CacheTexto.Texto[] createLetters() {
+        String text = "UNO!";
+        CacheTexto.Texto[] letters = new CacheTexto.Texto[text.length()];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = CacheTexto.getText(text.substring(i, i + 1), CacheTexto.getFont(Font.BOLD, 40),
+                    Carta.getColourByID(i % 4));
         }
+        return letters;
     }
 }
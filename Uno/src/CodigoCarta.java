@@ -0,0 +1,168 @@
+/**
+ * Uno
+ *
+ * Classe CodigoCarta:
+ * Representa uma carta como um único int para que o jogo, a IA e os
+ * registros de partidas movam cartas sem criar objetos. O colourID ocupa os
+ * 3 bits mais baixos, o faceValueID os 4 bits seguintes e o cardID o
+ * restante: (cardID << 7) | (faceValueID << 3) | colourID.
+ * A Carta é usada apenas para mostrar uma carta codificada na interface.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public final class CodigoCarta {
+    /**
+     * Valor usado quando nenhuma carta foi encontrada.
+     */
+    public static final int NO_CARD = -1;
+    /**
+     * Número de faceValueIDs diferentes (0 a 14).
+     */
+    public static final int FACE_VALUE_COUNT = 15;
+    /**
+     * Número de colourIDs diferentes, incluindo 4 para curinga sem cor.
+     */
+    public static final int COLOUR_COUNT = 5;
+    /**
+     * colourID de um curinga que ainda não teve a cor escolhida.
+     */
+    public static final int WILD_COLOUR = 4;
+
+    /**
+     * Quantidade de bits ocupados por cada campo.
+     */
+    private static final int COLOUR_BITS = 3, FACE_VALUE_BITS = 4;
+    /**
+     * Máscaras para isolar cada campo depois do deslocamento.
+     */
+    private static final int COLOUR_MASK = (1 << COLOUR_BITS) - 1, FACE_VALUE_MASK = (1 << FACE_VALUE_BITS) - 1;
+    /**
+     * Deslocamento do cardID.
+     */
+    private static final int CARD_ID_SHIFT = COLOUR_BITS + FACE_VALUE_BITS;
+
+    /**
+     * Não é instanciada; todos os métodos são estáticos.
+     */
+    private CodigoCarta() {
+    }
+
+    /**
+     * Codifica as propriedades de uma carta em um int.
+     *
+     * @param faceValueID O faceValueID da carta (0 a 14).
+     * @param colourID    O colourID da carta (0 a 4).
+     * @param cardID      O ID exclusivo da carta.
+     * @return A carta codificada.
+     */
+    public static int encode(int faceValueID, int colourID, int cardID) {
+        return (cardID << CARD_ID_SHIFT) | (faceValueID << COLOUR_BITS) | colourID;
+    }
+
+    /**
+     * Obtém o faceValueID de uma carta codificada.
+     *
+     * @param card A carta codificada.
+     * @return O faceValueID da carta.
+     */
+    public static int getFaceValueID(int card) {
+        return (card >>> COLOUR_BITS) & FACE_VALUE_MASK;
+    }
+
+    /**
+     * Obtém o colourID de uma carta codificada.
+     *
+     * @param card A carta codificada.
+     * @return O colourID da carta.
+     */
+    public static int getColourID(int card) {
+        return card & COLOUR_MASK;
+    }
+
+    /**
+     * Obtém o cardID de uma carta codificada.
+     *
+     * @param card A carta codificada.
+     * @return O cardID exclusivo da carta.
+     */
+    public static int getCardID(int card) {
+        return card >>> CARD_ID_SHIFT;
+    }
+
+    /**
+     * Obtém a mesma carta com outra cor. Usado quando a cor de um curinga é
+     * escolhida.
+     *
+     * @param card     A carta codificada.
+     * @param colourID A nova cor.
+     * @return A carta codificada com a nova cor.
+     */
+    public static int withColour(int card, int colourID) {
+        return (card & ~COLOUR_MASK) | colourID;
+    }
+
+    /**
+     * Verifica se uma carta pode ser jogada sobre uma carta com o faceValueID
+     * e colourID indicados.
+     *
+     * @param card        A carta codificada a ser jogada.
+     * @param faceValueID O faceValueID da carta do topo.
+     * @param colourID    O colourID da carta do topo.
+     * @return Verdadeiro se a face ou a cor coincidem ou se a carta é curinga.
+     */
+    public static boolean isPlayableOn(int card, int faceValueID, int colourID) {
+        int cardFaceValueID = getFaceValueID(card);
+        return cardFaceValueID == faceValueID || getColourID(card) == colourID || cardFaceValueID >= 13;
+    }
+
+    /**
+     * Verifica se duas cartas têm a mesma face e a mesma cor, como exigido para
+     * um salto.
+     *
+     * @param card    A carta codificada.
+     * @param topCard A carta codificada do topo da pilha.
+     * @return Verdadeiro se as duas cartas são idênticas exceto pelo cardID.
+     */
+    public static boolean isSameFaceAndColour(int card, int topCard) {
+        return ((card ^ topCard) & ((1 << CARD_ID_SHIFT) - 1)) == 0;
+    }
+
+    /**
+     * Obtém a pontuação de uma carta codificada.
+     * As cartas numeradas são o seu valor nominal, wild e +4 valem 50,
+     * e outros valem 20.
+     *
+     * @param card A carta codificada.
+     * @return A pontuação calculada para esta carta.
+     */
+    public static int getScoreValue(int card) {
+        int faceValueID = getFaceValueID(card);
+        if (faceValueID < 10)
+            return faceValueID;
+        else if (faceValueID >= 13)
+            return 50;
+        else
+            return 20;
+    }
+
+    /**
+     * Chave usada para ordenar a mão primeiro por cor e depois por face.
+     *
+     * @param card A carta codificada.
+     * @return Um valor que respeita a ordem de cor e depois de face.
+     */
+    public static int getSortKey(int card) {
+        return getColourID(card) * FACE_VALUE_COUNT + getFaceValueID(card);
+    }
+
+    /**
+     * Texto curto para registros e depuração, por exemplo "12:7/2".
+     *
+     * @param card A carta codificada.
+     * @return cardID:faceValueID/colourID.
+     */
+    public static String toString(int card) {
+        return getCardID(card) + ":" + getFaceValueID(card) + "/" + getColourID(card);
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Uno
+ *
+ * Classe CodigoJogada:
+ * Representa uma jogada como um único int, para que IAs de busca, testes
+ * automáticos e clientes de rede troquem jogadas sem criar objetos. O tipo
+ * ocupa os 4 bits mais altos e o valor os 28 bits restantes:
+ * (tipo << 28) | valor. O valor é a carta codificada (ver CodigoCarta) em
+ * PLAY_CARD, o colourID em CHOOSE_COLOUR e o playerID em SWAP_HANDS.
+ * As jogadas legais de um jogador são obtidas com MotorJogo.getLegalMoves e
+ * aplicadas com MotorJogo.applyMove.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public final class CodigoJogada {
+    /**
+     * Joga uma carta da mão: no início do turno, como salto fora do turno, a
+     * carta recém-comprada em KeepOrPlay, ou um +2 ou +4 empilhado em
+     * IsStacking e IsChallenging.
+     */
+    public static final int PLAY_CARD = 0;
+    /**
+     * Compra uma carta no início do turno.
+     */
+    public static final int DRAW_CARD = 1;
+    /**
+     * Escolhe a cor de um curinga ou +4 (WildColour).
+     */
+    public static final int CHOOSE_COLOUR = 2;
+    /**
+     * Mantém a carta recém-comprada (KeepOrPlay).
+     */
+    public static final int KEEP_CARD = 3;
+    /**
+     * Recusa responder a um +2 ou +4 e recebe a penalidade (IsStacking e
+     * IsChallenging).
+     */
+    public static final int DECLINE = 4;
+    /**
+     * Desafia um +4 (IsChallenging).
+     */
+    public static final int CHALLENGE = 5;
+    /**
+     * Troca de mão com o jogador indicado depois de um 7 (OtherPlayer).
+     */
+    public static final int SWAP_HANDS = 6;
+
+    /**
+     * Deslocamento do tipo.
+     */
+    private static final int TYPE_SHIFT = 28;
+    /**
+     * Máscara para isolar o valor.
+     */
+    private static final int VALUE_MASK = (1 << TYPE_SHIFT) - 1;
+    /**
+     * Nomes dos tipos para toString, indexados pelo tipo.
+     */
+    private static final String[] TYPE_NAMES = { "Jogar", "Comprar", "Cor", "Manter", "Recusar", "Desafiar",
+            "Trocar" };
+
+    /**
+     * Não é instanciada; todos os métodos são estáticos.
+     */
+    private CodigoJogada() {
+    }
+
+    /**
+     * Codifica uma jogada em um int.
+     *
+     * @param type  O tipo da jogada (PLAY_CARD a SWAP_HANDS).
+     * @param value A carta, o colourID ou o playerID, conforme o tipo.
+     * @return A jogada codificada.
+     */
+    public static int encode(int type, int value) {
+        return (type << TYPE_SHIFT) | value;
+    }
+
+    /**
+     * Codifica a jogada de uma carta.
+     *
+     * @param card A carta codificada a ser jogada.
+     * @return A jogada codificada.
+     */
+    public static int playCard(int card) {
+        return encode(PLAY_CARD, card);
+    }
+
+    /**
+     * Codifica a escolha da cor de um curinga.
+     *
+     * @param colourID A cor escolhida (0 a 3).
+     * @return A jogada codificada.
+     */
+    public static int chooseColour(int colourID) {
+        return encode(CHOOSE_COLOUR, colourID);
+    }
+
+    /**
+     * Codifica a troca de mão com outro jogador.
+     *
+     * @param playerID O jogador com quem trocar.
+     * @return A jogada codificada.
+     */
+    public static int swapHands(int playerID) {
+        return encode(SWAP_HANDS, playerID);
+    }
+
+    /**
+     * Obtém o tipo de uma jogada codificada.
+     *
+     * @param move A jogada codificada.
+     * @return O tipo da jogada (PLAY_CARD a SWAP_HANDS).
+     */
+    public static int getType(int move) {
+        return move >>> TYPE_SHIFT;
+    }
+
+    /**
+     * Obtém o valor de uma jogada codificada.
+     *
+     * @param move A jogada codificada.
+     * @return A carta, o colourID ou o playerID, conforme o tipo; zero para
+     *         as jogadas sem valor.
+     */
+    public static int getValue(int move) {
+        return move & VALUE_MASK;
+    }
+
+    /**
+     * Texto curto para registros e depuração, por exemplo "Jogar 12:7/2" ou
+     * "Cor 3".
+     *
+     * @param move A jogada codificada.
+     * @return O nome do tipo seguido do valor, quando houver.
+     */
+    public static String toString(int move) {
+        int type = getType(move);
+        if (type >= TYPE_NAMES.length) {
+            return "?" + move;
+        }
+        return switch (type) {
+            case PLAY_CARD -> TYPE_NAMES[type] + " " + CodigoCarta.toString(getValue(move));
+            case CHOOSE_COLOUR, SWAP_HANDS -> TYPE_NAMES[type] + " " + getValue(move);
+            default -> TYPE_NAMES[type];
+        };
+    }
+}
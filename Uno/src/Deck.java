@@ -1,89 +1,196 @@
-import java.awt.*;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Uno
  *
  * Classe Deck:
- * Representa um Deck com uma coleção de cartas.
+ * Representa um Deck com uma coleção fixa de cartas codificadas (ver
+ * CodigoCarta). As 108 cartas são criadas uma única vez; as cartas jogadas
+ * voltam por uma pilha de descarte que é embaralhada de volta quando o
+ * baralho acaba, de forma que o número de cartas em jogo nunca cresce.
  *
  * @autor Cauet Damasceno
  * @versão 2023
  */
-public class Deck extends Retangulo {
+public class Deck {
     /**
-     * A lista de cartas atualmente no baralho.
+     * Número de cartas em um baralho completo.
      */
-    private final List<Carta> deck;
+    public static final int DECK_SIZE = 108;
+
+    /**
+     * As cartas codificadas que ainda podem ser compradas, nas posições
+     * [0, drawCount). As cartas são compradas a partir do fim.
+     */
+    private int[] drawPile;
+    /**
+     * Ponteiro de compra: número de cartas ainda no baralho.
+     */
+    private int drawCount;
+    /**
+     * As cartas codificadas descartadas que ainda não voltaram ao baralho, nas
+     * posições [0, discardCount).
+     */
+    private int[] discardPile;
     /**
-     * A variável usada para dar a cada cartão um cardID exclusivo.
+     * Número de cartas na pilha de descarte.
      */
-    private int nextCardID;
+    private int discardCount;
+    /**
+     * Número total de cartas criadas, usado também para dar a cada carta um
+     * cardID exclusivo.
+     */
+    private int totalCards;
+    /**
+     * Fluxo aleatório usado para embaralhar.
+     */
+    private final SplittableRandom random;
 
     /**
-     * Inicializa o baralho inicialmente sem cartas.
+     * Inicializa o baralho com as 108 cartas embaralhadas.
      *
-     * @param position Posição para o deck aparecer no jogo.
+     * @param random Fluxo aleatório usado para embaralhar.
      */
-    public Deck(Posicao position) {
-        super(position, Carta.CARD_WIDTH, Carta.CARD_HEIGHT);
-        deck = new ArrayList<>();
-        nextCardID = 0;
+    public Deck(SplittableRandom random) {
+        this.random = random;
+        drawPile = new int[DECK_SIZE];
+        discardPile = new int[DECK_SIZE];
+        drawCount = discardCount = totalCards = 0;
+        addFullDeck();
     }
 
     /**
-     * Desenha o verso de uma carta para representar a posição do baralho.
-     * Com a palavra "DECK" aparecendo acima dele.
+     * Se o baralho estiver vazio, a pilha de descarte é embaralhada de volta.
+     * Em seguida, uma carta é retirada do baralho e devolvida.
      *
-     * @param g Referência ao objeto Graphics para renderização.
+     * @return Uma única carta codificada retirada do baralho, ou
+     *         CodigoCarta.NO_CARD se não sobrou nenhuma fora das mãos e da mesa.
      */
-    public void paint(Graphics g) {
-        Carta.paintCardBack(g, this);
+    public int drawCard() {
+        if (drawCount == 0) {
+            refillFromDiscardPile();
+            if (drawCount == 0) {
+                return CodigoCarta.NO_CARD;
+            }
+        }
+        return drawPile[--drawCount];
+    }
+
+    /**
+     * Coloca uma carta que saiu de jogo na pilha de descarte. Curingas e +4
+     * perdem a cor escolhida.
+     *
+     * @param card A carta codificada que não está mais em jogo.
+     */
+    public void discard(int card) {
+        if (CodigoCarta.getFaceValueID(card) >= 13) {
+            card = CodigoCarta.withColour(card, CodigoCarta.WILD_COLOUR);
+        }
+        discardPile[discardCount++] = card;
+    }
 
-        g.setColor(Color.BLACK);
-        int strWidth = g.getFontMetrics().stringWidth("Dealer");
-        g.drawString("Dealer", position.x + width / 2 - strWidth / 2, position.y - 4);
+    /**
+     * Obtém o número de cartas que ainda podem ser compradas sem embaralhar o
+     * descarte.
+     *
+     * @return O número de cartas no baralho.
+     */
+    public int getDrawPileSize() {
+        return drawCount;
     }
 
     /**
-     * Se o baralho estiver vazio, ele será preenchido com um novo baralho.
-     * Em seguida, uma carta é retirada do baralho e devolvida.
+     * Obtém o número de cartas na pilha de descarte.
      *
-     * @return Uma única carta retirada do baralho.
+     * @return O número de cartas descartadas.
      */
-    public Carta drawCard() {
-        if (deck.isEmpty()) {
-            fillDeck();
+    public int getDiscardPileSize() {
+        return discardCount;
+    }
+
+    /**
+     * Copia as cartas que ainda podem ser compradas, na ordem em que estão
+     * guardadas (a próxima carta comprada é a última).
+     *
+     * @param dest Recebe as cartas; deve ter pelo menos getDrawPileSize()
+     *             posições.
+     * @return O número de cartas copiadas.
+     */
+    public int copyDrawPile(int[] dest) {
+        System.arraycopy(drawPile, 0, dest, 0, drawCount);
+        return drawCount;
+    }
+
+    /**
+     * Copia as cartas da pilha de descarte. Curingas e +4 aparecem sem cor.
+     *
+     * @param dest Recebe as cartas; deve ter pelo menos getDiscardPileSize()
+     *             posições.
+     * @return O número de cartas copiadas.
+     */
+    public int copyDiscardPile(int[] dest) {
+        System.arraycopy(discardPile, 0, dest, 0, discardCount);
+        return discardCount;
+    }
+
+    /**
+     * Obtém o número total de cartas criadas por este baralho.
+     *
+     * @return Sempre DECK_SIZE.
+     */
+    public int getTotalCards() {
+        return totalCards;
+    }
+
+    /**
+     * Move a pilha de descarte para o baralho e a embaralha. Se não houver
+     * nenhuma carta descartada (todas as cartas estão nas mãos ou na mesa), o
+     * baralho continua vazio.
+     */
+    private void refillFromDiscardPile() {
+        if (discardCount == 0) {
+            return;
         }
-        Carta drawnCard = deck.get(0);
-        deck.remove(0);
-        return drawnCard;
+        int[] emptyPile = drawPile;
+        drawPile = discardPile;
+        drawCount = discardCount;
+        discardPile = emptyPile;
+        discardCount = 0;
+        shuffleDrawPile();
     }
 
     /**
-     * Preenche o baralho preenchendo-o com todas as diferentes variações de cartas,
-     * e depois embaralha as cartas para criar uma ordem aleatória.
+     * Adiciona ao baralho todas as diferentes variações de cartas com novos
+     * cardIDs, e depois embaralha as cartas para criar uma ordem aleatória.
      */
-    private void fillDeck() {
-        deck.clear();
+    private void addFullDeck() {
         // para cada cor
         for (int colourID = 0; colourID < 4; colourID++) {
             // Apenas 1x"0"
-            deck.add(new Carta(0, colourID, nextCardID++));
+            drawPile[drawCount++] = CodigoCarta.encode(0, colourID, totalCards++);
             // Dois de 1 a 9, Desenhar Dois, Pular e Reverter
             for (int faceValue = 1; faceValue <= 12; faceValue++) {
-                deck.add(new Carta(faceValue, colourID, nextCardID++));
-                deck.add(new Carta(faceValue, colourID, nextCardID++));
+                drawPile[drawCount++] = CodigoCarta.encode(faceValue, colourID, totalCards++);
+                drawPile[drawCount++] = CodigoCarta.encode(faceValue, colourID, totalCards++);
             }
         }
         // Quatro de cada Wild e sorteio de 4 Wild.
         for (int i = 0; i < 4; i++) {
-            deck.add(new Carta(13, 4, nextCardID++));
-            deck.add(new Carta(14, 4, nextCardID++));
+            drawPile[drawCount++] = CodigoCarta.encode(13, 4, totalCards++);
+            drawPile[drawCount++] = CodigoCarta.encode(14, 4, totalCards++);
+        }
+        shuffleDrawPile();
+    }
+
+    /**
+     * Randomiza a ordem das cartas do baralho (Fisher-Yates).
+     */
+    private void shuffleDrawPile() {
+        for (int i = drawCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = drawPile[i];
+            drawPile[i] = drawPile[j];
+            drawPile[j] = temp;
         }
-        // randomiza a ordem
-        Collections.shuffle(deck);
     }
 }
@@ -18,10 +18,6 @@ public class DesafioOverlay extends WndInterface implements TurnDecisionOverlayI
      * e Recusar.
      */
     private final List<Botao> buttonList;
-    /**
-     * Referência ao TurnAction que acionou a exibição desta sobreposição.
-     */
-    private TurnActionFactory.TurnDecisionAction currentAction;
     /**
      * Referência ao jogador a ser usado para seleção de cartas quando o
      * empilhamento for permitido.
@@ -84,8 +80,7 @@ public class DesafioOverlay extends WndInterface implements TurnDecisionOverlayI
      *                      aparecer.
      */
     @Override
-    public void showOverlay(TurnActionFactory.TurnDecisionAction currentAction) {
-        this.currentAction = currentAction;
+    public void showOverlay(TurnActionFactory.TurnSequence currentAction) {
         setEnabled(true);
     }
 
@@ -101,7 +96,9 @@ public class DesafioOverlay extends WndInterface implements TurnDecisionOverlayI
             return;
 
         for (Botao button : buttonList) {
-            button.setHovering(button.isPositionInside(mousePosition));
+            if (button.setHovering(button.isPositionInside(mousePosition))) {
+                markDirty(button.getPaintBounds());
+            }
         }
     }
 
@@ -123,23 +120,34 @@ public class DesafioOverlay extends WndInterface implements TurnDecisionOverlayI
 
         for (Botao button : buttonList) {
             if (button.isPositionInside(mousePosition)) {
-                currentAction.injectProperty("isChaining", 0);
-                currentAction.injectFlagProperty(button.getActionID());
-                setEnabled(false);
+                if (InterfaceJogo.getCurrentGame().getMotor().applyMove(playerReference.getPlayerID(),
+                        CodigoJogada.encode(button.getActionID() == 1 ? CodigoJogada.CHALLENGE : CodigoJogada.DECLINE, 0))) {
+                    setEnabled(false);
+                }
                 return;
             }
         }
 
         if (allowStacking) {
             Carta clickedCard = playerReference.chooseCardFromClick(mousePosition);
-            if (clickedCard != null && clickedCard.getFaceValueID() == 13) {
-                currentAction.injectProperty("faceValueID", clickedCard.getFaceValueID());
-                currentAction.injectProperty("colourID", clickedCard.getColourID());
-                currentAction.injectProperty("cardID", clickedCard.getCardID());
-                currentAction.injectProperty("isChaining", 1);
-                currentAction.injectFlagProperty(0);
+            if (clickedCard != null && InterfaceJogo.getCurrentGame().getMotor().applyMove(
+                    playerReference.getPlayerID(), CodigoJogada.playCard(clickedCard.getEncodedCard()))) {
                 setEnabled(false);
             }
         }
     }
+
+    /**
+     * Obtém a região dos botões, a única parte desenhada.
+     *
+     * @return A região a ser redesenhada quando a interface muda.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        Retangulo region = buttonList.get(0).getPaintBounds();
+        for (Botao button : buttonList) {
+            region = region.union(button.getPaintBounds());
+        }
+        return region;
+    }
 }
@@ -14,10 +14,6 @@ public class EscolhaDePilha extends WndInterface implements TurnDecisionOverlayI
      * O botão recusar que simplesmente aceita tirar o sorteio da carta.
      */
     private final Botao declineButton;
-    /**
-     * Referência ao TurnAction que acionou a exibição desta sobreposição.
-     */
-    private TurnActionFactory.TurnDecisionAction currentAction;
     /**
      * Referência ao último jogador que está fazendo a escolha.
      */
@@ -64,8 +60,7 @@ public class EscolhaDePilha extends WndInterface implements TurnDecisionOverlayI
      * @param currentAction A ação usada para acionar esta interface.
      */
     @Override
-    public void showOverlay(TurnActionFactory.TurnDecisionAction currentAction) {
-        this.currentAction = currentAction;
+    public void showOverlay(TurnActionFactory.TurnSequence currentAction) {
         setEnabled(true);
     }
 
@@ -80,7 +75,19 @@ public class EscolhaDePilha extends WndInterface implements TurnDecisionOverlayI
         if (!isEnabled())
             return;
 
-        declineButton.setHovering(declineButton.isPositionInside(mousePosition));
+        if (declineButton.setHovering(declineButton.isPositionInside(mousePosition))) {
+            markDirty(declineButton.getPaintBounds());
+        }
+    }
+
+    /**
+     * Obtém a região do botão Recusar, a única parte desenhada.
+     *
+     * @return A região a ser redesenhada quando a interface muda.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        return declineButton.getPaintBounds();
     }
 
     /**
@@ -100,18 +107,17 @@ public class EscolhaDePilha extends WndInterface implements TurnDecisionOverlayI
         if (!isEnabled())
             return;
 
+        MotorJogo motor = InterfaceJogo.getCurrentGame().getMotor();
         if (declineButton.isPositionInside(mousePosition)) {
-            currentAction.injectFlagProperty(0);
-            setEnabled(false);
+            if (motor.applyMove(playerReference.getPlayerID(), CodigoJogada.encode(CodigoJogada.DECLINE, 0))) {
+                setEnabled(false);
+            }
             return;
         }
 
         Carta clickedCard = playerReference.chooseCardFromClick(mousePosition);
-        if (clickedCard != null && clickedCard.getFaceValueID() == 10) {
-            currentAction.injectProperty("faceValueID", clickedCard.getFaceValueID());
-            currentAction.injectProperty("colourID", clickedCard.getColourID());
-            currentAction.injectProperty("cardID", clickedCard.getCardID());
-            currentAction.injectFlagProperty(1);
+        if (clickedCard != null && motor.applyMove(playerReference.getPlayerID(),
+                CodigoJogada.playCard(clickedCard.getEncodedCard()))) {
             setEnabled(false);
         }
     }
@@ -0,0 +1,1434 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Uno
+ *
+ * Classe EstadoJogo:
+ * Uma cópia compacta do estado de uma rodada, feita apenas de arrays de
+ * cartas codificadas (ver CodigoCarta), para que a IA possa simular turnos
+ * inteiros sem tocar no MotorJogo, sem eventos e sem criar objetos. As
+ * regras seguem as sequências do TurnActionFactory, e as decisões que elas
+ * pedem aos jogadores aparecem como fases (ver Phase) resolvidas pelos
+ * métodos de jogada: playCard, drawCard, chooseWildColour, keepDrawnCard,
+ * declineResponse, challenge e chooseSwapTarget. Salto e chamadas de UNO não
+ * são simulados.
+ *
+ * Depois de mark(), cada mudança nos arrays é registrada em um log de ints e
+ * undo() a desfaz, de forma que uma busca pode aplicar uma jogada e voltar
+ * sem copiar o estado e sem criar objetos. Sem nenhum mark() ativo nada é
+ * registrado, o que deixa as simulações até o fim da rodada sem esse custo.
+ *
+ * Uma ação de turno (applyAction) é a chave faceValueID * COLOUR_COUNT +
+ * colourID da carta jogada, ou DRAW_ACTION para comprar do baralho. Para
+ * curingas e +4 o colourID da ação é a cor escolhida (0 a 3), então cada um
+ * gera quatro ações. Uma ação de turno resolve as decisões seguintes como o
+ * AIJogador as resolveria.
+ *
+ * Para buscas que precisam de cada decisão separadamente, getLegalMoves e
+ * applyMove usam as mesmas jogadas de CodigoJogada que o MotorJogo, e
+ * getStateHash resume a posição em um long para tabelas de transposição.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class EstadoJogo {
+    /**
+     * As decisões que podem estar aguardando o jogador atual, com os mesmos
+     * nomes dos DataSlots usados pelas TurnDecisionActions.
+     * Turn: início do turno, jogar uma carta ou comprar.
+     * WildColour: escolher a cor do curinga ou +4 que acabou de jogar.
+     * KeepOrPlay: manter ou jogar a carta jogável que acabou de comprar (a
+     * última da mão).
+     * IsStacking: responder a um +2 com outro +2 ou receber a penalidade.
+     * IsChallenging: desafiar o +4, empilhar outro +4 ou receber a penalidade.
+     * OtherPlayer: escolher com quem trocar de mão depois de um 7.
+     */
+    public enum Phase {
+        Turn, WildColour, KeepOrPlay, IsStacking, IsChallenging, OtherPlayer
+    }
+
+    /**
+     * Ação de comprar uma carta do baralho no início do turno.
+     */
+    public static final int DRAW_ACTION = CodigoCarta.FACE_VALUE_COUNT * CodigoCarta.COLOUR_COUNT;
+    /**
+     * Número de ações diferentes, incluindo DRAW_ACTION.
+     */
+    public static final int ACTION_COUNT = DRAW_ACTION + 1;
+
+    /**
+     * As fases indexadas pelo ordinal, para desfazer sem criar arrays.
+     */
+    private static final Phase[] PHASES = Phase.values();
+    /**
+     * Tipos das entradas do log. Cada entrada são os seus dados seguidos do
+     * tipo, para que o log possa ser lido de trás para frente.
+     */
+    private static final int LOG_FRAME = 0, LOG_REMOVE = 1, LOG_DRAW = 2, LOG_REFILL = 3, LOG_PLACE = 4,
+            LOG_TOP_COLOUR = 5, LOG_SWAP = 6, LOG_PASS_ALL = 7, LOG_PILE_SWAP = 8;
+
+    /**
+     * Número de jogadores da rodada.
+     */
+    private int playerCount;
+    /**
+     * Número máximo de cartas em jogo, que também é o espaço reservado para
+     * a mão de cada jogador, o baralho e o descarte.
+     */
+    private int capacity;
+    /**
+     * As mãos de todos os jogadores. A mão do jogador p ocupa as posições
+     * [p * capacity, p * capacity + handSizes[p]).
+     */
+    private int[] hands;
+    /**
+     * Número de cartas na mão de cada jogador.
+     */
+    private int[] handSizes;
+    /**
+     * As cartas que podem ser compradas, nas posições [0, drawCount). As
+     * cartas são compradas a partir do fim.
+     */
+    private int[] drawPile;
+    /**
+     * Número de cartas no baralho.
+     */
+    private int drawCount;
+    /**
+     * As cartas descartadas, nas posições [0, discardCount).
+     */
+    private int[] discardPile;
+    /**
+     * Número de cartas na pilha de descarte.
+     */
+    private int discardCount;
+    /**
+     * Espaço usado por determinize() para juntar as cartas escondidas.
+     */
+    private int[] hiddenCards;
+    /**
+     * A carta do topo da pilha, com a cor escolhida se for curinga.
+     */
+    private int topCard;
+    /**
+     * A carta coberta pela carta do topo, ou CodigoCarta.NO_CARD.
+     */
+    private int cardBeforeTop;
+    /**
+     * O jogador que deve agir.
+     */
+    private int currentPlayerID;
+    /**
+     * Quando verdadeiro, a ordem dos turnos é crescente.
+     */
+    private boolean isIncreasing;
+    /**
+     * O jogador que esvaziou a mão, ou -1 enquanto a rodada continua.
+     */
+    private int winnerID;
+    /**
+     * A decisão que o jogador atual deve tomar.
+     */
+    private Phase phase;
+    /**
+     * Penalidade acumulada por +2 e +4 empilhados que ainda não foi comprada.
+     * Durante IsChallenging ela não inclui o +4 do topo.
+     */
+    private int pendingDrawCount;
+    /**
+     * O jogador que jogou o +4 do topo, ou -1 depois de um curinga comum.
+     */
+    private int plus4PlayerID;
+    /**
+     * Verdadeiro quando quem jogou o +4 do topo tinha outra carta jogável, ou
+     * seja, quando um desafio teria sucesso.
+     */
+    private boolean plus4WasBluff;
+    /**
+     * A ação de cada faceValueID segundo o ConjuntoRegras da rodada.
+     */
+    private final ConjuntoRegras.CardAction[] faceActions;
+    /**
+     * Cópias das regras consultadas durante os turnos.
+     */
+    private boolean canStackCards, drawTillCanPlay, noBluffing, forcedPlay;
+    /**
+     * Fluxo usado para embaralhar o descarte e para os desafios de
+     * applyAction() e playOut().
+     */
+    private SplittableRandom random;
+    /**
+     * O log de desfazer, nas posições [0, logSize).
+     */
+    private int[] log;
+    /**
+     * Número de posições usadas do log; zero quando nenhum mark() está ativo.
+     */
+    private int logSize;
+
+    /**
+     * Cria um estado vazio. Ele deve ser preenchido com captureFrom() ou
+     * copyFrom() antes de ser usado.
+     *
+     * @param random Fluxo usado para embaralhar o descarte e para os desafios.
+     */
+    public EstadoJogo(SplittableRandom random) {
+        this.random = random;
+        faceActions = new ConjuntoRegras.CardAction[CodigoCarta.FACE_VALUE_COUNT];
+        playerCount = capacity = 0;
+        winnerID = -1;
+        phase = Phase.Turn;
+        log = new int[1024];
+        logSize = 0;
+    }
+
+    /**
+     * Troca o fluxo usado para embaralhar o descarte e para os desafios.
+     *
+     * @param random O novo fluxo.
+     */
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Copia o estado completo de uma rodada do MotorJogo, incluindo as mãos de
+     * todos os jogadores, a ordem do baralho e a decisão que a ação de turno
+     * atual estiver aguardando. Deve ser chamado pela thread que atualiza o
+     * jogo. Uma IA só deve simular a partir desta cópia depois de
+     * determinize(), para não usar cartas que não viu.
+     *
+     * @param game O jogo a ser copiado.
+     */
+    public void captureFrom(MotorJogo game) {
+        Deck deck = game.getDeck();
+        allocate(game.getAllPlayers().size(), deck.getTotalCards());
+        for (Jogador player : game.getAllPlayers()) {
+            int playerID = player.getPlayerID();
+            handSizes[playerID] = player.getHandSize();
+            for (int i = 0; i < handSizes[playerID]; i++) {
+                hands[playerID * capacity + i] = player.getCard(i);
+            }
+        }
+        drawCount = deck.copyDrawPile(drawPile);
+        discardCount = deck.copyDiscardPile(discardPile);
+        // A simulação guarda só o topo: as outras cartas do histórico da mesa
+        // entram no descarte, como em placeCard().
+        int[] recentCards = new int[MotorJogo.MAX_CARD_HISTORY];
+        int recentCount = game.copyRecentCards(recentCards);
+        for (int i = 0; i < recentCount - 1; i++) {
+            discardPile[discardCount++] = CodigoCarta.getFaceValueID(recentCards[i]) >= 13
+                    ? CodigoCarta.withColour(recentCards[i], CodigoCarta.WILD_COLOUR)
+                    : recentCards[i];
+        }
+        topCard = game.getTopCard();
+        cardBeforeTop = game.getCardBeforeTop();
+        currentPlayerID = game.getCurrentPlayerID();
+        isIncreasing = game.isIncreasing();
+        winnerID = game.isRoundOver() ? game.getRoundWinner().getPlayerID() : -1;
+        ConjuntoRegras ruleSet = game.getRuleSet();
+        for (int faceValueID = 0; faceValueID < faceActions.length; faceValueID++) {
+            faceActions[faceValueID] = ruleSet.getActionForCard(faceValueID);
+        }
+        canStackCards = ruleSet.canStackCards();
+        drawTillCanPlay = ruleSet.shouldDrawnTillCanPlay();
+        noBluffing = ruleSet.getNoBluffingRule();
+        forcedPlay = ruleSet.getForcedPlayRule();
+        captureDecision(game.getCurrentTurnAction());
+        logSize = 0;
+    }
+
+    /**
+     * Converte a decisão aguardada pela ação de turno do MotorJogo na fase
+     * correspondente.
+     *
+     * @param turnAction A ação de turno atual, ou nula.
+     */
+    private void captureDecision(TurnActionFactory.TurnSequence turnAction) {
+        phase = Phase.Turn;
+        pendingDrawCount = 0;
+        plus4PlayerID = -1;
+        plus4WasBluff = false;
+        if (turnAction == null || !turnAction.isAwaitingDecision()) {
+            return;
+        }
+        if (turnAction.has(TurnActionFactory.DataSlot.DrawCount)) {
+            pendingDrawCount = turnAction.get(TurnActionFactory.DataSlot.DrawCount);
+        }
+        switch (turnAction.getDecision().flagName) {
+            case WildColour -> {
+                phase = Phase.WildColour;
+                if (faceActions[CodigoCarta.getFaceValueID(topCard)] == ConjuntoRegras.CardAction.Plus4) {
+                    plus4PlayerID = currentPlayerID;
+                    plus4WasBluff = turnAction.get(TurnActionFactory.DataSlot.CouldPreviousPlayCard) == 1;
+                }
+            }
+            case KeepOrPlay -> {
+                phase = Phase.KeepOrPlay;
+                // A carta comprada passa a ser a última da mão.
+                int cardID = turnAction.get(TurnActionFactory.DataSlot.CardID);
+                int start = currentPlayerID * capacity;
+                int last = start + handSizes[currentPlayerID] - 1;
+                for (int i = start; i < last; i++) {
+                    if (CodigoCarta.getCardID(hands[i]) == cardID) {
+                        int temp = hands[i];
+                        hands[i] = hands[last];
+                        hands[last] = temp;
+                        break;
+                    }
+                }
+            }
+            case IsStacking -> phase = Phase.IsStacking;
+            case IsChallenging -> {
+                phase = Phase.IsChallenging;
+                plus4PlayerID = isIncreasing ? (currentPlayerID + playerCount - 1) % playerCount
+                        : (currentPlayerID + 1) % playerCount;
+                plus4WasBluff = turnAction.get(TurnActionFactory.DataSlot.CouldPreviousPlayCard) == 1;
+            }
+            case OtherPlayer -> phase = Phase.OtherPlayer;
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Torna este estado uma cópia de outro. Só as partes usadas dos arrays são
+     * copiadas e nada é criado quando os tamanhos já coincidem. O log não é
+     * copiado: a cópia começa sem nenhum mark() ativo.
+     *
+     * @param other O estado a ser copiado.
+     */
+    public void copyFrom(EstadoJogo other) {
+        allocate(other.playerCount, other.capacity);
+        for (int playerID = 0; playerID < playerCount; playerID++) {
+            handSizes[playerID] = other.handSizes[playerID];
+            System.arraycopy(other.hands, playerID * capacity, hands, playerID * capacity, handSizes[playerID]);
+        }
+        drawCount = other.drawCount;
+        System.arraycopy(other.drawPile, 0, drawPile, 0, drawCount);
+        discardCount = other.discardCount;
+        System.arraycopy(other.discardPile, 0, discardPile, 0, discardCount);
+        topCard = other.topCard;
+        cardBeforeTop = other.cardBeforeTop;
+        currentPlayerID = other.currentPlayerID;
+        isIncreasing = other.isIncreasing;
+        winnerID = other.winnerID;
+        phase = other.phase;
+        pendingDrawCount = other.pendingDrawCount;
+        plus4PlayerID = other.plus4PlayerID;
+        plus4WasBluff = other.plus4WasBluff;
+        System.arraycopy(other.faceActions, 0, faceActions, 0, faceActions.length);
+        canStackCards = other.canStackCards;
+        drawTillCanPlay = other.drawTillCanPlay;
+        noBluffing = other.noBluffing;
+        forcedPlay = other.forcedPlay;
+        logSize = 0;
+    }
+
+    /**
+     * Garante que os arrays comportam o número de jogadores e de cartas
+     * indicados, criando-os apenas quando mudam.
+     *
+     * @param playerCount Número de jogadores.
+     * @param capacity    Número máximo de cartas em jogo.
+     */
+    private void allocate(int playerCount, int capacity) {
+        if (this.playerCount == playerCount && this.capacity == capacity) {
+            return;
+        }
+        this.playerCount = playerCount;
+        this.capacity = capacity;
+        hands = new int[playerCount * capacity];
+        handSizes = new int[playerCount];
+        drawPile = new int[capacity];
+        discardPile = new int[capacity];
+        hiddenCards = new int[capacity];
+    }
+
+    /**
+     * Sorteia uma das configurações possíveis das cartas que o observador não
+     * viu. As mãos dos oponentes e o baralho são juntados, embaralhados e
+     * distribuídos de volta mantendo o tamanho de cada mão. A mão do
+     * observador, a carta do topo e o descarte ficam como estão. O sorteio não
+     * é registrado no log, então deve ser feito antes de mark().
+     *
+     * @param observerID O jogador do ponto de vista de quem as cartas são
+     *                   sorteadas.
+     * @param random     Fluxo usado para o sorteio.
+     */
+    public void determinize(int observerID, SplittableRandom random) {
+        int hiddenCount = 0;
+        for (int playerID = 0; playerID < playerCount; playerID++) {
+            if (playerID != observerID) {
+                System.arraycopy(hands, playerID * capacity, hiddenCards, hiddenCount, handSizes[playerID]);
+                hiddenCount += handSizes[playerID];
+            }
+        }
+        System.arraycopy(drawPile, 0, hiddenCards, hiddenCount, drawCount);
+        hiddenCount += drawCount;
+        shuffle(hiddenCards, hiddenCount, random);
+
+        int next = 0;
+        for (int playerID = 0; playerID < playerCount; playerID++) {
+            if (playerID != observerID) {
+                System.arraycopy(hiddenCards, next, hands, playerID * capacity, handSizes[playerID]);
+                next += handSizes[playerID];
+            }
+        }
+        System.arraycopy(hiddenCards, next, drawPile, 0, drawCount);
+        // Se o observador está decidindo sobre o +4 de um oponente, o blefe
+        // depende da mão sorteada e não da mão verdadeira.
+        if (plus4PlayerID != -1 && plus4PlayerID != observerID) {
+            plus4WasBluff = hasColouredValidMove(plus4PlayerID, cardBeforeTop);
+        }
+    }
+
+    /**
+     * Começa um ponto de retorno. As mudanças feitas a partir daqui são
+     * registradas até undo() ser chamado com o valor devolvido. Pontos de
+     * retorno podem ser aninhados, como em uma busca em profundidade.
+     *
+     * @return O ponto de retorno a ser passado para undo().
+     */
+    public int mark() {
+        int mark = logSize;
+        ensureLogSpace(8);
+        log[logSize++] = currentPlayerID;
+        log[logSize++] = isIncreasing ? 1 : 0;
+        log[logSize++] = winnerID;
+        log[logSize++] = phase.ordinal();
+        log[logSize++] = pendingDrawCount;
+        log[logSize++] = plus4PlayerID;
+        log[logSize++] = plus4WasBluff ? 1 : 0;
+        log[logSize++] = LOG_FRAME;
+        return mark;
+    }
+
+    /**
+     * Desfaz tudo o que mudou desde o mark() que devolveu o ponto de retorno,
+     * incluindo os mark() feitos depois dele. Se o descarte tiver sido
+     * embaralhado de volta ao baralho, ele volta com as mesmas cartas em outra
+     * ordem; a ordem do descarte não afeta o jogo.
+     *
+     * @param mark O valor devolvido por mark().
+     */
+    public void undo(int mark) {
+        while (logSize > mark) {
+            switch (log[--logSize]) {
+                case LOG_FRAME -> {
+                    plus4WasBluff = log[--logSize] == 1;
+                    plus4PlayerID = log[--logSize];
+                    pendingDrawCount = log[--logSize];
+                    phase = PHASES[log[--logSize]];
+                    winnerID = log[--logSize];
+                    isIncreasing = log[--logSize] == 1;
+                    currentPlayerID = log[--logSize];
+                }
+                case LOG_REMOVE -> {
+                    int card = log[--logSize];
+                    int handIndex = log[--logSize];
+                    int playerID = log[--logSize];
+                    int last = playerID * capacity + handSizes[playerID]++;
+                    hands[last] = hands[handIndex];
+                    hands[handIndex] = card;
+                }
+                case LOG_DRAW -> {
+                    int playerID = log[--logSize];
+                    drawPile[drawCount++] = hands[playerID * capacity + --handSizes[playerID]];
+                }
+                case LOG_REFILL -> {
+                    int[] emptyPile = discardPile;
+                    discardPile = drawPile;
+                    discardCount = log[--logSize];
+                    drawPile = emptyPile;
+                    drawCount = 0;
+                }
+                case LOG_PLACE -> {
+                    boolean discarded = log[--logSize] == 1;
+                    cardBeforeTop = log[--logSize];
+                    topCard = log[--logSize];
+                    if (discarded) {
+                        removeFromDiscardPile(topCard);
+                    }
+                }
+                case LOG_TOP_COLOUR -> topCard = log[--logSize];
+                case LOG_SWAP -> {
+                    int playerB = log[--logSize];
+                    swapHands(log[--logSize], playerB);
+                }
+                case LOG_PASS_ALL -> rotateHands(log[--logSize] == 0);
+                case LOG_PILE_SWAP -> swapWithTopOfDrawPile(log[--logSize]);
+                default -> throw new IllegalStateException("Entrada inválida no log");
+            }
+        }
+    }
+
+    /**
+     * Retira do descarte a carta que placeCard() colocou lá. Normalmente é a
+     * última; só depois de desfazer um embaralhamento é preciso procurá-la.
+     *
+     * @param card A carta que estava no topo, com a cor escolhida se for
+     *             curinga.
+     */
+    private void removeFromDiscardPile(int card) {
+        int cardID = CodigoCarta.getCardID(card);
+        for (int i = discardCount - 1; i >= 0; i--) {
+            if (CodigoCarta.getCardID(discardPile[i]) == cardID) {
+                discardPile[i] = discardPile[--discardCount];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Garante espaço no log para mais entradas, aumentando-o se necessário.
+     *
+     * @param count Número de posições que serão escritas.
+     */
+    private void ensureLogSpace(int count) {
+        if (logSize + count > log.length) {
+            log = Arrays.copyOf(log, Math.max(log.length * 2, logSize + count));
+        }
+    }
+
+    /**
+     * Registra uma entrada com até três valores, se algum mark() estiver
+     * ativo.
+     *
+     * @param type   O tipo da entrada.
+     * @param count  Quantos dos valores são usados.
+     * @param first  Primeiro valor.
+     * @param second Segundo valor.
+     * @param third  Terceiro valor.
+     */
+    private void record(int type, int count, int first, int second, int third) {
+        if (logSize == 0) {
+            return;
+        }
+        ensureLogSpace(4);
+        if (count > 0)
+            log[logSize++] = first;
+        if (count > 1)
+            log[logSize++] = second;
+        if (count > 2)
+            log[logSize++] = third;
+        log[logSize++] = type;
+    }
+
+    /**
+     * Obtém o número de jogadores.
+     *
+     * @return O número de jogadores da rodada.
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Obtém o jogador que deve agir.
+     *
+     * @return O playerID do jogador atual.
+     */
+    public int getCurrentPlayerID() {
+        return currentPlayerID;
+    }
+
+    /**
+     * Obtém a decisão que o jogador atual deve tomar.
+     *
+     * @return A fase atual.
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Obtém a penalidade acumulada que ainda não foi comprada.
+     *
+     * @return O número de cartas.
+     */
+    public int getPendingDrawCount() {
+        return pendingDrawCount;
+    }
+
+    /**
+     * Obtém o número de cartas na mão de um jogador.
+     *
+     * @param playerID O jogador.
+     * @return O tamanho da mão.
+     */
+    public int getHandSize(int playerID) {
+        return handSizes[playerID];
+    }
+
+    /**
+     * Obtém uma carta da mão de um jogador.
+     *
+     * @param playerID  O jogador.
+     * @param handIndex A posição da carta na mão (0 a getHandSize() - 1).
+     * @return A carta codificada.
+     */
+    public int getCard(int playerID, int handIndex) {
+        return hands[playerID * capacity + handIndex];
+    }
+
+    /**
+     * Obtém o número de cartas que ainda podem ser compradas sem embaralhar o
+     * descarte.
+     *
+     * @return O número de cartas no baralho.
+     */
+    public int getDrawPileSize() {
+        return drawCount;
+    }
+
+    /**
+     * Obtém uma carta do baralho. As cartas são compradas a partir do fim, ou
+     * seja, a próxima carta comprada é a da posição getDrawPileSize() - 1.
+     *
+     * @param pileIndex A posição no baralho (0 a getDrawPileSize() - 1).
+     * @return A carta codificada.
+     */
+    public int getDrawPileCard(int pileIndex) {
+        return drawPile[pileIndex];
+    }
+
+    /**
+     * Coloca a carta indicada do baralho no topo, para que seja a próxima a
+     * ser comprada. Usado por buscas que enumeram as compras possíveis; a
+     * mudança é registrada e undo() devolve a ordem anterior.
+     *
+     * @param pileIndex A posição da carta no baralho (0 a getDrawPileSize() - 1).
+     */
+    public void moveToTopOfDrawPile(int pileIndex) {
+        swapWithTopOfDrawPile(pileIndex);
+        record(LOG_PILE_SWAP, 1, pileIndex, 0, 0);
+    }
+
+    /**
+     * Troca a carta indicada do baralho com a do topo.
+     *
+     * @param pileIndex A posição da carta no baralho.
+     */
+    private void swapWithTopOfDrawPile(int pileIndex) {
+        int temp = drawPile[pileIndex];
+        drawPile[pileIndex] = drawPile[drawCount - 1];
+        drawPile[drawCount - 1] = temp;
+    }
+
+    /**
+     * Obtém a carta do topo da pilha.
+     *
+     * @return A carta codificada do topo, com a cor escolhida se for curinga.
+     */
+    public int getTopCard() {
+        return topCard;
+    }
+
+    /**
+     * Verifica se algum jogador já esvaziou a mão.
+     *
+     * @return Verdadeiro quando a rodada terminou.
+     */
+    public boolean isRoundOver() {
+        return winnerID != -1;
+    }
+
+    /**
+     * Obtém o vencedor da rodada.
+     *
+     * @return O jogador que esvaziou a mão, ou -1 se a rodada continua.
+     */
+    public int getWinnerID() {
+        return winnerID;
+    }
+
+    /**
+     * Obtém o jogador com menos cartas, usado para avaliar uma simulação
+     * interrompida antes do fim. Em caso de empate vence o menor playerID.
+     *
+     * @return O playerID com a menor mão.
+     */
+    public int getLeaderID() {
+        int leaderID = 0;
+        for (int playerID = 1; playerID < playerCount; playerID++) {
+            if (handSizes[playerID] < handSizes[leaderID]) {
+                leaderID = playerID;
+            }
+        }
+        return leaderID;
+    }
+
+    /**
+     * Joga uma carta da mão do jogador atual. Na fase Turn a carta deve ser
+     * jogável sobre o topo; em KeepOrPlay deve ser a carta comprada (a
+     * última); em IsStacking deve ser um +2 e em IsChallenging um +4, que são
+     * empilhados levando a penalidade acumulada.
+     *
+     * @param handIndex A posição da carta na mão do jogador atual.
+     */
+    public void playCard(int handIndex) {
+        if (phase == Phase.IsChallenging) {
+            pendingDrawCount += 4;
+        } else if (phase != Phase.Turn && phase != Phase.KeepOrPlay && phase != Phase.IsStacking) {
+            throw new IllegalStateException("Não é possível jogar uma carta na fase " + phase);
+        }
+        playCardAt(currentPlayerID * capacity + handIndex);
+    }
+
+    /**
+     * Compra do baralho no início do turno. Com a regra de comprar até poder
+     * jogar, compra até encontrar uma carta jogável. A carta jogável comprada
+     * é jogada se a regra do jogo forçado estiver ativa; caso contrário o
+     * jogador passa para a fase KeepOrPlay. Sem carta jogável, o turno passa.
+     */
+    public void drawCard() {
+        requirePhase(Phase.Turn);
+        int playerID = currentPlayerID;
+        while (true) {
+            int card = drawCardFor(playerID);
+            if (card == CodigoCarta.NO_CARD) {
+                moveToNextPlayer();
+                return;
+            }
+            if (CodigoCarta.isPlayableOn(card, CodigoCarta.getFaceValueID(topCard),
+                    CodigoCarta.getColourID(topCard))) {
+                if (forcedPlay) {
+                    playCardAt(playerID * capacity + handSizes[playerID] - 1);
+                } else {
+                    phase = Phase.KeepOrPlay;
+                }
+                return;
+            }
+            if (!drawTillCanPlay) {
+                moveToNextPlayer();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Escolhe a cor do curinga ou +4 que o jogador atual acabou de jogar.
+     * Depois de um +4, o próximo jogador recebe a penalidade ou, se puder
+     * desafiar ou empilhar, passa para a fase IsChallenging.
+     *
+     * @param colourID A cor escolhida (0 a 3).
+     */
+    public void chooseWildColour(int colourID) {
+        requirePhase(Phase.WildColour);
+        record(LOG_TOP_COLOUR, 1, topCard, 0, 0);
+        topCard = CodigoCarta.withColour(topCard, colourID);
+        phase = Phase.Turn;
+        moveToNextPlayer();
+        if (plus4PlayerID == -1) {
+            return;
+        }
+        if (!noBluffing || (canStackCards && findFaceValue(currentPlayerID, 13) != -1)) {
+            phase = Phase.IsChallenging;
+        } else {
+            takePenalty(pendingDrawCount + 4);
+        }
+    }
+
+    /**
+     * Mantém na mão a carta jogável que acabou de ser comprada e passa o
+     * turno.
+     */
+    public void keepDrawnCard() {
+        requirePhase(Phase.KeepOrPlay);
+        phase = Phase.Turn;
+        moveToNextPlayer();
+    }
+
+    /**
+     * Recusa responder a um +2 ou +4: o jogador atual compra a penalidade
+     * acumulada e perde a vez.
+     */
+    public void declineResponse() {
+        if (phase == Phase.IsStacking) {
+            takePenalty(pendingDrawCount);
+        } else {
+            requirePhase(Phase.IsChallenging);
+            takePenalty(pendingDrawCount + 4);
+        }
+    }
+
+    /**
+     * Desafia o +4 do topo. Se foi um blefe, quem o jogou compra 4 e o
+     * desafiante compra apenas a penalidade acumulada antes dele e joga. Caso
+     * contrário, o desafiante compra a penalidade mais 6 e perde a vez.
+     */
+    public void challenge() {
+        requirePhase(Phase.IsChallenging);
+        if (plus4WasBluff) {
+            drawCards(plus4PlayerID, 4);
+            drawCards(currentPlayerID, pendingDrawCount);
+            pendingDrawCount = 0;
+            plus4PlayerID = -1;
+            phase = Phase.Turn;
+        } else {
+            takePenalty(pendingDrawCount + 6);
+        }
+    }
+
+    /**
+     * Troca a mão do jogador atual com a do jogador escolhido depois de um 7 e
+     * passa o turno.
+     *
+     * @param targetPlayerID O jogador com quem trocar.
+     */
+    public void chooseSwapTarget(int targetPlayerID) {
+        requirePhase(Phase.OtherPlayer);
+        swapHands(currentPlayerID, targetPlayerID);
+        record(LOG_SWAP, 2, currentPlayerID, targetPlayerID, 0);
+        phase = Phase.Turn;
+        moveToNextPlayer();
+    }
+
+    /**
+     * Verifica a fase antes de uma jogada.
+     *
+     * @param expected A fase em que a jogada é permitida.
+     */
+    private void requirePhase(Phase expected) {
+        if (phase != expected) {
+            throw new IllegalStateException("Jogada de " + expected + " na fase " + phase);
+        }
+    }
+
+    /**
+     * Obtém a chave de ação de uma carta.
+     *
+     * @param card A carta codificada.
+     * @return faceValueID * COLOUR_COUNT + colourID.
+     */
+    public static int getActionForCard(int card) {
+        return CodigoCarta.getFaceValueID(card) * CodigoCarta.COLOUR_COUNT + CodigoCarta.getColourID(card);
+    }
+
+    /**
+     * Verifica se a ação joga a carta indicada.
+     *
+     * @param action Uma ação de jogar carta.
+     * @param card   A carta codificada.
+     * @return Verdadeiro se a face coincide e, fora curingas e +4, a cor
+     *         também.
+     */
+    public static boolean isActionForCard(int action, int card) {
+        int faceValueID = CodigoCarta.getFaceValueID(card);
+        return action / CodigoCarta.COLOUR_COUNT == faceValueID
+                && (faceValueID >= 13 || action % CodigoCarta.COLOUR_COUNT == CodigoCarta.getColourID(card));
+    }
+
+    /**
+     * Preenche actions com as ações diferentes que o jogador atual pode fazer
+     * no início do turno: uma por combinação de face e cor jogável (quatro
+     * para cada tipo de curinga), ou apenas DRAW_ACTION se nenhuma carta puder
+     * ser jogada, como o AIJogador faz.
+     *
+     * @param actions Recebe as ações; deve ter pelo menos ACTION_COUNT
+     *                posições.
+     * @return O número de ações preenchidas.
+     */
+    public int getLegalActions(int[] actions) {
+        int topFaceValueID = CodigoCarta.getFaceValueID(topCard);
+        int topColourID = CodigoCarta.getColourID(topCard);
+        int start = currentPlayerID * capacity;
+        int end = start + handSizes[currentPlayerID];
+        // As chaves vão de 0 a 74, então dois longs marcam as já incluídas.
+        long seenLow = 0, seenHigh = 0;
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (!CodigoCarta.isPlayableOn(hands[i], topFaceValueID, topColourID)) {
+                continue;
+            }
+            int action = getActionForCard(hands[i]);
+            if (action < 64) {
+                if ((seenLow & 1L << action) != 0)
+                    continue;
+                seenLow |= 1L << action;
+                actions[count++] = action;
+            } else {
+                if ((seenHigh & 1L << (action - 64)) != 0)
+                    continue;
+                seenHigh |= 1L << (action - 64);
+                if (CodigoCarta.getFaceValueID(hands[i]) >= 13) {
+                    // Curingas só têm chave a partir de 65: uma ação por cor.
+                    action -= CodigoCarta.WILD_COLOUR;
+                    for (int colourID = 0; colourID < 4; colourID++) {
+                        actions[count++] = action + colourID;
+                    }
+                } else {
+                    actions[count++] = action;
+                }
+            }
+        }
+        if (count == 0) {
+            actions[count++] = DRAW_ACTION;
+        }
+        return count;
+    }
+
+    /**
+     * Preenche moves com as jogadas que o jogador atual pode fazer na fase
+     * atual, como MotorJogo.getLegalMoves sem os saltos. Cartas com a mesma
+     * face e cor levam ao mesmo estado, então só a primeira de cada uma é
+     * incluída.
+     *
+     * @param moves Recebe as jogadas codificadas com CodigoJogada; deve ter
+     *              pelo menos getHandSize() + playerCount + 4 posições.
+     * @return O número de jogadas preenchidas, zero se a rodada terminou.
+     */
+    public int getLegalMoves(int[] moves) {
+        if (winnerID != -1) {
+            return 0;
+        }
+        int start = currentPlayerID * capacity;
+        int end = start + handSizes[currentPlayerID];
+        int count = 0;
+        switch (phase) {
+            case Turn -> {
+                int topFaceValueID = CodigoCarta.getFaceValueID(topCard);
+                int topColourID = CodigoCarta.getColourID(topCard);
+                for (int i = start; i < end; i++) {
+                    if (CodigoCarta.isPlayableOn(hands[i], topFaceValueID, topColourID)
+                            && isFirstWithAction(start, i)) {
+                        moves[count++] = CodigoJogada.playCard(hands[i]);
+                    }
+                }
+                moves[count++] = CodigoJogada.encode(CodigoJogada.DRAW_CARD, 0);
+            }
+            case WildColour -> {
+                for (int colourID = 0; colourID < 4; colourID++) {
+                    moves[count++] = CodigoJogada.chooseColour(colourID);
+                }
+            }
+            case KeepOrPlay -> {
+                moves[count++] = CodigoJogada.playCard(hands[end - 1]);
+                moves[count++] = CodigoJogada.encode(CodigoJogada.KEEP_CARD, 0);
+            }
+            case IsStacking, IsChallenging -> {
+                int faceValueID = phase == Phase.IsStacking ? 10 : 13;
+                if (canStackCards) {
+                    for (int i = start; i < end; i++) {
+                        if (CodigoCarta.getFaceValueID(hands[i]) == faceValueID && isFirstWithAction(start, i)) {
+                            moves[count++] = CodigoJogada.playCard(hands[i]);
+                        }
+                    }
+                }
+                if (phase == Phase.IsChallenging && !noBluffing) {
+                    moves[count++] = CodigoJogada.encode(CodigoJogada.CHALLENGE, 0);
+                }
+                moves[count++] = CodigoJogada.encode(CodigoJogada.DECLINE, 0);
+            }
+            case OtherPlayer -> {
+                for (int otherID = 0; otherID < playerCount; otherID++) {
+                    if (otherID != currentPlayerID) {
+                        moves[count++] = CodigoJogada.swapHands(otherID);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Verifica se nenhuma carta anterior da mão tem a mesma chave de ação.
+     *
+     * @param start     Início da mão em hands.
+     * @param handIndex Posição da carta em hands.
+     * @return Verdadeiro se a carta é a primeira com a sua face e cor.
+     */
+    private boolean isFirstWithAction(int start, int handIndex) {
+        int action = getActionForCard(hands[handIndex]);
+        for (int i = start; i < handIndex; i++) {
+            if (getActionForCard(hands[i]) == action) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Aplica uma jogada do jogador atual obtida de getLegalMoves(), sem
+     * resolver as decisões seguintes.
+     *
+     * @param move A jogada codificada com CodigoJogada.
+     */
+    public void applyMove(int move) {
+        int value = CodigoJogada.getValue(move);
+        switch (CodigoJogada.getType(move)) {
+            case CodigoJogada.PLAY_CARD -> {
+                int start = currentPlayerID * capacity;
+                int cardID = CodigoCarta.getCardID(value);
+                int handIndex = start;
+                while (handIndex < start + handSizes[currentPlayerID]
+                        && CodigoCarta.getCardID(hands[handIndex]) != cardID) {
+                    handIndex++;
+                }
+                if (handIndex == start + handSizes[currentPlayerID]) {
+                    throw new IllegalArgumentException("Carta fora da mão: " + CodigoJogada.toString(move));
+                }
+                playCard(handIndex - start);
+            }
+            case CodigoJogada.DRAW_CARD -> drawCard();
+            case CodigoJogada.CHOOSE_COLOUR -> chooseWildColour(value);
+            case CodigoJogada.KEEP_CARD -> keepDrawnCard();
+            case CodigoJogada.DECLINE -> declineResponse();
+            case CodigoJogada.CHALLENGE -> challenge();
+            case CodigoJogada.SWAP_HANDS -> chooseSwapTarget(value);
+            default -> throw new IllegalArgumentException("Jogada inválida: " + CodigoJogada.toString(move));
+        }
+    }
+
+    /**
+     * Resume a posição em um long para tabelas de transposição. Entram as
+     * faces e cores das mãos de cada jogador (sem a ordem), a carta do topo,
+     * o jogador atual, a fase, a direção, a penalidade acumulada, o blefe do
+     * +4 e, em KeepOrPlay, a carta comprada. A ordem do baralho e do descarte
+     * fica de fora: a partir de uma mesma posição inicial, as mãos e o topo já
+     * determinam quais cartas estão no baralho enquanto ele não for
+     * embaralhado de novo.
+     *
+     * @return O hash da posição.
+     */
+    public long getStateHash() {
+        long hash = 0;
+        for (int playerID = 0; playerID < playerCount; playerID++) {
+            int start = playerID * capacity;
+            for (int i = start; i < start + handSizes[playerID]; i++) {
+                // Soma para que a ordem das cartas na mão não importe.
+                hash += mix((long) playerID * ACTION_COUNT + getActionForCard(hands[i]) + 1);
+            }
+        }
+        long header = topCard == CodigoCarta.NO_CARD ? DRAW_ACTION : getActionForCard(topCard);
+        header |= (long) currentPlayerID << 7;
+        header |= (long) phase.ordinal() << 15;
+        header |= (isIncreasing ? 1L : 0L) << 18;
+        header |= (plus4PlayerID != -1 ? 1L : 0L) << 19;
+        header |= (plus4WasBluff ? 1L : 0L) << 20;
+        if (phase == Phase.KeepOrPlay) {
+            header |= (long) getActionForCard(hands[currentPlayerID * capacity + handSizes[currentPlayerID] - 1]) << 21;
+        }
+        header |= (long) pendingDrawCount << 28;
+        return hash ^ mix(~header);
+    }
+
+    /**
+     * Espalha os bits de um valor (finalizador do SplitMix64).
+     *
+     * @param value O valor a ser espalhado.
+     * @return O valor misturado.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Executa uma ação de turno do jogador atual e resolve as decisões
+     * seguintes como o AIJogador faria, até que seja a vez do próximo jogador
+     * começar um turno ou a rodada termine.
+     *
+     * @param action Uma ação obtida de getLegalActions().
+     */
+    public void applyAction(int action) {
+        if (action == DRAW_ACTION) {
+            drawCard();
+        } else {
+            int faceValueID = action / CodigoCarta.COLOUR_COUNT;
+            int handIndex = faceValueID >= 13 ? findFaceValue(currentPlayerID, faceValueID)
+                    : findCard(currentPlayerID, action);
+            playCard(handIndex - currentPlayerID * capacity);
+            if (faceValueID >= 13 && phase == Phase.WildColour) {
+                chooseWildColour(action % CodigoCarta.COLOUR_COUNT);
+            }
+        }
+        resolveDecisions();
+    }
+
+    /**
+     * Joga turnos aleatórios até a rodada terminar ou até o limite de turnos.
+     * Em três de cada quatro turnos o jogador joga a carta jogável de menor
+     * pontuação, como a estratégia Ofensiva, e no restante uma carta jogável
+     * sorteada; as decisões seguintes são resolvidas como o AIJogador faria.
+     * Sem carta jogável, o jogador compra.
+     *
+     * @param maxTurns Limite de turnos simulados.
+     * @param random   Fluxo usado para escolher as cartas.
+     */
+    public void playOut(int maxTurns, SplittableRandom random) {
+        resolveDecisions();
+        for (int turn = 0; turn < maxTurns && winnerID == -1; turn++) {
+            int topFaceValueID = CodigoCarta.getFaceValueID(topCard);
+            int topColourID = CodigoCarta.getColourID(topCard);
+            int start = currentPlayerID * capacity;
+            int end = start + handSizes[currentPlayerID];
+            int playableCount = 0;
+            for (int i = start; i < end; i++) {
+                if (CodigoCarta.isPlayableOn(hands[i], topFaceValueID, topColourID)) {
+                    playableCount++;
+                }
+            }
+            if (playableCount == 0) {
+                drawCard();
+            } else if (random.nextInt(4) != 0) {
+                int lowest = -1;
+                for (int i = start; i < end; i++) {
+                    if (CodigoCarta.isPlayableOn(hands[i], topFaceValueID, topColourID) && (lowest == -1
+                            || CodigoCarta.getScoreValue(hands[i]) < CodigoCarta.getScoreValue(hands[lowest]))) {
+                        lowest = i;
+                    }
+                }
+                playCardAt(lowest);
+            } else {
+                int chosen = random.nextInt(playableCount);
+                for (int i = start; ; i++) {
+                    if (CodigoCarta.isPlayableOn(hands[i], topFaceValueID, topColourID) && chosen-- == 0) {
+                        playCardAt(i);
+                        break;
+                    }
+                }
+            }
+            resolveDecisions();
+        }
+    }
+
+    /**
+     * Resolve as decisões pendentes como o AIJogador: a cor mais comum da mão
+     * para curingas, sempre jogar a carta comprada, sempre empilhar quando
+     * possível, desafiar um +4 com 50% de chance e trocar de mão com o
+     * oponente com menos cartas.
+     */
+    private void resolveDecisions() {
+        while (winnerID == -1 && phase != Phase.Turn) {
+            switch (phase) {
+                case WildColour -> chooseWildColour(pickWildColour(currentPlayerID));
+                case KeepOrPlay -> playCard(handSizes[currentPlayerID] - 1);
+                case IsStacking -> playCardAt(findFaceValue(currentPlayerID, 10));
+                case IsChallenging -> {
+                    int response = canStackCards ? findFaceValue(currentPlayerID, 13) : -1;
+                    if (response != -1) {
+                        playCard(response - currentPlayerID * capacity);
+                    } else if (random.nextBoolean()) {
+                        challenge();
+                    } else {
+                        declineResponse();
+                    }
+                }
+                case OtherPlayer -> chooseSwapTarget(pickSwapTarget(currentPlayerID));
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * Joga a carta da posição indicada pelo jogador atual e aplica a ação
+     * dela até a próxima decisão.
+     *
+     * @param handIndex Posição da carta em hands.
+     */
+    private void playCardAt(int handIndex) {
+        int playerID = currentPlayerID;
+        int card = removeCard(playerID, handIndex);
+        placeCard(card);
+        phase = Phase.Turn;
+        if (handSizes[playerID] == 0) {
+            winnerID = playerID;
+            return;
+        }
+        switch (faceActions[CodigoCarta.getFaceValueID(card)]) {
+            case Plus2 -> {
+                moveToNextPlayer();
+                pendingDrawCount += 2;
+                if (canStackCards && findFaceValue(currentPlayerID, 10) != -1) {
+                    phase = Phase.IsStacking;
+                } else {
+                    takePenalty(pendingDrawCount);
+                }
+            }
+            case Plus4 -> {
+                plus4PlayerID = playerID;
+                plus4WasBluff = hasColouredValidMove(playerID, cardBeforeTop);
+                phase = Phase.WildColour;
+            }
+            case Wild -> {
+                plus4PlayerID = -1;
+                phase = Phase.WildColour;
+            }
+            case Skip -> {
+                moveToNextPlayer();
+                moveToNextPlayer();
+            }
+            case Reverse -> {
+                isIncreasing = !isIncreasing;
+                moveToNextPlayer();
+            }
+            case Swap -> phase = Phase.OtherPlayer;
+            case PassAll -> {
+                rotateHands(isIncreasing);
+                record(LOG_PASS_ALL, 1, isIncreasing ? 1 : 0, 0, 0);
+                moveToNextPlayer();
+            }
+            case Nothing -> moveToNextPlayer();
+        }
+    }
+
+    /**
+     * O jogador atual compra a penalidade e perde a vez; a penalidade
+     * acumulada volta a zero.
+     *
+     * @param count Número de cartas compradas.
+     */
+    private void takePenalty(int count) {
+        drawCards(currentPlayerID, count);
+        pendingDrawCount = 0;
+        plus4PlayerID = -1;
+        phase = Phase.Turn;
+        moveToNextPlayer();
+    }
+
+    /**
+     * Move para o próximo jogador na direção atual.
+     */
+    private void moveToNextPlayer() {
+        currentPlayerID = isIncreasing ? (currentPlayerID + 1) % playerCount
+                : (currentPlayerID + playerCount - 1) % playerCount;
+    }
+
+    /**
+     * Coloca a carta no topo da pilha; a carta que estava no topo vai para o
+     * descarte sem a cor escolhida, como em Deck.discard().
+     *
+     * @param card A carta codificada jogada.
+     */
+    private void placeCard(int card) {
+        boolean discarded = topCard != CodigoCarta.NO_CARD;
+        record(LOG_PLACE, 3, topCard, cardBeforeTop, discarded ? 1 : 0);
+        if (discarded) {
+            discardPile[discardCount++] = CodigoCarta.getFaceValueID(topCard) >= 13
+                    ? CodigoCarta.withColour(topCard, CodigoCarta.WILD_COLOUR)
+                    : topCard;
+        }
+        cardBeforeTop = topCard;
+        topCard = card;
+    }
+
+    /**
+     * Compra uma carta para o jogador, embaralhando o descarte de volta quando
+     * o baralho acaba.
+     *
+     * @param playerID O jogador que compra.
+     * @return A carta comprada, ou CodigoCarta.NO_CARD se não sobrou nenhuma
+     *         fora das mãos e da mesa.
+     */
+    private int drawCardFor(int playerID) {
+        if (drawCount == 0) {
+            if (discardCount == 0) {
+                return CodigoCarta.NO_CARD;
+            }
+            record(LOG_REFILL, 1, discardCount, 0, 0);
+            int[] emptyPile = drawPile;
+            drawPile = discardPile;
+            drawCount = discardCount;
+            discardPile = emptyPile;
+            discardCount = 0;
+            shuffle(drawPile, drawCount, random);
+        }
+        int card = drawPile[--drawCount];
+        hands[playerID * capacity + handSizes[playerID]++] = card;
+        record(LOG_DRAW, 1, playerID, 0, 0);
+        return card;
+    }
+
+    /**
+     * Compra várias cartas para o jogador.
+     *
+     * @param playerID O jogador que compra.
+     * @param count    Número de cartas.
+     */
+    private void drawCards(int playerID, int count) {
+        for (int i = 0; i < count; i++) {
+            drawCardFor(playerID);
+        }
+    }
+
+    /**
+     * Retira uma carta da mão trocando-a pela última; a ordem da mão não
+     * importa na simulação e undo() a restaura.
+     *
+     * @param playerID  O dono da mão.
+     * @param handIndex Posição da carta em hands.
+     * @return A carta retirada.
+     */
+    private int removeCard(int playerID, int handIndex) {
+        int last = playerID * capacity + --handSizes[playerID];
+        int card = hands[handIndex];
+        hands[handIndex] = hands[last];
+        record(LOG_REMOVE, 3, playerID, handIndex, card);
+        return card;
+    }
+
+    /**
+     * Procura na mão uma carta com a chave de ação indicada.
+     *
+     * @param playerID O dono da mão.
+     * @param action   A chave faceValueID * COLOUR_COUNT + colourID.
+     * @return A posição da carta em hands, ou -1.
+     */
+    private int findCard(int playerID, int action) {
+        int start = playerID * capacity;
+        for (int i = start; i < start + handSizes[playerID]; i++) {
+            if (getActionForCard(hands[i]) == action) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Procura na mão uma carta com o faceValueID indicado.
+     *
+     * @param playerID    O dono da mão.
+     * @param faceValueID O faceValueID procurado.
+     * @return A posição da carta em hands, ou -1.
+     */
+    private int findFaceValue(int playerID, int faceValueID) {
+        int start = playerID * capacity;
+        for (int i = start; i < start + handSizes[playerID]; i++) {
+            if (CodigoCarta.getFaceValueID(hands[i]) == faceValueID) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Verifica se o jogador tinha uma carta que não fosse curinga ou +4 para
+     * jogar sobre a carta indicada, usado para resolver o desafio do +4.
+     *
+     * @param playerID O jogador que jogou o +4.
+     * @param card     A carta que estava no topo antes do +4.
+     * @return Verdadeiro se o +4 foi um blefe.
+     */
+    private boolean hasColouredValidMove(int playerID, int card) {
+        if (card == CodigoCarta.NO_CARD) {
+            return false;
+        }
+        int faceValueID = CodigoCarta.getFaceValueID(card);
+        int colourID = CodigoCarta.getColourID(card);
+        int start = playerID * capacity;
+        for (int i = start; i < start + handSizes[playerID]; i++) {
+            if (CodigoCarta.getFaceValueID(hands[i]) < 13
+                    && CodigoCarta.isPlayableOn(hands[i], faceValueID, colourID)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Escolhe a cor de um curinga: a cor mais comum na mão do jogador, ou
+     * vermelho se ele só tiver curingas.
+     *
+     * @param playerID O jogador que escolhe.
+     * @return O colourID escolhido (0 a 3).
+     */
+    private int pickWildColour(int playerID) {
+        int red = 0, blue = 0, green = 0, yellow = 0;
+        int start = playerID * capacity;
+        for (int i = start; i < start + handSizes[playerID]; i++) {
+            switch (CodigoCarta.getColourID(hands[i])) {
+                case 0 -> red++;
+                case 1 -> blue++;
+                case 2 -> green++;
+                case 3 -> yellow++;
+            }
+        }
+        int colourID = 0, best = red;
+        if (blue > best) {
+            colourID = 1;
+            best = blue;
+        }
+        if (green > best) {
+            colourID = 2;
+            best = green;
+        }
+        return yellow > best ? 3 : colourID;
+    }
+
+    /**
+     * Escolhe o oponente com menos cartas para a troca de mãos, como o
+     * AIJogador faz.
+     *
+     * @param playerID O jogador que troca.
+     * @return O playerID do alvo.
+     */
+    private int pickSwapTarget(int playerID) {
+        int targetID = -1;
+        for (int otherID = 0; otherID < playerCount; otherID++) {
+            if (otherID != playerID && (targetID == -1 || handSizes[otherID] < handSizes[targetID])) {
+                targetID = otherID;
+            }
+        }
+        return targetID;
+    }
+
+    /**
+     * Troca as mãos de dois jogadores no próprio array.
+     *
+     * @param playerA Um dos jogadores.
+     * @param playerB O outro jogador.
+     */
+    private void swapHands(int playerA, int playerB) {
+        int startA = playerA * capacity, startB = playerB * capacity;
+        int count = Math.max(handSizes[playerA], handSizes[playerB]);
+        for (int i = 0; i < count; i++) {
+            int temp = hands[startA + i];
+            hands[startA + i] = hands[startB + i];
+            hands[startB + i] = temp;
+        }
+        int tempSize = handSizes[playerA];
+        handSizes[playerA] = handSizes[playerB];
+        handSizes[playerB] = tempSize;
+    }
+
+    /**
+     * Passa todas as mãos para o próximo jogador, como passAllHands do
+     * TurnActionFactory: em ordem crescente cada jogador recebe a mão do
+     * jogador seguinte, e em ordem decrescente a do anterior. Girar no
+     * sentido oposto desfaz o giro.
+     *
+     * @param increasing O sentido do giro.
+     */
+    private void rotateHands(boolean increasing) {
+        if (increasing) {
+            for (int playerID = 0; playerID < playerCount - 1; playerID++) {
+                swapHands(playerID, playerID + 1);
+            }
+        } else {
+            for (int playerID = playerCount - 2; playerID >= 0; playerID--) {
+                swapHands(playerID, playerID + 1);
+            }
+        }
+    }
+
+    /**
+     * Embaralha as primeiras posições de um array (Fisher-Yates).
+     *
+     * @param cards  As cartas a serem embaralhadas.
+     * @param count  Número de posições usadas.
+     * @param random Fluxo usado para embaralhar.
+     */
+    private static void shuffle(int[] cards, int count, SplittableRandom random) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+    }
+}
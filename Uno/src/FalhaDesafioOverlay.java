@@ -65,6 +65,16 @@ public class FalhaDesafioOverlay extends WndInterface implements GeralOverlayInt
         }
     }
 
+    /**
+     * A cruz pisca até o cronômetro acabar.
+     *
+     * @return Animating enquanto a sobreposição está visível.
+     */
+    @Override
+    public LacoJogo.FrameMode getFrameMode() {
+        return isEnabled() ? LacoJogo.FrameMode.Animating : LacoJogo.FrameMode.Idle;
+    }
+
     /**
      * Desenha o tick piscando mostrando 75% das vezes.
      *
@@ -0,0 +1,72 @@
+import java.util.ArrayDeque;
+
+/**
+ * Uno
+ *
+ * Classe FilaEventosVisuais:
+ * Separa o ritmo visual do ritmo do jogo. O MotorJogo executa uma sequência
+ * inteira de TurnActions de uma só vez; os efeitos visuais produzidos por ela
+ * (cartas colocadas, mudanças de cor e sobreposições) entram nesta fila e são
+ * mostrados um de cada vez, com um intervalo entre eles, para que cada passo
+ * continue visível na interface.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class FilaEventosVisuais {
+    /**
+     * Tempo em ms mostrado entre um evento visual e o seguinte.
+     */
+    public static final int EVENT_INTERVAL = 150;
+
+    /**
+     * Os eventos ainda não mostrados, na ordem em que ocorreram no jogo.
+     */
+    private final ArrayDeque<Runnable> pendingEvents;
+    /**
+     * Tempo restante até o próximo evento poder ser mostrado.
+     */
+    private int eventTimer;
+
+    /**
+     * Cria uma fila vazia pronta para mostrar o primeiro evento imediatamente.
+     */
+    public FilaEventosVisuais() {
+        pendingEvents = new ArrayDeque<>();
+        eventTimer = 0;
+    }
+
+    /**
+     * Adiciona um evento visual ao fim da fila.
+     *
+     * @param event O efeito a ser aplicado na interface quando chegar a vez dele.
+     */
+    public void add(Runnable event) {
+        pendingEvents.add(event);
+    }
+
+    /**
+     * Mostra o próximo evento quando o intervalo desde o anterior tiver
+     * passado.
+     *
+     * @param deltaTime Tempo desde a última atualização.
+     */
+    public void update(int deltaTime) {
+        if (eventTimer > 0) {
+            eventTimer -= deltaTime;
+        }
+        if (eventTimer <= 0 && !pendingEvents.isEmpty()) {
+            pendingEvents.poll().run();
+            eventTimer = EVENT_INTERVAL;
+        }
+    }
+
+    /**
+     * Verifica se todos os eventos já foram mostrados.
+     *
+     * @return Verdadeiro quando não há eventos pendentes.
+     */
+    public boolean isEmpty() {
+        return pendingEvents.isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 
 /**
@@ -14,69 +15,61 @@ import java.util.stream.Collectors;
  * @autor Cauet Damasceno
  * @versão 2023
  */
-public class InterfaceJogo extends WndInterface {
+public class InterfaceJogo extends WndInterface implements OuvinteJogo {
 
     /**
-     * O baralho de cartas pronto para receber cartas.
+     * O jogo sendo mostrado por esta interface. Contém todo o estado e as regras.
      */
-    private final Deck deck;
+    private final MotorJogo motor;
     /**
-     * Um histórico de cartas que foram jogadas.
+     * Os fluxos aleatórios da partida. O fluxo cosmético é usado para os
+     * deslocamentos visuais da pilha de cartas.
      */
-    private final List<Carta> recentCards;
+    private final AleatorioJogo random;
     /**
-     * O centro de onde colocar os cartões recentes.
+     * A região onde o verso do baralho é desenhado e pode ser clicado.
      */
-    private final Posicao centredCardPos;
+    private final Retangulo deckBounds;
     /**
-     * Referência ao jogador que está jogando.
+     * A mesa e o baralho, que não mudam durante a rodada.
      */
-    private Jogador bottomPlayer;
+    private final CamadaEstatica tableLayer;
     /**
-     * Um gerente controlando as diversas sobreposições mostradas com base nos
-     * eventos
-     * durante o jogo.
+     * A região da pilha de cartas jogadas, incluindo os deslocamentos
+     * aleatórios das cartas.
      */
-    private final OverlayGerenciador overlayManager;
+    private final Retangulo pileBounds;
     /**
-     * TurnActions são acionadas por meio de cartas de baralho ou compra de cartas.
-     * Isto funciona como um
-     * lista vinculada que executa ações em cada etapa, incluindo divisão entre
-     * escolhas
-     * para objetos TurnDecisionAction.
+     * O jogador cujo nome está desenhado como jogador atual.
      */
-    private TurnActionFactory.TurnAction currentTurnAction;
+    private int shownCurrentPlayerID;
     /**
-     * Uma ação na fila para começar. Isso permite que a ação atual termine e
-     * então, depois de feito, isso é iniciado.
+     * O centro de onde colocar os cartões recentes.
      */
-    private TurnActionFactory.TurnAction queuedTurnAction;
-
+    private final Posicao centredCardPos;
     /**
-     * Todos os jogadores que estão jogando atualmente, incluindo suas mãos e outros
-     * detalhes.
+     * As visualizações das cartas jogadas recentemente, da mais antiga para a
+     * mais recente.
      */
-    private final List<Jogador> players;
+    private final List<Carta> recentCardViews;
     /**
-     * O jogador atual que está no controle das ações.
+     * Os efeitos visuais produzidos pelo motor, mostrados um de cada vez.
      */
-    private int currentPlayerID;
+    private final FilaEventosVisuais visualEvents;
     /**
-     * Animação para mostrar a direção da ordem de curva.
+     * Referência ao jogador que está jogando.
      */
-    private final AnimacaoDirecao playDirectionAnimation;
+    private Jogador bottomPlayer;
     /**
-     * Aumentar a ordem de rotação (verdadeiro) significa sentido horário, ou falso
-     * seria
-     * sentido anti-horário.
+     * Um gerente controlando as diversas sobreposições mostradas com base nos
+     * eventos
+     * durante o jogo.
      */
-    private boolean isIncreasing;
+    private final OverlayGerenciador overlayManager;
     /**
-     * As regras para quais ações das cartas são definidas e outras mudanças
-     * específicas em como as ações
-     * o jogo é jogado.
+     * Animação para mostrar a direção da ordem de curva.
      */
-    private final ConjuntoRegras ruleSet;
+    private final AnimacaoDirecao playDirectionAnimation;
     /**
      * Referência à instância atual desta classe para que outras classes possam
      * acesse-o rapidamente e diretamente.
@@ -138,35 +131,33 @@ public class InterfaceJogo extends WndInterface {
     public InterfaceJogo(Retangulo bounds, List<Jogador> playerList, ConjuntoRegras ruleSet, PainelJogo painelJogo) {
         super(bounds);
         activeSingleton = this;
-        this.ruleSet = ruleSet;
         this.painelJogo = painelJogo;
-        recentCards = new ArrayList<>();
         centredCardPos = new Posicao(bounds.position.x + bounds.width / 2 - 30,
                 bounds.position.y + bounds.height / 2 - 45);
-        deck = new Deck(new Posicao(centredCardPos.x - 160, centredCardPos.y));
-
-        this.players = playerList;
-        for (Jogador player : players) {
+        deckBounds = new Retangulo(new Posicao(centredCardPos.x - 160, centredCardPos.y),
+                Carta.CARD_WIDTH, Carta.CARD_HEIGHT);
+        tableLayer = new CamadaEstatica(bounds, this::paintDeck);
+        pileBounds = new Retangulo(centredCardPos.x - 12, centredCardPos.y - 12, Carta.CARD_WIDTH + 24,
+                Carta.CARD_HEIGHT + 24);
+        recentCardViews = new ArrayList<>();
+        visualEvents = new FilaEventosVisuais();
+
+        for (Jogador player : playerList) {
             if (player.getPlayerType() == Jogador.PlayerType.UnoJogador) {
                 bottomPlayer = player;
             }
-            // Esvaziar a mão é necessário caso esta seja uma sequência contínua de
-            // rodadas.
-            player.emptyHand();
-            for (int i = 0; i < 7; i++) {
-                player.addCardToHand(deck.drawCard());
-            }
         }
-        currentPlayerID = (int) (Math.random() * players.size());
-        isIncreasing = (Math.random() * 100 < 50);
+        random = new AleatorioJogo();
+        motor = new MotorJogo(playerList, ruleSet, this, random);
         playDirectionAnimation = new AnimacaoDirecao(new Posicao(bounds.width / 2, bounds.height / 2), 120, 5);
-        playDirectionAnimation.setIsIncreasing(isIncreasing);
+        playDirectionAnimation.setIsIncreasing(motor.isIncreasing());
 
-        overlayManager = new OverlayGerenciador(bounds, players);
-        forcePlayCard(deck.drawCard());
-        currentTurnAction = null;
+        overlayManager = new OverlayGerenciador(bounds, playerList);
         debugShowTaskActionNotes = false;
         debugShowTreeOnNewAction = false;
+        shownCurrentPlayerID = motor.getCurrentPlayerID();
+        // A rodada começa com a mesa inteira para ser desenhada.
+        markDirty();
     }
 
     /**
@@ -180,58 +171,46 @@ public class InterfaceJogo extends WndInterface {
         if (!isEnabled())
             return;
 
+        motor.setDebugOutput(PainelJogo.DEBUG_MODE && debugShowTaskActionNotes,
+                PainelJogo.DEBUG_MODE && debugShowTreeOnNewAction);
+        playDirectionAnimation.setIsIncreasing(motor.isIncreasing());
         playDirectionAnimation.update(deltaTime);
         overlayManager.update(deltaTime);
-        updateTurnAction();
-        players.forEach(player -> player.update(deltaTime));
-        checkForEndOfRound();
-    }
-
-    /**
-     * Verifica se existe atualmente um jogador que ganhou o jogo e inicia o final
-     * condições do jogo uma vez encontradas.
-     */
-    private void checkForEndOfRound() {
-        for (Jogador player : players) {
-            if (player.getHand().size() == 0) {
-                int totalScore = 0;
-                for (Jogador value : players) {
-                    if (value != player) {
-                        value.setCurrentRoundScore(0);
-                        totalScore += value.getHandTotalScore();
-                    }
-                }
-                player.setCurrentRoundScore(totalScore);
-                player.setWon();
-                painelJogo.showPostGame(players, ruleSet);
-                return;
-            }
+        motor.update(deltaTime);
+        visualEvents.update(deltaTime);
+        // Só o indicador de direção anda a cada passo; as mãos, a pilha e as
+        // sobreposições marcam a própria região quando mudam.
+        markDirty(playDirectionAnimation.getPaintBounds());
+        collectDirtyRegion(overlayManager);
+        if (motor.getCurrentPlayerID() != shownCurrentPlayerID) {
+            // O nome do jogador atual muda de cor.
+            markPlayerDirty(shownCurrentPlayerID);
+            shownCurrentPlayerID = motor.getCurrentPlayerID();
+            markPlayerDirty(shownCurrentPlayerID);
+        }
+        // Espera os últimos efeitos visuais antes de mostrar o fim da rodada.
+        if (motor.isRoundOver() && visualEvents.isEmpty()) {
+            painelJogo.showPostGame(motor.getAllPlayers(), motor.getRuleSet());
         }
     }
 
     /**
-     * Atualiza o estado atual da ação de turno executando a ação e depois
-     * iterando para o próximo, se possível.
+     * Enquanto o jogo avança sozinho (sequências de ações, cronômetros das IAs,
+     * sobreposições piscando ou eventos visuais na fila) cada passo importa.
+     * Caso contrário, por exemplo no turno do jogador humano, só o indicador
+     * de direção se move, e ele gira devagar o bastante para poucos quadros.
+     *
+     * @return Animating ou Throttled; Idle quando a interface está desativada.
      */
-    private void updateTurnAction() {
-        if (currentTurnAction != null) {
-            // Tree Debug Output
-            if (PainelJogo.DEBUG_MODE && debugShowTaskActionNotes) {
-                if (currentTurnAction instanceof TurnActionFactory.TurnDecisionAction) {
-                    if (!((TurnActionFactory.TurnDecisionAction) currentTurnAction).hasRunOnce) {
-                        System.out.println(currentTurnAction.actionDebugText);
-                    }
-                } else {
-                    System.out.println(currentTurnAction.actionDebugText);
-                }
-            }
-            currentTurnAction.performAction();
-            currentTurnAction = currentTurnAction.getNext();
-            if (queuedTurnAction != null) {
-                currentTurnAction = queuedTurnAction;
-                queuedTurnAction = null;
-            }
+    @Override
+    public LacoJogo.FrameMode getFrameMode() {
+        if (!isEnabled())
+            return LacoJogo.FrameMode.Idle;
+        if (motor.isRoundOver() || motor.isBusy() || !visualEvents.isEmpty()
+                || overlayManager.getFrameMode() == LacoJogo.FrameMode.Animating) {
+            return LacoJogo.FrameMode.Animating;
         }
+        return LacoJogo.FrameMode.Throttled;
     }
 
     /**
@@ -242,9 +221,9 @@ public class InterfaceJogo extends WndInterface {
      */
     @Override
     public void paint(Graphics g) {
-        deck.paint(g);
-        recentCards.forEach(card -> card.paint(g));
-        players.forEach(player -> {
+        tableLayer.paint(g);
+        recentCardViews.forEach(card -> card.paint(g));
+        motor.getAllPlayers().forEach(player -> {
             if (player.getPlayerType() != Jogador.PlayerType.UnoJogador)
                 player.paint(g);
         });
@@ -254,6 +233,21 @@ public class InterfaceJogo extends WndInterface {
         playDirectionAnimation.paint(g);
     }
 
+    /**
+     * Desenha o verso de uma carta para representar a posição do baralho.
+     * Com a palavra "Dealer" aparecendo acima dele.
+     *
+     * @param g Referência ao objeto Graphics para renderização.
+     */
+    private void paintDeck(Graphics g) {
+        Carta.paintCardBack(g, deckBounds);
+
+        g.setColor(Color.BLACK);
+        int strWidth = g.getFontMetrics().stringWidth("Dealer");
+        g.drawString("Dealer", deckBounds.position.x + deckBounds.width / 2 - strWidth / 2,
+                deckBounds.position.y - 4);
+    }
+
     /**
      * Não faz nada se não estiver habilitado. Passa a interação para o gerenciador
      * de sobreposição,
@@ -270,24 +264,19 @@ public class InterfaceJogo extends WndInterface {
             return;
 
         overlayManager.handleMousePress(mousePosition, isLeft);
+        collectDirtyRegion(overlayManager);
 
-        if (currentTurnAction == null && currentPlayerID == bottomPlayer.getPlayerID()) {
-            if (deck.isPositionInside(mousePosition)) {
-                currentTurnAction = TurnActionFactory.drawCardAsAction(currentPlayerID);
+        // Jogar, comprar e saltar passam por applyMove, que ignora jogadas ilegais.
+        if (motor.getCurrentTurnAction() == null) {
+            int playerID = bottomPlayer.getPlayerID();
+            if (playerID == motor.getCurrentPlayerID() && deckBounds.isPositionInside(mousePosition)) {
+                motor.applyMove(playerID, CodigoJogada.encode(CodigoJogada.DRAW_CARD, 0));
             } else {
                 Carta cardToPlay = bottomPlayer.chooseCardFromClick(mousePosition);
-                Carta topCard = getTopCard();
-                if (bottomPlayer.getValidMoves(topCard.getFaceValueID(), topCard.getColourID()).contains(cardToPlay)) {
-                    currentTurnAction = TurnActionFactory.playCardAsAction(currentPlayerID, cardToPlay.getCardID(),
-                            cardToPlay.getFaceValueID(), cardToPlay.getColourID());
+                if (cardToPlay != null) {
+                    motor.applyMove(playerID, CodigoJogada.playCard(cardToPlay.getEncodedCard()));
                 }
             }
-        } else if (currentTurnAction == null && currentPlayerID != bottomPlayer.getPlayerID() &&
-                InterfaceJogo.getCurrentGame().getRuleSet().allowJumpInRule()) {
-            Carta cardToPlay = bottomPlayer.chooseCardFromClick(mousePosition);
-            if (cardToPlay != null) {
-                jumpIn(bottomPlayer.getPlayerID(), cardToPlay);
-            }
         }
     }
 
@@ -304,7 +293,10 @@ public class InterfaceJogo extends WndInterface {
             return;
 
         overlayManager.handleMouseMove(mousePosition);
-        bottomPlayer.updateHover(mousePosition);
+        collectDirtyRegion(overlayManager);
+        if (bottomPlayer.updateHover(mousePosition)) {
+            markDirty(bottomPlayer.getPaintBounds());
+        }
     }
 
     /**
@@ -319,11 +311,13 @@ public class InterfaceJogo extends WndInterface {
         } else if (PainelJogo.DEBUG_MODE && keyCode == KeyEvent.VK_9) {
             revealHands();
         } else if (PainelJogo.DEBUG_MODE && keyCode == KeyEvent.VK_8) {
-            toggleTurnDirection();
+            motor.toggleTurnDirection();
         } else if (PainelJogo.DEBUG_MODE && keyCode == KeyEvent.VK_7) {
             bottomPlayer.emptyHand();
         } else if (PainelJogo.DEBUG_MODE && keyCode == KeyEvent.VK_6) {
-            bottomPlayer.removeCard(bottomPlayer.getHand().get(0));
+            if (bottomPlayer.getHandSize() > 0) {
+                bottomPlayer.removeCardByID(CodigoCarta.getCardID(bottomPlayer.getCard(0)));
+            }
         } else if (PainelJogo.DEBUG_MODE && keyCode == KeyEvent.VK_5) {
             debugShowTreeOnNewAction = !debugShowTreeOnNewAction;
         } else if (PainelJogo.DEBUG_MODE && keyCode == KeyEvent.VK_4) {
@@ -334,196 +328,167 @@ public class InterfaceJogo extends WndInterface {
     }
 
     /**
-     * Verifica se a carta pode ser jogada como um salto e depois troca a carta
-     * atual
-     * jogador,
-     * e inicia a ação da carta que está sendo jogada.
+     * Usado para mostrar uma sobreposição baseada em uma decisão atual, depois
+     * dos efeitos visuais que vieram antes dela.
      *
-     * @param playerID   O jogador tentando entrar.
-     * @param cardToPlay A carta que está sendo usada.
-     */
-    public void jumpIn(int playerID, Carta cardToPlay) {
-        Carta topCard = getTopCard();
-        if (currentTurnAction == null && currentPlayerID != playerID
-                && topCard.getFaceValueID() == cardToPlay.getFaceValueID()
-                && topCard.getColourID() == cardToPlay.getColourID()) {
-            currentPlayerID = playerID;
-            showGeneralOverlay("JumpIn" + playerID);
-            currentTurnAction = TurnActionFactory.playCardAsAction(currentPlayerID, cardToPlay.getCardID(),
-                    cardToPlay.getFaceValueID(), cardToPlay.getColourID());
-        }
-    }
-
-    /**
-     * Usado para mostrar uma sobreposição baseada em uma decisão atual.
+     * @param decisionAction A decisão que está aguardando uma escolha.
      */
-    public void showOverlayForTurnAction() {
-        if (currentTurnAction instanceof TurnActionFactory.TurnDecisionAction) {
-            overlayManager.showDecisionOverlay((TurnActionFactory.TurnDecisionAction) currentTurnAction);
-        }
+    @Override
+    public void showOverlayForTurnAction(TurnActionFactory.TurnSequence decisionAction) {
+        visualEvents.add(() -> overlayManager.showDecisionOverlay(decisionAction));
     }
 
     /**
-     * Mostra uma sobreposição baseada em uma pesquisa de String no gerenciador de
+     * Coloca na fila visual uma sobreposição geral do gerenciador de
      * sobreposições.
      *
-     * @param overlayName Nome que mapeia para uma sobreposição específica.
+     * @param overlayType A sobreposição a ser mostrada.
+     * @param playerID    O jogador sobre o qual ela aparece.
+     * @param value       Valor extra da sobreposição; 0 quando não é usado.
      */
-    public void showGeneralOverlay(String overlayName) {
-        overlayManager.showGeneralOverlay(overlayName);
+    @Override
+    public void showGeneralOverlay(OverlayType overlayType, int playerID, int value) {
+        visualEvents.add(() -> overlayManager.showGeneralOverlay(overlayType, playerID, value));
     }
 
     /**
-     * Força todas as mãos a revelarem e permanecerem reveladas.
+     * Coloca na fila visual a visualização da carta recém-jogada na pilha de
+     * cartas. A mão de quem jogou muda na hora.
+     *
+     * @param card A carta codificada que acabou de ser colocada.
      */
-    public void revealHands() {
-        players.forEach(player -> player.revealHand(true));
+    @Override
+    public void onCardPlaced(int card) {
+        // A primeira carta é colocada enquanto o motor ainda é criado, e a
+        // rodada nova já marca a mesa inteira.
+        if (motor != null) {
+            markPlayerDirty(motor.getCurrentPlayerID());
+        }
+        visualEvents.add(() -> addRecentCardView(card));
     }
 
     /**
-     * Classifica a mão do jogador.
+     * Marca a mão do jogador que comprou a carta.
+     *
+     * @param playerID O jogador que comprou a carta.
+     * @param card     A carta codificada comprada.
      */
-    public void sortHand() {
-        bottomPlayer.sortHand();
+    @Override
+    public void onCardDrawn(int playerID, int card) {
+        markPlayerDirty(playerID);
     }
 
     /**
-     * Retorna o jogador que está jogando atualmente.
+     * Marca as mãos dos dois jogadores que trocaram de mão.
      *
-     * @return O jogador que está jogando.
+     * @param playerID      O jogador que escolheu a troca.
+     * @param otherPlayerID O jogador escolhido.
      */
-    public Jogador getBottomPlayer() {
-        return bottomPlayer;
+    @Override
+    public void onHandsSwapped(int playerID, int otherPlayerID) {
+        markPlayerDirty(playerID);
+        markPlayerDirty(otherPlayerID);
     }
 
     /**
-     * Alterna o sentido de rotação entre sentido horário e anti-horário.
-     * Incluindo atualização da direção da animação.
+     * Marca as mãos de todos os jogadores, que passaram a mão adiante.
      */
-    public void toggleTurnDirection() {
-        isIncreasing = !isIncreasing;
-        playDirectionAnimation.setIsIncreasing(isIncreasing);
+    @Override
+    public void onHandsPassed() {
+        for (Jogador player : motor.getAllPlayers()) {
+            markDirty(player.getPaintBounds());
+        }
     }
 
     /**
-     * Move para o próximo jogador dependendo se a direção é no sentido horário ou
-     * sentido anti-horário.
+     * Marca a mesa inteira para o fim da rodada.
+     *
+     * @param winnerID O jogador que venceu a rodada.
      */
-    public void moveToNextPlayer() {
-        updateUNOState();
-        if (isIncreasing) {
-            currentPlayerID++;
-            if (currentPlayerID >= players.size()) {
-                currentPlayerID = 0;
-            }
-        } else {
-            currentPlayerID--;
-            if (currentPlayerID < 0) {
-                currentPlayerID = players.size() - 1;
-            }
-        }
+    @Override
+    public void onRoundEnded(int winnerID) {
+        markDirty();
     }
 
     /**
-     * Define o jogador atual como NotSafe se ele tiver uma carta ou Safe caso
-     * contrário,
-     * todos os outros jogadores estão definidos como Seguros.
+     * Marca a região da mão e do nome de um jogador para ser redesenhada.
+     *
+     * @param playerID O jogador que mudou.
      */
-    private void updateUNOState() {
-        players.get(currentPlayerID).setUnoState(
-                players.get(currentPlayerID).getHand().size() == 1 ? Jogador.UNOState.NotSafe : Jogador.UNOState.Safe);
-        for (Jogador player : players) {
-            if (player.getPlayerID() != currentPlayerID) {
-                player.setUnoState(Jogador.UNOState.Safe);
-            }
+    private void markPlayerDirty(int playerID) {
+        markDirty(motor.getAllPlayers().get(playerID).getPaintBounds());
+    }
+
+    /**
+     * Adiciona a visualização de uma carta à pilha de cartas recentes com um
+     * deslocamento aleatório.
+     *
+     * @param card A carta codificada que foi colocada.
+     */
+    private void addRecentCardView(int card) {
+        Carta cardView = new Carta(card);
+        cardView.position.setPosition(centredCardPos.x, centredCardPos.y);
+        SplittableRandom cosmeticRandom = random.getCosmeticRandom();
+        cardView.position.add(new Posicao(cosmeticRandom.nextInt(-12, 12), cosmeticRandom.nextInt(-12, 12)));
+        recentCardViews.add(cardView);
+        if (recentCardViews.size() > MotorJogo.MAX_CARD_HISTORY) {
+            recentCardViews.remove(0);
         }
+        markDirty(pileBounds);
     }
 
     /**
-     * Aplica o efeito de ser chamado por não ter dito UNO.
-     * Mostra a mensagem e compra duas cartas para aquele jogador.
+     * Coloca na fila visual a mudança de cor da carta do topo.
+     *
+     * @param colourID A nova cor da carta do topo.
      */
-    public void applyAntiUno(int playerID) {
-        InterfaceJogo.getCurrentGame().showGeneralOverlay("AntiUnoCalled" + playerID);
-        // Defina como seguro para evitar vários callouts anti-uno.
-        players.get(playerID).setUnoState(Jogador.UNOState.Safe);
-        players.get(playerID).addCardToHand(deck.drawCard());
-        players.get(playerID).addCardToHand(deck.drawCard());
+    @Override
+    public void onTopCardColourChanged(int colourID) {
+        visualEvents.add(() -> {
+            recentCardViews.get(recentCardViews.size() - 1).setColour(colourID);
+            markDirty(pileBounds);
+        });
     }
 
     /**
-     * Obtém a direção atual do jogo.
-     *
-     * @return Quando verdadeiro, a direção da reprodução é no sentido horário.
+     * Força todas as mãos a revelarem e permanecerem reveladas.
      */
-    public boolean isIncreasing() {
-        return isIncreasing;
+    public void revealHands() {
+        motor.getAllPlayers().forEach(player -> player.revealHand(true));
     }
 
     /**
-     * Muda a cor do cartão superior. Usado para mudar a cor do wild e +4
-     * cartões.
-     *
-     * @param colorID 0=Vermelho, 1=Azul, 2=Verde, 3=Amarelo
+     * Classifica a mão do jogador.
      */
-    public void setTopCardColour(int colourID) {
-        recentCards.get(recentCards.size() - 1).setColour(colourID);
+    public void sortHand() {
+        bottomPlayer.sortHand();
     }
 
     /**
-     * Se já houver uma ação atual ativa, ela será colocada na fila para iniciar o
-     * mais rápido possível.
-     * Caso contrário, a ação será configurada imediatamente.
+     * Retorna o jogador que está jogando atualmente.
      *
-     * @param turnAction O TurnAction para começar.
-     */
-    public void setCurrentTurnAction(TurnActionFactory.TurnAction turnAction) {
-        if (currentTurnAction != null) {
-            queuedTurnAction = turnAction;
-            if (PainelJogo.DEBUG_MODE && debugShowTreeOnNewAction) {
-                System.out.println("Sequência de ação na fila:");
-                TurnActionFactory.debugOutputTurnActionTree(turnAction);
-            }
-        } else {
-            currentTurnAction = turnAction;
-            if (PainelJogo.DEBUG_MODE && debugShowTreeOnNewAction) {
-                System.out.println("Definir sequência de ação:");
-                TurnActionFactory.debugOutputTurnActionTree(turnAction);
-            }
-        }
+     * @return O jogador que está jogando.
+     */
+    public Jogador getBottomPlayer() {
+        return bottomPlayer;
     }
 
     /**
-     * Usado para jogar a primeira carta. Isto consiste em simplesmente colocar o
-     * cartão
-     * sem ação, e se a carta for curinga, a cor será aleatória.
+     * Aplica o efeito de ser chamado por não ter dito UNO.
      *
-     * @param card Cartão para colocar no topo da pilha de cartas sem ação.
+     * @param playerID O jogador que foi chamado.
      */
-    public void forcePlayCard(Carta card) {
-        placeCard(card);
-
-        if (card.getFaceValueID() >= 13) {
-            setTopCardColour((int) (Math.random() * 4));
-        }
+    public void applyAntiUno(int playerID) {
+        motor.applyAntiUno(playerID);
     }
 
     /**
-     * Move a posição da carta para a pilha de cartas com um deslocamento aleatório
-     * e a adiciona
-     * à coleção de recentCards. Se o número de cartões recentes for maior
-     * que o máximo permitido o cartão mais antigo é removido.
+     * Obtém o jogo mostrado por esta interface.
      *
-     * @param card Cartão para colocar no topo da pilha de cartas.
-     */
-    public void placeCard(Carta card) {
-        card.position.setPosition(centredCardPos.x, centredCardPos.y);
-        card.position.add(new Posicao((int) (Math.random() * 24 - 12), (int) (Math.random() * 24 - 12)));
-        recentCards.add(card);
-        int MAX_CARD_HISTORY = 10;
-        if (recentCards.size() > MAX_CARD_HISTORY) {
-            recentCards.remove(0);
-        }
+     * @return O motor com todo o estado do jogo.
+     */
+    public MotorJogo getMotor() {
+        return motor;
     }
 
     /**
@@ -531,8 +496,8 @@ public class InterfaceJogo extends WndInterface {
      *
      * @return A ação atual ou nula.
      */
-    public TurnActionFactory.TurnAction getCurrentTurnAction() {
-        return currentTurnAction;
+    public TurnActionFactory.TurnSequence getCurrentTurnAction() {
+        return motor.getCurrentTurnAction();
     }
 
     /**
@@ -542,7 +507,7 @@ public class InterfaceJogo extends WndInterface {
      * @return A definição do conjunto de regras.
      */
     public ConjuntoRegras getRuleSet() {
-        return ruleSet;
+        return motor.getRuleSet();
     }
 
     /**
@@ -551,7 +516,7 @@ public class InterfaceJogo extends WndInterface {
      * @return O jogador identificado por currentPlayerID.
      */
     public Jogador getCurrentPlayer() {
-        return players.get(currentPlayerID);
+        return motor.getCurrentPlayer();
     }
 
     /**
@@ -560,44 +525,7 @@ public class InterfaceJogo extends WndInterface {
      * @return Uma referência para todos os jogadores.
      */
     public List<Jogador> getAllPlayers() {
-        return players;
-    }
-
-    /**
-     * Procura o jogador com o ID fornecido.
-     *
-     * @param playerID ID obtido na coleção de jogadores.
-     * @return O jogador que corresponde ao playerID fornecido.
-     */
-    public Jogador getPlayerByID(int playerID) {
-        return players.get(playerID);
-    }
-
-    /**
-     * Faz com que o baralho forneça acesso a cartas de compra.
-     *
-     * @return Uma referência ao Deck.
-     */
-    public Deck getDeck() {
-        return deck;
-    }
-
-    /**
-     * Obtém a coleção de cartas jogadas recentemente.
-     *
-     * @return Uma referência às cartas jogadas recentemente.
-     */
-    public List<Carta> getRecentCards() {
-        return recentCards;
-    }
-
-    /**
-     * Obtém o cartão recente jogado mais recentemente.
-     *
-     * @return A carta que aparece no topo da pilha jogada.
-     */
-    public Carta getTopCard() {
-        return recentCards.get(recentCards.size() - 1);
+        return motor.getAllPlayers();
     }
 
     /**
@@ -644,8 +572,10 @@ public class InterfaceJogo extends WndInterface {
                 showNameLeft = true;
             }
             if (playersToAdd.get(i).getPlayerType() == Jogador.PlayerType.AIJogador) {
-                result.add(new AIJogador(i, playersToAdd.get(i).getPlayerName(), playerRegion,
-                        playersToAdd.get(i).getAIStrategy(), showNameLeft));
+                AIJogador aiPlayer = new AIJogador(i, playersToAdd.get(i).getPlayerName(), playerRegion,
+                        playersToAdd.get(i).getAIStrategy(), showNameLeft);
+                aiPlayer.setEndgameTimeBudget(SolucionadorFinal.INTERACTIVE_TIME_BUDGET);
+                result.add(aiPlayer);
             } else {
                 result.add(new Jogador(i, playersToAdd.get(i).getPlayerName(), playersToAdd.get(i).getPlayerType(),
                         playerRegion, showNameLeft));
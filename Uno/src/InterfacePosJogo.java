@@ -47,6 +47,10 @@ public class InterfacePosJogo extends WndInterface {
      * Uma String mostrando a regra de limite de pontuação.
      */
     private String scoreLimitStr;
+    /**
+     * O fundo, o título e o placar, que não mudam depois da criação.
+     */
+    private final CamadaEstatica scoreboardLayer;
 
     /**
      * Inicialize a interface com limites e habilite-a.
@@ -58,6 +62,7 @@ public class InterfacePosJogo extends WndInterface {
         this.players = playerList;
         this.ruleSet = ruleSet;
         this.painelJogo = painelJogo;
+        scoreboardLayer = new CamadaEstatica(bounds, this::paintScoreboard);
 
         playerStrings = new ArrayList<>();
         for (Jogador player : playerList) {
@@ -117,6 +122,17 @@ public class InterfacePosJogo extends WndInterface {
      */
     @Override
     public void paint(Graphics g) {
+        scoreboardLayer.paint(g);
+        buttonList.forEach(button -> button.paint(g));
+    }
+
+    /**
+     * Desenha o fundo, o título e o placar, que não mudam depois que a
+     * interface é criada.
+     *
+     * @param g Referência ao objeto Graphics para renderização.
+     */
+    private void paintScoreboard(Graphics g) {
         drawBackground(g);
         painelJogo.paintUnoTitle(g, bounds);
         g.setColor(Color.BLACK);
@@ -124,8 +140,6 @@ public class InterfacePosJogo extends WndInterface {
         int strWidth = g.getFontMetrics().stringWidth("Resumo pós-jogo");
         g.drawString("Resumo pós-jogo", bounds.width / 2 - strWidth / 2, 120);
         drawPlayers(g);
-
-        buttonList.forEach(button -> button.paint(g));
     }
 
     /**
@@ -194,7 +208,7 @@ public class InterfacePosJogo extends WndInterface {
 
     /**
      * Não faz nada se não estiver habilitado. Atualiza o estado de foco de todos os
-     * botões.
+     * botões e marca para redesenho os que mudaram.
      *
      * @param mousePosition Posição do mouse durante este movimento.
      */
@@ -202,7 +216,11 @@ public class InterfacePosJogo extends WndInterface {
     public void handleMouseMove(Posicao mousePosition) {
         if (!isEnabled())
             return;
-        buttonList.forEach(button -> button.setHovering(button.isPositionInside(mousePosition)));
+        for (Botao button : buttonList) {
+            if (button.setHovering(button.isPositionInside(mousePosition))) {
+                markDirty(button.getPaintBounds());
+            }
+        }
     }
 
     /**
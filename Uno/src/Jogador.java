@@ -1,5 +1,7 @@
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -8,6 +10,11 @@ import java.util.List;
  *
  * Classe Jogador:
  * Define um jogador com todas as informações sobre um único jogador.
+ * Mãos grandes não crescem além de MAX_HAND_ROWS linhas: as cartas se
+ * sobrepõem mais (em leque). Uma mão virada para baixo, como a de uma IA, é
+ * sempre desenhada como uma única pilha com a contagem.
+ * Cada carta coberta pela seguinte só desenha a faixa que aparece, então o
+ * custo de pintar fica limitado pela área da mão e não pelo número de cartas.
  *
  * @autor Cauet Damasceno
  * @versão 2023
@@ -33,6 +40,28 @@ public class Jogador {
         Safe, Called, NotSafe
     }
 
+    /**
+     * Capacidade inicial da mão, suficiente para a maioria das rodadas.
+     */
+    private static final int INITIAL_HAND_CAPACITY = 16;
+    /**
+     * Quanto a carta sob o mouse sobe em relação às outras.
+     */
+    private static final int HOVER_OFFSET = 10;
+    /**
+     * Número máximo de linhas de cartas. Mãos maiores aproximam as cartas.
+     */
+    private static final int MAX_HAND_ROWS = 2;
+    /**
+     * Margem em volta da região da mão coberta pela carta em foco e pelas
+     * cartas das bordas de cada linha.
+     */
+    private static final int HAND_PAINT_MARGIN = 20;
+    /**
+     * Cor da caixa atrás do nome do jogador.
+     */
+    private static final Color NAME_BACKGROUND_COLOUR = new Color(1, 1, 1, 204);
+
     /**
      * O ID exclusivo deste jogador.
      */
@@ -41,23 +70,83 @@ public class Jogador {
      * O nome deste jogador.
      */
     private final String playerName;
+    /**
+     * O nome desenhado em branco e em laranja (quando é o jogador atual).
+     * Obtidos do cache no primeiro uso, já que partidas sem interface nunca
+     * pintam.
+     */
+    private CacheTexto.Texto nameText, currentNameText;
     /**
      * O tipo de jogador. (UnoJogador, AIJogador ou NetworkPlayer).
      */
     private final PlayerType playerType;
     /**
-     * A região para retirar as cartas do jogador.
+     * A região para retirar as cartas do jogador. Nulo quando o jogador não é
+     * mostrado em uma interface (simulação sem interface).
      */
     private final Retangulo bounds;
 
     /**
-     * A coleção de cartas contidas na mão do jogador.
+     * As cartas codificadas (ver CodigoCarta) na mão do jogador, nas posições
+     * [0, handSize).
+     */
+    private int[] hand;
+    /**
+     * Número de cartas na mão do jogador.
+     */
+    private int handSize;
+    /**
+     * Quantidade de cartas na mão para cada combinação de face e cor, no
+     * índice faceValueID * CodigoCarta.COLOUR_COUNT + colourID. Atualizada a
+     * cada carta adicionada ou removida para responder às consultas da mão em
+     * tempo constante.
+     */
+    private final int[] cardCounts;
+    /**
+     * Quantidade de cartas na mão para cada faceValueID.
+     */
+    private final int[] faceValueCounts;
+    /**
+     * Quantidade de cartas na mão para cada colourID.
      */
-    private final List<Carta> hand;
+    private final int[] colourCounts;
+    /**
+     * As visualizações das cartas da mão, na mesma ordem de hand. Nulo quando
+     * o jogador não é mostrado em uma interface, para que uma simulação não
+     * crie nenhuma Carta.
+     */
+    private final List<Carta> cardViews;
     /**
      * A carta sobre a qual o jogador está passando o mouse.
      */
     private Carta hoveredCard;
+    /**
+     * O índice de hoveredCard em cardViews, ou -1. Só é válido enquanto
+     * layoutValid for verdadeiro.
+     */
+    private int hoveredIndex;
+    /**
+     * Falso quando a mão mudou e as posições das cartas precisam ser
+     * recalculadas antes de serem usadas. Assim uma série de mudanças na mão
+     * recalcula as posições uma única vez.
+     */
+    private boolean layoutValid;
+    /**
+     * A disposição calculada em recalculateCardPositions: cartas por linha,
+     * número de linhas, y da primeira linha e distância entre colunas e entre
+     * linhas.
+     */
+    private int layoutPerRow, layoutRows, layoutStartY, layoutStepX, layoutStepY;
+    /**
+     * O x da primeira carta das linhas completas e da última linha quando ela
+     * não está completa.
+     */
+    private int layoutFullRowX, layoutLastRowX;
+    /**
+     * Verdadeiro quando a mão não cabia em MAX_HAND_ROWS linhas e as cartas
+     * foram aproximadas.
+     */
+    private boolean layoutFanned;
     /**
      * Quando verdadeiro, as cartas deste jogador são reveladas com a face para
      * cima.
@@ -98,6 +187,7 @@ public class Jogador {
      * @param playerType         O tipo de jogador. (UnoJogador, AIJogador ou
      *                           RedePlayer).
      * @param limites            A região para a compra das cartas do jogador.
+     *                           Pode ser nula quando o jogador não é desenhado.
      * @param showPlayerNameLeft Quando verdadeiro, o nome do jogador é centralizado
      *                           à esquerda
      *                           lado dos limites, caso contrário, será centralizado
@@ -111,7 +201,14 @@ public class Jogador {
         this.playerType = playerType;
         this.bounds = bounds;
         this.showPlayerNameLeft = showPlayerNameLeft;
-        hand = new ArrayList<>();
+        hand = new int[INITIAL_HAND_CAPACITY];
+        handSize = 0;
+        cardCounts = new int[CodigoCarta.FACE_VALUE_COUNT * CodigoCarta.COLOUR_COUNT];
+        faceValueCounts = new int[CodigoCarta.FACE_VALUE_COUNT];
+        colourCounts = new int[CodigoCarta.COLOUR_COUNT];
+        cardViews = bounds != null ? new ArrayList<>() : null;
+        hoveredIndex = -1;
+        layoutValid = false;
         showCards = playerType == PlayerType.UnoJogador;
         wonRound = false;
         totalScore = currentRoundScore = 0;
@@ -121,12 +218,25 @@ public class Jogador {
     /**
      * Faz nada.
      *
+     * @param game      O jogo do qual este jogador participa.
      * @param deltaTime Tempo desde a última atualização.
      */
-    public void update(int deltaTime) {
+    public void update(MotorJogo game, int deltaTime) {
 
     }
 
+    /**
+     * Verifica se o jogador tem algum cronômetro contando, ou seja, se ele pode
+     * agir sozinho nas próximas atualizações. Jogadores humanos só agem com
+     * entradas.
+     *
+     * @param game O jogo do qual este jogador participa.
+     * @return Falso para jogadores controlados pelo usuário.
+     */
+    public boolean hasActiveTimer(MotorJogo game) {
+        return false;
+    }
+
     /**
      * Compra as cartas do jogador com verso ou frente. Depois desenha o
      * nome do jogador próximo.
@@ -134,40 +244,102 @@ public class Jogador {
      * @param g Referência ao objeto Graphics para renderização.
      */
     public void paint(Graphics g) {
-        if (showCards) {
-            hand.forEach(card -> card.paint(g));
+        ensureLayout();
+        if (!showCards) {
+            paintCardStack(g);
         } else {
-            hand.forEach(card -> Carta.paintCardBack(g, card));
+            paintVisibleCards(g);
+        }
+        Retangulo nameBounds = getNameBounds();
+        g.setColor(NAME_BACKGROUND_COLOUR);
+        g.fillRect(nameBounds.position.x, nameBounds.position.y, nameBounds.width, nameBounds.height);
+        (InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerID() == getPlayerID()
+                ? currentNameText
+                : nameText).paint(g, nameBounds.position.x + 15, nameBounds.position.y + 25);
+    }
+
+    /**
+     * Obtém a caixa do nome do jogador, ao lado ou acima da mão. Os textos do
+     * nome são obtidos do cache na primeira chamada.
+     *
+     * @return A região da caixa do nome.
+     */
+    private Retangulo getNameBounds() {
+        if (nameText == null) {
+            Font nameFont = CacheTexto.getFont(Font.BOLD, 20);
+            nameText = CacheTexto.getText(playerName, nameFont, Color.WHITE);
+            currentNameText = CacheTexto.getText(playerName, nameFont, Color.ORANGE);
         }
-        g.setFont(new Font("Arial", Font.BOLD, 20));
-        int strWidth = g.getFontMetrics().stringWidth(playerName);
-        g.setColor(new Color(1, 1, 1, 204));
+        int strWidth = nameText.getWidth();
         int nameXOffset = bounds.position.x
                 + (showPlayerNameLeft ? -(strWidth - 50) : (bounds.width / 2 - (strWidth + 30) / 2));
         int nameYOffset = bounds.position.y + (showPlayerNameLeft ? (bounds.height / 2 - 20) : -10);
-        g.fillRect(nameXOffset, nameYOffset, strWidth + 30, 40);
-        g.setColor(InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerID() == getPlayerID()
-                ? Color.ORANGE
-                : Color.WHITE);
-        g.drawString(playerName, nameXOffset + 15, nameYOffset + 25);
+        return new Retangulo(nameXOffset, nameYOffset, strWidth + 30, 40);
     }
 
     /**
-     * Adiciona a carta à mão e recalcula as posições onde todas as cartas
-     * deve ser posicionado.
+     * Obtém a região em que paint() pode desenhar: a região da mão com uma
+     * margem para a carta em foco e as cartas das bordas, mais a caixa do
+     * nome.
      *
-     * @param card A carta a ser adicionada à mão.
+     * @return A região a ser redesenhada quando a mão ou o turno mudam.
      */
-    public void addCardToHand(Carta card) {
-        hand.add(card);
-        recalculateCardPositions();
+    public Retangulo getPaintBounds() {
+        return new Retangulo(bounds.position.x - HAND_PAINT_MARGIN, bounds.position.y - HAND_PAINT_MARGIN,
+                bounds.width + HAND_PAINT_MARGIN * 2, bounds.height + HAND_PAINT_MARGIN * 2).union(getNameBounds());
+    }
+
+    /**
+     * Adiciona a carta à mão. As posições das cartas são recalculadas na
+     * próxima vez que forem usadas.
+     *
+     * @param card A carta codificada a ser adicionada à mão.
+     */
+    public void addCardToHand(int card) {
+        if (handSize == hand.length) {
+            hand = Arrays.copyOf(hand, hand.length * 2);
+        }
+        hand[handSize++] = card;
+        updateCounts(card, 1);
+        if (cardViews != null) {
+            cardViews.add(new Carta(card));
+        }
+        layoutValid = false;
+    }
+
+    /**
+     * Adiciona várias cartas à mão de uma vez, aumentando o array da mão no
+     * máximo uma vez.
+     *
+     * @param cards As cartas codificadas a serem adicionadas, nesta ordem.
+     */
+    public void addCardsToHand(int[] cards) {
+        if (handSize + cards.length > hand.length) {
+            hand = Arrays.copyOf(hand, Math.max(hand.length * 2, handSize + cards.length));
+        }
+        for (int card : cards) {
+            hand[handSize++] = card;
+            updateCounts(card, 1);
+            if (cardViews != null) {
+                cardViews.add(new Carta(card));
+            }
+        }
+        layoutValid = false;
     }
 
     /**
      * Esvazia a mão.
      */
     public void emptyHand() {
-        hand.clear();
+        handSize = 0;
+        Arrays.fill(cardCounts, 0);
+        Arrays.fill(faceValueCounts, 0);
+        Arrays.fill(colourCounts, 0);
+        if (cardViews != null) {
+            cardViews.clear();
+        }
+        hoveredCard = null;
+        layoutValid = false;
     }
 
     /**
@@ -204,75 +376,300 @@ public class Jogador {
      *
      * @param curFaceValue   O faceValue a ser verificado.
      * @param curColourValue O colorID a ser verificado.
-     * @return Uma lista de cartas válidas para serem jogadas neste contexto.
-     */
-    public List<Carta> getValidMoves(int curFaceValue, int curColourValue) {
-        List<Carta> result = new ArrayList<>();
-        for (Carta card : hand) {
-            if (card.getFaceValueID() == curFaceValue || card.getColourID() == curColourValue
-                    || card.getFaceValueID() == 13 || card.getFaceValueID() == 14) {
-                result.add(card);
+     * @return As cartas codificadas válidas para serem jogadas neste contexto.
+     */
+    public int[] getValidMoves(int curFaceValue, int curColourValue) {
+        int[] result = new int[countValidMoves(curFaceValue, curColourValue)];
+        int count = 0;
+        for (int i = 0; i < handSize && count < result.length; i++) {
+            if (CodigoCarta.isPlayableOn(hand[i], curFaceValue, curColourValue)) {
+                result[count++] = hand[i];
             }
         }
         return result;
     }
 
     /**
-     * Classifica a mão e recalcula as posições de todas as cartas.
+     * Conta as cartas da mão que podem ser jogadas sobre o faceValue e colorID
+     * indicados, sem percorrer a mão.
+     *
+     * @param curFaceValue   O faceValue a ser verificado.
+     * @param curColourValue O colorID a ser verificado.
+     * @return O número de cartas válidas, incluindo curingas e +4.
+     */
+    public int countValidMoves(int curFaceValue, int curColourValue) {
+        return faceValueCounts[13] + faceValueCounts[14] + countColouredValidMoves(curFaceValue, curColourValue);
+    }
+
+    /**
+     * Verifica se alguma carta que não seja curinga ou +4 pode ser jogada sobre o
+     * faceValue e colorID indicados.
+     *
+     * @param curFaceValue   O faceValue a ser verificado.
+     * @param curColourValue O colorID a ser verificado.
+     * @return Verdadeiro se existir pelo menos uma carta assim.
+     */
+    public boolean hasColouredValidMove(int curFaceValue, int curColourValue) {
+        return countColouredValidMoves(curFaceValue, curColourValue) > 0;
+    }
+
+    /**
+     * Verifica se a mão contém alguma carta com o faceValueID.
+     *
+     * @param faceValueID O faceValueID procurado.
+     * @return Verdadeiro se houver pelo menos uma carta com essa face.
+     */
+    public boolean hasFaceValue(int faceValueID) {
+        return faceValueCounts[faceValueID] > 0;
+    }
+
+    /**
+     * Verifica se a mão contém uma carta com exatamente a face e a cor
+     * indicadas, como exigido para um salto.
+     *
+     * @param faceValueID O faceValueID procurado.
+     * @param colourID    O colourID procurado.
+     * @return Verdadeiro se houver pelo menos uma carta assim.
+     */
+    public boolean hasCard(int faceValueID, int colourID) {
+        return cardCounts[faceValueID * CodigoCarta.COLOUR_COUNT + colourID] > 0;
+    }
+
+    /**
+     * Obtém o número de cartas da mão com exatamente a face e a cor indicadas.
+     *
+     * @param faceValueID O faceValueID a ser contado.
+     * @param colourID    O colourID a ser contado.
+     * @return O número de cartas assim.
+     */
+    public int getCardCount(int faceValueID, int colourID) {
+        return cardCounts[faceValueID * CodigoCarta.COLOUR_COUNT + colourID];
+    }
+
+    /**
+     * Obtém o número de cartas da mão com o faceValueID.
+     *
+     * @param faceValueID O faceValueID a ser contado.
+     * @return O número de cartas com essa face.
+     */
+    public int getFaceValueCount(int faceValueID) {
+        return faceValueCounts[faceValueID];
+    }
+
+    /**
+     * Obtém o número de cartas da mão com o colourID.
+     *
+     * @param colourID O colourID a ser contado (4 conta os curingas).
+     * @return O número de cartas com essa cor.
+     */
+    public int getColourCount(int colourID) {
+        return colourCounts[colourID];
+    }
+
+    /**
+     * Conta as cartas que não são curinga nem +4 e que coincidem na face ou na
+     * cor, descontando as que coincidem nas duas.
+     *
+     * @param curFaceValue   O faceValue a ser verificado.
+     * @param curColourValue O colorID a ser verificado.
+     * @return O número dessas cartas.
+     */
+    private int countColouredValidMoves(int curFaceValue, int curColourValue) {
+        int colourMatches = colourCounts[curColourValue]
+                - cardCounts[13 * CodigoCarta.COLOUR_COUNT + curColourValue]
+                - cardCounts[14 * CodigoCarta.COLOUR_COUNT + curColourValue];
+        if (curFaceValue >= 13)
+            return colourMatches;
+        return faceValueCounts[curFaceValue] + colourMatches
+                - cardCounts[curFaceValue * CodigoCarta.COLOUR_COUNT + curColourValue];
+    }
+
+    /**
+     * Soma delta às contagens da face e cor da carta.
+     *
+     * @param card  A carta codificada adicionada ou removida.
+     * @param delta 1 quando adicionada, -1 quando removida.
+     */
+    private void updateCounts(int card, int delta) {
+        int faceValueID = CodigoCarta.getFaceValueID(card);
+        int colourID = CodigoCarta.getColourID(card);
+        cardCounts[faceValueID * CodigoCarta.COLOUR_COUNT + colourID] += delta;
+        faceValueCounts[faceValueID] += delta;
+        colourCounts[colourID] += delta;
+    }
+
+    /**
+     * Classifica a mão; as posições das cartas são recalculadas na próxima vez
+     * que forem usadas.
      * Os cartões são classificados primeiro por cor e depois por valores faciais.
      */
     public void sortHand() {
-        Comparator<Carta> compareByCard = Comparator
-                .comparing(Carta::getColourID)
-                .thenComparing(Carta::getFaceValueID);
-        hand.sort(compareByCard);
-        recalculateCardPositions();
+        // Ordenação por inserção estável; as mãos são pequenas.
+        for (int i = 1; i < handSize; i++) {
+            int card = hand[i];
+            int key = CodigoCarta.getSortKey(card);
+            int j = i - 1;
+            while (j >= 0 && CodigoCarta.getSortKey(hand[j]) > key) {
+                hand[j + 1] = hand[j];
+                j--;
+            }
+            hand[j + 1] = card;
+        }
+        if (cardViews != null) {
+            cardViews.sort(Comparator.comparingInt(card -> CodigoCarta.getSortKey(card.getEncodedCard())));
+        }
+        layoutValid = false;
     }
 
     /**
-     * Atualiza o foco para verificar qual cartão está pairando e, em seguida,
-     * atualiza o
-     * posições de todos os cartões a serem compensadas com base na passagem do
-     * mouse.
+     * Desenha apenas a parte visível de cada carta. Uma carta coberta pela
+     * seguinte na mesma linha só mostra a faixa até o início da próxima; as
+     * últimas de cada linha e as vizinhas da carta em foco, que fica mais
+     * alta, são desenhadas inteiras. Cartas fora da região de recorte são
+     * puladas.
      *
-     * @param mousePosition Posição do cursor do mouse.
+     * @param g Referência ao objeto Graphics para renderização.
+     */
+    private void paintVisibleCards(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        int stripWidth = Math.min(layoutStepX, Carta.CARD_WIDTH);
+        for (int i = 0; i < cardViews.size(); i++) {
+            Carta card = cardViews.get(i);
+            boolean isCovered = i % layoutPerRow != layoutPerRow - 1 && i != cardViews.size() - 1
+                    && i != hoveredIndex && i + 1 != hoveredIndex;
+            int width = isCovered ? stripWidth : Carta.CARD_WIDTH;
+            int x = card.position.x;
+            int y = card.position.y;
+            if (clip != null && !clip.intersects(x, y, width, Carta.CARD_HEIGHT))
+                continue;
+            BufferedImage image = showCards
+                    ? AtlasCartas.getCardFace(card.getFaceValueID(), card.getColourID())
+                    : AtlasCartas.getCardBack();
+            g.drawImage(image, x, y, x + width, y + Carta.CARD_HEIGHT, 0, 0, width, Carta.CARD_HEIGHT, null);
+        }
+    }
+
+    /**
+     * Desenha a mão virada para baixo como uma única pilha com o número de
+     * cartas, centralizada na região do jogador.
+     *
+     * @param g Referência ao objeto Graphics para renderização.
      */
-    public void updateHover(Posicao mousePosition) {
-        if (hoveredCard != null && !hoveredCard.isPositionInside(mousePosition)) {
-            hoveredCard = null;
+    private void paintCardStack(Graphics g) {
+        if (handSize == 0)
+            return;
+        BufferedImage stack = AtlasCartas.getCardStack(handSize);
+        Posicao centre = bounds.getCentre();
+        g.drawImage(stack, centre.x - stack.getWidth() / 2, centre.y - stack.getHeight() / 2, null);
+    }
+
+    /**
+     * Atualiza o foco para a carta visível sob o mouse. Apenas a carta que
+     * perdeu o foco e a que o ganhou são reposicionadas, e nada muda quando o
+     * foco continua na mesma carta.
+     *
+     * @param mousePosition Posição do cursor do mouse.
+     * @return Verdadeiro se a carta em foco mudou.
+     */
+    public boolean updateHover(Posicao mousePosition) {
+        if (cardViews == null)
+            return false;
+        ensureLayout();
+        int newHoveredIndex = findCardIndexAt(mousePosition);
+        if (newHoveredIndex == hoveredIndex)
+            return false;
+        int oldHoveredIndex = hoveredIndex;
+        hoveredIndex = newHoveredIndex;
+        hoveredCard = newHoveredIndex == -1 ? null : cardViews.get(newHoveredIndex);
+        if (oldHoveredIndex != -1) {
+            positionCard(oldHoveredIndex);
+        }
+        if (newHoveredIndex != -1) {
+            positionCard(newHoveredIndex);
         }
-        for (Carta card : hand) {
-            if (card.isPositionInside(mousePosition)) {
-                hoveredCard = card;
-                break;
+        return true;
+    }
+
+    /**
+     * Encontra a carta de cima sob a posição (a de maior índice, já que as
+     * cartas são desenhadas em ordem) usando a disposição calculada. Só as
+     * linhas e colunas que podem conter a posição são testadas (no máximo
+     * algumas cartas), então o custo não depende do tamanho da mão.
+     *
+     * @param position A posição a ser testada.
+     * @return O índice da carta em cardViews, ou -1 se não houver carta.
+     */
+    private int findCardIndexAt(Posicao position) {
+        if (handSize == 0)
+            return -1;
+        // A carta em foco está HOVER_OFFSET acima da sua linha.
+        int firstRow = Math.max(0, Math.floorDiv(position.y - layoutStartY - Carta.CARD_HEIGHT, layoutStepY));
+        int lastRow = Math.min(layoutRows - 1, Math.floorDiv(position.y - layoutStartY + HOVER_OFFSET, layoutStepY));
+        for (int row = lastRow; row >= firstRow; row--) {
+            int rowStart = row * layoutPerRow;
+            int rowCount = Math.min(layoutPerRow, handSize - rowStart);
+            int rowX = rowCount < layoutPerRow ? layoutLastRowX : layoutFullRowX;
+            int firstColumn = Math.max(0, Math.floorDiv(position.x - rowX - Carta.CARD_WIDTH, layoutStepX));
+            int lastColumn = Math.min(rowCount - 1, Math.floorDiv(position.x - rowX, layoutStepX));
+            for (int column = lastColumn; column >= firstColumn; column--) {
+                if (cardViews.get(rowStart + column).isPositionInside(position)) {
+                    return rowStart + column;
+                }
             }
         }
-        recalculateCardPositions();
+        return -1;
     }
 
     /**
-     * Retira a carta da mão e recalcula a posição de todas as cartas.
+     * Retira a carta com o cardID da mão. As posições das cartas são
+     * recalculadas na próxima vez que forem usadas.
      *
-     * @param card Cartão a ser removido.
-     */
-    public void removeCard(Carta card) {
-        hand.remove(card);
-        recalculateCardPositions();
+     * @param cardID cardID da carta a ser removida.
+     * @return A carta codificada removida ou CodigoCarta.NO_CARD se não estava
+     *         na mão.
+     */
+    public int removeCardByID(int cardID) {
+        int index = indexOfCardID(cardID);
+        if (index == -1)
+            return CodigoCarta.NO_CARD;
+        int card = hand[index];
+        System.arraycopy(hand, index + 1, hand, index, handSize - index - 1);
+        handSize--;
+        updateCounts(card, -1);
+        if (cardViews != null) {
+            if (cardViews.get(index) == hoveredCard) {
+                hoveredCard = null;
+            }
+            cardViews.remove(index);
+        }
+        layoutValid = false;
+        return card;
     }
 
     /**
      * Pesquisa para encontrar o cardID.
      *
      * @param cardID cardID a ser pesquisado.
-     * @return O cartão com cardID ou nulo.
+     * @return A carta codificada com cardID ou CodigoCarta.NO_CARD.
+     */
+    public int getCardByID(int cardID) {
+        int index = indexOfCardID(cardID);
+        return index == -1 ? CodigoCarta.NO_CARD : hand[index];
+    }
+
+    /**
+     * Pesquisa a posição da carta com o cardID na mão.
+     *
+     * @param cardID cardID a ser pesquisado.
+     * @return O índice da carta ou -1.
      */
-    public Carta getCardByID(int cardID) {
-        for (Carta card : hand) {
-            if (card.getCardID() == cardID) {
-                return card;
+    private int indexOfCardID(int cardID) {
+        for (int i = 0; i < handSize; i++) {
+            if (CodigoCarta.getCardID(hand[i]) == cardID) {
+                return i;
             }
         }
-        return null;
+        return -1;
     }
 
     /**
@@ -288,12 +685,31 @@ public class Jogador {
     }
 
     /**
-     * Obtém todas as cartas da mão do jogador.
+     * Obtém o número de cartas na mão do jogador.
      *
-     * @return A lista de cartas na mão deste jogador.
+     * @return O número de cartas na mão.
      */
-    public List<Carta> getHand() {
-        return hand;
+    public int getHandSize() {
+        return handSize;
+    }
+
+    /**
+     * Obtém a carta codificada em uma posição da mão.
+     *
+     * @param index Posição entre 0 e getHandSize() - 1.
+     * @return A carta codificada nessa posição.
+     */
+    public int getCard(int index) {
+        return hand[index];
+    }
+
+    /**
+     * Obtém uma cópia de todas as cartas codificadas da mão do jogador.
+     *
+     * @return As cartas na mão deste jogador.
+     */
+    public int[] getHandCards() {
+        return Arrays.copyOf(hand, handSize);
     }
 
     /**
@@ -312,8 +728,8 @@ public class Jogador {
      */
     public int getHandTotalScore() {
         int score = 0;
-        for (Carta card : hand) {
-            score += card.getScoreValue();
+        for (int i = 0; i < handSize; i++) {
+            score += CodigoCarta.getScoreValue(hand[i]);
         }
         return score;
     }
@@ -327,48 +743,71 @@ public class Jogador {
         return bounds.getCentre();
     }
 
+    /**
+     * Recalcula as posições das cartas se a mão mudou desde o último cálculo.
+     */
+    private void ensureLayout() {
+        if (!layoutValid) {
+            recalculateCardPositions();
+            layoutValid = true;
+        }
+    }
+
     /**
      * Recalcula as posições de todos os cartões calculando o número de
      * linhas e colunas então centralizando dentro da região e aplicando
-     * posições para todas as cartas da mão.
+     * posições para todas as cartas da mão. Quando a mão precisaria de mais
+     * de MAX_HAND_ROWS linhas, as linhas ficam com a largura de uma linha
+     * completa e as cartas se aproximam. A disposição fica guardada para
+     * posicionar cartas isoladas e para encontrar a carta sob o mouse. Não faz
+     * nada para jogadores sem região definida.
      */
     private void recalculateCardPositions() {
+        if (bounds == null)
+            return;
+
         int paddingX = -15;
         int paddingY = (playerType == PlayerType.UnoJogador) ? 10 : -Carta.CARD_HEIGHT / 2 - 10;
-        int elementsPerRow = (bounds.width + paddingX) / Carta.CARD_WIDTH;
-        int rows = (int) Math.ceil(hand.size() / (double) elementsPerRow);
-        int startY = bounds.position.y + bounds.height / 2 - rows * (Carta.CARD_HEIGHT + paddingY) / 2;
-        int x = 0;
-        int y = 0;
-        int remainingElements = hand.size();
-        int rowXOffset = bounds.width / 2 - (int) (elementsPerRow * (Carta.CARD_WIDTH + paddingX) / 2.0);
-
-        // Verdadeiro quando há apenas uma linha não completa (usada para centralizar
-        // nessa linha).
-        if (remainingElements < elementsPerRow) {
-            rowXOffset = bounds.width / 2 - (int) (remainingElements * (Carta.CARD_WIDTH + paddingX) / 2.0);
+        layoutPerRow = (bounds.width + paddingX) / Carta.CARD_WIDTH;
+        layoutStepX = Carta.CARD_WIDTH + paddingX;
+        layoutFanned = handSize > layoutPerRow * MAX_HAND_ROWS;
+        if (layoutFanned) {
+            int rowWidth = layoutPerRow * layoutStepX;
+            layoutPerRow = (handSize + MAX_HAND_ROWS - 1) / MAX_HAND_ROWS;
+            layoutStepX = Math.max(1, rowWidth / layoutPerRow);
         }
-        for (Carta card : hand) {
-            // Aplica um deslocamento visual ao cartão pairado
-            int hoverOffset = (card == hoveredCard) ? -10 : 0;
-            card.position.setPosition(bounds.position.x + rowXOffset + x * (Carta.CARD_WIDTH + paddingX),
-                    startY + y * (Carta.CARD_HEIGHT + paddingY) + hoverOffset);
-            x++;
-            remainingElements--;
-            // Verifica a iteração para a próxima linha.
-            if (x >= elementsPerRow) {
-                x = 0;
-                y++;
-                rowXOffset = bounds.width / 2 - (int) (elementsPerRow * (Carta.CARD_WIDTH + paddingX) / 2.0);
-                // Assim que uma linha não completa for encontrada (usado para centralizar essa
-                // linha).
-                if (remainingElements < elementsPerRow) {
-                    rowXOffset = bounds.width / 2 - (int) (remainingElements * (Carta.CARD_WIDTH + paddingX) / 2.0);
-                }
+        layoutRows = (handSize + layoutPerRow - 1) / layoutPerRow;
+        layoutStepY = Carta.CARD_HEIGHT + paddingY;
+        layoutStartY = bounds.position.y + bounds.height / 2 - layoutRows * layoutStepY / 2;
+        // As linhas completas e a última linha incompleta são centralizadas pelo
+        // próprio número de cartas.
+        layoutFullRowX = bounds.position.x + bounds.width / 2 - (int) (layoutPerRow * layoutStepX / 2.0);
+        layoutLastRowX = bounds.position.x + bounds.width / 2
+                - (int) (handSize % layoutPerRow * layoutStepX / 2.0);
+
+        hoveredIndex = -1;
+        for (int i = 0; i < cardViews.size(); i++) {
+            if (cardViews.get(i) == hoveredCard) {
+                hoveredIndex = i;
             }
+            positionCard(i);
         }
     }
 
+    /**
+     * Posiciona uma carta de acordo com a disposição calculada, aplicando o
+     * deslocamento da carta em foco.
+     *
+     * @param index O índice da carta em cardViews.
+     */
+    private void positionCard(int index) {
+        int row = index / layoutPerRow;
+        int rowX = handSize - row * layoutPerRow < layoutPerRow ? layoutLastRowX : layoutFullRowX;
+        int hoverOffset = (index == hoveredIndex) ? -HOVER_OFFSET : 0;
+        cardViews.get(index).position.setPosition(rowX + (index % layoutPerRow) * layoutStepX,
+                layoutStartY + row * layoutStepY + hoverOffset);
+    }
+
     /**
      * Define o currentRoundScore e aumenta o totalScore nesse valor.
      *
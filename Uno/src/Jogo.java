@@ -1,4 +1,5 @@
 import javax.swing.*;
+import java.util.Arrays;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 
@@ -16,10 +17,11 @@ public class Jogo implements KeyListener {
     /**
      * Ponto de entrada para a aplicação criar uma instância da classe Game.
      *
-     * @param args Não usado.
+     * @param args Use --renderizacao-ativa para desenhar o jogo com uma
+     *             BufferStrategy em vez do Swing.
      */
     public static void main(String[] args) {
-        new Jogo();
+        new Jogo(Arrays.asList(args).contains("--renderizacao-ativa"));
     }
 
     /**
@@ -30,13 +32,16 @@ public class Jogo implements KeyListener {
     /**
      * Cria o JFrame com um GamePanel dentro dele, anexa um key listener,
      * e torna tudo visível.
+     *
+     * @param activeRendering Quando verdadeiro, o GamePanel desenha o jogo
+     *                        ativamente em vez de pelo Swing.
      */
-    public Jogo() {
+    public Jogo(boolean activeRendering) {
         JFrame frame = new JFrame("Uno");
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.setResizable(false);
 
-        gamePanel = new PainelJogo();
+        gamePanel = new PainelJogo(activeRendering);
         frame.getContentPane().add(gamePanel);
 
         frame.addKeyListener(this);
@@ -0,0 +1,350 @@
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Uno
+ *
+ * Classe LacoJogo:
+ * Executa a lógica do jogo em uma thread própria com um passo de tempo fixo.
+ * O tempo real é medido com System.nanoTime() e acumulado; para cada
+ * TIME_STEP acumulado é feita uma atualização, de forma que os cronômetros do
+ * jogo continuam corretos mesmo quando uma atualização ou a pintura demoram.
+ * Os eventos de mouse e teclado chegam da thread do Swing por uma fila e são
+ * aplicados no início de cada passo. A pintura continua na thread do Swing e
+ * usa o mesmo bloqueio para nunca ver o jogo no meio de uma atualização; com
+ * a renderização ativa o próprio laço desenha o quadro depois dos passos.
+ * Depois de cada quadro o painel informa o FrameMode: enquanto algo anima o
+ * laço acorda a cada passo; quando só animações lentas continuam ele acorda a
+ * cada THROTTLED_INTERVAL; e quando nada muda sem o usuário ele dorme até a
+ * próxima entrada, sem gastar CPU.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class LacoJogo implements Runnable {
+    /**
+     * Quanto o laço precisa acordar, da menor para a maior frequência.
+     */
+    public enum FrameMode {
+        /**
+         * Nada muda sem uma entrada do usuário; o laço dorme até a próxima.
+         */
+        Idle,
+        /**
+         * Só animações contínuas e lentas estão rodando; o laço acorda a cada
+         * THROTTLED_INTERVAL e executa os passos acumulados de uma vez.
+         */
+        Throttled,
+        /**
+         * Cronômetros ou animações estão rodando; o laço acorda a cada passo.
+         */
+        Animating
+    }
+
+    /**
+     * Duração em ms de cada passo lógico.
+     */
+    public static final int TIME_STEP = 20;
+    /**
+     * Duração em ns de cada passo lógico.
+     */
+    private static final long TIME_STEP_NANOS = TIME_STEP * 1_000_000L;
+    /**
+     * Máximo de passos executados de uma vez para recuperar o atraso. Além
+     * disso o tempo perdido é descartado para o laço não ficar cada vez mais
+     * atrasado.
+     */
+    private static final int MAX_CATCH_UP_STEPS = 10;
+    /**
+     * Número de durações de passo guardadas para calcular os percentis.
+     */
+    private static final int TICK_SAMPLE_COUNT = 256;
+    /**
+     * Intervalo em ns entre os cálculos das estatísticas.
+     */
+    private static final long STATS_INTERVAL_NANOS = 1_000_000_000L;
+    /**
+     * Intervalo em ms entre os quadros no modo Throttled.
+     */
+    public static final int THROTTLED_INTERVAL = 100;
+    /**
+     * Intervalo em ns entre os quadros no modo Throttled.
+     */
+    private static final long THROTTLED_INTERVAL_NANOS = THROTTLED_INTERVAL * 1_000_000L;
+
+    /**
+     * O painel cujas interfaces são atualizadas a cada passo.
+     */
+    private final PainelJogo painelJogo;
+    /**
+     * Eventos vindos da thread do Swing aguardando o próximo passo.
+     */
+    private final ConcurrentLinkedQueue<Runnable> pendingInput;
+    /**
+     * Bloqueio mantido durante cada passo e durante a pintura.
+     */
+    private final Object stateLock;
+    /**
+     * Durações dos últimos passos em ns, usadas como um buffer circular.
+     */
+    private final long[] tickSamples;
+    /**
+     * Posição do próximo valor em tickSamples.
+     */
+    private int tickSampleIndex;
+    /**
+     * Número de valores válidos em tickSamples.
+     */
+    private int tickSampleCount;
+    /**
+     * Passos executados por segundo na última medição.
+     */
+    private volatile double tickRate;
+    /**
+     * Percentil 50 da duração de um passo em ms na última medição.
+     */
+    private volatile double tickTimeP50;
+    /**
+     * Percentil 99 da duração de um passo em ms na última medição.
+     */
+    private volatile double tickTimeP99;
+    /**
+     * Quadros desenhados por segundo na última medição.
+     */
+    private volatile double frameRate;
+    /**
+     * O modo informado pelo painel depois do último quadro.
+     */
+    private volatile FrameMode frameMode;
+    /**
+     * A thread do laço, para poder acordá-la.
+     */
+    private Thread thread;
+    /**
+     * Verdadeiro quando alguém pediu para o laço acordar do modo Idle.
+     */
+    private volatile boolean wakeRequested;
+    /**
+     * Verdadeiro enquanto o laço deve continuar executando.
+     */
+    private volatile boolean running;
+
+    /**
+     * Prepara o laço para atualizar o painel especificado.
+     *
+     * @param painelJogo O painel a ser atualizado a cada passo.
+     */
+    public LacoJogo(PainelJogo painelJogo) {
+        this.painelJogo = painelJogo;
+        pendingInput = new ConcurrentLinkedQueue<>();
+        stateLock = new Object();
+        tickSamples = new long[TICK_SAMPLE_COUNT];
+        tickSampleIndex = tickSampleCount = 0;
+        frameMode = FrameMode.Animating;
+        running = false;
+    }
+
+    /**
+     * Inicia o laço em uma thread daemon.
+     */
+    public void start() {
+        running = true;
+        thread = new Thread(this, "LacoJogo");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Pede para o laço parar depois do passo atual.
+     */
+    public void stop() {
+        running = false;
+        wake();
+    }
+
+    /**
+     * Acorda o laço se ele estiver dormindo, para que o próximo quadro
+     * aconteça agora. Deve ser chamado quando o estado do jogo muda fora da
+     * thread do laço. Pode ser chamado de qualquer thread.
+     */
+    public void wake() {
+        wakeRequested = true;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Coloca um evento na fila para ser aplicado no início do próximo passo.
+     * Pode ser chamado de qualquer thread.
+     *
+     * @param input O evento a ser aplicado na thread do laço.
+     */
+    public void post(Runnable input) {
+        pendingInput.add(input);
+        wake();
+    }
+
+    /**
+     * Obtém o bloqueio mantido durante os passos. A pintura deve usá-lo para
+     * ler o estado do jogo.
+     *
+     * @return O objeto usado como bloqueio.
+     */
+    public Object getLock() {
+        return stateLock;
+    }
+
+    /**
+     * Obtém quantos passos foram executados por segundo na última medição.
+     *
+     * @return A taxa de passos alcançada.
+     */
+    public double getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Obtém a mediana da duração de um passo na última medição.
+     *
+     * @return O percentil 50 em ms.
+     */
+    public double getTickTimeP50() {
+        return tickTimeP50;
+    }
+
+    /**
+     * Obtém o percentil 99 da duração de um passo na última medição.
+     *
+     * @return O percentil 99 em ms.
+     */
+    public double getTickTimeP99() {
+        return tickTimeP99;
+    }
+
+    /**
+     * Obtém quantos quadros foram desenhados por segundo na última medição.
+     *
+     * @return A taxa de quadros alcançada.
+     */
+    public double getFrameRate() {
+        return frameRate;
+    }
+
+    /**
+     * Obtém o modo em que o laço está agendando os quadros.
+     *
+     * @return O modo informado pelo painel depois do último quadro.
+     */
+    public FrameMode getFrameMode() {
+        return frameMode;
+    }
+
+    /**
+     * Executa passos de TIME_STEP conforme o tempo real passa, recuperando o
+     * atraso quando necessário, até stop() ser chamado. Entre os quadros
+     * dorme de acordo com o FrameMode informado pelo painel.
+     */
+    @Override
+    public void run() {
+        long previousTime = System.nanoTime();
+        long accumulator = 0;
+        long statsStart = previousTime;
+        int ticksSinceStats = 0;
+        int framesSinceStats = 0;
+        while (running) {
+            wakeRequested = false;
+            long now = System.nanoTime();
+            accumulator += now - previousTime;
+            previousTime = now;
+            if (accumulator > MAX_CATCH_UP_STEPS * TIME_STEP_NANOS) {
+                accumulator = MAX_CATCH_UP_STEPS * TIME_STEP_NANOS;
+            }
+
+            synchronized (stateLock) {
+                Runnable input;
+                while ((input = pendingInput.poll()) != null) {
+                    input.run();
+                }
+                while (accumulator >= TIME_STEP_NANOS) {
+                    long tickStart = System.nanoTime();
+                    painelJogo.tick(TIME_STEP);
+                    recordTickTime(System.nanoTime() - tickStart);
+                    accumulator -= TIME_STEP_NANOS;
+                    ticksSinceStats++;
+                }
+                painelJogo.render();
+                frameMode = painelJogo.getFrameMode();
+            }
+            framesSinceStats++;
+
+            if (now - statsStart >= STATS_INTERVAL_NANOS) {
+                updateStats(ticksSinceStats, framesSinceStats, now - statsStart);
+                statsStart = now;
+                ticksSinceStats = 0;
+                framesSinceStats = 0;
+            }
+
+            if (frameMode == FrameMode.Idle) {
+                // Dormindo nenhum passo ou quadro acontece, então as taxas são zero
+                // até a próxima medição começar.
+                tickRate = frameRate = 0;
+                waitForWake();
+                // O tempo dormindo não é simulado; só um passo é feito para
+                // aplicar o que acordou o laço.
+                previousTime = statsStart = System.nanoTime();
+                ticksSinceStats = framesSinceStats = 0;
+                accumulator = TIME_STEP_NANOS;
+            } else {
+                long interval = frameMode == FrameMode.Animating ? TIME_STEP_NANOS : THROTTLED_INTERVAL_NANOS;
+                long sleepTime = interval - accumulator - (System.nanoTime() - now);
+                if (sleepTime > 0 && !wakeRequested) {
+                    LockSupport.parkNanos(this, sleepTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dorme até wake() ser chamado, seja por uma entrada, por uma mudança de
+     * interface ou por stop().
+     */
+    private void waitForWake() {
+        while (running && !wakeRequested) {
+            LockSupport.park(this);
+        }
+    }
+
+    /**
+     * Guarda a duração de um passo no buffer circular.
+     *
+     * @param tickTime A duração do passo em ns.
+     */
+    private void recordTickTime(long tickTime) {
+        tickSamples[tickSampleIndex] = tickTime;
+        tickSampleIndex = (tickSampleIndex + 1) % TICK_SAMPLE_COUNT;
+        if (tickSampleCount < TICK_SAMPLE_COUNT) {
+            tickSampleCount++;
+        }
+    }
+
+    /**
+     * Calcula as taxas de passos e de quadros e os percentis da duração dos
+     * passos.
+     *
+     * @param ticks       Passos executados desde a última medição.
+     * @param frames      Quadros desenhados desde a última medição.
+     * @param elapsedTime Tempo em ns desde a última medição.
+     */
+    private void updateStats(int ticks, int frames, long elapsedTime) {
+        tickRate = ticks * 1e9 / elapsedTime;
+        frameRate = frames * 1e9 / elapsedTime;
+        if (tickSampleCount == 0)
+            return;
+        long[] sorted = Arrays.copyOf(tickSamples, tickSampleCount);
+        Arrays.sort(sorted);
+        tickTimeP50 = sorted[(sorted.length - 1) / 2] / 1e6;
+        tickTimeP99 = sorted[(int) ((sorted.length - 1) * 0.99)] / 1e6;
+    }
+}
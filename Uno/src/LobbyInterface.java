@@ -68,6 +68,11 @@ public class LobbyInterface extends WndInterface {
      * Limite de pontuação para o jogo ser iniciado.
      */
     private String scoreLimitStr;
+    /**
+     * O fundo, o título e o texto das regras. É desenhada de novo quando uma
+     * regra muda.
+     */
+    private final CamadaEstatica rulesLayer;
 
     /**
      * Inicialize a interface com limites e habilite-a.
@@ -77,6 +82,7 @@ public class LobbyInterface extends WndInterface {
     public LobbyInterface(Retangulo bounds, PainelJogo gamePanel) {
         super(bounds);
         this.gamePanel = gamePanel;
+        rulesLayer = new CamadaEstatica(bounds, this::paintRules);
         List<String> aiNames = getRandomAINameList();
         playerList = new ArrayList<>();
         playerList.add(new LobbyPlayer("Jogador", Jogador.PlayerType.UnoJogador,
@@ -122,13 +128,23 @@ public class LobbyInterface extends WndInterface {
      */
     @Override
     public void paint(Graphics g) {
-        drawBackground(g);
-        gamePanel.paintUnoTitle(g, bounds);
+        rulesLayer.paint(g);
 
         // Draw interaction elements
         buttonList.forEach(button -> button.paint(g));
         playerList.forEach(lobbyPlayer -> lobbyPlayer.paint(g));
+    }
 
+    /**
+     * Desenha o fundo, o título e o texto das regras, que só mudam quando uma
+     * regra é alterada.
+     *
+     * @param g Referência ao objeto Graphics para renderização.
+     */
+    private void paintRules(Graphics g) {
+        drawBackground(g);
+        gamePanel.paintUnoTitle(g, bounds);
+        g.setColor(Color.BLACK);
         drawRuleText(g);
     }
 
@@ -176,8 +192,16 @@ public class LobbyInterface extends WndInterface {
         if (!isEnabled())
             return;
 
-        buttonList.forEach(button -> button.setHovering(button.isPositionInside(mousePosition)));
-        playerList.forEach(lobbyPlayer -> lobbyPlayer.updateHoverState(mousePosition));
+        for (Botao button : buttonList) {
+            if (button.setHovering(button.isPositionInside(mousePosition))) {
+                markDirty(button.getPaintBounds());
+            }
+        }
+        for (LobbyPlayer lobbyPlayer : playerList) {
+            if (lobbyPlayer.updateHoverState(mousePosition)) {
+                markDirty(lobbyPlayer);
+            }
+        }
     }
 
     /**
@@ -222,6 +246,7 @@ public class LobbyInterface extends WndInterface {
             case 9 -> cycleScoreLimit();
             case 10 -> resetRulesToDefault();
         }
+        rulesLayer.invalidate();
     }
 
     /**
@@ -12,10 +12,27 @@ import java.awt.*;
  * @versão 2023
  */
 public class LobbyPlayer extends Retangulo {
+    /**
+     * Fonte de todos os textos do jogador.
+     */
+    private static final Font LABEL_FONT = CacheTexto.getFont(Font.BOLD, 20);
+    /**
+     * Cor do fundo quando o mouse está sobre o jogador.
+     */
+    private static final Color HOVERED_COLOUR = new Color(115, 156, 58, 204);
+    /**
+     * Cor do fundo normal.
+     */
+    private static final Color BACKGROUND_COLOUR = new Color(118, 94, 57, 204);
+
     /**
      * O nome mostrado para o jogador.
      */
     private String playerName;
+    /**
+     * O nome desenhado, obtido de novo quando o nome muda.
+     */
+    private CacheTexto.Texto playerNameText;
     /**
      * O tipo de player (UnoJogador, AIJogador ou NetworkPlayer).
      */
@@ -25,9 +42,9 @@ public class LobbyPlayer extends Retangulo {
      */
     private AIJogador.AIStrategy aiStrategy;
     /**
-     * Uma String mostrando a versão em texto da estratégia.
+     * O texto mostrando a versão em texto da estratégia.
      */
-    private String strategyStr;
+    private CacheTexto.Texto strategyText;
     /**
      * Visível e incluído na coleção de jogadores quando verdadeiro.
      */
@@ -37,9 +54,13 @@ public class LobbyPlayer extends Retangulo {
      */
     private boolean isHovered;
     /**
-     * String representando o tipo de jogador.
+     * Texto representando o tipo de jogador.
      */
-    private final String playerTypeStr;
+    private final CacheTexto.Texto playerTypeText;
+    /**
+     * Texto explicando o que acontece ao clicar no jogador.
+     */
+    private final CacheTexto.Texto hintText;
 
     /**
      * Inicializa o objeto pronto para mostrar informações sobre o jogador.
@@ -51,12 +72,16 @@ public class LobbyPlayer extends Retangulo {
      */
     public LobbyPlayer(String playerName, Jogador.PlayerType playerType, Retangulo bounds) {
         super(bounds.position, bounds.width, bounds.height);
-        this.playerName = playerName;
         this.playerType = playerType;
+        setPlayerName(playerName);
         aiStrategy = AIJogador.AIStrategy.Aleatorio;
-        strategyStr = "Estratégia: " + aiStrategy.toString();
+        strategyText = createStrategyText();
         isEnabled = true;
-        playerTypeStr = playerType == Jogador.PlayerType.UnoJogador ? "Você:" : "Player IA:";
+        playerTypeText = CacheTexto.getText(playerType == Jogador.PlayerType.UnoJogador ? "Você:" : "Player IA:",
+                LABEL_FONT, Color.BLACK);
+        hintText = CacheTexto.getText(playerType == Jogador.PlayerType.AIJogador
+                ? "(Estratégias de clique para pedalar)"
+                : "(Clique para mudar seu nome)", LABEL_FONT, Color.BLACK);
     }
 
     /**
@@ -66,6 +91,7 @@ public class LobbyPlayer extends Retangulo {
      */
     public void setPlayerName(String playerName) {
         this.playerName = playerName;
+        playerNameText = CacheTexto.getText(playerName, LABEL_FONT, Color.BLACK);
     }
 
     /**
@@ -157,9 +183,19 @@ public class LobbyPlayer extends Retangulo {
             case Aleatorio -> aiStrategy = AIJogador.AIStrategy.Ofensivo;
             case Ofensivo -> aiStrategy = AIJogador.AIStrategy.Defensivo;
             case Defensivo -> aiStrategy = AIJogador.AIStrategy.Caotico;
-            case Caotico -> aiStrategy = AIJogador.AIStrategy.Aleatorio;
+            case Caotico -> aiStrategy = AIJogador.AIStrategy.Busca;
+            case Busca -> aiStrategy = AIJogador.AIStrategy.Aleatorio;
         }
-        strategyStr = "Estratégia: " + aiStrategy.toString();
+        strategyText = createStrategyText();
+    }
+
+    /**
+     * Obtém do cache o texto da estratégia atual.
+     *
+     * @return O texto pronto para ser pintado.
+     */
+    private CacheTexto.Texto createStrategyText() {
+        return CacheTexto.getText("Estratégia: " + aiStrategy.toString(), LABEL_FONT, Color.BLACK);
     }
 
     /**
@@ -173,24 +209,19 @@ public class LobbyPlayer extends Retangulo {
         if (!isEnabled)
             return;
 
-        if (isHovered) {
-            g.setColor(new Color(115, 156, 58, 204));
-        } else {
-            g.setColor(new Color(118, 94, 57, 204));
-        }
+        g.setColor(isHovered ? HOVERED_COLOUR : BACKGROUND_COLOUR);
         g.fillRect(position.x, position.y, width, height);
         g.setColor(Color.BLACK);
         g.drawRect(position.x, position.y, width, height);
 
-        g.setFont(new Font("Arial", Font.BOLD, 20));
-        g.drawString(playerTypeStr, position.x + 20, position.y + 50);
-        g.drawString(playerName, position.x + 120, position.y + 50);
+        playerTypeText.paint(g, position.x + 20, position.y + 50);
+        playerNameText.paint(g, position.x + 120, position.y + 50);
 
         if (playerType == Jogador.PlayerType.AIJogador) {
-            g.drawString(strategyStr, position.x + 300, position.y + 50);
-            g.drawString("(Estratégias de clique para pedalar)", position.x + 300, position.y + 75);
+            strategyText.paint(g, position.x + 300, position.y + 50);
+            hintText.paint(g, position.x + 300, position.y + 75);
         } else {
-            g.drawString("(Clique para mudar seu nome)", position.x + 300, position.y + 50);
+            hintText.paint(g, position.x + 300, position.y + 50);
         }
     }
 
@@ -198,8 +229,11 @@ public class LobbyPlayer extends Retangulo {
      * Atualiza o estado pairado do objeto de botão com base em onde o mouse está.
      *
      * @param mousePosition Posição do mouse.
+     * @return Verdadeiro se o estado mudou e o jogador precisa ser redesenhado.
      */
-    public void updateHoverState(Posicao mousePosition) {
+    public boolean updateHoverState(Posicao mousePosition) {
+        boolean wasHovered = isHovered;
         isHovered = isPositionInside(mousePosition);
+        return wasHovered != isHovered;
     }
 }
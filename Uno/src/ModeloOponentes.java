@@ -0,0 +1,554 @@
+import java.util.Arrays;
+
+/**
+ * Uno
+ *
+ * Classe ModeloOponentes:
+ * Estima o que cada oponente de uma IA tem na mão a partir apenas do que a
+ * IA pode ver: as cartas jogadas, quantas cartas cada um comprou, as vezes em
+ * que um jogador comprou em vez de jogar (ele não tinha a cor nem a face do
+ * topo) e os desafios de +4 que falharam (quem jogou o +4 não tinha a cor nem
+ * a face anterior). As cartas de um oponente que podem ter uma cor ou face
+ * são tratadas como sorteadas entre as cartas não vistas pela IA, que são o
+ * baralho completo menos a pilha de cartas jogadas e a própria mão.
+ *
+ * Cada evento custa tempo constante: as cartas jogadas são contadas por cor,
+ * face e combinação das duas, e uma cor ou face que o jogador mostrou não ter
+ * é guardada como o número de cartas que ele tinha comprado naquele momento,
+ * de forma que as compras seguintes não precisam atualizar nada. Só a
+ * devolução da pilha de cartas jogadas ao baralho e a passagem de todas as
+ * mãos percorrem arrays, e ambas são raras.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class ModeloOponentes implements OuvinteJogo {
+    /**
+     * Marca de uma cor ou face sobre a qual não se sabe nada além do tamanho
+     * da mão.
+     */
+    private static final int UNKNOWN = -1;
+    /**
+     * Quantidade de cartas de cada colourID em um baralho completo.
+     */
+    private static final int[] COLOUR_TOTALS = { 25, 25, 25, 25, 8 };
+    /**
+     * Quantidade de cartas de cada faceValueID em um baralho completo.
+     */
+    private static final int[] FACE_VALUE_TOTALS = { 4, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 4, 4 };
+
+    /**
+     * A IA dona deste modelo. Sua mão conta como vista.
+     */
+    private final Jogador owner;
+    /**
+     * A partida observada, ou nula antes de attach.
+     */
+    private MotorJogo game;
+    /**
+     * Cartas vistas na pilha de cartas jogadas (incluindo o topo) por colourID;
+     * curingas e +4 contam como CodigoCarta.WILD_COLOUR.
+     */
+    private final int[] publicColourCounts;
+    /**
+     * Cartas vistas na pilha de cartas jogadas por faceValueID.
+     */
+    private final int[] publicFaceValueCounts;
+    /**
+     * Cartas vistas na pilha de cartas jogadas por combinação, no índice
+     * faceValueID * CodigoCarta.COLOUR_COUNT + colourID.
+     */
+    private final int[] publicCardCounts;
+    /**
+     * Total de cartas vistas na pilha de cartas jogadas.
+     */
+    private int publicCount;
+    /**
+     * Número de cartas compradas por cada jogador nesta rodada, indexado pela
+     * posição da mão (acompanha a mão nas trocas).
+     */
+    private int[] drawnCounts;
+    /**
+     * Para cada jogador e colourID, no índice playerID *
+     * CodigoCarta.COLOUR_COUNT + colourID, o valor de drawnCounts quando o
+     * jogador mostrou não ter a cor, ou UNKNOWN. A diferença entre os dois é o
+     * número de cartas da mão que podem ter a cor.
+     */
+    private int[] colourVoidAt;
+    /**
+     * O mesmo que colourVoidAt para cada faceValueID, no índice playerID *
+     * CodigoCarta.FACE_VALUE_COUNT + faceValueID.
+     */
+    private int[] faceValueVoidAt;
+    /**
+     * O jogador que colocou a carta do topo, ou -1.
+     */
+    private int lastPlacerID;
+    /**
+     * O valor de drawnCounts de lastPlacerID quando ele colocou a carta do
+     * topo. Um desafio é resolvido depois, e nesse meio tempo ele pode ter
+     * comprado cartas por não dizer UNO.
+     */
+    private int lastPlacerDrawnCount;
+    /**
+     * Linha temporária usada para girar e trocar as linhas dos arrays por
+     * jogador.
+     */
+    private final int[] rowBuffer;
+
+    /**
+     * Cria um modelo vazio para a IA indicada. Ele passa a observar uma
+     * partida com attach.
+     *
+     * @param owner O jogador que usa o modelo.
+     */
+    public ModeloOponentes(Jogador owner) {
+        this.owner = owner;
+        publicColourCounts = new int[CodigoCarta.COLOUR_COUNT];
+        publicFaceValueCounts = new int[CodigoCarta.FACE_VALUE_COUNT];
+        publicCardCounts = new int[CodigoCarta.FACE_VALUE_COUNT * CodigoCarta.COLOUR_COUNT];
+        rowBuffer = new int[CodigoCarta.FACE_VALUE_COUNT];
+        lastPlacerID = -1;
+    }
+
+    /**
+     * Passa a observar a partida indicada, se ainda não for a atual. O modelo
+     * recomeça a partir do que está visível: a pilha de cartas jogadas e o
+     * tamanho das mãos, sem nada conhecido sobre as cores e faces. Chamado a
+     * cada atualização da IA; quando a partida é a mesma, não faz nada.
+     *
+     * @param game A partida da qual a IA participa.
+     */
+    public void attach(MotorJogo game) {
+        if (this.game == game) {
+            return;
+        }
+        this.game = game;
+        int playerCount = game.getAllPlayers().size();
+        if (drawnCounts == null || drawnCounts.length != playerCount) {
+            drawnCounts = new int[playerCount];
+            colourVoidAt = new int[playerCount * CodigoCarta.COLOUR_COUNT];
+            faceValueVoidAt = new int[playerCount * CodigoCarta.FACE_VALUE_COUNT];
+        }
+        Arrays.fill(drawnCounts, 0);
+        Arrays.fill(colourVoidAt, UNKNOWN);
+        Arrays.fill(faceValueVoidAt, UNKNOWN);
+        recountPublicCards();
+        lastPlacerID = -1;
+        game.getEvents().subscribe(this);
+    }
+
+    /**
+     * Estima a chance de o jogador ter pelo menos uma carta do colourID.
+     *
+     * @param playerID O oponente.
+     * @param colourID A cor (CodigoCarta.WILD_COLOUR para curingas e +4).
+     * @return Uma probabilidade entre 0 e 1.
+     */
+    public double getColourProbability(int playerID, int colourID) {
+        int unknown = getUnknownCount(playerID, colourVoidAt[playerID * CodigoCarta.COLOUR_COUNT + colourID]);
+        return 1 - getMissProbability(getUnseenColourCount(colourID), unknown);
+    }
+
+    /**
+     * Estima a chance de o jogador ter pelo menos uma carta do faceValueID.
+     *
+     * @param playerID    O oponente.
+     * @param faceValueID A face.
+     * @return Uma probabilidade entre 0 e 1.
+     */
+    public double getFaceValueProbability(int playerID, int faceValueID) {
+        int unknown = getUnknownCount(playerID,
+                faceValueVoidAt[playerID * CodigoCarta.FACE_VALUE_COUNT + faceValueID]);
+        return 1 - getMissProbability(getUnseenFaceValueCount(faceValueID), unknown);
+    }
+
+    /**
+     * Estima a chance de o jogador ter uma carta que não seja curinga nem +4 e
+     * que possa ser jogada sobre a face e a cor indicadas, que é o que um
+     * desafio de +4 verifica.
+     *
+     * @param playerID    O oponente.
+     * @param faceValueID A face da carta de referência.
+     * @param colourID    A cor da carta de referência.
+     * @return Uma probabilidade entre 0 e 1.
+     */
+    public double getColouredMatchProbability(int playerID, int faceValueID, int colourID) {
+        double noMatch = 1;
+        if (colourID < CodigoCarta.WILD_COLOUR) {
+            noMatch *= getMissProbability(getUnseenColourCount(colourID), getUnknownCount(playerID,
+                    colourVoidAt[playerID * CodigoCarta.COLOUR_COUNT + colourID]));
+        }
+        if (faceValueID < 13) {
+            int otherColours = getUnseenFaceValueCount(faceValueID);
+            if (colourID < CodigoCarta.WILD_COLOUR) {
+                otherColours -= getUnseenCardCount(faceValueID, colourID);
+            }
+            noMatch *= getMissProbability(otherColours, getUnknownCount(playerID,
+                    faceValueVoidAt[playerID * CodigoCarta.FACE_VALUE_COUNT + faceValueID]));
+        }
+        return 1 - noMatch;
+    }
+
+    /**
+     * Verifica se uma mão sorteada para o oponente respeita o que o modelo
+     * sabe: de cada cor e de cada face que ele mostrou não ter, a mão só pode
+     * ter as cartas compradas depois disso. Usado pelo SolucionadorFinal para
+     * descartar sorteios impossíveis.
+     *
+     * @param state    Um estado com a mão sorteada.
+     * @param playerID O oponente.
+     * @return Verdadeiro se a mão é possível.
+     */
+    public boolean isPossibleHand(EstadoJogo state, int playerID) {
+        int handSize = state.getHandSize(playerID);
+        for (int i = 0; i < handSize; i++) {
+            int colourID = CodigoCarta.getColourID(state.getCard(playerID, i));
+            int faceValueID = CodigoCarta.getFaceValueID(state.getCard(playerID, i));
+            int colourCount = 0, faceValueCount = 0;
+            for (int j = 0; j < handSize; j++) {
+                int card = state.getCard(playerID, j);
+                if (CodigoCarta.getColourID(card) == colourID)
+                    colourCount++;
+                if (CodigoCarta.getFaceValueID(card) == faceValueID)
+                    faceValueCount++;
+            }
+            if (colourCount > getUnknownCount(playerID, colourVoidAt[playerID * CodigoCarta.COLOUR_COUNT + colourID])
+                    || faceValueCount > getUnknownCount(playerID,
+                            faceValueVoidAt[playerID * CodigoCarta.FACE_VALUE_COUNT + faceValueID])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtém o jogador que colocou a carta do topo.
+     *
+     * @return O playerID, ou -1 se nenhuma carta foi colocada desde attach.
+     */
+    public int getLastPlacerID() {
+        return lastPlacerID;
+    }
+
+    /**
+     * Conta a carta como vista. Se um oponente a jogou, ela foi uma das
+     * cartas da mão que podiam ter a sua cor e face.
+     *
+     * @param card A carta codificada que acabou de ser colocada.
+     */
+    @Override
+    public void onCardPlaced(int card) {
+        countPublicCard(card);
+        lastPlacerID = game.getCurrentPlayerID();
+        lastPlacerDrawnCount = drawnCounts[lastPlacerID];
+        if (lastPlacerID == owner.getPlayerID()) {
+            return;
+        }
+        int faceValueID = CodigoCarta.getFaceValueID(card);
+        int colourID = faceValueID >= 13 ? CodigoCarta.WILD_COLOUR : CodigoCarta.getColourID(card);
+        consumeUnknown(colourVoidAt, lastPlacerID, lastPlacerID * CodigoCarta.COLOUR_COUNT + colourID);
+        consumeUnknown(faceValueVoidAt, lastPlacerID, lastPlacerID * CodigoCarta.FACE_VALUE_COUNT + faceValueID);
+    }
+
+    /**
+     * Conta uma carta comprada por um oponente, sem olhar qual é. Se o
+     * baralho acabou de receber de volta a pilha de cartas jogadas, só o
+     * histórico da mesa continua visto.
+     *
+     * @param playerID O jogador que comprou a carta.
+     * @param card     A carta codificada comprada (ignorada).
+     */
+    @Override
+    public void onCardDrawn(int playerID, int card) {
+        if (publicCount > game.getRecentCardCount() && game.getDeck().getDiscardPileSize() == 0) {
+            recountPublicCards();
+        }
+        if (playerID != owner.getPlayerID()) {
+            drawnCounts[playerID]++;
+        }
+    }
+
+    /**
+     * Um oponente que compra em vez de jogar não tinha a cor nem a face do
+     * topo, nem curingas.
+     *
+     * @param playerID O jogador que vai comprar.
+     */
+    @Override
+    public void onDrawForTurn(int playerID) {
+        if (playerID == owner.getPlayerID()) {
+            return;
+        }
+        int topCard = game.getTopCard();
+        int faceValueID = CodigoCarta.getFaceValueID(topCard);
+        int colourID = CodigoCarta.getColourID(topCard);
+        if (colourID < CodigoCarta.WILD_COLOUR) {
+            markColourVoid(playerID, colourID);
+        }
+        if (faceValueID < 13) {
+            markFaceValueVoid(playerID, faceValueID);
+        }
+        markColourVoid(playerID, CodigoCarta.WILD_COLOUR);
+        markFaceValueVoid(playerID, 13);
+        markFaceValueVoid(playerID, 14);
+    }
+
+    /**
+     * Um desafio que falhou mostra que quem jogou o +4 não tinha a cor nem a
+     * face da carta que estava embaixo dele.
+     *
+     * @param overlayType A sobreposição a ser mostrada.
+     * @param playerID    O jogador sobre o qual ela aparece.
+     * @param value       Valor extra da sobreposição.
+     */
+    @Override
+    public void showGeneralOverlay(OverlayType overlayType, int playerID, int value) {
+        if (overlayType != OverlayType.ChallengeFailed || lastPlacerID == -1
+                || lastPlacerID == owner.getPlayerID()) {
+            return;
+        }
+        int cardBeforeTop = game.getCardBeforeTop();
+        if (cardBeforeTop == CodigoCarta.NO_CARD) {
+            return;
+        }
+        int colourID = CodigoCarta.getColourID(cardBeforeTop);
+        if (colourID < CodigoCarta.WILD_COLOUR) {
+            colourVoidAt[lastPlacerID * CodigoCarta.COLOUR_COUNT + colourID] = lastPlacerDrawnCount;
+        }
+        int faceValueID = CodigoCarta.getFaceValueID(cardBeforeTop);
+        if (faceValueID < 13) {
+            faceValueVoidAt[lastPlacerID * CodigoCarta.FACE_VALUE_COUNT + faceValueID] = lastPlacerDrawnCount;
+        }
+    }
+
+    /**
+     * As estimativas acompanham as mãos trocadas. Quem recebe a mão da IA
+     * passa a ter exatamente as cores e faces que ela tinha.
+     *
+     * @param playerID      O jogador que jogou o 7.
+     * @param otherPlayerID O jogador escolhido para a troca.
+     */
+    @Override
+    public void onHandsSwapped(int playerID, int otherPlayerID) {
+        int ownerID = owner.getPlayerID();
+        if (playerID == ownerID || otherPlayerID == ownerID) {
+            setKnownHand(playerID == ownerID ? otherPlayerID : playerID);
+            return;
+        }
+        swapRows(drawnCounts, 1, playerID, otherPlayerID);
+        swapRows(colourVoidAt, CodigoCarta.COLOUR_COUNT, playerID, otherPlayerID);
+        swapRows(faceValueVoidAt, CodigoCarta.FACE_VALUE_COUNT, playerID, otherPlayerID);
+    }
+
+    /**
+     * As estimativas giram junto com as mãos. Quem recebe a mão da IA passa a
+     * ter exatamente as cores e faces que ela tinha.
+     */
+    @Override
+    public void onHandsPassed() {
+        boolean increasing = game.isIncreasing();
+        rotateRows(drawnCounts, 1, increasing);
+        rotateRows(colourVoidAt, CodigoCarta.COLOUR_COUNT, increasing);
+        rotateRows(faceValueVoidAt, CodigoCarta.FACE_VALUE_COUNT, increasing);
+        int playerCount = drawnCounts.length;
+        int receiverID = (owner.getPlayerID() + (increasing ? playerCount - 1 : 1)) % playerCount;
+        setKnownHand(receiverID);
+    }
+
+    /**
+     * Obtém quantas cartas da mão do jogador podem ter a cor ou face de um
+     * registro de colourVoidAt ou faceValueVoidAt.
+     *
+     * @param playerID O oponente.
+     * @param voidAt   O valor registrado para a cor ou face.
+     * @return O tamanho da mão, ou as cartas compradas desde o registro se
+     *         forem menos.
+     */
+    private int getUnknownCount(int playerID, int voidAt) {
+        int handSize = game.getPlayerByID(playerID).getHandSize();
+        return voidAt == UNKNOWN ? handSize : Math.min(handSize, drawnCounts[playerID] - voidAt);
+    }
+
+    /**
+     * Chance de nenhuma de unknown cartas sorteadas entre as não vistas ser
+     * uma das matching cartas procuradas.
+     *
+     * @param matching Cartas não vistas com a cor ou face procurada.
+     * @param unknown  Cartas da mão que podem ser uma delas.
+     * @return Uma probabilidade entre 0 e 1.
+     */
+    private double getMissProbability(int matching, int unknown) {
+        int unseen = game.getDeck().getTotalCards() - publicCount - owner.getHandSize();
+        if (matching <= 0 || unknown <= 0 || unseen <= 0) {
+            return 1;
+        }
+        return Math.pow(1 - Math.min(1.0, (double) matching / unseen), unknown);
+    }
+
+    /**
+     * Obtém o número de cartas do colourID que a IA ainda não viu.
+     *
+     * @param colourID A cor.
+     * @return O número de cartas.
+     */
+    private int getUnseenColourCount(int colourID) {
+        return Math.max(0, COLOUR_TOTALS[colourID] - publicColourCounts[colourID]
+                - owner.getColourCount(colourID));
+    }
+
+    /**
+     * Obtém o número de cartas do faceValueID que a IA ainda não viu.
+     *
+     * @param faceValueID A face.
+     * @return O número de cartas.
+     */
+    private int getUnseenFaceValueCount(int faceValueID) {
+        return Math.max(0, FACE_VALUE_TOTALS[faceValueID]
+                - publicFaceValueCounts[faceValueID] - owner.getFaceValueCount(faceValueID));
+    }
+
+    /**
+     * Obtém o número de cartas com a face e a cor que a IA ainda não viu.
+     *
+     * @param faceValueID A face (menor que 13).
+     * @param colourID    A cor (menor que CodigoCarta.WILD_COLOUR).
+     * @return O número de cartas.
+     */
+    private int getUnseenCardCount(int faceValueID, int colourID) {
+        int total = faceValueID == 0 ? 1 : 2;
+        return Math.max(0, total
+                - publicCardCounts[faceValueID * CodigoCarta.COLOUR_COUNT + colourID]
+                - owner.getCardCount(faceValueID, colourID));
+    }
+
+    /**
+     * Conta de novo as cartas vistas a partir da pilha de descarte do baralho
+     * e do histórico de cartas na mesa.
+     */
+    private void recountPublicCards() {
+        Arrays.fill(publicColourCounts, 0);
+        Arrays.fill(publicFaceValueCounts, 0);
+        Arrays.fill(publicCardCounts, 0);
+        publicCount = 0;
+        Deck deck = game.getDeck();
+        int[] discardPile = new int[deck.getDiscardPileSize()];
+        deck.copyDiscardPile(discardPile);
+        for (int card : discardPile) {
+            countPublicCard(card);
+        }
+        int[] recentCards = new int[MotorJogo.MAX_CARD_HISTORY];
+        int recentCount = game.copyRecentCards(recentCards);
+        for (int i = 0; i < recentCount; i++) {
+            countPublicCard(recentCards[i]);
+        }
+    }
+
+    /**
+     * Conta uma carta como vista na pilha de cartas jogadas.
+     *
+     * @param card A carta codificada.
+     */
+    private void countPublicCard(int card) {
+        int faceValueID = CodigoCarta.getFaceValueID(card);
+        int colourID = faceValueID >= 13 ? CodigoCarta.WILD_COLOUR : CodigoCarta.getColourID(card);
+        publicColourCounts[colourID]++;
+        publicFaceValueCounts[faceValueID]++;
+        publicCardCounts[faceValueID * CodigoCarta.COLOUR_COUNT + colourID]++;
+        publicCount++;
+    }
+
+    /**
+     * Registra que o jogador não tem nenhuma carta do colourID agora.
+     *
+     * @param playerID O oponente.
+     * @param colourID A cor.
+     */
+    private void markColourVoid(int playerID, int colourID) {
+        colourVoidAt[playerID * CodigoCarta.COLOUR_COUNT + colourID] = drawnCounts[playerID];
+    }
+
+    /**
+     * Registra que o jogador não tem nenhuma carta do faceValueID agora.
+     *
+     * @param playerID    O oponente.
+     * @param faceValueID A face.
+     */
+    private void markFaceValueVoid(int playerID, int faceValueID) {
+        faceValueVoidAt[playerID * CodigoCarta.FACE_VALUE_COUNT + faceValueID] = drawnCounts[playerID];
+    }
+
+    /**
+     * Desconta uma carta jogada das cartas que podiam ter a cor ou face. Se
+     * nenhuma podia, o registro estava errado (por exemplo, um jogador humano
+     * que comprou podendo jogar) e é esquecido.
+     *
+     * @param voidAt   colourVoidAt ou faceValueVoidAt.
+     * @param playerID O oponente que jogou a carta.
+     * @param index    O índice do jogador e da cor ou face.
+     */
+    private void consumeUnknown(int[] voidAt, int playerID, int index) {
+        if (voidAt[index] == UNKNOWN) {
+            return;
+        }
+        if (drawnCounts[playerID] > voidAt[index]) {
+            voidAt[index]++;
+        } else {
+            voidAt[index] = UNKNOWN;
+        }
+    }
+
+    /**
+     * Registra que o jogador recebeu a mão atual da IA: ele não tem as cores
+     * e faces que ela não tem, e pode ter as demais.
+     *
+     * @param playerID O jogador que recebe a mão da IA.
+     */
+    private void setKnownHand(int playerID) {
+        for (int colourID = 0; colourID < CodigoCarta.COLOUR_COUNT; colourID++) {
+            colourVoidAt[playerID * CodigoCarta.COLOUR_COUNT + colourID] = owner.getColourCount(colourID) == 0
+                    ? drawnCounts[playerID]
+                    : UNKNOWN;
+        }
+        for (int faceValueID = 0; faceValueID < CodigoCarta.FACE_VALUE_COUNT; faceValueID++) {
+            faceValueVoidAt[playerID * CodigoCarta.FACE_VALUE_COUNT + faceValueID] = owner
+                    .getFaceValueCount(faceValueID) == 0 ? drawnCounts[playerID] : UNKNOWN;
+        }
+    }
+
+    /**
+     * Troca as linhas de dois jogadores em um array por jogador.
+     *
+     * @param values    O array com rowLength valores por jogador.
+     * @param rowLength Valores por jogador.
+     * @param playerA   Um dos jogadores.
+     * @param playerB   O outro jogador.
+     */
+    private void swapRows(int[] values, int rowLength, int playerA, int playerB) {
+        System.arraycopy(values, playerA * rowLength, rowBuffer, 0, rowLength);
+        System.arraycopy(values, playerB * rowLength, values, playerA * rowLength, rowLength);
+        System.arraycopy(rowBuffer, 0, values, playerB * rowLength, rowLength);
+    }
+
+    /**
+     * Gira as linhas de um array por jogador como as mãos em passAllHands:
+     * com a direção crescente cada jogador recebe a linha do seguinte, caso
+     * contrário a do anterior.
+     *
+     * @param values     O array com rowLength valores por jogador.
+     * @param rowLength  Valores por jogador.
+     * @param increasing A direção do jogo.
+     */
+    private void rotateRows(int[] values, int rowLength, boolean increasing) {
+        int last = values.length - rowLength;
+        if (increasing) {
+            System.arraycopy(values, 0, rowBuffer, 0, rowLength);
+            System.arraycopy(values, rowLength, values, 0, last);
+            System.arraycopy(rowBuffer, 0, values, last, rowLength);
+        } else {
+            System.arraycopy(values, last, rowBuffer, 0, rowLength);
+            System.arraycopy(values, 0, values, rowLength, last);
+            System.arraycopy(rowBuffer, 0, values, 0, rowLength);
+        }
+    }
+}
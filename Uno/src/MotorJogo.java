@@ -0,0 +1,826 @@
+import java.util.List;
+
+/**
+ * Uno
+ *
+ * Classe MotorJogo:
+ * Define o estado completo de uma rodada (baralho, jogadores, ordem dos
+ * turnos e regras) e executa as sequências de TurnAction sem depender de
+ * nenhum elemento visual. Várias instâncias podem existir ao mesmo tempo, o
+ * que permite simular partidas sem uma janela aberta.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class MotorJogo {
+    /**
+     * Tempo simulado entre atualizações quando o jogo é executado sem
+     * interface. Igual ao atraso de um AIJogador para que cada atualização
+     * permita uma ação.
+     */
+    public static final int HEADLESS_UPDATE_TIME = 1500;
+    /**
+     * Número máximo de cartas mantidas no histórico de cartas jogadas.
+     */
+    public static final int MAX_CARD_HISTORY = 10;
+
+    /**
+     * O baralho de cartas pronto para receber cartas.
+     */
+    private final Deck deck;
+    /**
+     * Um histórico das cartas codificadas que foram jogadas, da mais antiga
+     * para a mais recente, nas posições [0, recentCardCount).
+     */
+    private final int[] recentCards;
+    /**
+     * Número de cartas no histórico.
+     */
+    private int recentCardCount;
+    /**
+     * Todos os jogadores que estão jogando atualmente, incluindo suas mãos.
+     */
+    private final List<Jogador> players;
+    /**
+     * As regras que definem as ações das cartas e como o jogo é jogado.
+     */
+    private final ConjuntoRegras ruleSet;
+    /**
+     * Repassa os eventos do jogo para os ouvintes inscritos.
+     */
+    private final BarramentoEventos events;
+    /**
+     * Os fluxos de números aleatórios desta partida.
+     */
+    private final AleatorioJogo random;
+    /**
+     * O jogador atual que está no controle das ações.
+     */
+    private int currentPlayerID;
+    /**
+     * Aumentar a ordem de rotação (verdadeiro) significa sentido horário, ou falso
+     * seria sentido anti-horário.
+     */
+    private boolean isIncreasing;
+    /**
+     * A sequência de TurnActions sendo executada atualmente.
+     */
+    private TurnActionFactory.TurnSequence currentTurnAction;
+    /**
+     * Uma ação na fila para começar assim que a ação atual terminar.
+     */
+    private TurnActionFactory.TurnSequence queuedTurnAction;
+    /**
+     * O jogador que esvaziou a mão, ou nulo enquanto a rodada continua.
+     */
+    private Jogador roundWinner;
+    /**
+     * Número de turnos iniciados nesta rodada (jogadas, compras e saltos).
+     */
+    private int turnCount;
+    /**
+     * Quando verdadeiro, a saída é mostrada para cada transição na sequência
+     * TurnAction.
+     */
+    private boolean debugShowTaskActionNotes;
+    /**
+     * Quando verdadeiro, a sequência inteira de TurnAction é mostrada em árvore
+     * quando setCurrentTurnAction é usado.
+     */
+    private boolean debugShowTreeOnNewAction;
+
+    /**
+     * Prepara uma nova rodada: esvazia e distribui 7 cartas para cada jogador,
+     * escolhe o primeiro jogador e a direção aleatoriamente e vira a primeira
+     * carta.
+     *
+     * @param players  Jogadores da rodada. Os IDs devem corresponder às posições
+     *                 na lista.
+     * @param ruleSet  A definição das regras de como o jogo será jogado.
+     * @param listener Inscrito no barramento de eventos. Pode ser nulo para
+     *                 começar sem inscritos.
+     */
+    public MotorJogo(List<Jogador> players, ConjuntoRegras ruleSet, OuvinteJogo listener) {
+        this(players, ruleSet, listener, new AleatorioJogo());
+    }
+
+    /**
+     * Prepara uma nova rodada usando os fluxos aleatórios indicados. A mesma
+     * semente, os mesmos jogadores e as mesmas regras reproduzem a mesma
+     * rodada.
+     *
+     * @param players  Jogadores da rodada. Os IDs devem corresponder às posições
+     *                 na lista.
+     * @param ruleSet  A definição das regras de como o jogo será jogado.
+     * @param listener Inscrito no barramento de eventos. Pode ser nulo para
+     *                 começar sem inscritos.
+     * @param random   Os fluxos de números aleatórios desta partida.
+     */
+    public MotorJogo(List<Jogador> players, ConjuntoRegras ruleSet, OuvinteJogo listener, AleatorioJogo random) {
+        this.players = players;
+        this.ruleSet = ruleSet;
+        events = new BarramentoEventos();
+        if (listener != null) {
+            events.subscribe(listener);
+        }
+        this.random = random;
+        deck = new Deck(random.getShuffleRandom());
+        recentCards = new int[MAX_CARD_HISTORY];
+        recentCardCount = 0;
+        for (Jogador player : players) {
+            // Esvaziar a mão é necessário caso esta seja uma sequência contínua de
+            // rodadas.
+            player.emptyHand();
+            for (int i = 0; i < 7; i++) {
+                player.addCardToHand(deck.drawCard());
+            }
+        }
+        currentPlayerID = random.getShuffleRandom().nextInt(players.size());
+        isIncreasing = random.getShuffleRandom().nextBoolean();
+        forcePlayCard(deck.drawCard());
+        currentTurnAction = null;
+        roundWinner = null;
+        turnCount = 0;
+    }
+
+    /**
+     * Executa a ação de turno atual até a próxima decisão, atualiza os jogadores e
+     * verifica se a rodada terminou. Não faz nada depois do fim da rodada.
+     *
+     * @param deltaTime Tempo desde a última atualização.
+     */
+    public void update(int deltaTime) {
+        if (isRoundOver())
+            return;
+
+        updateTurnAction();
+        if (isRoundOver())
+            return;
+        for (Jogador player : players) {
+            player.update(this, deltaTime);
+        }
+        checkForEndOfRound();
+    }
+
+    /**
+     * Atualiza o jogo em passos de HEADLESS_UPDATE_TIME até a rodada terminar.
+     * Usado para jogar partidas inteiras sem interface com apenas AIJogadors.
+     *
+     * @param maxUpdates Limite de atualizações para evitar uma rodada sem fim.
+     * @return Verdadeiro se a rodada terminou dentro do limite.
+     */
+    public boolean playUntilRoundEnds(int maxUpdates) {
+        for (int i = 0; i < maxUpdates && !isRoundOver(); i++) {
+            update(HEADLESS_UPDATE_TIME);
+        }
+        return isRoundOver();
+    }
+
+    /**
+     * Obtém o número de turnos iniciados nesta rodada. Um turno começa quando
+     * uma sequência de ações é definida sem outra em andamento, ou em um salto.
+     *
+     * @return O número de turnos até agora.
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Verifica se existe atualmente um jogador que ganhou o jogo e aplica as
+     * pontuações da rodada uma vez encontrado.
+     */
+    private void checkForEndOfRound() {
+        for (Jogador player : players) {
+            if (player.getHandSize() == 0) {
+                int totalScore = 0;
+                for (Jogador value : players) {
+                    if (value != player) {
+                        value.setCurrentRoundScore(0);
+                        totalScore += value.getHandTotalScore();
+                    }
+                }
+                player.setCurrentRoundScore(totalScore);
+                player.setWon();
+                roundWinner = player;
+                events.onRoundEnded(player.getPlayerID());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Executa a ação de turno atual até o fim, incluindo as sequências
+     * colocadas na fila por ela. Para apenas quando um TurnDecisionAction
+     * aguarda uma escolha ou quando a rodada termina, de forma que a lógica do
+     * jogo não depende da frequência de atualização. O ritmo visual fica a
+     * cargo do ouvinte.
+     */
+    private void updateTurnAction() {
+        while (currentTurnAction != null) {
+            if (debugShowTaskActionNotes) {
+                if (currentTurnAction.getDecision() == null || !currentTurnAction.hasRunOnce()) {
+                    System.out.println(currentTurnAction.getCurrentAction().actionDebugText);
+                }
+            }
+            currentTurnAction.performAction(this);
+            currentTurnAction.moveToNext();
+            if (currentTurnAction.isFinished()) {
+                currentTurnAction = null;
+            }
+            if (queuedTurnAction != null) {
+                currentTurnAction = queuedTurnAction;
+                queuedTurnAction = null;
+            } else if (currentTurnAction != null && currentTurnAction.isAwaitingDecision()) {
+                return;
+            }
+            // Uma carta pode ter esvaziado a mão no meio da sequência.
+            checkForEndOfRound();
+            if (isRoundOver()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Verifica se o jogo vai mudar sozinho nas próximas atualizações: uma
+     * sequência de ações está em andamento ou algum jogador tem um cronômetro
+     * contando. Quando falso, só uma entrada do usuário faz o jogo avançar.
+     *
+     * @return Verdadeiro enquanto o jogo avança sem entradas.
+     */
+    public boolean isBusy() {
+        if (currentTurnAction != null || queuedTurnAction != null) {
+            return true;
+        }
+        for (Jogador player : players) {
+            if (player.hasActiveTimer(this)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se a rodada já tem um vencedor.
+     *
+     * @return Verdadeiro quando algum jogador esvaziou a mão.
+     */
+    public boolean isRoundOver() {
+        return roundWinner != null;
+    }
+
+    /**
+     * Obtém o vencedor da rodada.
+     *
+     * @return O jogador que esvaziou a mão, ou nulo se a rodada continua.
+     */
+    public Jogador getRoundWinner() {
+        return roundWinner;
+    }
+
+    /**
+     * Verifica se a carta pode ser jogada como um salto e depois troca o jogador
+     * atual e inicia a ação da carta que está sendo jogada.
+     *
+     * @param playerID   O jogador tentando entrar.
+     * @param cardToPlay A carta codificada que está sendo usada.
+     */
+    public void jumpIn(int playerID, int cardToPlay) {
+        if (currentTurnAction == null && currentPlayerID != playerID
+                && CodigoCarta.isSameFaceAndColour(cardToPlay, getTopCard())) {
+            currentPlayerID = playerID;
+            turnCount++;
+            showGeneralOverlay(OuvinteJogo.OverlayType.JumpIn, playerID);
+            currentTurnAction = TurnActionFactory.playCardAsAction(ruleSet, currentPlayerID,
+                    CodigoCarta.getCardID(cardToPlay), CodigoCarta.getFaceValueID(cardToPlay),
+                    CodigoCarta.getColourID(cardToPlay));
+        }
+    }
+
+    /**
+     * Obtém um tamanho de array que comporta as jogadas legais de qualquer
+     * jogador em qualquer momento da rodada.
+     *
+     * @return O número máximo de jogadas que getLegalMoves pode devolver.
+     */
+    public int getMaxLegalMoveCount() {
+        return deck.getTotalCards() + players.size() + 4;
+    }
+
+    /**
+     * Preenche moves com todas as jogadas legais do jogador agora, codificadas
+     * com CodigoJogada. No início do turno, o jogador atual pode jogar cada
+     * carta jogável ou comprar, e os outros podem saltar com uma carta igual à
+     * do topo se a regra permitir. Quando a jogada atual aguarda uma decisão
+     * do jogador, as jogadas são as opções dessa decisão. Nos demais momentos
+     * nenhuma jogada é legal. Nada é criado.
+     *
+     * @param playerID O jogador que quer agir.
+     * @param moves    Recebe as jogadas; deve ter pelo menos
+     *                 getMaxLegalMoveCount() posições.
+     * @return O número de jogadas preenchidas.
+     */
+    public int getLegalMoves(int playerID, int[] moves) {
+        if (isRoundOver()) {
+            return 0;
+        }
+        Jogador player = players.get(playerID);
+        int count = 0;
+        if (currentTurnAction == null) {
+            int topCard = getTopCard();
+            if (playerID == currentPlayerID) {
+                for (int i = 0; i < player.getHandSize(); i++) {
+                    int card = player.getCard(i);
+                    if (CodigoCarta.isPlayableOn(card, CodigoCarta.getFaceValueID(topCard),
+                            CodigoCarta.getColourID(topCard))) {
+                        moves[count++] = CodigoJogada.playCard(card);
+                    }
+                }
+                moves[count++] = CodigoJogada.encode(CodigoJogada.DRAW_CARD, 0);
+            } else if (ruleSet.allowJumpInRule()) {
+                for (int i = 0; i < player.getHandSize(); i++) {
+                    if (CodigoCarta.isSameFaceAndColour(player.getCard(i), topCard)) {
+                        moves[count++] = CodigoJogada.playCard(player.getCard(i));
+                    }
+                }
+            }
+            return count;
+        }
+        if (playerID != currentPlayerID || !isAwaitingPlayerDecision()) {
+            return 0;
+        }
+        switch (currentTurnAction.getDecision().flagName) {
+            case WildColour -> {
+                for (int colourID = 0; colourID < 4; colourID++) {
+                    moves[count++] = CodigoJogada.chooseColour(colourID);
+                }
+            }
+            case KeepOrPlay -> {
+                moves[count++] = CodigoJogada.playCard(
+                        player.getCardByID(currentTurnAction.get(TurnActionFactory.DataSlot.CardID)));
+                moves[count++] = CodigoJogada.encode(CodigoJogada.KEEP_CARD, 0);
+            }
+            case IsStacking, IsChallenging -> {
+                boolean isStacking = currentTurnAction.getDecision().flagName == TurnActionFactory.DataSlot.IsStacking;
+                if (ruleSet.canStackCards()) {
+                    int faceValueID = isStacking ? 10 : 13;
+                    for (int i = 0; i < player.getHandSize(); i++) {
+                        if (CodigoCarta.getFaceValueID(player.getCard(i)) == faceValueID) {
+                            moves[count++] = CodigoJogada.playCard(player.getCard(i));
+                        }
+                    }
+                }
+                if (!isStacking && !ruleSet.getNoBluffingRule()) {
+                    moves[count++] = CodigoJogada.encode(CodigoJogada.CHALLENGE, 0);
+                }
+                moves[count++] = CodigoJogada.encode(CodigoJogada.DECLINE, 0);
+            }
+            case OtherPlayer -> {
+                for (Jogador other : players) {
+                    if (other != player) {
+                        moves[count++] = CodigoJogada.swapHands(other.getPlayerID());
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Verifica se uma jogada é legal para o jogador agora, com as mesmas
+     * regras de getLegalMoves, sem criar nada.
+     *
+     * @param playerID O jogador que quer agir.
+     * @param move     A jogada codificada com CodigoJogada.
+     * @return Verdadeiro se getLegalMoves incluiria a jogada.
+     */
+    public boolean isLegalMove(int playerID, int move) {
+        if (isRoundOver() || playerID < 0 || playerID >= players.size()) {
+            return false;
+        }
+        Jogador player = players.get(playerID);
+        int type = CodigoJogada.getType(move);
+        int value = CodigoJogada.getValue(move);
+        if (currentTurnAction == null) {
+            int topCard = getTopCard();
+            if (type == CodigoJogada.DRAW_CARD) {
+                return playerID == currentPlayerID;
+            }
+            if (type != CodigoJogada.PLAY_CARD || !isCardInHand(player, value)) {
+                return false;
+            }
+            if (playerID == currentPlayerID) {
+                return CodigoCarta.isPlayableOn(value, CodigoCarta.getFaceValueID(topCard),
+                        CodigoCarta.getColourID(topCard));
+            }
+            return ruleSet.allowJumpInRule() && CodigoCarta.isSameFaceAndColour(value, topCard);
+        }
+        if (playerID != currentPlayerID || !isAwaitingPlayerDecision()) {
+            return false;
+        }
+        return switch (currentTurnAction.getDecision().flagName) {
+            case WildColour -> type == CodigoJogada.CHOOSE_COLOUR && value < 4;
+            case KeepOrPlay -> type == CodigoJogada.KEEP_CARD || (type == CodigoJogada.PLAY_CARD
+                    && CodigoCarta.getCardID(value) == currentTurnAction.get(TurnActionFactory.DataSlot.CardID)
+                    && isCardInHand(player, value));
+            case IsStacking -> type == CodigoJogada.DECLINE || (type == CodigoJogada.PLAY_CARD
+                    && ruleSet.canStackCards() && CodigoCarta.getFaceValueID(value) == 10
+                    && isCardInHand(player, value));
+            case IsChallenging -> type == CodigoJogada.DECLINE
+                    || (type == CodigoJogada.CHALLENGE && !ruleSet.getNoBluffingRule())
+                    || (type == CodigoJogada.PLAY_CARD && ruleSet.canStackCards()
+                            && CodigoCarta.getFaceValueID(value) == 13 && isCardInHand(player, value));
+            case OtherPlayer -> type == CodigoJogada.SWAP_HANDS && value != playerID && value < players.size();
+            default -> false;
+        };
+    }
+
+    /**
+     * Aplica uma jogada obtida de getLegalMoves: começa a jogada ou a compra
+     * do turno, faz o salto, ou entrega a escolha à decisão aguardada pela
+     * jogada atual. A jogada é ignorada se não for legal agora.
+     *
+     * @param playerID O jogador que age.
+     * @param move     A jogada codificada com CodigoJogada.
+     * @return Verdadeiro se a jogada foi aplicada.
+     */
+    public boolean applyMove(int playerID, int move) {
+        if (!isLegalMove(playerID, move)) {
+            return false;
+        }
+        int type = CodigoJogada.getType(move);
+        int card = CodigoJogada.getValue(move);
+        if (currentTurnAction == null) {
+            if (type == CodigoJogada.DRAW_CARD) {
+                events.onDrawForTurn(playerID);
+                setCurrentTurnAction(TurnActionFactory.drawCardAsAction(playerID));
+            } else if (playerID == currentPlayerID) {
+                setCurrentTurnAction(TurnActionFactory.playCardAsAction(ruleSet, playerID,
+                        CodigoCarta.getCardID(card), CodigoCarta.getFaceValueID(card),
+                        CodigoCarta.getColourID(card)));
+            } else {
+                jumpIn(playerID, card);
+            }
+            return true;
+        }
+        TurnActionFactory.TurnSequence decisionAction = currentTurnAction;
+        switch (type) {
+            case CodigoJogada.PLAY_CARD -> {
+                TurnActionFactory.DataSlot flagName = decisionAction.getDecision().flagName;
+                if (flagName != TurnActionFactory.DataSlot.KeepOrPlay) {
+                    decisionAction.injectProperty(TurnActionFactory.DataSlot.FaceValueID,
+                            CodigoCarta.getFaceValueID(card));
+                    decisionAction.injectProperty(TurnActionFactory.DataSlot.ColourID, CodigoCarta.getColourID(card));
+                    decisionAction.injectProperty(TurnActionFactory.DataSlot.CardID, CodigoCarta.getCardID(card));
+                }
+                if (flagName == TurnActionFactory.DataSlot.IsChallenging) {
+                    // Empilhar um +4 é o caminho "sem desafio" que encadeia a carta.
+                    decisionAction.injectProperty(TurnActionFactory.DataSlot.IsChaining, 1);
+                    decisionAction.injectFlagProperty(0);
+                } else {
+                    decisionAction.injectFlagProperty(1);
+                }
+            }
+            case CodigoJogada.CHOOSE_COLOUR -> {
+                decisionAction.injectProperty(TurnActionFactory.DataSlot.ColourID, card);
+                decisionAction.injectFlagProperty(1);
+            }
+            case CodigoJogada.KEEP_CARD -> decisionAction.injectFlagProperty(0);
+            case CodigoJogada.DECLINE, CodigoJogada.CHALLENGE -> {
+                if (decisionAction.getDecision().flagName == TurnActionFactory.DataSlot.IsChallenging) {
+                    decisionAction.injectProperty(TurnActionFactory.DataSlot.IsChaining, 0);
+                }
+                decisionAction.injectFlagProperty(type == CodigoJogada.CHALLENGE ? 1 : 0);
+            }
+            case CodigoJogada.SWAP_HANDS -> decisionAction.injectFlagProperty(card);
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se a jogada atual está parada em uma decisão que um jogador
+     * deve tomar, e não em uma verificação interna das regras.
+     *
+     * @return Verdadeiro se a decisão atual espera uma escolha do jogador.
+     */
+    private boolean isAwaitingPlayerDecision() {
+        return currentTurnAction.isAwaitingDecision() && currentTurnAction.getDecision().timeOut;
+    }
+
+    /**
+     * Verifica se a mão contém exatamente a carta codificada.
+     *
+     * @param player O dono da mão.
+     * @param card   A carta codificada.
+     * @return Verdadeiro se a carta com esse cardID está na mão com a mesma
+     *         face e cor.
+     */
+    private static boolean isCardInHand(Jogador player, int card) {
+        return player.getCardByID(CodigoCarta.getCardID(card)) == card;
+    }
+
+    /**
+     * Repassa o pedido de sobreposição geral para o ouvinte.
+     *
+     * @param overlayType A sobreposição a ser mostrada.
+     * @param playerID    O jogador sobre o qual ela aparece.
+     */
+    public void showGeneralOverlay(OuvinteJogo.OverlayType overlayType, int playerID) {
+        events.showGeneralOverlay(overlayType, playerID, 0);
+    }
+
+    /**
+     * Repassa o pedido de sobreposição geral com um valor para o ouvinte.
+     *
+     * @param overlayType A sobreposição a ser mostrada.
+     * @param playerID    O jogador sobre o qual ela aparece.
+     * @param value       Valor mostrado pela sobreposição.
+     */
+    public void showGeneralOverlay(OuvinteJogo.OverlayType overlayType, int playerID, int value) {
+        events.showGeneralOverlay(overlayType, playerID, value);
+    }
+
+    /**
+     * Avisa o ouvinte que a ação atual aguarda uma decisão.
+     */
+    public void showOverlayForTurnAction() {
+        if (currentTurnAction != null && currentTurnAction.getDecision() != null) {
+            events.showOverlayForTurnAction(currentTurnAction);
+        }
+    }
+
+    /**
+     * Alterna o sentido de rotação entre sentido horário e anti-horário.
+     */
+    public void toggleTurnDirection() {
+        isIncreasing = !isIncreasing;
+    }
+
+    /**
+     * Move para o próximo jogador dependendo se a direção é no sentido horário ou
+     * sentido anti-horário.
+     */
+    public void moveToNextPlayer() {
+        updateUNOState();
+        if (isIncreasing) {
+            currentPlayerID++;
+            if (currentPlayerID >= players.size()) {
+                currentPlayerID = 0;
+            }
+        } else {
+            currentPlayerID--;
+            if (currentPlayerID < 0) {
+                currentPlayerID = players.size() - 1;
+            }
+        }
+    }
+
+    /**
+     * Define o jogador atual como NotSafe se ele tiver uma carta ou Safe caso
+     * contrário, todos os outros jogadores estão definidos como Seguros.
+     */
+    private void updateUNOState() {
+        players.get(currentPlayerID).setUnoState(
+                players.get(currentPlayerID).getHandSize() == 1 ? Jogador.UNOState.NotSafe : Jogador.UNOState.Safe);
+        for (Jogador player : players) {
+            if (player.getPlayerID() != currentPlayerID) {
+                player.setUnoState(Jogador.UNOState.Safe);
+            }
+        }
+    }
+
+    /**
+     * Aplica o efeito de ser chamado por não ter dito UNO.
+     * Mostra a mensagem e compra duas cartas para aquele jogador.
+     *
+     * @param playerID O jogador que foi chamado.
+     */
+    public void applyAntiUno(int playerID) {
+        showGeneralOverlay(OuvinteJogo.OverlayType.AntiUnoCalled, playerID);
+        // Defina como seguro para evitar vários callouts anti-uno.
+        players.get(playerID).setUnoState(Jogador.UNOState.Safe);
+        for (int i = 0; i < 2; i++) {
+            int card = deck.drawCard();
+            if (card == CodigoCarta.NO_CARD) {
+                return;
+            }
+            players.get(playerID).addCardToHand(card);
+            events.onCardDrawn(playerID, card);
+        }
+    }
+
+    /**
+     * Obtém a direção atual do jogo.
+     *
+     * @return Quando verdadeiro, a direção da reprodução é no sentido horário.
+     */
+    public boolean isIncreasing() {
+        return isIncreasing;
+    }
+
+    /**
+     * Muda a cor do cartão superior. Usado para mudar a cor do wild e +4
+     * cartões.
+     *
+     * @param colourID 0=Vermelho, 1=Azul, 2=Verde, 3=Amarelo
+     */
+    public void setTopCardColour(int colourID) {
+        recentCards[recentCardCount - 1] = CodigoCarta.withColour(getTopCard(), colourID);
+        events.onTopCardColourChanged(colourID);
+    }
+
+    /**
+     * Se já houver uma ação atual ativa, ela será colocada na fila para iniciar o
+     * mais rápido possível.
+     * Caso contrário, a ação será configurada imediatamente.
+     *
+     * @param turnAction A jogada para começar.
+     */
+    public void setCurrentTurnAction(TurnActionFactory.TurnSequence turnAction) {
+        if (currentTurnAction != null) {
+            queuedTurnAction = turnAction;
+            if (debugShowTreeOnNewAction) {
+                System.out.println("Sequência de ação na fila:");
+                TurnActionFactory.debugOutputTurnActionTree(turnAction.getCurrentAction());
+            }
+        } else {
+            currentTurnAction = turnAction;
+            turnCount++;
+            if (debugShowTreeOnNewAction) {
+                System.out.println("Definir sequência de ação:");
+                TurnActionFactory.debugOutputTurnActionTree(turnAction.getCurrentAction());
+            }
+        }
+    }
+
+    /**
+     * Usado para jogar a primeira carta. Isto consiste em simplesmente colocar o
+     * cartão sem ação, e se a carta for curinga, a cor será aleatória.
+     *
+     * @param card Carta codificada para colocar no topo da pilha sem ação.
+     */
+    public void forcePlayCard(int card) {
+        placeCard(card);
+
+        if (CodigoCarta.getFaceValueID(card) >= 13) {
+            setTopCardColour(random.getShuffleRandom().nextInt(4));
+        }
+    }
+
+    /**
+     * Adiciona a carta à coleção de recentCards. Se o número de cartões
+     * recentes for maior que o máximo permitido o cartão mais antigo é
+     * removido do histórico e só então vai para a pilha de descarte do
+     * baralho, para que nenhuma carta ainda mostrada na pilha seja comprada.
+     *
+     * @param card Carta codificada para colocar no topo da pilha de cartas.
+     */
+    public void placeCard(int card) {
+        if (recentCardCount == MAX_CARD_HISTORY) {
+            deck.discard(recentCards[0]);
+            System.arraycopy(recentCards, 1, recentCards, 0, MAX_CARD_HISTORY - 1);
+            recentCardCount--;
+        }
+        recentCards[recentCardCount++] = card;
+        events.onCardPlaced(card);
+    }
+
+    /**
+     * Define quais saídas de depuração das sequências TurnAction são mostradas.
+     *
+     * @param showTaskActionNotes Mostra cada transição executada.
+     * @param showTreeOnNewAction Mostra a árvore inteira de cada nova sequência.
+     */
+    public void setDebugOutput(boolean showTaskActionNotes, boolean showTreeOnNewAction) {
+        debugShowTaskActionNotes = showTaskActionNotes;
+        debugShowTreeOnNewAction = showTreeOnNewAction;
+    }
+
+    /**
+     * Obtém o TurnAction atual, se houver.
+     *
+     * @return A ação atual ou nula.
+     */
+    public TurnActionFactory.TurnSequence getCurrentTurnAction() {
+        return currentTurnAction;
+    }
+
+    /**
+     * Obtém o conjunto de regras para verificar e aplicar facilmente quaisquer
+     * regras.
+     *
+     * @return A definição do conjunto de regras.
+     */
+    public ConjuntoRegras getRuleSet() {
+        return ruleSet;
+    }
+
+    /**
+     * Obtém o ID do jogador atualmente ativo por ordem de turno.
+     *
+     * @return O currentPlayerID.
+     */
+    public int getCurrentPlayerID() {
+        return currentPlayerID;
+    }
+
+    /**
+     * Obtém o jogador atualmente ativo por ordem de turno.
+     *
+     * @return O jogador identificado por currentPlayerID.
+     */
+    public Jogador getCurrentPlayer() {
+        return players.get(currentPlayerID);
+    }
+
+    /**
+     * Obtém uma lista de todos os jogadores.
+     *
+     * @return Uma referência para todos os jogadores.
+     */
+    public List<Jogador> getAllPlayers() {
+        return players;
+    }
+
+    /**
+     * Procura o jogador com o ID fornecido.
+     *
+     * @param playerID ID obtido na coleção de jogadores.
+     * @return O jogador que corresponde ao playerID fornecido.
+     */
+    public Jogador getPlayerByID(int playerID) {
+        return players.get(playerID);
+    }
+
+    /**
+     * Obtém os fluxos de números aleatórios desta partida.
+     *
+     * @return Os fluxos aleatórios, incluindo a semente da partida.
+     */
+    public AleatorioJogo getRandom() {
+        return random;
+    }
+
+    /**
+     * Obtém o barramento onde os eventos desta partida são publicados, para
+     * que outros ouvintes possam se inscrever.
+     *
+     * @return O barramento de eventos da partida.
+     */
+    public BarramentoEventos getEvents() {
+        return events;
+    }
+
+    /**
+     * Faz com que o baralho forneça acesso a cartas de compra.
+     *
+     * @return Uma referência ao Deck.
+     */
+    public Deck getDeck() {
+        return deck;
+    }
+
+    /**
+     * Obtém o cartão recente jogado mais recentemente.
+     *
+     * @return A carta codificada que aparece no topo da pilha jogada.
+     */
+    public int getTopCard() {
+        return recentCards[recentCardCount - 1];
+    }
+
+    /**
+     * Obtém a carta jogada antes da carta do topo.
+     *
+     * @return A carta codificada abaixo do topo, ou CodigoCarta.NO_CARD se só
+     *         uma carta foi jogada.
+     */
+    public int getCardBeforeTop() {
+        return recentCardCount < 2 ? CodigoCarta.NO_CARD : recentCards[recentCardCount - 2];
+    }
+
+    /**
+     * Obtém o número de cartas no histórico de cartas jogadas, contando o topo.
+     *
+     * @return Um número entre 1 e MAX_CARD_HISTORY.
+     */
+    public int getRecentCardCount() {
+        return recentCardCount;
+    }
+
+    /**
+     * Copia o histórico de cartas jogadas, da mais antiga para o topo. Estas
+     * cartas ainda estão na mesa e não na pilha de descarte do baralho.
+     *
+     * @param dest Recebe as cartas; deve ter pelo menos getRecentCardCount()
+     *             posições.
+     * @return O número de cartas copiadas.
+     */
+    public int copyRecentCards(int[] dest) {
+        System.arraycopy(recentCards, 0, dest, 0, recentCardCount);
+        return recentCardCount;
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Uno
+ *
+ * Interface OuvinteJogo:
+ * Define os eventos que o MotorJogo publica para quem estiver apresentando o
+ * jogo. Todos os métodos têm uma implementação vazia para que uma simulação
+ * sem interface possa simplesmente ignorá-los. Os ouvintes se inscrevem no
+ * BarramentoEventos do MotorJogo; vários podem receber os mesmos eventos.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public interface OuvinteJogo {
+    /**
+     * As sobreposições gerais, mostradas sobre um jogador específico.
+     */
+    enum OverlayType {
+        SkipVisual, DrawN, ChallengeSuccess, ChallengeFailed, UNOCalled, AntiUnoCalled, JumpIn
+    }
+
+    /**
+     * Chamado quando uma carta é colocada no topo da pilha de cartas jogadas.
+     *
+     * @param card A carta codificada que acabou de ser colocada.
+     */
+    default void onCardPlaced(int card) {
+    }
+
+    /**
+     * Chamado quando um jogador compra uma carta do baralho durante a rodada.
+     *
+     * @param playerID O jogador que comprou a carta.
+     * @param card     A carta codificada comprada.
+     */
+    default void onCardDrawn(int playerID, int card) {
+    }
+
+    /**
+     * Chamado quando o jogador da vez escolhe comprar em vez de jogar, antes
+     * da compra. A carta do topo ainda é a que ele deixou passar.
+     *
+     * @param playerID O jogador que vai comprar.
+     */
+    default void onDrawForTurn(int playerID) {
+    }
+
+    /**
+     * Chamado antes de dois jogadores trocarem de mão (regra 7-0).
+     *
+     * @param playerID      O jogador que jogou o 7.
+     * @param otherPlayerID O jogador escolhido para a troca.
+     */
+    default void onHandsSwapped(int playerID, int otherPlayerID) {
+    }
+
+    /**
+     * Chamado antes de todas as mãos serem passadas na direção do jogo (regra
+     * 7-0). Com a direção crescente, cada jogador recebe a mão do jogador de
+     * ID seguinte; caso contrário, a do anterior.
+     */
+    default void onHandsPassed() {
+    }
+
+    /**
+     * Chamado quando a cor da carta do topo é escolhida (curingas e +4).
+     *
+     * @param colourID A nova cor da carta do topo.
+     */
+    default void onTopCardColourChanged(int colourID) {
+    }
+
+    /**
+     * Chamado quando uma sobreposição geral deve ser mostrada.
+     *
+     * @param overlayType A sobreposição a ser mostrada.
+     * @param playerID    O jogador sobre o qual ela aparece.
+     * @param value       Valor extra da sobreposição (o número de cartas de
+     *                    DrawN); 0 quando não é usado.
+     */
+    default void showGeneralOverlay(OverlayType overlayType, int playerID, int value) {
+    }
+
+    /**
+     * Chamado quando um TurnDecisionAction começa a aguardar uma decisão.
+     *
+     * @param decisionAction A decisão que está aguardando uma escolha.
+     */
+    default void showOverlayForTurnAction(TurnActionFactory.TurnSequence decisionAction) {
+    }
+
+    /**
+     * Chamado uma vez quando um jogador esvazia a mão e a rodada termina.
+     *
+     * @param winnerID O jogador que esvaziou a mão.
+     */
+    default void onRoundEnded(int winnerID) {
+    }
+}
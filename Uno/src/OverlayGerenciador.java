@@ -1,6 +1,5 @@
 import java.awt.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,19 +10,43 @@ import java.util.List;
  * Essas sobreposições incluem aquelas que aguardam a interface do player com
  * elas
  * e alguns que são apenas informativos.
+ * As sobreposições ficam em arrays indexados pelo tipo (e pelo jogador, para
+ * as sobreposições gerais), e as habilitadas são mantidas em uma lista
+ * separada, de forma que cada quadro só percorre as que estão visíveis.
+ * A região de uma sobreposição é marcada quando ela aparece, some ou está
+ * animando, e as regiões que cada uma marcou são juntadas à deste gerenciador.
  *
  * @autor Cauet Damasceno
  * @versão 2023
  */
 public class OverlayGerenciador extends WndInterface {
     /**
-     * Interfaces mapeadas para strings exclusivas.
+     * Sobreposições de decisão indexadas pelo ordinal do DataSlot da decisão.
+     * Posições nulas são decisões sem sobreposição.
      */
-    private final Map<String, WndInterface> overlays;
+    private final WndInterface[] decisionOverlays;
     /**
-     * Ação atual para um TurnDecisionAction ativo.
+     * Sobreposição que mostra a decisão que está sendo aguardada.
      */
-    private TurnActionFactory.TurnDecisionAction overlayAction;
+    private final StatusOverlay statusOverlay;
+    /**
+     * Sobreposições gerais indexadas por [OverlayType.ordinal()][playerID].
+     */
+    private final WndInterface[][] playerOverlays;
+    /**
+     * Sobreposições habilitadas, na ordem em que foram mostradas. Apenas elas
+     * são atualizadas, pintadas e recebem os eventos do mouse.
+     */
+    private final List<WndInterface> activeOverlays;
+    /**
+     * Jogada atual para um TurnDecisionAction ativo.
+     */
+    private TurnActionFactory.TurnSequence overlayAction;
+    /**
+     * O TurnDecisionAction da jogada para o qual as sobreposições foram
+     * mostradas.
+     */
+    private TurnActionFactory.TurnDecisionAction overlayDecision;
 
     /**
      * Inicialize as interfaces prontas para qualquer coisa que precise ficar
@@ -34,51 +57,43 @@ public class OverlayGerenciador extends WndInterface {
     public OverlayGerenciador(Retangulo bounds, List<Jogador> playerList) {
         super(bounds);
         setEnabled(true);
-        overlays = new HashMap<>();
-        SeletorCorCuringa wildColourSelectorOverlay = new SeletorCorCuringa(
+        decisionOverlays = new WndInterface[TurnActionFactory.DataSlot.values().length];
+        decisionOverlays[TurnActionFactory.DataSlot.WildColour.ordinal()] = new SeletorCorCuringa(
                 new Posicao(bounds.width / 2 - 100, bounds.height / 2 - 100), 200, 200);
-        PassarOuJogarOverlay keepOrPlayOverlay = new PassarOuJogarOverlay(
+        decisionOverlays[TurnActionFactory.DataSlot.KeepOrPlay.ordinal()] = new PassarOuJogarOverlay(
                 new Retangulo(new Posicao(0, 0), bounds.width, bounds.height));
-        PlayerSelectionOverlay playerSelectionOverlay = new PlayerSelectionOverlay(
+        decisionOverlays[TurnActionFactory.DataSlot.OtherPlayer.ordinal()] = new PlayerSelectionOverlay(
                 new Retangulo(new Posicao(0, 0), bounds.width, bounds.height), playerList);
-        StatusOverlay statusOverlay = new StatusOverlay(new Retangulo(new Posicao(0, 0), bounds.width, bounds.height));
-        DesafioOverlay challengeOverlay = new DesafioOverlay(bounds);
-        EscolhaDePilha stackChoiceOverlay = new EscolhaDePilha(bounds);
-        overlays.put("wildColour", wildColourSelectorOverlay);
-        overlays.put("keepOrPlay", keepOrPlayOverlay);
-        overlays.put("otherPlayer", playerSelectionOverlay);
-        overlays.put("statusOverlay", statusOverlay);
-        overlays.put("isChallenging", challengeOverlay);
-        overlays.put("isStacking", stackChoiceOverlay);
+        decisionOverlays[TurnActionFactory.DataSlot.IsChallenging.ordinal()] = new DesafioOverlay(bounds);
+        decisionOverlays[TurnActionFactory.DataSlot.IsStacking.ordinal()] = new EscolhaDePilha(bounds);
+        statusOverlay = new StatusOverlay(new Retangulo(new Posicao(0, 0), bounds.width, bounds.height));
 
-        BotaoUno unoButton = new BotaoUno(new Posicao(bounds.position.x + bounds.width - BotaoUno.WIDTH - 40,
-                bounds.position.y + bounds.height - BotaoUno.HEIGHT - 40));
-        AntiUnoButton antiUnoButton = new AntiUnoButton(
-                new Posicao(bounds.position.x + bounds.width - BotaoUno.WIDTH - 40 - 100,
-                        bounds.position.y + bounds.height - BotaoUno.HEIGHT - 40));
+        playerOverlays = new WndInterface[OuvinteJogo.OverlayType.values().length][playerList.size()];
         for (int i = 0; i < playerList.size(); i++) {
             Posicao playerCentre = playerList.get(i).getCentreOfBounds();
-            PlayerFlashOverlay skipVisualOverlay = new PlayerFlashOverlay(playerCentre, "Pular", Color.RED, 40);
-            overlays.put("SkipVisual" + i, skipVisualOverlay);
-            PlayerFlashOverlay drawNMessageOverlay = new PlayerFlashOverlay(playerCentre, "", Color.RED, 40);
-            overlays.put("DrawN" + i, drawNMessageOverlay);
-            SucessoDesafioOverlay challengeSuccessOverlay = new SucessoDesafioOverlay(
+            playerOverlays[OuvinteJogo.OverlayType.SkipVisual.ordinal()][i] = new PlayerFlashOverlay(playerCentre,
+                    "Pular", Color.RED, 40);
+            playerOverlays[OuvinteJogo.OverlayType.DrawN.ordinal()][i] = new PlayerFlashOverlay(playerCentre, "",
+                    Color.RED, 40);
+            playerOverlays[OuvinteJogo.OverlayType.ChallengeSuccess.ordinal()][i] = new SucessoDesafioOverlay(
+                    new Retangulo(playerCentre, 100, 100));
+            playerOverlays[OuvinteJogo.OverlayType.ChallengeFailed.ordinal()][i] = new FalhaDesafioOverlay(
                     new Retangulo(playerCentre, 100, 100));
-            overlays.put("VitoriaDesafio" + i, challengeSuccessOverlay);
-            FalhaDesafioOverlay challengeFailedOverlay = new FalhaDesafioOverlay(new Retangulo(playerCentre, 100, 100));
-            overlays.put("ChallengeFailed" + i, challengeFailedOverlay);
-            ChamadaUno unoCalledOverlay = new ChamadaUno(new Posicao(playerCentre.x, playerCentre.y + 20));
-            overlays.put("UNOCalled" + i, unoCalledOverlay);
-            PlayerFlashOverlay antiUnoOverlay = new PlayerFlashOverlay(new Posicao(playerCentre.x, playerCentre.y + 20),
-                    "!", new Color(226, 173, 67), 50);
-            overlays.put("AntiUnoCalled" + i, antiUnoOverlay);
-            PlayerFlashOverlay jumpInOverlay = new PlayerFlashOverlay(new Posicao(playerCentre.x, playerCentre.y + 20),
-                    "PULOU", Color.ORANGE, 40);
-            overlays.put("JumpIn" + i, jumpInOverlay);
+            playerOverlays[OuvinteJogo.OverlayType.UNOCalled.ordinal()][i] = new ChamadaUno(
+                    new Posicao(playerCentre.x, playerCentre.y + 20));
+            playerOverlays[OuvinteJogo.OverlayType.AntiUnoCalled.ordinal()][i] = new PlayerFlashOverlay(
+                    new Posicao(playerCentre.x, playerCentre.y + 20), "!", new Color(226, 173, 67), 50);
+            playerOverlays[OuvinteJogo.OverlayType.JumpIn.ordinal()][i] = new PlayerFlashOverlay(
+                    new Posicao(playerCentre.x, playerCentre.y + 20), "PULOU", Color.ORANGE, 40);
         }
-        overlays.put("UnoButton", unoButton);
-        overlays.put("antiUnoButton", antiUnoButton);
 
+        // Os botões Uno ficam sempre habilitados e decidem sozinhos quando aparecem.
+        activeOverlays = new ArrayList<>();
+        activeOverlays.add(new BotaoUno(new Posicao(bounds.position.x + bounds.width - BotaoUno.WIDTH - 40,
+                bounds.position.y + bounds.height - BotaoUno.HEIGHT - 40)));
+        activeOverlays.add(new AntiUnoButton(
+                new Posicao(bounds.position.x + bounds.width - BotaoUno.WIDTH - 40 - 100,
+                        bounds.position.y + bounds.height - BotaoUno.HEIGHT - 40)));
     }
 
     /**
@@ -91,36 +106,43 @@ public class OverlayGerenciador extends WndInterface {
      * @param currentAction Ação a ser usada para determinar qual sobreposição
      *                      mostrar.
      */
-    public void showDecisionOverlay(TurnActionFactory.TurnDecisionAction currentAction) {
-        if (currentAction.timeOut) {
+    public void showDecisionOverlay(TurnActionFactory.TurnSequence currentAction) {
+        TurnActionFactory.TurnDecisionAction decisionNode = currentAction.getDecision();
+        if (decisionNode.timeOut) {
             setEnabled(true);
+            // O status é ativado primeiro para que a sobreposição da decisão fique por cima dele.
+            markDirty(statusOverlay.getPaintBounds());
+            statusOverlay.showOverlay(currentAction);
+            activate(statusOverlay);
             if (InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerType() == Jogador.PlayerType.UnoJogador) {
-                WndInterface overlayToShow = overlays.get(currentAction.flagName);
+                WndInterface overlayToShow = decisionOverlays[decisionNode.flagName.ordinal()];
                 if (overlayToShow instanceof TurnDecisionOverlayInterface) {
                     ((TurnDecisionOverlayInterface) overlayToShow).showOverlay(currentAction);
+                    activate(overlayToShow);
                 }
             }
             overlayAction = currentAction;
-            ((TurnDecisionOverlayInterface) overlays.get("statusOverlay")).showOverlay(currentAction);
+            overlayDecision = decisionNode;
         }
     }
 
     /**
-     * Encontra a interface correspondente e a torna visível, se possível.
+     * Mostra a sobreposição geral de um jogador.
      *
-     * @param overlayName Nome que mapeia para uma interface.
-     */
-    public void showGeneralOverlay(String overlayName) {
-        // Dividir para permitir entradas de parâmetros separadas por ;
-        String[] splitOverlayName = overlayName.split(";");
-        WndInterface overlayToShow = overlays.get(splitOverlayName[0]);
-        if (overlayToShow instanceof GeralOverlayInterface) {
-            ((GeralOverlayInterface) overlayToShow).showOverlay();
-            if (splitOverlayName[0].startsWith("DrawN")) {
-                // Define o número a ser exibido.
-                ((PlayerFlashOverlay) overlayToShow).setMessage("+" + splitOverlayName[1]);
-            }
+     * @param overlayType A sobreposição a ser mostrada.
+     * @param playerID    O jogador sobre o qual ela aparece.
+     * @param value       O número de cartas para DrawN; ignorado pelas outras.
+     */
+    public void showGeneralOverlay(OuvinteJogo.OverlayType overlayType, int playerID, int value) {
+        WndInterface overlayToShow = playerOverlays[overlayType.ordinal()][playerID];
+        // A mensagem anterior pode ser mais larga que a nova.
+        markDirty(overlayToShow.getPaintBounds());
+        ((GeralOverlayInterface) overlayToShow).showOverlay();
+        if (overlayType == OuvinteJogo.OverlayType.DrawN) {
+            // Define o número a ser exibido.
+            ((PlayerFlashOverlay) overlayToShow).setMessage("+" + value);
         }
+        activate(overlayToShow);
     }
 
     /**
@@ -129,11 +151,13 @@ public class OverlayGerenciador extends WndInterface {
      * alterações em atualização().
      */
     public void hideAllDecisionOverlays() {
-        overlays.forEach((key, overlay) -> {
-            if (overlay instanceof TurnDecisionOverlayInterface) {
+        for (WndInterface overlay : decisionOverlays) {
+            if (overlay != null) {
                 overlay.setEnabled(false);
             }
-        });
+        }
+        statusOverlay.setEnabled(false);
+        removeHiddenOverlays();
         setEnabled(false);
     }
 
@@ -146,16 +170,41 @@ public class OverlayGerenciador extends WndInterface {
      */
     @Override
     public void update(int deltaTime) {
-        if (overlayAction != InterfaceJogo.getCurrentGame().getCurrentTurnAction()) {
+        if (overlayAction != InterfaceJogo.getCurrentGame().getCurrentTurnAction()
+                || (overlayAction != null && overlayAction.getCurrentAction() != overlayDecision)) {
             overlayAction = null;
+            overlayDecision = null;
             hideAllDecisionOverlays();
         }
 
-        overlays.forEach((key, overlay) -> {
+        for (int i = 0; i < activeOverlays.size(); i++) {
+            WndInterface overlay = activeOverlays.get(i);
             if (overlay.isEnabled()) {
                 overlay.update(deltaTime);
+                if (overlay.getFrameMode() == LacoJogo.FrameMode.Animating) {
+                    markDirty(overlay.getPaintBounds());
+                }
             }
-        });
+            collectDirtyRegion(overlay);
+        }
+        removeHiddenOverlays();
+    }
+
+    /**
+     * Obtém o maior modo entre as sobreposições habilitadas.
+     *
+     * @return Animating se alguma sobreposição tem um cronômetro rodando.
+     */
+    @Override
+    public LacoJogo.FrameMode getFrameMode() {
+        LacoJogo.FrameMode mode = LacoJogo.FrameMode.Idle;
+        for (int i = 0; i < activeOverlays.size(); i++) {
+            WndInterface overlay = activeOverlays.get(i);
+            if (overlay.isEnabled() && overlay.getFrameMode().compareTo(mode) > 0) {
+                mode = overlay.getFrameMode();
+            }
+        }
+        return mode;
     }
 
     /**
@@ -165,11 +214,12 @@ public class OverlayGerenciador extends WndInterface {
      */
     @Override
     public void paint(Graphics g) {
-        overlays.forEach((key, overlay) -> {
+        for (int i = 0; i < activeOverlays.size(); i++) {
+            WndInterface overlay = activeOverlays.get(i);
             if (overlay.isEnabled()) {
                 overlay.paint(g);
             }
-        });
+        }
     }
 
     /**
@@ -181,11 +231,13 @@ public class OverlayGerenciador extends WndInterface {
      */
     @Override
     public void handleMousePress(Posicao mousePosition, boolean isLeft) {
-        overlays.forEach((key, overlay) -> {
+        for (int i = 0; i < activeOverlays.size(); i++) {
+            WndInterface overlay = activeOverlays.get(i);
             if (overlay.isEnabled()) {
                 overlay.handleMousePress(mousePosition, isLeft);
             }
-        });
+        }
+        removeHiddenOverlays();
     }
 
     /**
@@ -195,10 +247,40 @@ public class OverlayGerenciador extends WndInterface {
      */
     @Override
     public void handleMouseMove(Posicao mousePosition) {
-        overlays.forEach((key, overlay) -> {
+        for (int i = 0; i < activeOverlays.size(); i++) {
+            WndInterface overlay = activeOverlays.get(i);
             if (overlay.isEnabled()) {
                 overlay.handleMouseMove(mousePosition);
+                collectDirtyRegion(overlay);
             }
-        });
+        }
+    }
+
+    /**
+     * Coloca uma sobreposição recém-mostrada na lista de ativas, se ainda não
+     * estiver nela, e marca a região dela.
+     *
+     * @param overlay A sobreposição que foi habilitada.
+     */
+    private void activate(WndInterface overlay) {
+        markDirty(overlay.getPaintBounds());
+        if (!activeOverlays.contains(overlay)) {
+            activeOverlays.add(overlay);
+        }
+    }
+
+    /**
+     * Tira da lista de ativas as sobreposições que se desabilitaram e marca a
+     * região que elas ocupavam.
+     */
+    private void removeHiddenOverlays() {
+        for (int i = activeOverlays.size() - 1; i >= 0; i--) {
+            WndInterface overlay = activeOverlays.get(i);
+            if (!overlay.isEnabled()) {
+                collectDirtyRegion(overlay);
+                markDirty(overlay.getPaintBounds());
+                activeOverlays.remove(i);
+            }
+        }
     }
 }
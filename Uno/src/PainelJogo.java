@@ -1,6 +1,7 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.image.BufferStrategy;
 import java.util.List;
 
 /**
@@ -9,11 +10,19 @@ import java.util.List;
  * Classe PainelJogo:
  * Gerencia o jogo principal com ações do mouse, teclas e
  * quaisquer eventos cronometrados para as diferentes partes do jogo.
+ * As atualizações rodam na thread do LacoJogo; os eventos do mouse e do
+ * teclado são repassados a ela e a pintura usa o bloqueio do laço.
+ * Movimentos do mouse e as atualizações repintam apenas as regiões marcadas
+ * pelas interfaces com markDirty(); cliques, teclas e trocas de interface
+ * repintam o painel inteiro. Com a renderização ativa, o Swing não pinta o
+ * jogo: a thread do LacoJogo desenha o quadro inteiro a cada passo em um
+ * Canvas com BufferStrategy, e os pedidos de pintura do sistema só acordam
+ * o laço.
  *
  * @autor Cauet Damasceno
  * @versão 2023
  */
-public class PainelJogo extends JPanel implements MouseListener, MouseMotionListener, ActionListener {
+public class PainelJogo extends JPanel implements MouseListener, MouseMotionListener {
     /**
      * Altura do painel.
      */
@@ -22,6 +31,15 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
      * Largura do painel.
      */
     public static final int PANEL_WIDTH = 1280;
+    /**
+     * Cor da mesa atrás de todas as interfaces.
+     */
+    public static final Color TABLE_COLOUR = new Color(93, 141, 74);
+    /**
+     * Texto mostrado no canto quando a depuração está ligada.
+     */
+    private static final CacheTexto.Texto DEBUG_LABEL = CacheTexto.getText("DEBUG ON",
+            CacheTexto.getFont(Font.BOLD, 20), Color.BLACK);
 
     /**
      * Referência à janela que aparece quando o jogo é pausado.
@@ -31,6 +49,15 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
      * Referência à interface ativa.
      */
     private WndInterface activeInterface;
+    /**
+     * O laço que atualiza as interfaces em passos de tempo fixos.
+     */
+    private final LacoJogo gameLoop;
+    /**
+     * O Canvas desenhado pela thread do LacoJogo quando a renderização ativa
+     * está ligada, ou nulo quando o Swing pinta o painel.
+     */
+    private final Canvas activeCanvas;
     /**
      * Quando o modo de depuração está ativado. Saídas e controles adicionais estão
      * habilitados.
@@ -41,22 +68,37 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
      * Configura o jogo pronto para ser jogado, incluindo a seleção de jogar contra
      * qualquer
      * AI ou outro jogador.
+     *
+     * @param activeRendering Quando verdadeiro, o jogo é desenhado ativamente em
+     *                        um Canvas com BufferStrategy em vez de pelo Swing.
      */
-    public PainelJogo() {
+    public PainelJogo(boolean activeRendering) {
         setPreferredSize(new Dimension(PANEL_WIDTH, PANEL_HEIGHT));
-        setBackground(new Color(93, 141, 74));
+        setBackground(TABLE_COLOUR);
 
         pauseWnd = new PausaInterface(new Retangulo(PANEL_WIDTH / 2 - 100, PANEL_HEIGHT / 2 - 100, 200, 200), this);
         pauseWnd.setEnabled(false);
 
         showLobby();
 
-        Timer updateTimer = new Timer(20, this);
-        updateTimer.start();
-
-        addMouseListener(this);
-        addMouseMotionListener(this);
+        if (activeRendering) {
+            setLayout(new BorderLayout());
+            activeCanvas = new CanvasAtivo();
+            activeCanvas.setPreferredSize(new Dimension(PANEL_WIDTH, PANEL_HEIGHT));
+            // As teclas continuam chegando ao JFrame.
+            activeCanvas.setFocusable(false);
+            activeCanvas.addMouseListener(this);
+            activeCanvas.addMouseMotionListener(this);
+            add(activeCanvas, BorderLayout.CENTER);
+        } else {
+            activeCanvas = null;
+            addMouseListener(this);
+            addMouseMotionListener(this);
+        }
         DEBUG_MODE = false;
+
+        gameLoop = new LacoJogo(this);
+        gameLoop.start();
     }
 
     /**
@@ -71,6 +113,7 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
             activeInterface = new LobbyInterface(new Retangulo(0, 0, PANEL_WIDTH, PANEL_HEIGHT), this);
         }
         setPauseState(false);
+        repaint();
     }
 
     /**
@@ -83,6 +126,7 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
     public void showPostGame(List<Jogador> playerList, ConjuntoRegras ruleSet) {
         activeInterface = new InterfacePosJogo(new Retangulo(0, 0, PANEL_WIDTH, PANEL_HEIGHT),
                 playerList, ruleSet, this);
+        repaint();
     }
 
     /**
@@ -95,6 +139,8 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
     public void startGame(List<LobbyPlayer> playerList, ConjuntoRegras ruleSet) {
         activeInterface = new InterfaceJogo(new Retangulo(0, 0, PANEL_WIDTH, PANEL_HEIGHT),
                 ruleSet, playerList, this);
+        gameLoop.wake();
+        repaint();
     }
 
     /**
@@ -107,6 +153,8 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
     public void startNextRound(List<Jogador> playerList, ConjuntoRegras ruleSet) {
         activeInterface = new InterfaceJogo(new Retangulo(0, 0, PANEL_WIDTH, PANEL_HEIGHT),
                 playerList, ruleSet, this);
+        gameLoop.wake();
+        repaint();
     }
 
     /**
@@ -118,6 +166,20 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
      */
     public void paint(Graphics g) {
         super.paint(g);
+        if (activeCanvas == null) {
+            synchronized (gameLoop.getLock()) {
+                paintFrame(g);
+            }
+        }
+    }
+
+    /**
+     * Desenha a interface ativa, a janela de pausa e a saída de depuração.
+     * Deve ser chamado com o bloqueio do LacoJogo.
+     *
+     * @param g Referência ao objeto Graphics para renderização.
+     */
+    private void paintFrame(Graphics g) {
         if (activeInterface != null) {
             activeInterface.paint(g);
         }
@@ -125,9 +187,12 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
             pauseWnd.paint(g);
         }
         if (DEBUG_MODE) {
+            DEBUG_LABEL.paint(g, 10, 20);
             g.setColor(Color.BLACK);
-            g.setFont(new Font("Arial", Font.BOLD, 20));
-            g.drawString("DEBUG ON", 10, 20);
+            g.setFont(CacheTexto.getFont(Font.PLAIN, 12));
+            g.drawString(String.format("%.1f passos/s  p50 %.2f ms  p99 %.2f ms  %s %.1f quadros/s",
+                    gameLoop.getTickRate(), gameLoop.getTickTimeP50(), gameLoop.getTickTimeP99(),
+                    gameLoop.getFrameMode(), gameLoop.getFrameRate()), 10, 36);
         }
     }
 
@@ -142,6 +207,66 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
             activeInterface.setEnabled(!isPaused);
         }
         pauseWnd.setEnabled(isPaused);
+        repaint();
+    }
+
+    /**
+     * Mostra o resultado do último passo. Chamado na thread do LacoJogo com o
+     * bloqueio do laço.
+     */
+    public void render() {
+        if (activeCanvas != null) {
+            renderActive();
+        } else {
+            repaintDirtyRegions();
+        }
+    }
+
+    /**
+     * Desenha o quadro inteiro no Canvas usando a BufferStrategy dele. As
+     * regiões marcadas são descartadas porque tudo é desenhado de novo.
+     */
+    private void renderActive() {
+        if (activeInterface != null) {
+            activeInterface.takeDirtyRegion();
+        }
+        pauseWnd.takeDirtyRegion();
+        if (!activeCanvas.isDisplayable()) {
+            return;
+        }
+        BufferStrategy strategy = activeCanvas.getBufferStrategy();
+        if (strategy == null) {
+            activeCanvas.createBufferStrategy(2);
+            strategy = activeCanvas.getBufferStrategy();
+        }
+        // O conteúdo das imagens de vídeo pode ser perdido a qualquer momento;
+        // nesse caso o quadro é desenhado de novo.
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                paintFrame(g);
+                g.dispose();
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Pede a repintura apenas das regiões que a interface ativa e a janela de
+     * pausa marcaram como alteradas. Quando nada mudou, nada é pintado.
+     */
+    private void repaintDirtyRegions() {
+        if (activeInterface != null) {
+            Rectangle region = activeInterface.takeDirtyRegion();
+            if (region != null) {
+                repaint(region);
+            }
+        }
+        Rectangle region = pauseWnd.takeDirtyRegion();
+        if (region != null) {
+            repaint(region);
+        }
     }
 
     /**
@@ -152,11 +277,21 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
     }
 
     /**
-     * Manipula a entrada da tecla para que Escape abra o menu de pausa.
+     * Manipula a entrada da tecla para que Escape abra o menu de pausa. A
+     * tecla é aplicada na thread do LacoJogo no início do próximo passo.
      *
      * @param keyCode A tecla que foi pressionada.
      */
     public void handleInput(int keyCode) {
+        gameLoop.post(() -> applyInput(keyCode));
+    }
+
+    /**
+     * Aplica uma tecla pressionada às interfaces.
+     *
+     * @param keyCode A tecla que foi pressionada.
+     */
+    private void applyInput(int keyCode) {
         if (keyCode == KeyEvent.VK_ESCAPE) {
             setPauseState(!pauseWnd.isEnabled());
         } else if (keyCode == KeyEvent.VK_0) {
@@ -175,11 +310,14 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
     @Override
     public void mousePressed(MouseEvent e) {
         Posicao mousePosition = new Posicao(e.getX(), e.getY());
-        pauseWnd.handleMousePress(mousePosition, e.getButton() == 1);
-        if (activeInterface != null) {
-            activeInterface.handleMousePress(mousePosition, e.getButton() == 1);
-        }
-        repaint();
+        boolean isLeft = e.getButton() == 1;
+        gameLoop.post(() -> {
+            pauseWnd.handleMousePress(mousePosition, isLeft);
+            if (activeInterface != null) {
+                activeInterface.handleMousePress(mousePosition, isLeft);
+            }
+            repaint();
+        });
     }
 
     /**
@@ -189,19 +327,7 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
      * @param limites Limites da área de jogo.
      */
     public void paintUnoTitle(Graphics g, Retangulo bounds) {
-        g.setFont(new Font("Arial", Font.BOLD, 40));
-        g.drawString("UNO!", bounds.width / 2 - 40, 50);
-        g.setFont(new Font("Arial", Font.BOLD, 10));
-        g.drawString("", bounds.width / 2 - 70, 65);
-        g.setFont(new Font("Arial", Font.BOLD, 40));
-        g.setColor(Carta.getColourByID(0));
-        g.drawString("U", bounds.width / 2 - 40 + 2, 48);
-        g.setColor(Carta.getColourByID(1));
-        g.drawString("N", bounds.width / 2 - 40 + 2 + 30, 48);
-        g.setColor(Carta.getColourByID(2));
-        g.drawString("O", bounds.width / 2 - 40 + 2 + 60, 48);
-        g.setColor(Carta.getColourByID(3));
-        g.drawString("!", bounds.width / 2 - 40 + 2 + 90, 48);
+        ChamadaUno.paintUnoText(g, bounds.width / 2 - 40, 50);
     }
 
     /**
@@ -212,24 +338,38 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
     @Override
     public void mouseMoved(MouseEvent e) {
         Posicao mousePosition = new Posicao(e.getX(), e.getY());
-        pauseWnd.handleMouseMove(mousePosition);
+        gameLoop.post(() -> {
+            pauseWnd.handleMouseMove(mousePosition);
+            if (activeInterface != null) {
+                activeInterface.handleMouseMove(mousePosition);
+            }
+        });
+    }
+
+    /**
+     * Atualiza a interface ativa por um passo. Chamado na thread do LacoJogo,
+     * que depois repinta apenas o que mudou.
+     *
+     * @param deltaTime Tempo em ms do passo.
+     */
+    public void tick(int deltaTime) {
         if (activeInterface != null) {
-            activeInterface.handleMouseMove(mousePosition);
+            activeInterface.update(deltaTime);
         }
-        repaint();
     }
 
     /**
-     * Força a atualização do jogo ativo e força uma repintura.
+     * Informa ao LacoJogo com que frequência ele precisa acordar. Com o jogo
+     * pausado nada muda sem uma entrada. Chamado na thread do LacoJogo com o
+     * bloqueio do laço.
      *
-     * @param e Informações sobre o evento.
+     * @return O modo pedido pela interface ativa, ou Idle quando pausado.
      */
-    @Override
-    public void actionPerformed(ActionEvent e) {
-        if (activeInterface != null) {
-            activeInterface.update(20);
+    public LacoJogo.FrameMode getFrameMode() {
+        if (pauseWnd.isEnabled() || activeInterface == null) {
+            return LacoJogo.FrameMode.Idle;
         }
-        repaint();
+        return activeInterface.getFrameMode();
     }
 
     /**
@@ -276,4 +416,39 @@ public class PainelJogo extends JPanel implements MouseListener, MouseMotionList
     @Override
     public void mouseDragged(MouseEvent e) {
     }
+
+    /**
+     * Canvas da renderização ativa. Quando o sistema pede uma pintura (a janela
+     * foi exposta, restaurada, redimensionada ou deixou de estar coberta), o
+     * Canvas não pinta nada: acorda o LacoJogo, que desenha o próximo quadro
+     * mesmo se estiver dormindo no modo Idle.
+     */
+    private class CanvasAtivo extends Canvas {
+        /**
+         * Versão da forma serializada, exigida por Canvas.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Acorda o laço para desenhar o quadro.
+         *
+         * @param g Ignorado; o quadro é desenhado pela BufferStrategy.
+         */
+        @Override
+        public void paint(Graphics g) {
+            if (gameLoop != null) {
+                gameLoop.wake();
+            }
+        }
+
+        /**
+         * Evita que o fundo seja limpo antes de paint(), o que piscaria.
+         *
+         * @param g Ignorado; o quadro é desenhado pela BufferStrategy.
+         */
+        @Override
+        public void update(Graphics g) {
+            paint(g);
+        }
+    }
 }
@@ -17,10 +17,6 @@ public class PassarOuJogarOverlay extends WndInterface implements TurnDecisionOv
      * Lista de botões que consiste nos botões Manter e Reproduzir.
      */
     private final List<Botao> buttonList;
-    /**
-     * Referência ao TurnAction que acionou a exibição desta sobreposição.
-     */
-    private TurnActionFactory.TurnDecisionAction currentAction;
     /**
      * Referência ao cartão fictício sobre o qual a sobreposição está tomando uma
      * decisão.
@@ -79,11 +75,10 @@ public class PassarOuJogarOverlay extends WndInterface implements TurnDecisionOv
      * @param currentAction A ação usada para acionar esta interface.
      */
     @Override
-    public void showOverlay(TurnActionFactory.TurnDecisionAction currentAction) {
-        this.currentAction = currentAction;
-        cardForChoice = new Carta(currentAction.storedData.get("faceValueID"),
-                currentAction.storedData.get("colourID"),
-                currentAction.storedData.get("cardID"));
+    public void showOverlay(TurnActionFactory.TurnSequence currentAction) {
+        cardForChoice = new Carta(currentAction.get(TurnActionFactory.DataSlot.FaceValueID),
+                currentAction.get(TurnActionFactory.DataSlot.ColourID),
+                currentAction.get(TurnActionFactory.DataSlot.CardID));
         cardForChoice.position.setPosition(cardPosition.x, cardPosition.y);
         setEnabled(true);
     }
@@ -100,7 +95,9 @@ public class PassarOuJogarOverlay extends WndInterface implements TurnDecisionOv
             return;
 
         for (Botao button : buttonList) {
-            button.setHovering(button.isPositionInside(mousePosition));
+            if (button.setHovering(button.isPositionInside(mousePosition))) {
+                markDirty(button.getPaintBounds());
+            }
         }
     }
 
@@ -119,10 +116,28 @@ public class PassarOuJogarOverlay extends WndInterface implements TurnDecisionOv
 
         for (Botao button : buttonList) {
             if (button.isPositionInside(mousePosition)) {
-                setEnabled(false);
-                currentAction.injectFlagProperty(button.getActionID());
+                int playerID = InterfaceJogo.getCurrentGame().getBottomPlayer().getPlayerID();
+                if (InterfaceJogo.getCurrentGame().getMotor().applyMove(playerID, button.getActionID() == 1
+                        ? CodigoJogada.playCard(cardForChoice.getEncodedCard())
+                        : CodigoJogada.encode(CodigoJogada.KEEP_CARD, 0))) {
+                    setEnabled(false);
+                }
                 break;
             }
         }
     }
+
+    /**
+     * Obtém a região dos botões e da carta da escolha.
+     *
+     * @return A região a ser redesenhada quando a interface muda.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        Retangulo region = new Retangulo(cardPosition, Carta.CARD_WIDTH, Carta.CARD_HEIGHT);
+        for (Botao button : buttonList) {
+            region = region.union(button.getPaintBounds());
+        }
+        return region;
+    }
 }
@@ -13,6 +13,15 @@ import java.util.List;
  * @versão 2023
  */
 public class PausaInterface extends WndInterface {
+    /**
+     * Cor que esmaece tudo atrás da interface de pausa.
+     */
+    private static final Color DIM_COLOUR = new Color(144, 143, 143, 204);
+    /**
+     * Cor dos painéis da interface.
+     */
+    private static final Color PANEL_COLOUR = new Color(165, 177, 94, 205);
+
     /**
      * Uma lista de todos os botões da interface.
      */
@@ -25,6 +34,14 @@ public class PausaInterface extends WndInterface {
      * Texto mostrando as mensagens com diferentes controles.
      */
     private final List<String> leftMessages, rightMessages;
+    /**
+     * Os textos desenhados: o título, os cabeçalhos e as mensagens dos controles.
+     */
+    private final CacheTexto.Texto titleText, controlsText, debugControlsText;
+    /**
+     * As mensagens dos controles já desenhadas, na mesma ordem das listas.
+     */
+    private final CacheTexto.Texto[] leftMessageTexts, rightMessageTexts;
 
     /**
      * Inicialize a interface com limites e deixe-a pronta para uso.
@@ -55,6 +72,16 @@ public class PausaInterface extends WndInterface {
         rightMessages.add("6: Remova a carta do jogador esquerdo");
         rightMessages.add("5: Alternar Mostrar sequência de ação de turno");
         rightMessages.add("4: Alternar Mostrar ativar árvore de ação ativada");
+
+        titleText = CacheTexto.getText("Pausado", CacheTexto.getFont(Font.BOLD, 40), Color.BLACK);
+        Font messageFont = CacheTexto.getFont(Font.BOLD, 20);
+        controlsText = CacheTexto.getText("Controles", messageFont, Color.BLACK);
+        debugControlsText = CacheTexto.getText("Controles de depuração (0 first)", messageFont, Color.BLACK);
+        leftMessageTexts = leftMessages.stream().map(message -> CacheTexto.getText(message, messageFont, Color.BLACK))
+                .toArray(CacheTexto.Texto[]::new);
+        rightMessageTexts = rightMessages.stream()
+                .map(message -> CacheTexto.getText(message, messageFont, Color.BLACK))
+                .toArray(CacheTexto.Texto[]::new);
     }
 
     /**
@@ -75,10 +102,10 @@ public class PausaInterface extends WndInterface {
     @Override
     public void paint(Graphics g) {
         // esmaece tudo atrás da interface de pausa
-        g.setColor(new Color(144, 143, 143, 204));
+        g.setColor(DIM_COLOUR);
         g.fillRect(0, 0, PainelJogo.PANEL_WIDTH, PainelJogo.PANEL_HEIGHT);
 
-        g.setColor(new Color(165, 177, 94, 205));
+        g.setColor(PANEL_COLOUR);
         g.fillRect(bounds.position.x, bounds.position.y, bounds.width, bounds.height);
         g.fillRect(170, 300, 160, 90);
         g.fillRect(790, 220, 410, 300);
@@ -86,25 +113,22 @@ public class PausaInterface extends WndInterface {
         g.drawRect(bounds.position.x, bounds.position.y, bounds.width, bounds.height);
         g.drawRect(170, 300, 160, 90);
         g.drawRect(790, 220, 410, 300);
-        g.setFont(new Font("Arial", Font.BOLD, 40));
-        int strWidth = g.getFontMetrics().stringWidth("Pausado");
-        g.drawString("Pausado", bounds.position.x + bounds.width / 2 - strWidth / 2, bounds.position.y + 40);
+        titleText.paintCentred(g, bounds.position.x + bounds.width / 2, bounds.position.y + 40);
         buttonList.forEach(button -> button.paint(g));
 
-        g.setFont(new Font("Arial", Font.BOLD, 20));
-        g.drawString("Controles", 210, 320);
-        for (int y = 0; y < leftMessages.size(); y++) {
-            g.drawString(leftMessages.get(y), 180, 350 + y * 30);
+        controlsText.paint(g, 210, 320);
+        for (int y = 0; y < leftMessageTexts.length; y++) {
+            leftMessageTexts[y].paint(g, 180, 350 + y * 30);
         }
-        g.drawString("Controles de depuração (0 first)", 880, 260);
-        for (int y = 0; y < rightMessages.size(); y++) {
-            g.drawString(rightMessages.get(y), 800, 300 + y * 30);
+        debugControlsText.paint(g, 880, 260);
+        for (int y = 0; y < rightMessageTexts.length; y++) {
+            rightMessageTexts[y].paint(g, 800, 300 + y * 30);
         }
     }
 
     /**
      * Não faz nada se não estiver habilitado. Atualiza os estados de foco de todos
-     * os botões.
+     * os botões e marca para redesenho os que mudaram.
      *
      * @param mousePosition Posição do mouse durante este movimento.
      */
@@ -114,7 +138,9 @@ public class PausaInterface extends WndInterface {
             return;
 
         for (Botao button : buttonList) {
-            button.setHovering(button.isPositionInside(mousePosition));
+            if (button.setHovering(button.isPositionInside(mousePosition))) {
+                markDirty(button.getPaintBounds());
+            }
         }
     }
 
@@ -10,6 +10,10 @@ public class PlayerFlashOverlay extends WndInterface implements GeralOverlayInte
      * Mensagem a ser exibida.
      */
     protected String message;
+    /**
+     * A mensagem desenhada com a sombra, obtida de novo só quando a mensagem muda.
+     */
+    private CacheTexto.Texto messageText;
     /**
      * Cor para mostrar.
      */
@@ -32,6 +36,7 @@ public class PlayerFlashOverlay extends WndInterface implements GeralOverlayInte
         this.message = message;
         this.colour = colour;
         this.fontSize = fontSize;
+        messageText = createMessageText();
     }
 
     /**
@@ -40,7 +45,19 @@ public class PlayerFlashOverlay extends WndInterface implements GeralOverlayInte
      * @param mensagem A mensagem a ser exibida.
      */
     public void setMessage(String message) {
-        this.message = message;
+        if (!message.equals(this.message)) {
+            this.message = message;
+            messageText = createMessageText();
+        }
+    }
+
+    /**
+     * Obtém do cache a mensagem atual com a cor e a sombra da sobreposição.
+     *
+     * @return O texto pronto para ser pintado.
+     */
+    private CacheTexto.Texto createMessageText() {
+        return CacheTexto.getText(message, CacheTexto.getFont(Font.BOLD, fontSize), colour, Color.BLACK, -2, -2);
     }
 
     /**
@@ -65,6 +82,16 @@ public class PlayerFlashOverlay extends WndInterface implements GeralOverlayInte
         }
     }
 
+    /**
+     * A mensagem pisca até o cronômetro acabar.
+     *
+     * @return Animating enquanto a sobreposição está visível.
+     */
+    @Override
+    public LacoJogo.FrameMode getFrameMode() {
+        return isEnabled() ? LacoJogo.FrameMode.Animating : LacoJogo.FrameMode.Idle;
+    }
+
     /**
      * Desenha o texto SKIPPED piscando e mostrando 75% do tempo.
      *
@@ -73,12 +100,17 @@ public class PlayerFlashOverlay extends WndInterface implements GeralOverlayInte
     @Override
     public void paint(Graphics g) {
         if (displayTimer % 200 < 150) {
-            g.setColor(Color.BLACK);
-            g.setFont(new Font("Arial", Font.BOLD, fontSize));
-            int strWidth = g.getFontMetrics().stringWidth(message);
-            g.drawString(message, bounds.position.x - strWidth / 2 - 2, bounds.position.y - 2);
-            g.setColor(colour);
-            g.drawString(message, bounds.position.x - strWidth / 2, bounds.position.y);
+            messageText.paintCentred(g, bounds.position.x, bounds.position.y);
         }
     }
+
+    /**
+     * Obtém a região da mensagem, centralizada na posição da sobreposição.
+     *
+     * @return A região a ser redesenhada quando a interface muda.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        return messageText.getCentredPaintBounds(bounds.position.x, bounds.position.y);
+    }
 }
\ No newline at end of file
@@ -17,10 +17,6 @@ public class PlayerSelectionOverlay extends WndInterface implements TurnDecision
      * e Recusar.
      */
     private final List<Botao> buttonList;
-    /**
-     * Referência ao TurnAction que acionou a exibição desta sobreposição.
-     */
-    private TurnActionFactory.TurnDecisionAction currentAction;
 
     /**
      * Inicializa a sobreposição com um botão para cada um dos outros jogadores.
@@ -68,8 +64,7 @@ public class PlayerSelectionOverlay extends WndInterface implements TurnDecision
      * @param currentAction A ação usada para acionar esta interface.
      */
     @Override
-    public void showOverlay(TurnActionFactory.TurnDecisionAction currentAction) {
-        this.currentAction = currentAction;
+    public void showOverlay(TurnActionFactory.TurnSequence currentAction) {
         setEnabled(true);
     }
 
@@ -85,7 +80,9 @@ public class PlayerSelectionOverlay extends WndInterface implements TurnDecision
             return;
 
         for (Botao button : buttonList) {
-            button.setHovering(button.isPositionInside(mousePosition));
+            if (button.setHovering(button.isPositionInside(mousePosition))) {
+                markDirty(button.getPaintBounds());
+            }
         }
     }
 
@@ -104,10 +101,27 @@ public class PlayerSelectionOverlay extends WndInterface implements TurnDecision
 
         for (Botao button : buttonList) {
             if (button.isPositionInside(mousePosition)) {
-                setEnabled(false);
-                currentAction.injectFlagProperty(button.getActionID());
+                if (InterfaceJogo.getCurrentGame().getMotor().applyMove(
+                        InterfaceJogo.getCurrentGame().getBottomPlayer().getPlayerID(),
+                        CodigoJogada.swapHands(button.getActionID()))) {
+                    setEnabled(false);
+                }
                 break;
             }
         }
     }
+
+    /**
+     * Obtém a região que contém os botões de todos os oponentes.
+     *
+     * @return A região a ser redesenhada quando a interface muda.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        Retangulo region = buttonList.get(0).getPaintBounds();
+        for (Botao button : buttonList) {
+            region = region.union(button.getPaintBounds());
+        }
+        return region;
+    }
 }
@@ -113,4 +113,18 @@ public class Retangulo {
         // as caixas delimitadoras se cruzam
         return true;
     }
+
+    /**
+     * Obtém o menor retângulo que contém este e o outro retângulo.
+     *
+     * @param otherRectangle O retângulo a ser incluído.
+     * @return Um novo retângulo com a união dos dois.
+     */
+    public Retangulo union(Retangulo otherRectangle) {
+        int left = Math.min(position.x, otherRectangle.position.x);
+        int top = Math.min(position.y, otherRectangle.position.y);
+        int right = Math.max(position.x + width, otherRectangle.position.x + otherRectangle.width);
+        int bottom = Math.max(position.y + height, otherRectangle.position.y + otherRectangle.height);
+        return new Retangulo(left, top, right - left, bottom - top);
+    }
 }
@@ -10,15 +10,16 @@ import java.awt.*;
  * @versão 2023
  */
 public class SeletorCorCuringa extends WndInterface implements TurnDecisionOverlayInterface {
+    /**
+     * A mensagem desenhada acima da roda de cores.
+     */
+    private static final CacheTexto.Texto MESSAGE_TEXT = CacheTexto.getText("Escolha uma cor",
+            CacheTexto.getFont(Font.BOLD, 20), Color.WHITE);
     /**
      * Rastreamento da área pairada com a posição e região atuais da grade
      * número.
      */
     private int hoveredRegion, hoverX, hoverY;
-    /**
-     * Referência ao TurnAction que acionou a exibição desta sobreposição.
-     */
-    private TurnActionFactory.TurnDecisionAction controllingTurnAction;
 
     /**
      * Inicializa a sobreposição usando a região especificada.
@@ -65,10 +66,7 @@ public class SeletorCorCuringa extends WndInterface implements TurnDecisionOverl
         }
         g.setColor(Color.WHITE);
         g.drawRect(bounds.position.x - 20, bounds.position.y - 40, bounds.width + 40, bounds.height + 60);
-        g.setFont(new Font("Arial", Font.BOLD, 20));
-        String message = "Escolha uma cor";
-        int strWidth = g.getFontMetrics().stringWidth(message);
-        g.drawString(message, bounds.position.x + bounds.width / 2 - strWidth / 2, bounds.position.y - 5);
+        MESSAGE_TEXT.paintCentred(g, bounds.position.x + bounds.width / 2, bounds.position.y - 5);
     }
 
     /**
@@ -78,6 +76,7 @@ public class SeletorCorCuringa extends WndInterface implements TurnDecisionOverl
      */
     @Override
     public void handleMouseMove(Posicao mousePosition) {
+        int oldHoveredRegion = hoveredRegion;
         hoveredRegion = -1;
         if (bounds.isPositionInside(mousePosition)) {
             hoverX = (mousePosition.x - bounds.position.x) / (bounds.width / 2);
@@ -91,6 +90,19 @@ public class SeletorCorCuringa extends WndInterface implements TurnDecisionOverl
             else if (hoverX == 0 && hoverY == 1)
                 hoveredRegion = 3;
         }
+        if (hoveredRegion != oldHoveredRegion) {
+            markDirty(getPaintBounds());
+        }
+    }
+
+    /**
+     * Obtém a região do fundo preto, que contém a roda e a mensagem.
+     *
+     * @return A região a ser redesenhada quando a interface muda.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        return new Retangulo(bounds.position.x - 20, bounds.position.y - 40, bounds.width + 40, bounds.height + 60);
     }
 
     /**
@@ -104,9 +116,9 @@ public class SeletorCorCuringa extends WndInterface implements TurnDecisionOverl
     @Override
     public void handleMousePress(Posicao mousePosition, boolean isLeft) {
         handleMouseMove(mousePosition);
-        if (hoveredRegion != -1) {
-            controllingTurnAction.injectProperty("colourID", hoveredRegion);
-            controllingTurnAction.injectFlagProperty(1);
+        if (hoveredRegion != -1 && InterfaceJogo.getCurrentGame().getMotor().applyMove(
+                InterfaceJogo.getCurrentGame().getBottomPlayer().getPlayerID(),
+                CodigoJogada.chooseColour(hoveredRegion))) {
             setEnabled(false);
         }
     }
@@ -117,8 +129,7 @@ public class SeletorCorCuringa extends WndInterface implements TurnDecisionOverl
      * @param currentAction A ação usada para acionar esta interface.
      */
     @Override
-    public void showOverlay(TurnActionFactory.TurnDecisionAction currentAction) {
-        this.controllingTurnAction = currentAction;
+    public void showOverlay(TurnActionFactory.TurnSequence currentAction) {
         setEnabled(true);
     }
 }
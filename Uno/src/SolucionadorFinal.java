@@ -0,0 +1,415 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Uno
+ *
+ * Classe SolucionadorFinal:
+ * Escolhe as jogadas no fim de rodadas de dois jogadores, quando as duas
+ * mãos têm no máximo HAND_SIZE_THRESHOLD cartas. Como a mão do oponente não
+ * é conhecida, o solucionador sorteia SAMPLE_COUNT configurações das cartas
+ * escondidas (EstadoJogo.determinize), descartando as que o ModeloOponentes
+ * da IA sabe serem impossíveis, e em cada uma resolve a posição com
+ * expectimax: o jogador maximiza a sua chance de vencer, o oponente a
+ * minimiza, e cada compra de início de turno é um nó de acaso sobre os tipos
+ * de carta que ainda estão no baralho, pesados pela quantidade de cada um. As
+ * penalidades de +2, +4 e desafios seguem a ordem sorteada do baralho. As
+ * chances de cada jogada da raiz são somadas entre os sorteios e a maior é
+ * escolhida.
+ *
+ * Cada sorteio é resolvido por aprofundamento iterativo até que todas as
+ * linhas cheguem ao fim da rodada, até MAX_DEPTH decisões ou até acabar a sua
+ * parte do orçamento de nós; as posições cortadas são avaliadas pelo tamanho
+ * das mãos. As posições já resolvidas ficam em uma tabela de transposição de
+ * tamanho fixo, indexada por EstadoJogo.getStateHash, que é limpa a cada
+ * jogada. A busca para apenas pelo orçamento de nós, então a mesma partida
+ * com a mesma semente tem sempre as mesmas escolhas, em qualquer máquina e
+ * com qualquer carga. Só a interface pode pedir também um limite de tempo
+ * (INTERACTIVE_TIME_BUDGET), que garante a resposta dentro do atraso de um
+ * AIJogador ao custo de deixar as escolhas dependerem da velocidade da
+ * máquina.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class SolucionadorFinal {
+    /**
+     * Tamanho máximo das duas mãos para que o solucionador seja usado.
+     */
+    public static final int HAND_SIZE_THRESHOLD = 3;
+    /**
+     * Limite de tempo por jogada em milissegundos sugerido para partidas com
+     * interface, bem menor que o atraso de 1500ms de um AIJogador.
+     */
+    public static final int INTERACTIVE_TIME_BUDGET = 250;
+    /**
+     * Valor de timeBudget que desliga o limite de tempo.
+     */
+    public static final int NO_TIME_LIMIT = 0;
+    /**
+     * Número de configurações sorteadas das cartas escondidas.
+     */
+    private static final int SAMPLE_COUNT = 8;
+    /**
+     * Número de sorteios tentados para obter uma mão possível antes de usar a
+     * última mesmo assim.
+     */
+    private static final int MAX_SAMPLE_TRIES = 32;
+    /**
+     * Número máximo de decisões e compras a partir da raiz.
+     */
+    private static final int MAX_DEPTH = 16;
+    /**
+     * Número de nós visitados por jogada, dividido entre os sorteios.
+     */
+    private static final int NODE_BUDGET = 50_000;
+    /**
+     * Número de nós entre verificações do relógio.
+     */
+    private static final int NODES_PER_CLOCK_CHECK = 1024;
+    /**
+     * A tabela de transposição tem 2^TABLE_BITS entradas, cerca de 13 bytes
+     * cada.
+     */
+    private static final int TABLE_BITS = 16;
+    /**
+     * Profundidade guardada para posições resolvidas até o fim em todas as
+     * linhas, que valem para qualquer profundidade pedida.
+     */
+    private static final byte EXACT_DEPTH = Byte.MAX_VALUE;
+
+    /**
+     * Chaves da tabela de transposição, ou zero nas entradas vazias.
+     */
+    private final long[] tableKeys = new long[1 << TABLE_BITS];
+    /**
+     * A chance de vitória guardada para cada chave.
+     */
+    private final float[] tableValues = new float[1 << TABLE_BITS];
+    /**
+     * A profundidade com que cada valor foi calculado, ou EXACT_DEPTH.
+     */
+    private final byte[] tableDepths = new byte[1 << TABLE_BITS];
+    /**
+     * O estado capturado do jogo, antes dos sorteios.
+     */
+    private final EstadoJogo rootState = new EstadoJogo(null);
+    /**
+     * Cópia de trabalho usada em cada sorteio.
+     */
+    private final EstadoJogo state = new EstadoJogo(null);
+    /**
+     * Espaço para as jogadas de cada nível da busca, criado com o tamanho do
+     * baralho.
+     */
+    private final int[][] moveBuffers = new int[MAX_DEPTH + 1][];
+    /**
+     * Espaço para contar os tipos de carta no baralho em cada nível.
+     */
+    private final int[][] drawCounts = new int[MAX_DEPTH + 1][EstadoJogo.ACTION_COUNT];
+    /**
+     * As jogadas da raiz.
+     */
+    private int[] rootMoves = new int[0];
+    /**
+     * A soma das chances de cada jogada da raiz entre os sorteios.
+     */
+    private double[] rootValues = new double[0];
+    /**
+     * As chances da raiz no sorteio atual: as da última profundidade completa
+     * e as da profundidade em andamento.
+     */
+    private double[] completedValues = new double[0], depthValues = new double[0];
+    /**
+     * O jogador que está escolhendo a jogada.
+     */
+    private int observerID;
+    /**
+     * Nós visitados nesta jogada e o limite do sorteio atual.
+     */
+    private int nodeCount, nodeLimit;
+    /**
+     * Instante em que a busca desta jogada deve parar, usado apenas quando
+     * hasDeadline é verdadeiro.
+     */
+    private long deadline;
+    /**
+     * Verdadeiro quando a jogada atual tem limite de tempo.
+     */
+    private boolean hasDeadline;
+    /**
+     * Verdadeiro quando o orçamento acabou no meio de uma profundidade.
+     */
+    private boolean aborted;
+    /**
+     * Verdadeiro quando algum nó do caminho atual foi cortado pela
+     * profundidade e avaliado pelo tamanho das mãos.
+     */
+    private boolean reachedDepthLimit;
+
+    /**
+     * Verifica se a posição está no alcance do solucionador: uma rodada em
+     * andamento com dois jogadores e as duas mãos com até HAND_SIZE_THRESHOLD
+     * cartas.
+     *
+     * @param game O jogo a ser verificado.
+     * @return Verdadeiro se solve() deve ser usado.
+     */
+    public static boolean isEndgame(MotorJogo game) {
+        if (game.isRoundOver() || game.getAllPlayers().size() != 2) {
+            return false;
+        }
+        for (Jogador player : game.getAllPlayers()) {
+            if (player.getHandSize() > HAND_SIZE_THRESHOLD) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Escolhe a jogada do jogador atual parando apenas pelo orçamento de nós,
+     * de forma que a escolha é reproduzível. Deve ser chamado pela thread que
+     * atualiza o jogo, em uma posição aceita por isEndgame().
+     *
+     * @param game          O jogo em que o jogador atual está decidindo.
+     * @param opponentModel O que o jogador atual sabe sobre a mão do
+     *                      oponente, ou nulo.
+     * @param random        Fluxo usado para sortear as cartas escondidas.
+     * @return A jogada codificada com CodigoJogada, ou -1 se o jogador atual
+     *         não tem jogadas.
+     */
+    public int solve(MotorJogo game, ModeloOponentes opponentModel, SplittableRandom random) {
+        return solve(game, opponentModel, random, NO_TIME_LIMIT);
+    }
+
+    /**
+     * Escolhe a jogada do jogador atual, parando também pelo tempo se
+     * timeBudget for positivo. Com limite de tempo a escolha passa a depender
+     * da velocidade da máquina. Deve ser chamado pela thread que atualiza o
+     * jogo, em uma posição aceita por isEndgame().
+     *
+     * @param game          O jogo em que o jogador atual está decidindo.
+     * @param opponentModel O que o jogador atual sabe sobre a mão do
+     *                      oponente, ou nulo.
+     * @param random        Fluxo usado para sortear as cartas escondidas.
+     * @param timeBudget    Tempo máximo em milissegundos, ou NO_TIME_LIMIT.
+     * @return A jogada codificada com CodigoJogada, ou -1 se o jogador atual
+     *         não tem jogadas.
+     */
+    public int solve(MotorJogo game, ModeloOponentes opponentModel, SplittableRandom random, int timeBudget) {
+        hasDeadline = timeBudget > NO_TIME_LIMIT;
+        deadline = System.nanoTime() + timeBudget * 1_000_000L;
+        rootState.captureFrom(game);
+        rootState.setRandom(random);
+        state.setRandom(random);
+        observerID = rootState.getCurrentPlayerID();
+        int capacity = game.getDeck().getTotalCards() + rootState.getPlayerCount() + 4;
+        if (moveBuffers[0] == null || moveBuffers[0].length < capacity) {
+            for (int depth = 0; depth <= MAX_DEPTH; depth++) {
+                moveBuffers[depth] = new int[capacity];
+            }
+        }
+        int moveCount = getSearchMoves(rootState, moveBuffers[0]);
+        if (moveCount <= 1) {
+            return moveCount == 0 ? -1 : moveBuffers[0][0];
+        }
+        if (rootMoves.length < moveCount) {
+            rootMoves = new int[capacity];
+            rootValues = new double[capacity];
+            completedValues = new double[capacity];
+            depthValues = new double[capacity];
+        }
+        System.arraycopy(moveBuffers[0], 0, rootMoves, 0, moveCount);
+        Arrays.fill(rootValues, 0, moveCount, 0);
+        Arrays.fill(tableKeys, 0);
+        nodeCount = 0;
+        aborted = false;
+
+        for (int sample = 0; sample < SAMPLE_COUNT && !aborted; sample++) {
+            for (int tries = 1; ; tries++) {
+                state.copyFrom(rootState);
+                state.determinize(observerID, random);
+                if (opponentModel == null || tries == MAX_SAMPLE_TRIES
+                        || opponentModel.isPossibleHand(state, 1 - observerID)) {
+                    break;
+                }
+            }
+            nodeLimit = nodeCount + NODE_BUDGET / SAMPLE_COUNT;
+            int completedDepth = 0;
+            for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+                reachedDepthLimit = false;
+                for (int i = 0; i < moveCount && !aborted; i++) {
+                    int mark = state.mark();
+                    state.applyMove(rootMoves[i]);
+                    depthValues[i] = search(depth - 1, 1);
+                    state.undo(mark);
+                }
+                if (aborted) {
+                    break;
+                }
+                System.arraycopy(depthValues, 0, completedValues, 0, moveCount);
+                completedDepth = depth;
+                if (!reachedDepthLimit) {
+                    break;
+                }
+            }
+            // O orçamento do próximo sorteio não depende de onde este parou.
+            aborted = isPastDeadline();
+            if (completedDepth > 0) {
+                for (int i = 0; i < moveCount; i++) {
+                    rootValues[i] += completedValues[i];
+                }
+            }
+        }
+
+        int best = 0;
+        for (int i = 1; i < moveCount; i++) {
+            if (rootValues[i] > rootValues[best]) {
+                best = i;
+            }
+        }
+        return rootMoves[best];
+    }
+
+    /**
+     * Verifica se a jogada atual tem limite de tempo e se ele já passou.
+     *
+     * @return Verdadeiro se a busca deve parar pelo tempo.
+     */
+    private boolean isPastDeadline() {
+        return hasDeadline && System.nanoTime() > deadline;
+    }
+
+    /**
+     * Obtém o número de nós visitados pela última chamada de solve().
+     *
+     * @return O número de nós.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Calcula a chance de o observador vencer a partir do estado atual.
+     *
+     * @param depth Decisões e compras que ainda podem ser exploradas.
+     * @param ply   Distância até a raiz, usada para escolher os buffers.
+     * @return A chance de vitória do observador, entre 0 e 1.
+     */
+    private double search(int depth, int ply) {
+        if (state.isRoundOver()) {
+            return state.getWinnerID() == observerID ? 1 : 0;
+        }
+        if (++nodeCount >= nodeLimit
+                || (nodeCount % NODES_PER_CLOCK_CHECK == 0 && isPastDeadline())) {
+            aborted = true;
+            return 0;
+        }
+        if (depth == 0) {
+            reachedDepthLimit = true;
+            return evaluate();
+        }
+        long key = state.getStateHash();
+        if (key == 0) {
+            key = 1;
+        }
+        int index = (int) key & ((1 << TABLE_BITS) - 1);
+        if (tableKeys[index] == key && tableDepths[index] >= depth) {
+            reachedDepthLimit |= tableDepths[index] != EXACT_DEPTH;
+            return tableValues[index];
+        }
+
+        boolean outerReachedDepthLimit = reachedDepthLimit;
+        reachedDepthLimit = false;
+        int[] moves = moveBuffers[ply];
+        int moveCount = getSearchMoves(state, moves);
+        double value;
+        if (moveCount == 1 && CodigoJogada.getType(moves[0]) == CodigoJogada.DRAW_CARD
+                && state.getDrawPileSize() > 0) {
+            value = searchDraw(depth, ply);
+        } else {
+            boolean maximizing = state.getCurrentPlayerID() == observerID;
+            value = maximizing ? -1 : 2;
+            for (int i = 0; i < moveCount && !aborted; i++) {
+                int mark = state.mark();
+                state.applyMove(moves[i]);
+                double childValue = search(depth - 1, ply + 1);
+                state.undo(mark);
+                value = maximizing ? Math.max(value, childValue) : Math.min(value, childValue);
+            }
+        }
+        if (aborted) {
+            return 0;
+        }
+        tableKeys[index] = key;
+        tableValues[index] = (float) value;
+        tableDepths[index] = reachedDepthLimit ? (byte) depth : EXACT_DEPTH;
+        reachedDepthLimit |= outerReachedDepthLimit;
+        return value;
+    }
+
+    /**
+     * Nó de acaso da compra de início de turno: cada tipo de carta do
+     * baralho é colocado no topo e comprado, com peso igual à fração do
+     * baralho que ele ocupa.
+     *
+     * @param depth Decisões e compras que ainda podem ser exploradas.
+     * @param ply   Distância até a raiz, usada para escolher os buffers.
+     * @return A chance de vitória do observador, entre 0 e 1.
+     */
+    private double searchDraw(int depth, int ply) {
+        int[] counts = drawCounts[ply];
+        int drawPileSize = state.getDrawPileSize();
+        for (int i = 0; i < drawPileSize; i++) {
+            counts[EstadoJogo.getActionForCard(state.getDrawPileCard(i))]++;
+        }
+        double value = 0;
+        for (int i = 0; i < drawPileSize; i++) {
+            int action = EstadoJogo.getActionForCard(state.getDrawPileCard(i));
+            int count = counts[action];
+            if (count == 0) {
+                continue;
+            }
+            // Cada tipo é explorado só uma vez, na sua primeira posição.
+            counts[action] = 0;
+            if (!aborted) {
+                int mark = state.mark();
+                state.moveToTopOfDrawPile(i);
+                state.drawCard();
+                value += count * search(depth - 1, ply + 1);
+                state.undo(mark);
+            }
+        }
+        return value / drawPileSize;
+    }
+
+    /**
+     * Avalia uma posição cortada pela profundidade: a chance de vitória do
+     * observador é estimada pela fração das cartas que estão com o oponente.
+     *
+     * @return Um valor entre 0 e 1.
+     */
+    private double evaluate() {
+        int ownCards = state.getHandSize(observerID);
+        int otherCards = state.getHandSize(1 - observerID);
+        return otherCards / (double) (ownCards + otherCards);
+    }
+
+    /**
+     * Obtém as jogadas exploradas a partir de um estado: as de
+     * EstadoJogo.getLegalMoves, exceto a compra quando há carta para jogar no
+     * início do turno, que o AIJogador nunca escolhe.
+     *
+     * @param from  O estado.
+     * @param moves Recebe as jogadas.
+     * @return O número de jogadas.
+     */
+    private static int getSearchMoves(EstadoJogo from, int[] moves) {
+        int moveCount = from.getLegalMoves(moves);
+        if (from.getPhase() == EstadoJogo.Phase.Turn && moveCount > 1) {
+            moveCount--;
+        }
+        return moveCount;
+    }
+}
@@ -11,13 +11,17 @@ import java.awt.*;
  */
 public class StatusOverlay extends WndInterface implements TurnDecisionOverlayInterface {
     /**
-     * Text to display showing the current status.
+     * Colour of the box behind the status text.
      */
-    private String statusText;
+    private static final Color BACKGROUND_COLOUR = new Color(184, 154, 143, 204);
+    /**
+     * The status text, looked up from the text cache each time a status is shown.
+     */
+    private CacheTexto.Texto statusText;
     /**
      * The font to render the status text with.
      */
-    private final Font statusFont = new Font("Arial", Font.BOLD, 20);
+    private final Font statusFont = CacheTexto.getFont(Font.BOLD, 20);
     /**
      * Centre of the bounds to draw the text at.
      */
@@ -27,9 +31,14 @@ public class StatusOverlay extends WndInterface implements TurnDecisionOverlayIn
      */
     private double timeOut;
     /**
-     * String showing the number representing the time remaining.
+     * Whole seconds shown by timeOutText.
+     */
+    private int shownSeconds;
+    /**
+     * Text showing the number representing the time remaining. Only looked up
+     * again when the whole number of seconds changes.
      */
-    private String timeOutStr;
+    private CacheTexto.Texto timeOutText;
 
     /**
      * Initialise the interface ready to show a status.
@@ -40,7 +49,7 @@ public class StatusOverlay extends WndInterface implements TurnDecisionOverlayIn
         super(bounds);
         setEnabled(false);
         centre = bounds.getCentre();
-        timeOutStr = "";
+        shownSeconds = -1;
     }
 
     /**
@@ -52,7 +61,28 @@ public class StatusOverlay extends WndInterface implements TurnDecisionOverlayIn
     public void update(int deltaTime) {
         timeOut -= deltaTime / 1000.0;
         if(timeOut < 0) timeOut = 0;
-        timeOutStr = (int)timeOut + "s";
+        updateTimeOutText();
+    }
+
+    /**
+     * Looks up the countdown text when the whole number of seconds changes.
+     */
+    private void updateTimeOutText() {
+        if((int)timeOut != shownSeconds) {
+            shownSeconds = (int)timeOut;
+            timeOutText = CacheTexto.getText(shownSeconds + "s", statusFont,
+                    timeOut < 6 ? Color.RED : Color.YELLOW, Color.BLACK, -2, 2);
+        }
+    }
+
+    /**
+     * The countdown keeps running while the status is shown.
+     *
+     * @return Animating while the overlay is visible.
+     */
+    @Override
+    public LacoJogo.FrameMode getFrameMode() {
+        return isEnabled() ? LacoJogo.FrameMode.Animating : LacoJogo.FrameMode.Idle;
     }
 
     /**
@@ -62,16 +92,27 @@ public class StatusOverlay extends WndInterface implements TurnDecisionOverlayIn
      */
     @Override
     public void paint(Graphics g) {
-        g.setFont(statusFont);
-        int strWidth = g.getFontMetrics().stringWidth(statusText);
-        g.setColor(new Color(184, 154, 143, 204));
+        int strWidth = statusText.getWidth();
+        g.setColor(BACKGROUND_COLOUR);
         g.fillRect(centre.x-strWidth/2-10, centre.y-65, strWidth+20, 60);
-        g.setColor(Color.BLACK);
-        g.drawString(statusText, centre.x-strWidth/2, centre.y-20);
-        strWidth = g.getFontMetrics().stringWidth(timeOutStr);
-        g.drawString(timeOutStr, centre.x-strWidth/2-2, centre.y-40+2);
-        g.setColor(timeOut < 6 ? Color.RED : Color.YELLOW);
-        g.drawString(timeOutStr, centre.x-strWidth/2, centre.y-40);
+        statusText.paintCentred(g, centre.x, centre.y-20);
+        timeOutText.paintCentred(g, centre.x, centre.y-40);
+    }
+
+    /**
+     * Gets the region covered by the status box and the countdown.
+     *
+     * @return The region to repaint when the overlay changes.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        int strWidth = statusText == null ? 0 : statusText.getWidth();
+        Retangulo region = new Retangulo(centre.x-strWidth/2-10, centre.y-65, strWidth+20, 60);
+        if (statusText != null) {
+            region = region.union(statusText.getCentredPaintBounds(centre.x, centre.y-20))
+                    .union(timeOutText.getCentredPaintBounds(centre.x, centre.y-40));
+        }
+        return region;
     }
 
     /**
@@ -80,11 +121,12 @@ public class StatusOverlay extends WndInterface implements TurnDecisionOverlayIn
      * @param currentAction The action used to trigger this interface.
      */
     @Override
-    public void showOverlay(TurnActionFactory.TurnDecisionAction currentAction) {
+    public void showOverlay(TurnActionFactory.TurnSequence currentAction) {
         setEnabled(true);
-        statusText = createContextString(currentAction);
+        statusText = CacheTexto.getText(createContextString(currentAction), statusFont, Color.BLACK);
         timeOut = InterfaceJogo.getCurrentGame().getRuleSet().getDefaultTimeOut();
-        timeOutStr = (int)timeOut + "s";
+        shownSeconds = -1;
+        updateTimeOutText();
     }
 
     /**
@@ -94,14 +136,14 @@ public class StatusOverlay extends WndInterface implements TurnDecisionOverlayIn
      * @param currentAction The action to use for context.
      * @return A String representing the status message to be displayed.
      */
-    private String createContextString(TurnActionFactory.TurnDecisionAction currentAction) {
+    private String createContextString(TurnActionFactory.TurnSequence currentAction) {
         String playerName = InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerName();
         String result;
-        switch(currentAction.flagName) {
-            case "keepOrPlay" -> result = "escolhendo Manter ou Jogar.";
-            case "wildColour" -> result = "escolhendo a cor do curinga.";
-            case "isChallenging" -> result = "escolhendo Resposta a +4.";
-            case "otherPlayer" -> result = "escolhendo outro jogador para trocar.";
+        switch(currentAction.getDecision().flagName) {
+            case KeepOrPlay -> result = "escolhendo Manter ou Jogar.";
+            case WildColour -> result = "escolhendo a cor do curinga.";
+            case IsChallenging -> result = "escolhendo Resposta a +4.";
+            case OtherPlayer -> result = "escolhendo outro jogador para trocar.";
             default -> result = "pensamento...";
         }
         if(InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerType() == Jogador.PlayerType.UnoJogador) {
@@ -66,6 +66,26 @@ public class SucessoDesafioOverlay extends WndInterface implements GeralOverlayI
         }
     }
 
+    /**
+     * O tique pisca até o cronômetro acabar.
+     *
+     * @return Animating enquanto a sobreposição está visível.
+     */
+    @Override
+    public LacoJogo.FrameMode getFrameMode() {
+        return isEnabled() ? LacoJogo.FrameMode.Animating : LacoJogo.FrameMode.Idle;
+    }
+
+    /**
+     * Obtém a região do tique, cujo contorno passa da borda direita.
+     *
+     * @return A região a ser redesenhada enquanto o tique pisca.
+     */
+    @Override
+    public Retangulo getPaintBounds() {
+        return new Retangulo(bounds.position.x, bounds.position.y, bounds.width + 1, bounds.height + 1);
+    }
+
     /**
      * Desenha o tick piscando mostrando 75% das vezes.
      *
@@ -0,0 +1,420 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Uno
+ *
+ * Classe TorneioIA:
+ * Joga partidas apenas entre AIJogadors, sem interface, em paralelo usando
+ * todos os núcleos disponíveis. Cobre todas as combinações de estratégias
+ * (Ofensivo, Defensivo e Caotico) com 2 a 4 lugares e acumula taxa de vitória,
+ * pontuação média da rodada, cartas compradas e duração das partidas. As
+ * compras são contadas por um ouvinte inscrito no barramento de eventos de
+ * cada partida.
+ *
+ * Uso: TorneioIA [partidasPorCombinação] [threads] [semente] [--escala]
+ * Com --escala, um mesmo lote é jogado com 1, 2, 4... threads até o número de
+ * núcleos e as partidas por segundo de cada configuração são mostradas.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public class TorneioIA {
+    /**
+     * As estratégias que participam do torneio.
+     */
+    private static final AIJogador.AIStrategy[] STRATEGIES = {
+            AIJogador.AIStrategy.Ofensivo, AIJogador.AIStrategy.Defensivo, AIJogador.AIStrategy.Caotico };
+    /**
+     * Menor e maior número de lugares na mesa.
+     */
+    private static final int MIN_SEATS = 2, MAX_SEATS = 4;
+    /**
+     * Limite de atualizações de uma partida antes de ser considerada sem fim.
+     */
+    private static final int MAX_UPDATES_PER_GAME = 100000;
+    /**
+     * Número de partidas que uma tarefa joga sozinha antes de dividir o
+     * trabalho com outras threads.
+     */
+    private static final int GAMES_PER_LEAF = 64;
+
+    /**
+     * Uno
+     *
+     * Classe Estatisticas:
+     * Acumula os resultados de um conjunto de partidas. Cada tarefa folha tem
+     * a sua própria instância e só a mistura com o total ao terminar, para que
+     * as threads não disputem os mesmos contadores durante as partidas.
+     *
+     * @autor Cauet Damasceno
+     * @versão 2023
+     */
+    public static class Estatisticas {
+        /**
+         * Número de lugares ocupados por cada estratégia.
+         */
+        private final long[] appearances = new long[STRATEGIES.length];
+        /**
+         * Número de vitórias de cada estratégia.
+         */
+        private final long[] wins = new long[STRATEGIES.length];
+        /**
+         * Soma das pontuações de rodada obtidas nas vitórias de cada estratégia.
+         */
+        private final long[] winningScore = new long[STRATEGIES.length];
+        /**
+         * Número de cartas compradas durante as rodadas por cada estratégia.
+         */
+        private final long[] drawnCards = new long[STRATEGIES.length];
+        /**
+         * Partidas terminadas, partidas sem vencedor e soma dos turnos jogados.
+         */
+        private long games, unfinishedGames, totalTurns;
+
+        /**
+         * Registra o resultado de uma partida.
+         *
+         * @param seats      As estratégias de cada lugar.
+         * @param game       A partida já terminada (ou interrompida).
+         * @param drawCounts Cartas compradas por cada lugar durante a partida.
+         */
+        private void record(int[] seats, MotorJogo game, int[] drawCounts) {
+            for (int seat = 0; seat < seats.length; seat++) {
+                appearances[seats[seat]]++;
+                drawnCards[seats[seat]] += drawCounts[seat];
+            }
+            Jogador winner = game.getRoundWinner();
+            if (winner == null) {
+                unfinishedGames++;
+                return;
+            }
+            int winnerStrategy = seats[winner.getPlayerID()];
+            wins[winnerStrategy]++;
+            winningScore[winnerStrategy] += winner.getCurrentRoundScore();
+            games++;
+            totalTurns += game.getTurnCount();
+        }
+
+        /**
+         * Soma os resultados de outra instância a esta.
+         *
+         * @param other Os resultados a serem somados.
+         */
+        private synchronized void merge(Estatisticas other) {
+            for (int i = 0; i < STRATEGIES.length; i++) {
+                appearances[i] += other.appearances[i];
+                wins[i] += other.wins[i];
+                winningScore[i] += other.winningScore[i];
+                drawnCards[i] += other.drawnCards[i];
+            }
+            games += other.games;
+            unfinishedGames += other.unfinishedGames;
+            totalTurns += other.totalTurns;
+        }
+
+        /**
+         * Mostra os resultados no console.
+         *
+         * @param title Título a ser mostrado antes dos resultados.
+         */
+        public synchronized void print(String title) {
+            System.out.println(title + ": " + games + " partidas, " + unfinishedGames
+                    + " sem vencedor, duração média " + format(games == 0 ? 0 : totalTurns / (double) games)
+                    + " turnos");
+            for (int i = 0; i < STRATEGIES.length; i++) {
+                if (appearances[i] == 0)
+                    continue;
+                System.out.println("    " + STRATEGIES[i] + ": vitórias "
+                        + format(100.0 * wins[i] / appearances[i]) + "% por lugar, pontuação média "
+                        + format(wins[i] == 0 ? 0 : winningScore[i] / (double) wins[i]) + " por vitória, "
+                        + format(drawnCards[i] / (double) appearances[i]) + " compras por lugar");
+            }
+        }
+    }
+
+    /**
+     * Uno
+     *
+     * Classe TarefaPartidas:
+     * Divide um intervalo de partidas ao meio até que ele seja pequeno o
+     * suficiente, então joga as partidas na thread atual. O ForkJoinPool rouba
+     * as metades pendentes para manter todos os núcleos ocupados.
+     *
+     * @autor Cauet Damasceno
+     * @versão 2023
+     */
+    private class TarefaPartidas extends RecursiveAction {
+        /**
+         * Versão da forma serializada, exigida por RecursiveAction.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Intervalo [from, to) de índices de partidas desta tarefa.
+         */
+        private final long from, to;
+
+        /**
+         * Define o intervalo de partidas desta tarefa.
+         *
+         * @param from Primeiro índice de partida (incluso).
+         * @param to   Último índice de partida (excluso).
+         */
+        private TarefaPartidas(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Divide o intervalo ou joga as partidas diretamente.
+         */
+        @Override
+        protected void compute() {
+            if (to - from > GAMES_PER_LEAF) {
+                long middle = (from + to) >>> 1;
+                invokeAll(new TarefaPartidas(from, middle), new TarefaPartidas(middle, to));
+                return;
+            }
+            Estatisticas[] local = new Estatisticas[mixes.size()];
+            for (long gameIndex = from; gameIndex < to; gameIndex++) {
+                int mixIndex = (int) (gameIndex / gamesPerMix);
+                if (local[mixIndex] == null) {
+                    local[mixIndex] = new Estatisticas();
+                }
+                int[] seats = mixes.get(mixIndex);
+                int[] drawCounts = new int[seats.length];
+                local[mixIndex].record(seats, playGame(seats, seed + gameIndex, drawCounts), drawCounts);
+                gamesCompleted.incrementAndGet();
+            }
+            for (int i = 0; i < local.length; i++) {
+                if (local[i] != null) {
+                    mixResults.get(i).merge(local[i]);
+                    strategyTotals.merge(local[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Todas as combinações de estratégias por lugar, como índices em
+     * STRATEGIES.
+     */
+    private final List<int[]> mixes;
+    /**
+     * Resultados separados por combinação.
+     */
+    private final List<Estatisticas> mixResults;
+    /**
+     * Resultados somados de todas as combinações.
+     */
+    private final Estatisticas strategyTotals;
+    /**
+     * Número de partidas jogadas para cada combinação.
+     */
+    private final long gamesPerMix;
+    /**
+     * Semente do torneio. A partida de índice i usa a semente seed + i, então
+     * qualquer partida pode ser reproduzida isoladamente.
+     */
+    private final long seed;
+    /**
+     * Partidas terminadas até agora, usado para mostrar o progresso.
+     */
+    private final AtomicLong gamesCompleted;
+
+    /**
+     * Prepara um torneio com todas as combinações de 2 a 4 lugares.
+     *
+     * @param gamesPerMix Número de partidas para cada combinação.
+     * @param seed        Semente do torneio.
+     */
+    public TorneioIA(long gamesPerMix, long seed) {
+        this.gamesPerMix = gamesPerMix;
+        this.seed = seed;
+        mixes = new ArrayList<>();
+        for (int seats = MIN_SEATS; seats <= MAX_SEATS; seats++) {
+            addMixes(new int[seats], 0, 0);
+        }
+        mixResults = new ArrayList<>();
+        for (int i = 0; i < mixes.size(); i++) {
+            mixResults.add(new Estatisticas());
+        }
+        strategyTotals = new Estatisticas();
+        gamesCompleted = new AtomicLong();
+    }
+
+    /**
+     * Gera recursivamente todas as combinações com repetição de estratégias
+     * para os lugares, sem contar a mesma mesa em ordens diferentes.
+     *
+     * @param seats         Combinação sendo preenchida.
+     * @param seat          Próximo lugar a ser preenchido.
+     * @param firstStrategy Menor estratégia permitida neste lugar.
+     */
+    private void addMixes(int[] seats, int seat, int firstStrategy) {
+        if (seat == seats.length) {
+            mixes.add(seats.clone());
+            return;
+        }
+        for (int i = firstStrategy; i < STRATEGIES.length; i++) {
+            seats[seat] = i;
+            addMixes(seats, seat + 1, i);
+        }
+    }
+
+    /**
+     * Joga uma partida completa sem interface com as estratégias indicadas.
+     *
+     * @param seats      As estratégias de cada lugar, como índices em STRATEGIES.
+     * @param gameSeed   A semente da partida.
+     * @param drawCounts Recebe o número de cartas compradas por cada lugar.
+     * @return A partida depois de terminada.
+     */
+    private static MotorJogo playGame(int[] seats, long gameSeed, int[] drawCounts) {
+        List<Jogador> players = new ArrayList<>(seats.length);
+        for (int i = 0; i < seats.length; i++) {
+            players.add(new AIJogador(i, STRATEGIES[seats[i]].toString(), null, STRATEGIES[seats[i]], false));
+        }
+        ConjuntoRegras ruleSet = new ConjuntoRegras();
+        ruleSet.setTwoPlayers(seats.length == 2);
+        MotorJogo game = new MotorJogo(players, ruleSet, null, new AleatorioJogo(gameSeed));
+        game.getEvents().subscribe(new OuvinteJogo() {
+            @Override
+            public void onCardDrawn(int playerID, int card) {
+                drawCounts[playerID]++;
+            }
+        });
+        game.playUntilRoundEnds(MAX_UPDATES_PER_GAME);
+        return game;
+    }
+
+    /**
+     * Joga todas as partidas do torneio usando o pool indicado, mostrando o
+     * progresso a cada segundo.
+     *
+     * @param pool         O pool que executa as partidas.
+     * @param showProgress Quando verdadeiro, o progresso é mostrado no console.
+     * @return O tempo gasto em nanossegundos.
+     */
+    public long run(ForkJoinPool pool, boolean showProgress) {
+        long totalGames = gamesPerMix * mixes.size();
+        long start = System.nanoTime();
+        ForkJoinTask<Void> task = pool.submit(new TarefaPartidas(0, totalGames));
+        while (!task.isDone()) {
+            try {
+                task.get(1, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                if (showProgress) {
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    System.out.println("Progresso: " + gamesCompleted.get() + "/" + totalGames + " partidas ("
+                            + format(gamesCompleted.get() / seconds) + " partidas/s)");
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException("Falha ao jogar as partidas do torneio.", e);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Mostra os resultados por combinação e o total por estratégia.
+     */
+    public void printReport() {
+        for (int i = 0; i < mixes.size(); i++) {
+            StringBuilder title = new StringBuilder();
+            for (int strategyIndex : mixes.get(i)) {
+                title.append(title.length() == 0 ? "" : " x ").append(STRATEGIES[strategyIndex]);
+            }
+            mixResults.get(i).print(title.toString());
+        }
+        strategyTotals.print("Total");
+    }
+
+    /**
+     * Obtém o número total de partidas do torneio.
+     *
+     * @return Partidas por combinação vezes o número de combinações.
+     */
+    public long getTotalGames() {
+        return gamesPerMix * mixes.size();
+    }
+
+    /**
+     * Formata um número com duas casas decimais.
+     *
+     * @param value O número a ser formatado.
+     * @return O número como texto.
+     */
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+
+    /**
+     * Joga um mesmo torneio com 1, 2, 4... threads até o número de núcleos e
+     * mostra as partidas por segundo e o ganho em relação a uma thread.
+     *
+     * @param gamesPerMix Número de partidas para cada combinação.
+     */
+    private static void printScalingReport(long gamesPerMix) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        // Aquece o JIT para que a primeira medida não seja prejudicada.
+        new TorneioIA(Math.max(1, gamesPerMix / 10), 0).run(ForkJoinPool.commonPool(), false);
+        double singleThreadRate = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+            TorneioIA tournament = new TorneioIA(gamesPerMix, 0);
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            long elapsed = tournament.run(pool, false);
+            pool.shutdown();
+            double rate = tournament.getTotalGames() / (elapsed / 1e9);
+            if (threads == 1) {
+                singleThreadRate = rate;
+            }
+            System.out.println(threads + " thread(s): " + format(rate) + " partidas/s, ganho "
+                    + format(rate / singleThreadRate) + "x");
+            if (threads == cores)
+                break;
+        }
+    }
+
+    /**
+     * Ponto de entrada do torneio.
+     *
+     * @param args [partidasPorCombinação] [threads] [semente] [--escala]
+     */
+    public static void main(String[] args) {
+        // As opções podem aparecer em qualquer posição; o resto são os
+        // argumentos posicionais.
+        boolean scaling = false;
+        List<String> positional = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("--escala")) {
+                scaling = true;
+            } else {
+                positional.add(arg);
+            }
+        }
+        long gamesPerMix = positional.size() > 0 ? Long.parseLong(positional.get(0)) : 1000;
+        if (scaling) {
+            printScalingReport(gamesPerMix);
+            return;
+        }
+        int threads = positional.size() > 1 ? Integer.parseInt(positional.get(1))
+                : Runtime.getRuntime().availableProcessors();
+        long seed = positional.size() > 2 ? Long.parseLong(positional.get(2)) : System.nanoTime();
+        TorneioIA tournament = new TorneioIA(gamesPerMix, seed);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long elapsed = tournament.run(pool, true);
+        pool.shutdown();
+        tournament.printReport();
+        System.out.println(tournament.getTotalGames() + " partidas em " + format(elapsed / 1e9) + "s com "
+                + threads + " thread(s): " + format(tournament.getTotalGames() / (elapsed / 1e9)) + " partidas/s"
+                + " (semente " + seed + ")");
+    }
+}
@@ -1,8 +1,6 @@
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 
 /**
  * Uno
@@ -18,28 +16,109 @@ import java.util.function.Consumer;
  */
 public class TurnActionFactory {
 
+    /**
+     * Os valores que uma sequência de TurnActions compartilha. As decisões usam
+     * o seu valor como sinalizador: enquanto ele não for definido, a decisão
+     * continua aguardando.
+     */
+    public enum DataSlot {
+        PlayerID, CardID, FaceValueID, ColourID, DrawCount,
+        KeepOrPlay, IsForcedPlay, DrawTillCanPlay, CardPlayable, IsStacking, HasPlus2AndResponseAllowed,
+        IsChaining, CouldPreviousPlayCard, IsChallenging, CanChallenge, WildColour, OtherPlayer
+    }
+
     /**
      * Uno
      *
-     * Classe TurnAction :
-     * Define um TurnAction que atua como uma lista vinculada de ações.
-     * Executa uma ação que se espera que seja executada uma vez antes de iterar
-     * para um próximo estado.
+     * Classe TurnData :
+     * Guarda os dados de uma sequência de TurnActions em um array de ints com
+     * uma posição fixa para cada DataSlot, sem Strings, mapas ou Integers.
      *
      * @autor Cauet Damasceno
      * @versão 2023
      */
-    public static class TurnAction {
+    public static class TurnData {
+        /**
+         * Todos os DataSlots, guardados para não criar um novo array a cada uso.
+         */
+        private static final DataSlot[] SLOTS = DataSlot.values();
+
+        /**
+         * Os valores de cada DataSlot, indexados por ordinal().
+         */
+        private final int[] values;
+        /**
+         * Um bit por DataSlot indicando se o valor foi definido.
+         */
+        private int definedSlots;
+
+        /**
+         * Cria os dados de uma sequência sem nenhum valor definido.
+         */
+        public TurnData() {
+            values = new int[SLOTS.length];
+            definedSlots = 0;
+        }
+
+        /**
+         * Define o valor de um DataSlot.
+         *
+         * @param slot  O DataSlot a ser definido.
+         * @param value O valor a ser armazenado.
+         */
+        public void set(DataSlot slot, int value) {
+            values[slot.ordinal()] = value;
+            definedSlots |= 1 << slot.ordinal();
+        }
+
         /**
-         * Armazena um mapa de dados usados para passar para as ações para manter dados
-         * com estado
-         * sobre a sequência de ação.
+         * Obtém o valor de um DataSlot.
+         *
+         * @param slot O DataSlot a ser lido.
+         * @return O valor armazenado, ou 0 se nunca foi definido.
          */
-        protected final Map<String, Integer> storedData;
+        public int get(DataSlot slot) {
+            return values[slot.ordinal()];
+        }
+
+        /**
+         * Verifica se um DataSlot foi definido.
+         *
+         * @param slot O DataSlot a ser verificado.
+         * @return Verdadeiro se um valor foi definido e não removido.
+         */
+        public boolean has(DataSlot slot) {
+            return (definedSlots & (1 << slot.ordinal())) != 0;
+        }
+
+        /**
+         * Remove o valor de um DataSlot.
+         *
+         * @param slot O DataSlot a ser removido.
+         */
+        public void remove(DataSlot slot) {
+            values[slot.ordinal()] = 0;
+            definedSlots &= ~(1 << slot.ordinal());
+        }
+    }
+
+    /**
+     * Uno
+     *
+     * Classe TurnAction :
+     * Define um nó imutável de um grafo de TurnActions que atua como uma lista
+     * vinculada de ações. Os nós não guardam estado de uma jogada: os dados
+     * chegam por um TurnSequence, de forma que o mesmo grafo é compartilhado por
+     * todas as jogadas e todas as partidas.
+     *
+     * @autor Cauet Damasceno
+     * @versão 2023
+     */
+    public static class TurnAction {
         /**
          * A ação a ser executada via performAction().
          */
-        protected final Consumer<Map<String, Integer>> action;
+        protected final BiConsumer<MotorJogo, TurnData> action;
         /**
          * Referência ao próximo TurnAction na sequência da lista vinculada. Isso pode
          * ser null para indicar o fim.
@@ -55,53 +134,40 @@ public class TurnActionFactory {
          *
          * @param next            Referência ao próximo TurnAction na lista vinculada
          *                        seqüência. Isso pode ser nulo para indicar o fim.
-         * @param storedData      Armazena um mapa de dados usados para passar para as
-         *                        ações
-         *                        para manter dados com estado sobre a sequência de
-         *                        ações.
          * @param action          A ação a ser executada via performAction().
          * @param actionDebugText Texto a ser usado para descrever o estado atual na
          *                        depuração
          *                        saída.
          */
-        public TurnAction(TurnAction next, Map<String, Integer> storedData, Consumer<Map<String, Integer>> action,
+        public TurnAction(TurnAction next, BiConsumer<MotorJogo, TurnData> action,
                 String actionDebugText) {
             this.next = next;
-            this.storedData = storedData;
             this.action = action;
             this.actionDebugText = actionDebugText;
         }
 
         /**
-         * Chama a ação especificada se ela não for nula, passando armazenadosData para
-         * ela.
+         * Chama a ação especificada se ela não for nula, passando o jogo e os
+         * dados da jogada para ela.
+         *
+         * @param game O jogo sobre o qual a ação é aplicada.
+         * @param data Os dados da jogada que está percorrendo o grafo.
          */
-        public void performAction() {
+        public void performAction(MotorJogo game, TurnData data) {
             if (action != null) {
-                action.accept(storedData);
+                action.accept(game, data);
             }
         }
 
         /**
          * Obtém o próximo elemento da lista vinculada.
          *
+         * @param data Os dados da jogada que está percorrendo o grafo.
          * @return O próximo TurnAction ou null para indicar o fim.
          */
-        public TurnAction getNext() {
+        public TurnAction getNext(TurnData data) {
             return next;
         }
-
-        /**
-         * Armazena os dados especificados no mapa de dados armazenados para serem
-         * usados no futuro
-         * iterações.
-         *
-         * @param key   Chave para armazenar no mapa storageData.
-         * @param value Valor a ser associado à chave.
-         */
-        public void injectProperty(String key, Integer value) {
-            storedData.put(key, value);
-        }
     }
 
     /**
@@ -134,17 +200,13 @@ public class TurnActionFactory {
         /**
          * A variável sinalizadora usada para determinar quando a decisão foi cumprida.
          */
-        protected final String flagName;
-        /**
-         * Um booleano para rastrear se a ação já foi executada.
-         */
-        protected boolean hasRunOnce;
+        protected final DataSlot flagName;
 
         /**
          * Define um TurnDecisionAction que escolhe usar o next ou otherNext
          * TurnAction
-         * com base no valor armazenado no valor mapeado de flagName armazenado em
-         * storageData. 0
+         * com base no valor armazenado no valor mapeado de flagName armazenado nos
+         * dados da jogada. 0
          * será acionado em seguida,
          * e 1 acionarão otherNext. getNext() continuará retornando este valor atual
          * objeto até
@@ -165,26 +227,22 @@ public class TurnActionFactory {
          * @param flagName        A variável de sinalização usada para determinar quando
          *                        a decisão
          *                        foi atendido.
-         * @param storedData      Armazena um mapa de dados usados para passar para as
-         *                        ações
-         *                        para manter dados com estado sobre a sequência de
-         *                        ações.
          * @param action          A ação a ser executada via performAction().
          * @param actionDebugText Texto a ser usado para descrever o estado atual na
          *                        depuração
          *                        saída.
          */
-        public TurnDecisionAction(TurnAction next, TurnAction otherNext, boolean timeOut, String flagName,
-                Map<String, Integer> storedData, Consumer<Map<String, Integer>> action, String actionDebugText) {
-            super(next, storedData, action, actionDebugText);
+        public TurnDecisionAction(TurnAction next, TurnAction otherNext, boolean timeOut, DataSlot flagName,
+                BiConsumer<MotorJogo, TurnData> action, String actionDebugText) {
+            super(next, action, actionDebugText);
             this.otherNext = otherNext;
             this.timeOut = timeOut;
             this.flagName = flagName;
-            hasRunOnce = false;
         }
 
         /**
-         * Verifica se flagName foi definido em storageData. Se tiver sido definido o
+         * Verifica se flagName foi definido nos dados da jogada. Se tiver sido
+         * definido o
          * o valor é avaliado de forma que 0 retorne em seguida ou qualquer outro valor
          * retorne
          * outroPróximo.
@@ -192,58 +250,178 @@ public class TurnActionFactory {
          * referência
          * para a turma atual.
          *
+         * @param data Os dados da jogada que está percorrendo o grafo.
          * @return O objeto atual ou o próximo TurnAction a ser usado.
          */
         @Override
-        public TurnAction getNext() {
-            if (storedData.containsKey(flagName)) {
-                return (storedData.get(flagName) == 0) ? next : otherNext;
+        public TurnAction getNext(TurnData data) {
+            if (data.has(flagName)) {
+                return (data.get(flagName) == 0) ? next : otherNext;
             }
             return this;
         }
+    }
 
+    /**
+     * Uno
+     *
+     * Classe TurnSequence :
+     * Uma jogada em andamento sobre um dos grafos pré-compilados. Guarda os
+     * dados da jogada e o nó atual; é o único objeto criado ao começar a jogar
+     * ou comprar uma carta.
+     *
+     * @autor Cauet Damasceno
+     * @versão 2023
+     */
+    public static class TurnSequence extends TurnData {
         /**
-         * Verifica se a ação já foi executada. Então executa
-         * a ação se não for nula com base na definição em TurnAction.
+         * O nó atual do grafo, ou null quando a jogada terminou.
          */
-        @Override
-        public void performAction() {
-            if (hasRunOnce)
-                return;
-            hasRunOnce = true;
-            super.performAction();
+        private TurnAction currentAction;
+        /**
+         * Verdadeiro quando a ação do TurnDecisionAction atual já foi executada e
+         * a jogada apenas aguarda a decisão.
+         */
+        private boolean hasRunOnce;
+
+        /**
+         * Começa uma jogada no primeiro nó de um grafo.
+         *
+         * @param headNode O primeiro nó do grafo a ser percorrido.
+         */
+        public TurnSequence(TurnAction headNode) {
+            currentAction = headNode;
+            hasRunOnce = false;
+        }
+
+        /**
+         * Obtém o nó atual do grafo.
+         *
+         * @return O TurnAction atual ou null se a jogada terminou.
+         */
+        public TurnAction getCurrentAction() {
+            return currentAction;
         }
 
         /**
-         * Um método de atalho para armazenar um valor diretamente no flagName associado
-         * com esta TurnDecisionAction.
+         * Obtém o nó atual se ele for uma decisão.
          *
-         * @param value O valor a ser definido em storageData usando flagName.
+         * @return O TurnDecisionAction atual ou null.
          */
-        public void injectFlagProperty(Integer value) {
-            injectProperty(flagName, value);
+        public TurnDecisionAction getDecision() {
+            return (currentAction instanceof TurnDecisionAction) ? (TurnDecisionAction) currentAction : null;
+        }
+
+        /**
+         * Verifica se a ação da decisão atual já foi executada.
+         *
+         * @return Verdadeiro se a jogada está aguardando uma decisão.
+         */
+        public boolean hasRunOnce() {
+            return hasRunOnce;
+        }
+
+        /**
+         * Verifica se a jogada está parada em uma decisão cuja ação já foi
+         * executada e que ainda não recebeu o valor do sinalizador.
+         *
+         * @return Verdadeiro se a jogada precisa de uma escolha para continuar.
+         */
+        public boolean isAwaitingDecision() {
+            return hasRunOnce && currentAction instanceof TurnDecisionAction;
+        }
+
+        /**
+         * Verifica se a jogada chegou ao fim do grafo.
+         *
+         * @return Verdadeiro se não há mais nós a executar.
+         */
+        public boolean isFinished() {
+            return currentAction == null;
+        }
+
+        /**
+         * Executa a ação do nó atual. A ação de um TurnDecisionAction é
+         * executada apenas uma vez enquanto a decisão aguarda.
+         *
+         * @param game O jogo sobre o qual a ação é aplicada.
+         */
+        public void performAction(MotorJogo game) {
+            if (currentAction instanceof TurnDecisionAction) {
+                if (hasRunOnce)
+                    return;
+                hasRunOnce = true;
+            }
+            currentAction.performAction(game, this);
+        }
+
+        /**
+         * Avança para o próximo nó do grafo. Uma decisão sem valor no
+         * sinalizador continua no mesmo nó.
+         */
+        public void moveToNext() {
+            TurnAction nextAction = currentAction.getNext(this);
+            if (nextAction != currentAction) {
+                currentAction = nextAction;
+                hasRunOnce = false;
+            }
+        }
+
+        /**
+         * Armazena os dados especificados nos dados da jogada para serem
+         * usados no futuro
+         * iterações.
+         *
+         * @param key   DataSlot a ser definido.
+         * @param value Valor a ser associado à chave.
+         */
+        public void injectProperty(DataSlot key, int value) {
+            set(key, value);
+        }
+
+        /**
+         * Um método de atalho para armazenar um valor diretamente no flagName
+         * da decisão atual.
+         *
+         * @param value O valor a ser definido usando flagName.
+         */
+        public void injectFlagProperty(int value) {
+            injectProperty(getDecision().flagName, value);
         }
     }
 
+    /**
+     * O grafo de cada CardAction, indexado por ordinal(), começando pelo nó que
+     * coloca a carta. Os grafos não dependem das regras (as regras são lidas
+     * pelas ações durante a jogada), então são construídos uma única vez e
+     * compartilhados por todas as partidas.
+     */
+    private static final TurnAction[] PLAY_CARD_GRAPHS = buildPlayCardGraphs();
+    /**
+     * O grafo usado quando um jogador compra uma carta.
+     */
+    private static final TurnAction DRAW_CARD_GRAPH = buildDrawCardGraph();
+
     /**
      * Filas colocando o cartão especificado seguido da sequência de ações que
      * resultado do
      * tipo de carta que foi jogada ao chamar este método.
      *
+     * @param ruleSet     As regras usadas para escolher a ação da carta.
      * @param playerID    O jogador que controla a carta.
      * @param cardID      O ID exclusivo associado à carta a ser jogada.
      * @param faceValueID A referência ao que aparece na carta a ser jogada.
      * @param colorID     A cor da carta a ser jogada.
-     * @return Uma sequência de ações baseadas na carta que está sendo jogada.
+     * @return Uma jogada sobre o grafo da ação da carta que está sendo jogada.
      */
-    public static TurnAction playCardAsAction(int playerID, int cardID, int faceValueID, int colourID) {
-        Map<String, Integer> storedData = new HashMap<>();
-        storedData.put("playerID", playerID);
-        storedData.put("cardID", cardID);
-        storedData.put("faceValueID", faceValueID);
-        storedData.put("colourID", colourID);
-        TurnAction nextSequence = cardIDToTurnAction(faceValueID, storedData);
-        return new TurnAction(nextSequence, storedData, TurnActionFactory::placeCard, "Place Card");
+    public static TurnSequence playCardAsAction(ConjuntoRegras ruleSet, int playerID, int cardID, int faceValueID,
+            int colourID) {
+        TurnSequence sequence = new TurnSequence(PLAY_CARD_GRAPHS[ruleSet.getActionForCard(faceValueID).ordinal()]);
+        sequence.set(DataSlot.PlayerID, playerID);
+        sequence.set(DataSlot.CardID, cardID);
+        sequence.set(DataSlot.FaceValueID, faceValueID);
+        sequence.set(DataSlot.ColourID, colourID);
+        return sequence;
     }
 
     /**
@@ -286,6 +464,18 @@ public class TurnActionFactory {
      * Este método deve ser usado quando o jogador estiver usando sua ação de turno
      * para comprar
      * uma carta do baralho.
+     *
+     * @param playerID O jogador que está realizando a ação de desenho.
+     * @return Uma jogada sobre o grafo de compra, pronta para iteração.
+     */
+    public static TurnSequence drawCardAsAction(int playerID) {
+        TurnSequence sequence = new TurnSequence(DRAW_CARD_GRAPH);
+        sequence.set(DataSlot.PlayerID, playerID);
+        return sequence;
+    }
+
+    /**
+     * Constrói o grafo de compra.
      * A árvore de decisão gerada por este método segue a sequência mostrada abaixo.
      * É construído ao contrário.
      * Comprar Carta -> carta Jogável? -> (verdadeiro) -> keepOrPlay? -> Manter ->
@@ -295,31 +485,26 @@ public class TurnActionFactory {
      * de ação
      * -> (falso) -> MoveToNextTurn
      *
-     * @param playerID O jogador que está realizando a ação de desenho.
-     * @return A sequência da árvore de decisão de TurnActions conforme descrito,
-     *         pronta para
-     *         iteração.
+     * @return A sequência da árvore de decisão de TurnActions conforme descrito.
      */
-    public static TurnAction drawCardAsAction(int playerID) {
-        Map<String, Integer> storedData = new HashMap<>();
-        storedData.put("playerID", playerID);
-        TurnAction moveToNextTurn = new TurnAction(null, storedData, TurnActionFactory::moveNextTurn,
+    private static TurnAction buildDrawCardGraph() {
+        TurnAction moveToNextTurn = new TurnAction(null, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima pessoa");
-        TurnAction playCard = new TurnAction(null, storedData, TurnActionFactory::playCardAsActionFromData,
+        TurnAction playCard = new TurnAction(null, TurnActionFactory::playCardAsActionFromData,
                 "Jogue a carta retirada");
         TurnDecisionAction keepOrPlay = new TurnDecisionAction(moveToNextTurn, playCard, true,
-                "keepOrPlay", storedData, TurnActionFactory::beginChoiceOverlay, "Escolha manter ou jogar");
+                DataSlot.KeepOrPlay, TurnActionFactory::beginChoiceOverlay, "Escolha manter ou jogar");
         TurnDecisionAction isForcedPlay = new TurnDecisionAction(keepOrPlay, playCard, false,
-                "isForcedPlay", storedData, TurnActionFactory::checkForcedPlayRule,
+                DataSlot.IsForcedPlay, TurnActionFactory::checkForcedPlayRule,
                 "Verifique se o Jogo Forçado está habilitado e force o jogo se estiver.");
-        TurnAction keepDrawing = new TurnAction(null, storedData, TurnActionFactory::drawCardAsActionFromData,
+        TurnAction keepDrawing = new TurnAction(null, TurnActionFactory::drawCardAsActionFromData,
                 "Compre outra carta (árvore recursiva)");
         TurnDecisionAction drawTillCanPlay = new TurnDecisionAction(moveToNextTurn, keepDrawing, false,
-                "drawTillCanPlay?", storedData, TurnActionFactory::checkDrawTillCanPlayRule,
+                DataSlot.DrawTillCanPlay, TurnActionFactory::checkDrawTillCanPlayRule,
                 "Verifique a regra do empate até poder jogar");
         TurnDecisionAction canPlayCard = new TurnDecisionAction(drawTillCanPlay, isForcedPlay, false,
-                "cardPlayable", storedData, TurnActionFactory::isCardPlayable, "Verifique se a carta pode ser jogada");
-        return new TurnAction(canPlayCard, storedData, TurnActionFactory::drawCard, "Compre uma carta");
+                DataSlot.CardPlayable, TurnActionFactory::isCardPlayable, "Verifique se a carta pode ser jogada");
+        return new TurnAction(canPlayCard, TurnActionFactory::drawCard, "Compre uma carta");
     }
 
     /**
@@ -334,14 +519,17 @@ public class TurnActionFactory {
      * Este método deve ser usado para sequenciar o jogo de uma carta como parte
      * de outras ações de efeitos de cartas.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados compartilhados para uma sequência de
      *                    ações.
      */
-    private static void playCardAsActionFromData(Map<String, Integer> storedData) {
-        TurnAction playCard = playCardAsAction(storedData.get("playerID"), storedData.get("cardID"),
-                storedData.get("faceValueID"), storedData.get("colourID"));
-        playCard.injectProperty("drawCount", storedData.get("drawCount"));
-        InterfaceJogo.getCurrentGame().setCurrentTurnAction(playCard);
+    private static void playCardAsActionFromData(MotorJogo game, TurnData storedData) {
+        TurnSequence playCard = playCardAsAction(game.getRuleSet(), storedData.get(DataSlot.PlayerID), storedData.get(DataSlot.CardID),
+                storedData.get(DataSlot.FaceValueID), storedData.get(DataSlot.ColourID));
+        if (storedData.has(DataSlot.DrawCount)) {
+            playCard.injectProperty(DataSlot.DrawCount, storedData.get(DataSlot.DrawCount));
+        }
+        game.setCurrentTurnAction(playCard);
     }
 
     /**
@@ -356,12 +544,13 @@ public class TurnActionFactory {
      * quando drawTillCanPlay? é verdadeiro e desencadeia um empate recursivo via
      * drawCardAsAction().
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados compartilhados para uma sequência de
      *                    ações.
      */
-    private static void drawCardAsActionFromData(Map<String, Integer> storedData) {
-        TurnAction drawCardSequence = drawCardAsAction(storedData.get("playerID"));
-        InterfaceJogo.getCurrentGame().setCurrentTurnAction(drawCardSequence);
+    private static void drawCardAsActionFromData(MotorJogo game, TurnData storedData) {
+        TurnSequence drawCardSequence = drawCardAsAction(storedData.get(DataSlot.PlayerID));
+        game.setCurrentTurnAction(drawCardSequence);
     }
 
     /**
@@ -382,28 +571,26 @@ public class TurnActionFactory {
      * Compras para 0 ->
      * MoveToNextTurn
      *
-     * @param storageData Referência aos dados compartilhados para uma sequência de
-     *                    ações.
      * @return A sequência da árvore de decisão de TurnActions conforme descrito,
      *         pronta para
      *         iteração.
      */
-    private static TurnAction playPlus2Action(Map<String, Integer> storedData) {
-        TurnAction moveToNextTurn = new TurnAction(null, storedData, TurnActionFactory::moveNextTurn,
+    private static TurnAction playPlus2Action() {
+        TurnAction moveToNextTurn = new TurnAction(null, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima curva");
-        TurnAction dealPenalty = new TurnAction(moveToNextTurn, storedData, TurnActionFactory::drawNCards,
+        TurnAction dealPenalty = new TurnAction(moveToNextTurn, TurnActionFactory::drawNCards,
                 "Desenhe N Cartas Numéricas");
-        TurnAction playCard = new TurnAction(null, storedData, TurnActionFactory::playCardAsActionFromData,
+        TurnAction playCard = new TurnAction(null, TurnActionFactory::playCardAsActionFromData,
                 "Jogue outro +2 (recursivo)");
         TurnDecisionAction waitForPlay2OrCancel = new TurnDecisionAction(dealPenalty, playCard, true,
-                "isStacking", storedData, TurnActionFactory::beginChoiceOverlay,
+                DataSlot.IsStacking, TurnActionFactory::beginChoiceOverlay,
                 "Verifique se há +2 ou opção Cancelar");
         TurnDecisionAction checkCanRespond = new TurnDecisionAction(dealPenalty, waitForPlay2OrCancel, false,
-                "hasPlus2AndResponseAllowed", storedData, TurnActionFactory::hasPlus2AndResponseAllowed,
+                DataSlot.HasPlus2AndResponseAllowed, TurnActionFactory::hasPlus2AndResponseAllowed,
                 "Pode empilhar e tem +2");
-        TurnAction increaseDrawCount = new TurnAction(checkCanRespond, storedData,
+        TurnAction increaseDrawCount = new TurnAction(checkCanRespond,
                 TurnActionFactory::increaseDrawCountBy2, "Aumentar N (Compre duas cartas) em 2");
-        return new TurnAction(increaseDrawCount, storedData, TurnActionFactory::moveNextTurn,
+        return new TurnAction(increaseDrawCount, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima curva");
     }
 
@@ -428,52 +615,50 @@ public class TurnActionFactory {
      * -> (falso) -> Aumentar drawCount em 4 -> Draw * Draw Count + redefinir
      * contagem de sorteios
      *
-     * @param storageData Referência aos dados compartilhados para uma sequência de
-     *                    ações.
      * @return A sequência da árvore de decisão de TurnActions conforme descrito,
      *         pronta para
      *         iteração.
      */
-    private static TurnAction playPlus4Action(Map<String, Integer> storedData) {
-        TurnAction moveToNextSkipDamagedPlayer = new TurnAction(null, storedData, TurnActionFactory::moveNextTurn,
+    private static TurnAction playPlus4Action() {
+        TurnAction moveToNextSkipDamagedPlayer = new TurnAction(null, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima curva");
-        TurnAction drawNCards = new TurnAction(moveToNextSkipDamagedPlayer, storedData, TurnActionFactory::drawNCards,
+        TurnAction drawNCards = new TurnAction(moveToNextSkipDamagedPlayer, TurnActionFactory::drawNCards,
                 "Compre N Cartas Numéricas");
-        TurnAction increaseDrawBy4 = new TurnAction(drawNCards, storedData, TurnActionFactory::increaseDrawCountBy4,
+        TurnAction increaseDrawBy4 = new TurnAction(drawNCards, TurnActionFactory::increaseDrawCountBy4,
                 "Aumente N (drawCount) em 4");
-        TurnAction playCardAsResponse = new TurnAction(null, storedData, TurnActionFactory::playCardAsActionFromData,
+        TurnAction playCardAsResponse = new TurnAction(null, TurnActionFactory::playCardAsActionFromData,
                 "Compre +4 no anterior (recursivo)");
-        TurnAction increaseDrawBy4ThenStack = new TurnAction(playCardAsResponse, storedData,
+        TurnAction increaseDrawBy4ThenStack = new TurnAction(playCardAsResponse,
                 TurnActionFactory::increaseDrawCountBy4, "Aumentar N (drawCount) em 4");
         TurnDecisionAction isChainingCard = new TurnDecisionAction(increaseDrawBy4, increaseDrawBy4ThenStack,
-                false, "isChaining", storedData, null, "Nenhuma ação");
-        TurnAction drawNCardsAndDoNothing = new TurnAction(null, storedData, TurnActionFactory::drawNCards,
+                false, DataSlot.IsChaining, null, "Nenhuma ação");
+        TurnAction drawNCardsAndDoNothing = new TurnAction(null, TurnActionFactory::drawNCards,
                 "Desenhe N Cartas Numéricas");
-        TurnAction moveBackToNext = new TurnAction(drawNCardsAndDoNothing, storedData, TurnActionFactory::moveNextTurn,
+        TurnAction moveBackToNext = new TurnAction(drawNCardsAndDoNothing, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima curva");
-        TurnAction applyPenalty = new TurnAction(moveBackToNext, storedData, TurnActionFactory::draw4ChallengeSuccess,
+        TurnAction applyPenalty = new TurnAction(moveBackToNext, TurnActionFactory::draw4ChallengeSuccess,
                 "Aplicar penalidade (+4) ao jogador");
-        TurnAction moveToPreviousPlayer = new TurnAction(applyPenalty, storedData, TurnActionFactory::movePrevious,
+        TurnAction moveToPreviousPlayer = new TurnAction(applyPenalty, TurnActionFactory::movePrevious,
                 "Mover para o jogador anterior");
-        TurnAction increaseDrawBy2 = new TurnAction(increaseDrawBy4, storedData,
+        TurnAction increaseDrawBy2 = new TurnAction(increaseDrawBy4,
                 TurnActionFactory::increaseDrawCountBy2, "Aumentar N (drawCount) em 2");
         TurnDecisionAction couldPreviousPlayCard = new TurnDecisionAction(increaseDrawBy2, moveToPreviousPlayer,
-                false, "couldPreviousPlayCard", storedData, TurnActionFactory::showChallengeResult,
+                false, DataSlot.CouldPreviousPlayCard, TurnActionFactory::showChallengeResult,
                 "O jogador anterior poderia ter jogado uma carta? (Sem ação)");
         TurnDecisionAction isChallenging = new TurnDecisionAction(isChainingCard, couldPreviousPlayCard, true,
-                "isChallenging", storedData, TurnActionFactory::beginChoiceOverlay,
+                DataSlot.IsChallenging, TurnActionFactory::beginChoiceOverlay,
                 "Pergunte se o jogador quer desafiar, empilhar ou não fazer nada");
         TurnDecisionAction canChallengeOrStack = new TurnDecisionAction(increaseDrawBy4, isChallenging, false,
-                "canChallenge", storedData, TurnActionFactory::checkNoBluffingRule,
+                DataSlot.CanChallenge, TurnActionFactory::checkNoBluffingRule,
                 "Verifique se um Desafio é permitido ou se há uma carta para Empilhar");
-        TurnAction moveToNextTurn = new TurnAction(canChallengeOrStack, storedData, TurnActionFactory::moveNextTurn,
+        TurnAction moveToNextTurn = new TurnAction(canChallengeOrStack, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima curva");
-        TurnAction setTopOfPileColour = new TurnAction(moveToNextTurn, storedData, TurnActionFactory::setTopPileColour,
+        TurnAction setTopOfPileColour = new TurnAction(moveToNextTurn, TurnActionFactory::setTopPileColour,
                 "Alterar a cor no topo da pilha");
         TurnDecisionAction chooseWildColour = new TurnDecisionAction(setTopOfPileColour, setTopOfPileColour,
-                true, "wildColour", storedData, TurnActionFactory::beginChoiceOverlay,
+                true, DataSlot.WildColour, TurnActionFactory::beginChoiceOverlay,
                 "Peça ao jogador uma escolha de cor");
-        return new TurnAction(chooseWildColour, storedData, TurnActionFactory::checkCouldPlayCard,
+        return new TurnAction(chooseWildColour, TurnActionFactory::checkCouldPlayCard,
                 "Verifique se uma carta pode ter sido jogada");
     }
 
@@ -486,19 +671,17 @@ public class TurnActionFactory {
      *
      * WildColourSelection -> Definir cor da pilha superior -> MoveToNextTurn
      *
-     * @param storageData Referência aos dados compartilhados para uma sequência de
-     *                    ações.
      * @return A sequência da árvore de decisão de TurnActions conforme descrito,
      *         pronta para
      *         iteração.
      */
-    private static TurnAction playWildAction(Map<String, Integer> storedData) {
-        TurnAction moveToNextTurn = new TurnAction(null, storedData, TurnActionFactory::moveNextTurn,
+    private static TurnAction playWildAction() {
+        TurnAction moveToNextTurn = new TurnAction(null, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima curva");
-        TurnAction setTopOfPileColour = new TurnAction(moveToNextTurn, storedData, TurnActionFactory::setTopPileColour,
+        TurnAction setTopOfPileColour = new TurnAction(moveToNextTurn, TurnActionFactory::setTopPileColour,
                 "Alterar a cor no topo da pilha");
         return new TurnDecisionAction(setTopOfPileColour, setTopOfPileColour,
-                true, "wildColour", storedData, TurnActionFactory::beginChoiceOverlay,
+                true, DataSlot.WildColour, TurnActionFactory::beginChoiceOverlay,
                 "Peça ao jogador uma escolha de cor");
     }
 
@@ -511,18 +694,16 @@ public class TurnActionFactory {
      *
      * MoveToNextTurn -> Mostrar Pular -> MoveToNextTurn
      *
-     * @param storageData Referência aos dados compartilhados para uma sequência de
-     *                    ações.
      * @return A sequência da árvore de decisão de TurnActions conforme descrito,
      *         pronta para
      *         iteração.
      */
-    private static TurnAction playSkipAction(Map<String, Integer> storedData) {
-        TurnAction moveToNextTurnAtEnd = new TurnAction(null, storedData, TurnActionFactory::moveNextTurn,
+    private static TurnAction playSkipAction() {
+        TurnAction moveToNextTurnAtEnd = new TurnAction(null, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima pessoa");
-        TurnAction showSkip = new TurnAction(moveToNextTurnAtEnd, storedData, TurnActionFactory::showSkip,
+        TurnAction showSkip = new TurnAction(moveToNextTurnAtEnd, TurnActionFactory::showSkip,
                 "Mostrar um ícone de pular no player");
-        return new TurnAction(showSkip, storedData, TurnActionFactory::moveNextTurn, "Mover para a próxima pessoa");
+        return new TurnAction(showSkip, TurnActionFactory::moveNextTurn, "Mover para a próxima pessoa");
     }
 
     /**
@@ -534,16 +715,14 @@ public class TurnActionFactory {
      *
      * Alternar ordem de direção da curva -> MoveToNextTurn
      *
-     * @param storageData Referência aos dados compartilhados para uma sequência de
-     *                    ações.
      * @return A sequência da árvore de decisão de TurnActions conforme descrito,
      *         pronta para
      *         iteração.
      */
-    private static TurnAction playReverseAction(Map<String, Integer> storedData) {
-        TurnAction moveToNextTurn = new TurnAction(null, storedData, TurnActionFactory::moveNextTurn,
+    private static TurnAction playReverseAction() {
+        TurnAction moveToNextTurn = new TurnAction(null, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima pessoa");
-        return new TurnAction(moveToNextTurn, storedData, TurnActionFactory::togglePlayDirection,
+        return new TurnAction(moveToNextTurn, TurnActionFactory::togglePlayDirection,
                 "Alternar direção de jogo");
     }
 
@@ -558,19 +737,17 @@ public class TurnActionFactory {
      *
      * outro jogador? Seleção -> Trocar mãos (atual, selecionado) -> MoveToNextTurn
      *
-     * @param storageData Referência aos dados compartilhados para uma sequência de
-     *                    ações.
      * @return A sequência da árvore de decisão de TurnActions conforme descrito,
      *         pronta para
      *         iteração.
      */
-    private static TurnAction playSwapAction(Map<String, Integer> storedData) {
-        TurnAction moveToNextTurn = new TurnAction(null, storedData, TurnActionFactory::moveNextTurn,
+    private static TurnAction playSwapAction() {
+        TurnAction moveToNextTurn = new TurnAction(null, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima pessoa");
-        TurnAction swapHands = new TurnAction(moveToNextTurn, storedData, TurnActionFactory::swapHandWithOther,
+        TurnAction swapHands = new TurnAction(moveToNextTurn, TurnActionFactory::swapHandWithOther,
                 "Troque de mãos com o jogador selecionado");
         return new TurnDecisionAction(swapHands, swapHands, true,
-                "otherPlayer", storedData, TurnActionFactory::beginChoiceOverlay, "Escolha outro jogador para trocar");
+                DataSlot.OtherPlayer, TurnActionFactory::beginChoiceOverlay, "Escolha outro jogador para trocar");
     }
 
     /**
@@ -585,66 +762,83 @@ public class TurnActionFactory {
      *
      * Passe todos os cartões -> MoveToNextTurn
      *
-     * @param storageData Referência aos dados compartilhados para uma sequência de
-     *                    ações.
      * @return A sequência da árvore de decisão de TurnActions conforme descrito,
      *         pronta para
      *         iteração.
      */
-    private static TurnAction playPassAllAction(Map<String, Integer> storedData) {
-        TurnAction moveToNextTurn = new TurnAction(null, storedData, TurnActionFactory::moveNextTurn,
+    private static TurnAction playPassAllAction() {
+        TurnAction moveToNextTurn = new TurnAction(null, TurnActionFactory::moveNextTurn,
                 "Mover para a próxima pessoa");
-        return new TurnAction(moveToNextTurn, storedData, TurnActionFactory::passAllHands, "Passe todas as mãos");
+        return new TurnAction(moveToNextTurn, TurnActionFactory::passAllHands, "Passe todas as mãos");
     }
 
     /**
-     * Procura uma ação relevante a ser aplicada com base no valor facial do cartão.
-     * Se
+     * Procura uma ação relevante a ser aplicada com base na CardAction. Se
      * não há correspondência
      * ação associada para gerar uma sequência TurnAction a partir de então o padrão
      * é
      * para passar para o próximo turno.
      *
-     * @param faceValueID O valor nominal da carta que está sendo jogada.
-     * @param storageData Referência aos dados armazenados compartilhados a serem
-     *                    usados para passar
-     *                    em toda a sequência TurnAction.
-     * @return Uma sequência de TurnActions baseada no faceValue da carta sendo
-     *         jogado.
+     * @param cardAction A ação associada à carta que está sendo jogada.
+     * @return Uma sequência de TurnActions baseada na ação da carta sendo
+     *         jogada.
      */
-    private static TurnAction cardIDToTurnAction(int faceValueID, Map<String, Integer> storedData) {
-        return switch (InterfaceJogo.getCurrentGame().getRuleSet().getActionForCard(faceValueID)) {
-            case Plus2 -> playPlus2Action(storedData);
-            case Plus4 -> playPlus4Action(storedData);
-            case Wild -> playWildAction(storedData);
-            case Skip -> playSkipAction(storedData);
-            case Reverse -> playReverseAction(storedData);
-            case Swap -> playSwapAction(storedData);
-            case PassAll -> playPassAllAction(storedData);
+    private static TurnAction cardActionToTurnAction(ConjuntoRegras.CardAction cardAction) {
+        return switch (cardAction) {
+            case Plus2 -> playPlus2Action();
+            case Plus4 -> playPlus4Action();
+            case Wild -> playWildAction();
+            case Skip -> playSkipAction();
+            case Reverse -> playReverseAction();
+            case Swap -> playSwapAction();
+            case PassAll -> playPassAllAction();
             case Nothing ->
-                new TurnAction(null, storedData, TurnActionFactory::moveNextTurn, "Mover para a próxima pessoa");
+                new TurnAction(null, TurnActionFactory::moveNextTurn, "Mover para a próxima pessoa");
         };
     }
 
+    /**
+     * Constrói uma vez o grafo de cada CardAction, precedido pelo nó que coloca
+     * a carta na pilha.
+     *
+     * @return Os grafos indexados pelo ordinal() de cada CardAction.
+     */
+    private static TurnAction[] buildPlayCardGraphs() {
+        ConjuntoRegras.CardAction[] cardActions = ConjuntoRegras.CardAction.values();
+        TurnAction[] graphs = new TurnAction[cardActions.length];
+        for (ConjuntoRegras.CardAction cardAction : cardActions) {
+            graphs[cardAction.ordinal()] = new TurnAction(cardActionToTurnAction(cardAction),
+                    TurnActionFactory::placeCard, "Place Card");
+        }
+        return graphs;
+    }
+
     /**
      * Compra uma carta do baralho, armazena o (cardID, faceValueID e colorID) em
      * dados armazenados,
-     * e então adiciona a carta à mão do jogador atual.
+     * e então adiciona a carta à mão do jogador atual. Se não sobrou nenhuma
+     * carta para comprar, nada é alterado.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void drawCard(Map<String, Integer> storedData) {
+    private static void drawCard(MotorJogo game, TurnData storedData) {
         // Draw card from deck
-        Deck deck = InterfaceJogo.getCurrentGame().getDeck();
-        Carta drawnCard = deck.drawCard();
+        Deck deck = game.getDeck();
+        int drawnCard = deck.drawCard();
+        if (drawnCard == CodigoCarta.NO_CARD) {
+            // Nada para comprar: o grafo de compra fica sem CardID e passa a vez.
+            return;
+        }
         // store ID into storedData
-        storedData.put("cardID", drawnCard.getCardID());
-        storedData.put("faceValueID", drawnCard.getFaceValueID());
-        storedData.put("colourID", drawnCard.getColourID());
+        storedData.set(DataSlot.CardID, CodigoCarta.getCardID(drawnCard));
+        storedData.set(DataSlot.FaceValueID, CodigoCarta.getFaceValueID(drawnCard));
+        storedData.set(DataSlot.ColourID, CodigoCarta.getColourID(drawnCard));
         // Add card to hand
-        InterfaceJogo.getCurrentGame().getCurrentPlayer().addCardToHand(drawnCard);
+        game.getCurrentPlayer().addCardToHand(drawnCard);
+        game.getEvents().onCardDrawn(game.getCurrentPlayerID(), drawnCard);
     }
 
     /**
@@ -654,50 +848,52 @@ public class TurnActionFactory {
      * então remove a carta da mão e adiciona a carta à pilha de
      * cartas jogadas recentemente.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void placeCard(Map<String, Integer> storedData) {
-        // Pega a carta da mão
-        Jogador currentPlayer = InterfaceJogo.getCurrentGame().getCurrentPlayer();
-        Carta cardToPlace = currentPlayer.getCardByID(storedData.get("cardID"));
-        // Retira a carta da mão
-        currentPlayer.removeCard(cardToPlace);
+    private static void placeCard(MotorJogo game, TurnData storedData) {
+        // Pega e retira a carta da mão
+        Jogador currentPlayer = game.getCurrentPlayer();
+        int cardToPlace = currentPlayer.removeCardByID(storedData.get(DataSlot.CardID));
         // Adiciona carta à pilha
-        InterfaceJogo.getCurrentGame().placeCard(cardToPlace);
+        game.placeCard(cardToPlace);
     }
 
     /**
      * Passa para o próximo turno movendo um jogador na direção atual do jogo.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void moveNextTurn(Map<String, Integer> storedData) {
-        InterfaceJogo.getCurrentGame().moveToNextPlayer();
+    private static void moveNextTurn(MotorJogo game, TurnData storedData) {
+        game.moveToNextPlayer();
     }
 
     /**
      * Usa boostDrawCountByN para aumentar drawCount em 2.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void increaseDrawCountBy2(Map<String, Integer> storedData) {
+    private static void increaseDrawCountBy2(MotorJogo game, TurnData storedData) {
         increaseDrawCountByN(2, storedData);
     }
 
     /**
      * Usa boostDrawCountByN para aumentar drawCount em 4.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void increaseDrawCountBy4(Map<String, Integer> storedData) {
+    private static void increaseDrawCountBy4(MotorJogo game, TurnData storedData) {
         increaseDrawCountByN(4, storedData);
     }
 
@@ -711,12 +907,12 @@ public class TurnActionFactory {
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void increaseDrawCountByN(int N, Map<String, Integer> storedData) {
+    private static void increaseDrawCountByN(int N, TurnData storedData) {
         int result = N;
-        if (storedData.containsKey("drawCount") && storedData.get("drawCount") != null) {
-            result += storedData.get("drawCount");
+        if (storedData.has(DataSlot.DrawCount)) {
+            result += storedData.get(DataSlot.DrawCount);
         }
-        storedData.put("drawCount", result);
+        storedData.set(DataSlot.DrawCount, result);
     }
 
     /**
@@ -728,21 +924,19 @@ public class TurnActionFactory {
      * drawCount foi removido
      * de storageData para limpar, pronto para qualquer uso futuro.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void drawNCards(Map<String, Integer> storedData) {
-        if (storedData.containsKey("drawCount") && storedData.get("drawCount") != null
-                && storedData.get("drawCount") > 0) {
-            int count = storedData.get("drawCount");
+    private static void drawNCards(MotorJogo game, TurnData storedData) {
+        if (storedData.has(DataSlot.DrawCount) && storedData.get(DataSlot.DrawCount) > 0) {
+            int count = storedData.get(DataSlot.DrawCount);
             for (int i = 0; i < count; i++) {
-                drawCard(storedData);
+                drawCard(game, storedData);
             }
-            InterfaceJogo.getCurrentGame().showGeneralOverlay(
-                    "DrawN" + InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerID()
-                            + ";" + count);
-            storedData.remove("drawCount");
+            game.showGeneralOverlay(OuvinteJogo.OverlayType.DrawN, game.getCurrentPlayer().getPlayerID(), count);
+            storedData.remove(DataSlot.DrawCount);
         }
     }
 
@@ -753,20 +947,23 @@ public class TurnActionFactory {
      * jogável.
      * A carta é considerada jogável se corresponder ao faceValueID de
      * a carta do topo,
-     * a cor da carta do topo, ou a carta é curinga ou +4.
+     * a cor da carta do topo, ou a carta é curinga ou +4. Sem cardID (o
+     * baralho estava vazio) não há carta jogável.
      * O resultado é armazenado em cardPlayable em storageData como 1 se for
      * jogável ou 0 se não for.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void isCardPlayable(Map<String, Integer> storedData) {
-        Carta latestCard = InterfaceJogo.getCurrentGame().getTopCard();
-        boolean isPlayable = storedData.get("faceValueID") == latestCard.getFaceValueID()
-                || storedData.get("colourID") == latestCard.getColourID()
-                || storedData.get("faceValueID") >= 13;
-        storedData.put("cardPlayable", isPlayable ? 1 : 0);
+    private static void isCardPlayable(MotorJogo game, TurnData storedData) {
+        int latestCard = game.getTopCard();
+        boolean isPlayable = storedData.has(DataSlot.CardID)
+                && (storedData.get(DataSlot.FaceValueID) == CodigoCarta.getFaceValueID(latestCard)
+                || storedData.get(DataSlot.ColourID) == CodigoCarta.getColourID(latestCard)
+                || storedData.get(DataSlot.FaceValueID) >= 13);
+        storedData.set(DataSlot.CardPlayable, isPlayable ? 1 : 0);
     }
 
     /**
@@ -778,12 +975,13 @@ public class TurnActionFactory {
      * inicialize quaisquer elementos da interface para aguardar uma entrada
      * necessária.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void beginChoiceOverlay(Map<String, Integer> storedData) {
-        InterfaceJogo.getCurrentGame().showOverlayForTurnAction();
+    private static void beginChoiceOverlay(MotorJogo game, TurnData storedData) {
+        game.showOverlayForTurnAction();
     }
 
     /**
@@ -794,14 +992,16 @@ public class TurnActionFactory {
      * a
      * ser sorteado, ou
      * 0 se as cartas não devem ser compradas até que algo possa ser jogado.
+     * A compra também para se a última tentativa não encontrou carta.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void checkDrawTillCanPlayRule(Map<String, Integer> storedData) {
-        storedData.put("drawTillCanPlay?",
-                InterfaceJogo.getCurrentGame().getRuleSet().shouldDrawnTillCanPlay() ? 1 : 0);
+    private static void checkDrawTillCanPlayRule(MotorJogo game, TurnData storedData) {
+        storedData.set(DataSlot.DrawTillCanPlay,
+                game.getRuleSet().shouldDrawnTillCanPlay() && storedData.has(DataSlot.CardID) ? 1 : 0);
     }
 
     /**
@@ -813,30 +1013,29 @@ public class TurnActionFactory {
      * Se uma resposta for permitida nesta situação, um 1 será armazenado, caso
      * contrário, um 0.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void hasPlus2AndResponseAllowed(Map<String, Integer> storedData) {
-        if (InterfaceJogo.getCurrentGame().getRuleSet().canStackCards() &&
-                InterfaceJogo.getCurrentGame().getCurrentPlayer().getHand().stream()
-                        .anyMatch(card -> card.getFaceValueID() == 10)) {
-            storedData.put("hasPlus2AndResponseAllowed", 1);
+    private static void hasPlus2AndResponseAllowed(MotorJogo game, TurnData storedData) {
+        if (game.getRuleSet().canStackCards() && game.getCurrentPlayer().hasFaceValue(10)) {
+            storedData.set(DataSlot.HasPlus2AndResponseAllowed, 1);
         } else {
-            storedData.put("hasPlus2AndResponseAllowed", 0);
+            storedData.set(DataSlot.HasPlus2AndResponseAllowed, 0);
         }
     }
 
     /**
      * Aciona uma sobreposição SkipVisual sobre o player atual.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void showSkip(Map<String, Integer> storedData) {
-        InterfaceJogo.getCurrentGame().showGeneralOverlay("SkipVisual"
-                + InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerID());
+    private static void showSkip(MotorJogo game, TurnData storedData) {
+        game.showGeneralOverlay(OuvinteJogo.OverlayType.SkipVisual, game.getCurrentPlayer().getPlayerID());
     }
 
     /**
@@ -844,12 +1043,13 @@ public class TurnActionFactory {
      * vice-versa
      * vice-versa.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void togglePlayDirection(Map<String, Integer> storedData) {
-        InterfaceJogo.getCurrentGame().toggleTurnDirection();
+    private static void togglePlayDirection(MotorJogo game, TurnData storedData) {
+        game.toggleTurnDirection();
     }
 
     /**
@@ -859,12 +1059,13 @@ public class TurnActionFactory {
      * Este método pressupõe que a ação está sendo aplicada como parte de um Wild
      * escolha de cor (não obrigatória).
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void setTopPileColour(Map<String, Integer> storedData) {
-        InterfaceJogo.getCurrentGame().setTopCardColour(storedData.get("colourID"));
+    private static void setTopPileColour(MotorJogo game, TurnData storedData) {
+        game.setTopCardColour(storedData.get(DataSlot.ColourID));
     }
 
     /**
@@ -874,22 +1075,16 @@ public class TurnActionFactory {
      * couldPreviousPlayCard está definido como 1.
      * Caso contrário, couldPreviousPlayCard será definido como 0.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void checkCouldPlayCard(Map<String, Integer> storedData) {
-        List<Carta> recentCards = InterfaceJogo.getCurrentGame().getRecentCards();
-        Carta cardBeforeLast = recentCards.get(recentCards.size() - 2);
-        List<Carta> validMoves = InterfaceJogo.getCurrentGame().getCurrentPlayer().getValidMoves(
-                cardBeforeLast.getFaceValueID(), cardBeforeLast.getColourID());
-        for (Carta card : validMoves) {
-            if (card.getFaceValueID() < 13) {
-                storedData.put("couldPreviousPlayCard", 1);
-                return;
-            }
-        }
-        storedData.put("couldPreviousPlayCard", 0);
+    private static void checkCouldPlayCard(MotorJogo game, TurnData storedData) {
+        int cardBeforeLast = game.getCardBeforeTop();
+        boolean couldPlay = game.getCurrentPlayer().hasColouredValidMove(
+                CodigoCarta.getFaceValueID(cardBeforeLast), CodigoCarta.getColourID(cardBeforeLast));
+        storedData.set(DataSlot.CouldPreviousPlayCard, couldPlay ? 1 : 0);
     }
 
     /**
@@ -897,16 +1092,16 @@ public class TurnActionFactory {
      * +4
      * desafio foi bem-sucedido.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void draw4ChallengeSuccess(Map<String, Integer> storedData) {
+    private static void draw4ChallengeSuccess(MotorJogo game, TurnData storedData) {
         for (int i = 0; i < 4; i++) {
-            drawCard(storedData);
+            drawCard(game, storedData);
         }
-        InterfaceJogo.getCurrentGame().showGeneralOverlay(
-                "DrawN" + InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerID() + ";4");
+        game.showGeneralOverlay(OuvinteJogo.OverlayType.DrawN, game.getCurrentPlayer().getPlayerID(), 4);
     }
 
     /**
@@ -915,14 +1110,15 @@ public class TurnActionFactory {
      * em seguida, passando para o próximo jogador e, em seguida, movendo a direção
      * para trás.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void movePrevious(Map<String, Integer> storedData) {
-        togglePlayDirection(storedData);
-        moveNextTurn(storedData);
-        togglePlayDirection(storedData);
+    private static void movePrevious(MotorJogo game, TurnData storedData) {
+        togglePlayDirection(game, storedData);
+        moveNextTurn(game, storedData);
+        togglePlayDirection(game, storedData);
     }
 
     /**
@@ -933,24 +1129,22 @@ public class TurnActionFactory {
      * todas as cartas
      * para a mão do jogador oposto para completar a troca.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void swapHandWithOther(Map<String, Integer> storedData) {
-        int targetPlayerID = storedData.get("otherPlayer");
-        Jogador targetPlayer = InterfaceJogo.getCurrentGame().getPlayerByID(targetPlayerID);
-        Object[] targetPlayerHand = targetPlayer.getHand().toArray();
+    private static void swapHandWithOther(MotorJogo game, TurnData storedData) {
+        int targetPlayerID = storedData.get(DataSlot.OtherPlayer);
+        Jogador targetPlayer = game.getPlayerByID(targetPlayerID);
+        game.getEvents().onHandsSwapped(game.getCurrentPlayerID(), targetPlayerID);
+        int[] targetPlayerHand = targetPlayer.getHandCards();
         targetPlayer.emptyHand();
-        Jogador currentPlayer = InterfaceJogo.getCurrentGame().getCurrentPlayer();
-        Object[] currentPlayerHand = currentPlayer.getHand().toArray();
+        Jogador currentPlayer = game.getCurrentPlayer();
+        int[] currentPlayerHand = currentPlayer.getHandCards();
         currentPlayer.emptyHand();
-        for (Object card : targetPlayerHand) {
-            currentPlayer.addCardToHand((Carta) card);
-        }
-        for (Object card : currentPlayerHand) {
-            targetPlayer.addCardToHand((Carta) card);
-        }
+        currentPlayer.addCardsToHand(targetPlayerHand);
+        targetPlayer.addCardsToHand(currentPlayerHand);
     }
 
     /**
@@ -959,51 +1153,52 @@ public class TurnActionFactory {
      * As mãos são então armazenadas de volta nos jogadores em relação à ordem
      * movida.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void passAllHands(Map<String, Integer> storedData) {
-        List<Object[]> hands = new ArrayList<>();
-        List<Jogador> players = InterfaceJogo.getCurrentGame().getAllPlayers();
+    private static void passAllHands(MotorJogo game, TurnData storedData) {
+        game.getEvents().onHandsPassed();
+        List<int[]> hands = new ArrayList<>();
+        List<Jogador> players = game.getAllPlayers();
         for (Jogador player : players) {
-            hands.add(player.getHand().toArray());
+            hands.add(player.getHandCards());
             player.emptyHand();
         }
 
         // Shuffle the hands
-        if (InterfaceJogo.getCurrentGame().isIncreasing()) {
-            Object[] movedHand = hands.get(0);
+        if (game.isIncreasing()) {
+            int[] movedHand = hands.get(0);
             hands.remove(0);
             hands.add(movedHand);
         } else {
-            Object[] movedHand = hands.get(hands.size() - 1);
+            int[] movedHand = hands.get(hands.size() - 1);
             hands.remove(hands.size() - 1);
             hands.add(0, movedHand);
         }
 
         // put all the cards into the hands again
         for (int playerID = 0; playerID < players.size(); playerID++) {
-            for (Object card : hands.get(playerID)) {
-                players.get(playerID).addCardToHand((Carta) card);
-            }
+            players.get(playerID).addCardsToHand(hands.get(playerID));
         }
     }
 
     /**
      * Mostra uma marca ou uma sobreposição cruzada no jogador que desafiou.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void showChallengeResult(Map<String, Integer> storedData) {
-        if (storedData.get("couldPreviousPlayCard") == 0) {
-            InterfaceJogo.getCurrentGame().showGeneralOverlay(
-                    "ChallengeFailed" + InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerID());
+    private static void showChallengeResult(MotorJogo game, TurnData storedData) {
+        if (storedData.get(DataSlot.CouldPreviousPlayCard) == 0) {
+            game.showGeneralOverlay(OuvinteJogo.OverlayType.ChallengeFailed,
+                    game.getCurrentPlayer().getPlayerID());
         } else {
-            InterfaceJogo.getCurrentGame().showGeneralOverlay(
-                    "ChallengeSuccess" + InterfaceJogo.getCurrentGame().getCurrentPlayer().getPlayerID());
+            game.showGeneralOverlay(OuvinteJogo.OverlayType.ChallengeSuccess,
+                    game.getCurrentPlayer().getPlayerID());
         }
     }
 
@@ -1011,29 +1206,30 @@ public class TurnActionFactory {
      * Verifica as condições para saber se um desafio é permitido ou se também há
      * uma opção de pilha permitida +4 também.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void checkNoBluffingRule(Map<String, Integer> storedData) {
-        boolean canStack = InterfaceJogo.getCurrentGame().getRuleSet().canStackCards();
-        boolean hasAPlus4 = InterfaceJogo.getCurrentGame().getCurrentPlayer().getHand().stream()
-                .anyMatch(card -> card.getFaceValueID() == 13);
-        boolean canBluff = !InterfaceJogo.getCurrentGame().getRuleSet().getNoBluffingRule();
+    private static void checkNoBluffingRule(MotorJogo game, TurnData storedData) {
+        boolean canStack = game.getRuleSet().canStackCards();
+        boolean hasAPlus4 = game.getCurrentPlayer().hasFaceValue(13);
+        boolean canBluff = !game.getRuleSet().getNoBluffingRule();
 
         boolean canChallenge = canBluff || (canStack && hasAPlus4);
 
-        storedData.put("canChallenge", canChallenge ? 1 : 0);
+        storedData.set(DataSlot.CanChallenge, canChallenge ? 1 : 0);
     }
 
     /**
      * Verifica a regra de jogo forçado.
      *
+     * @param game        O jogo sobre o qual a ação é aplicada.
      * @param storageData Referência aos dados armazenados compartilhados a serem
      *                    usados para passar
      *                    em toda a sequência TurnAction.
      */
-    private static void checkForcedPlayRule(Map<String, Integer> storedData) {
-        storedData.put("isForcedPlay", InterfaceJogo.getCurrentGame().getRuleSet().getForcedPlayRule() ? 1 : 0);
+    private static void checkForcedPlayRule(MotorJogo game, TurnData storedData) {
+        storedData.set(DataSlot.IsForcedPlay, game.getRuleSet().getForcedPlayRule() ? 1 : 0);
     }
 }
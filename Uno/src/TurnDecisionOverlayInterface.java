@@ -14,5 +14,5 @@ public interface TurnDecisionOverlayInterface {
      *
      * @param currentAction A ação usada para acionar esta interface.
      */
-    void showOverlay(TurnActionFactory.TurnDecisionAction currentAction);
+    void showOverlay(TurnActionFactory.TurnSequence currentAction);
 }
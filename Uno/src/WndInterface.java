@@ -20,6 +20,11 @@ public abstract class WndInterface {
      * bounds desta interface.
      */
     protected final Retangulo bounds;
+    /**
+     * União das regiões que mudaram desde a última pintura, ou nula quando
+     * nada precisa ser redesenhado.
+     */
+    private Rectangle dirtyRegion;
 
     /**
      * Inicialize a interface com limites e habilite-a.
@@ -83,6 +88,79 @@ public abstract class WndInterface {
         return isEnabled;
     }
 
+    /**
+     * Marca toda a região desta interface para ser redesenhada.
+     */
+    public void markDirty() {
+        markDirty(bounds);
+    }
+
+    /**
+     * Marca uma região para ser redesenhada. Um pixel a mais é incluído à
+     * direita e abaixo porque drawRect pinta o contorno em width + 1 e
+     * height + 1.
+     *
+     * @param region A região que mudou.
+     */
+    public void markDirty(Retangulo region) {
+        Rectangle changed = new Rectangle(region.position.x, region.position.y, region.width + 1, region.height + 1);
+        if (dirtyRegion == null) {
+            dirtyRegion = changed;
+        } else {
+            dirtyRegion.add(changed);
+        }
+    }
+
+    /**
+     * Junta à região desta interface a região marcada por uma interface que
+     * ela desenha, como uma sobreposição, e limpa a da outra.
+     *
+     * @param child A interface desenhada por esta.
+     */
+    public void collectDirtyRegion(WndInterface child) {
+        Rectangle changed = child.takeDirtyRegion();
+        if (changed == null) {
+            return;
+        }
+        if (dirtyRegion == null) {
+            dirtyRegion = changed;
+        } else {
+            dirtyRegion.add(changed);
+        }
+    }
+
+    /**
+     * Obtém a região em que paint() desenha. Interfaces que desenham fora dos
+     * seus limites, ou só em uma parte deles, sobrescrevem.
+     *
+     * @return A região a ser redesenhada quando a interface muda.
+     */
+    public Retangulo getPaintBounds() {
+        return bounds;
+    }
+
+    /**
+     * Obtém a região que precisa ser redesenhada e a limpa.
+     *
+     * @return A união das regiões marcadas, ou nula se nada mudou.
+     */
+    public Rectangle takeDirtyRegion() {
+        Rectangle region = dirtyRegion;
+        dirtyRegion = null;
+        return region;
+    }
+
+    /**
+     * Informa com que frequência a interface precisa ser atualizada quando o
+     * usuário não faz nada. Interfaces que só mudam com entradas não precisam
+     * sobrescrever.
+     *
+     * @return Idle, a menos que a interface tenha animações ou cronômetros.
+     */
+    public LacoJogo.FrameMode getFrameMode() {
+        return LacoJogo.FrameMode.Idle;
+    }
+
     /**
      * Lida com a entrada de teclas de uma ação do teclado.
      *
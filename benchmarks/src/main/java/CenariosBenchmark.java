@@ -0,0 +1,407 @@
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Uno
+ *
+ * Classe CenariosBenchmark:
+ * Monta os cenários medidos pelos benchmarks JMH. O JMH não aceita benchmarks
+ * no pacote padrão, e classes de um pacote nomeado não podem referenciar as
+ * classes do jogo, que ficam no pacote padrão. Por isso cada cenário é montado
+ * aqui e devolvido como uma interface funcional do JDK; os benchmarks em
+ * uno.benchmarks a obtêm uma única vez por reflexão no @Setup e depois a
+ * chamam diretamente.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+public final class CenariosBenchmark {
+    /**
+     * Não é instanciada; todos os métodos são estáticos.
+     */
+    private CenariosBenchmark() {
+    }
+
+    /**
+     * Compra uma carta e a descarta em seguida, de forma que o baralho nunca
+     * cresce e a pilha de descarte volta a ser embaralhada quando o baralho
+     * acaba.
+     *
+     * @param seed Semente do embaralhamento.
+     * @return Cada chamada compra e descarta uma carta e devolve a carta.
+     */
+    public static IntSupplier deckDrawCard(long seed) {
+        Deck deck = new Deck(new SplittableRandom(seed));
+        return () -> {
+            int card = deck.drawCard();
+            deck.discard(card);
+            return card;
+        };
+    }
+
+    /**
+     * Cria um baralho completo (as 108 cartas mais o embaralhamento).
+     *
+     * @param seed Semente do embaralhamento.
+     * @return Cada chamada cria um novo Deck.
+     */
+    public static Supplier<Object> deckFill(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return () -> new Deck(random);
+    }
+
+    /**
+     * Procura as jogadas válidas de uma mão sobre cartas do topo que variam a
+     * cada chamada.
+     *
+     * @param seed     Semente das cartas.
+     * @param handSize Número de cartas na mão.
+     * @return Cada chamada devolve o número de jogadas válidas encontradas.
+     */
+    public static IntSupplier validMoves(long seed, int handSize) {
+        Jogador player = createHand(seed, handSize, null);
+        int[] topCards = drawCards(seed + 1, 64);
+        int[] index = { 0 };
+        return () -> {
+            int topCard = topCards[index[0]++ & 63];
+            return player.getValidMoves(CodigoCarta.getFaceValueID(topCard),
+                    CodigoCarta.getColourID(topCard)).length;
+        };
+    }
+
+    /**
+     * Preenche um array reaproveitado com as jogadas legais do jogador atual
+     * no início do turno, com MotorJogo.getLegalMoves. Comparar com
+     * validMoves, que cria um array novo a cada chamada.
+     *
+     * @param seed     Semente da partida.
+     * @param handSize Número de cartas na mão do jogador atual (pelo menos 7).
+     * @return Cada chamada devolve o número de jogadas legais.
+     */
+    public static IntSupplier legalMoves(long seed, int handSize) {
+        List<Jogador> players = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            players.add(new Jogador(i, "Bench" + i, Jogador.PlayerType.UnoJogador, null, false));
+        }
+        MotorJogo game = new MotorJogo(players, createRuleSet(2), null, new AleatorioJogo(seed));
+        while (game.getCurrentTurnAction() != null) {
+            game.update(MotorJogo.HEADLESS_UPDATE_TIME);
+        }
+        Jogador player = game.getCurrentPlayer();
+        while (player.getHandSize() < handSize) {
+            player.addCardToHand(game.getDeck().drawCard());
+        }
+        int playerID = player.getPlayerID();
+        int[] moves = new int[game.getMaxLegalMoveCount()];
+        return () -> game.getLegalMoves(playerID, moves);
+    }
+
+    /**
+     * Enche a mão com cartas em ordem aleatória e a ordena. Comparar com
+     * fillHand para isolar o custo de sortHand.
+     *
+     * @param seed     Semente das cartas.
+     * @param handSize Número de cartas na mão.
+     * @return Cada chamada devolve a primeira carta depois da ordenação.
+     */
+    public static IntSupplier sortHand(long seed, int handSize) {
+        Jogador player = new Jogador(0, "Bench", Jogador.PlayerType.AIJogador, null, false);
+        int[] cards = drawCards(seed, handSize);
+        return () -> {
+            player.emptyHand();
+            for (int card : cards) {
+                player.addCardToHand(card);
+            }
+            player.sortHand();
+            return player.getCard(0);
+        };
+    }
+
+    /**
+     * Enche a mão com cartas em ordem aleatória sem ordenar; é a base de
+     * comparação de sortHand.
+     *
+     * @param seed     Semente das cartas.
+     * @param handSize Número de cartas na mão.
+     * @return Cada chamada devolve a primeira carta da mão.
+     */
+    public static IntSupplier fillHand(long seed, int handSize) {
+        Jogador player = new Jogador(0, "Bench", Jogador.PlayerType.AIJogador, null, false);
+        int[] cards = drawCards(seed, handSize);
+        return () -> {
+            player.emptyHand();
+            for (int card : cards) {
+                player.addCardToHand(card);
+            }
+            return player.getCard(0);
+        };
+    }
+
+    /**
+     * Move o mouse sobre uma mão desenhada. Cada movimento procura a carta sob
+     * o mouse e troca o foco entre duas cartas.
+     *
+     * @param seed     Semente das cartas.
+     * @param handSize Número de cartas na mão.
+     * @return Cada chamada devolve o tamanho da mão.
+     */
+    public static IntSupplier recalculateCardPositions(long seed, int handSize) {
+        Retangulo bounds = new Retangulo(0, 0, 1280, 180);
+        Jogador player = createHand(seed, handSize, bounds);
+        Posicao[] mousePositions = { new Posicao(640, 90), new Posicao(100, 90) };
+        int[] index = { 0 };
+        return () -> {
+            player.updateHover(mousePositions[index[0]++ & 1]);
+            return player.getHandSize();
+        };
+    }
+
+    /**
+     * Cria a sequência de jogar uma carta sem executá-la.
+     *
+     * @param faceValueID A face da carta jogada, que escolhe o grafo.
+     * @return Cada chamada devolve uma nova TurnSequence.
+     */
+    public static Supplier<Object> playCardAsAction(int faceValueID) {
+        ConjuntoRegras ruleSet = new ConjuntoRegras();
+        return () -> TurnActionFactory.playCardAsAction(ruleSet, 0, 1, faceValueID, 0);
+    }
+
+    /**
+     * Cria a sequência de comprar uma carta sem executá-la.
+     *
+     * @return Cada chamada devolve uma nova TurnSequence.
+     */
+    public static Supplier<Object> drawCardAsAction() {
+        return () -> TurnActionFactory.drawCardAsAction(0);
+    }
+
+    /**
+     * Executa uma atualização de uma partida só de AIJogadors: a IA do jogador
+     * atual escolhe uma ação e a sequência de TurnActions resultante roda até
+     * a próxima decisão. Uma nova partida começa quando a rodada termina.
+     *
+     * @param seed        Semente da primeira partida.
+     * @param playerCount Número de jogadores (2 ou 4).
+     * @return Cada chamada devolve o número de turnos da partida atual.
+     */
+    public static IntSupplier aiTurn(long seed, int playerCount) {
+        List<Jogador> players = createAIPlayers(playerCount);
+        ConjuntoRegras ruleSet = createRuleSet(playerCount);
+        MotorJogo[] game = { new MotorJogo(players, ruleSet, null, new AleatorioJogo(seed)) };
+        long[] nextSeed = { seed + 1 };
+        return () -> {
+            if (game[0].isRoundOver()) {
+                game[0] = new MotorJogo(players, ruleSet, null, new AleatorioJogo(nextSeed[0]++));
+            }
+            game[0].update(MotorJogo.HEADLESS_UPDATE_TIME);
+            return game[0].getTurnCount();
+        };
+    }
+
+    /**
+     * Joga uma partida inteira de AIJogadors, do primeiro ao último turno,
+     * com uma semente diferente a cada chamada.
+     *
+     * @param seed        Semente da primeira partida.
+     * @param playerCount Número de jogadores (2 ou 4).
+     * @return Cada chamada devolve o número de turnos da partida.
+     */
+    public static IntSupplier fullGame(long seed, int playerCount) {
+        List<Jogador> players = createAIPlayers(playerCount);
+        ConjuntoRegras ruleSet = createRuleSet(playerCount);
+        long[] nextSeed = { seed };
+        return () -> {
+            MotorJogo game = new MotorJogo(players, ruleSet, null, new AleatorioJogo(nextSeed[0]++));
+            game.playUntilRoundEnds(100000);
+            return game.getTurnCount();
+        };
+    }
+
+    /**
+     * Copia um EstadoJogo capturado de uma partida em andamento para outro,
+     * como a busca faz a cada iteração.
+     *
+     * @param seed        Semente da partida.
+     * @param playerCount Número de jogadores (2 ou 4).
+     * @return Cada chamada copia o estado e devolve o tamanho de uma mão.
+     */
+    public static IntSupplier stateCopy(long seed, int playerCount) {
+        EstadoJogo source = captureState(seed, playerCount);
+        EstadoJogo copy = new EstadoJogo(new SplittableRandom(seed));
+        return () -> {
+            copy.copyFrom(source);
+            return copy.getHandSize(copy.getCurrentPlayerID());
+        };
+    }
+
+    /**
+     * Aplica uma ação de turno sorteada entre as legais em um EstadoJogo e a
+     * desfaz com o log, sem copiar o estado.
+     *
+     * @param seed        Semente da partida e do sorteio das ações.
+     * @param playerCount Número de jogadores (2 ou 4).
+     * @return Cada chamada aplica e desfaz uma ação e devolve o tamanho da mão
+     *         depois da ação.
+     */
+    public static IntSupplier stateApplyUndo(long seed, int playerCount) {
+        EstadoJogo state = captureState(seed, playerCount);
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] actions = new int[EstadoJogo.ACTION_COUNT];
+        return () -> {
+            int mark = state.mark();
+            int playerID = state.getCurrentPlayerID();
+            state.applyAction(actions[random.nextInt(state.getLegalActions(actions))]);
+            int handSize = state.getHandSize(playerID);
+            state.undo(mark);
+            return handSize;
+        };
+    }
+
+    /**
+     * Escolhe com o SolucionadorFinal a jogada do início de um turno de dois
+     * jogadores em que as duas mãos foram reduzidas a handSize cartas; as
+     * cartas retiradas vão para o descarte. O jogador atual fica de
+     * preferência com cartas jogáveis, para que haja uma escolha a resolver.
+     *
+     * @param seed     Semente da partida e dos sorteios do solucionador.
+     * @param handSize Número de cartas em cada mão (2 a
+     *                 SolucionadorFinal.HAND_SIZE_THRESHOLD).
+     * @return Cada chamada resolve a posição e devolve a jogada escolhida.
+     */
+    public static IntSupplier endgameSolve(long seed, int handSize) {
+        List<Jogador> players = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            players.add(new Jogador(i, "Bench" + i, Jogador.PlayerType.UnoJogador, null, false));
+        }
+        MotorJogo game = new MotorJogo(players, createRuleSet(2), null, new AleatorioJogo(seed));
+        while (game.getCurrentTurnAction() != null) {
+            game.update(MotorJogo.HEADLESS_UPDATE_TIME);
+        }
+        int topCard = game.getTopCard();
+        for (Jogador player : players) {
+            while (player.getHandSize() > handSize) {
+                int card = player.getCard(0);
+                for (int i = 0; i < player.getHandSize(); i++) {
+                    if (!CodigoCarta.isPlayableOn(player.getCard(i), CodigoCarta.getFaceValueID(topCard),
+                            CodigoCarta.getColourID(topCard))) {
+                        card = player.getCard(i);
+                        break;
+                    }
+                }
+                game.getDeck().discard(player.removeCardByID(CodigoCarta.getCardID(card)));
+            }
+        }
+        SolucionadorFinal solver = new SolucionadorFinal();
+        SplittableRandom random = new SplittableRandom(seed);
+        return () -> solver.solve(game, null, random);
+    }
+
+    /**
+     * Desenha cartas em uma imagem fora da tela, passando por todas as faces
+     * e cores.
+     *
+     * @return Cada chamada desenha uma carta e devolve um pixel da imagem.
+     */
+    public static IntSupplier paintCard() {
+        BufferedImage image = new BufferedImage(Carta.CARD_WIDTH, Carta.CARD_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        List<Carta> cards = new ArrayList<>();
+        for (int faceValueID = 0; faceValueID < CodigoCarta.FACE_VALUE_COUNT; faceValueID++) {
+            int colourCount = faceValueID >= 13 ? 1 : 4;
+            for (int colourID = 0; colourID < colourCount; colourID++) {
+                cards.add(new Carta(faceValueID, faceValueID >= 13 ? CodigoCarta.WILD_COLOUR : colourID, 0));
+            }
+        }
+        int[] index = { 0 };
+        return () -> {
+            Carta card = cards.get(index[0]++ % cards.size());
+            card.paint(g);
+            return image.getRGB(Carta.CARD_WIDTH / 2, Carta.CARD_HEIGHT / 2);
+        };
+    }
+
+    /**
+     * Joga alguns turnos de uma partida de AIJogadors e captura o estado no
+     * início do turno seguinte.
+     *
+     * @param seed        Semente da partida.
+     * @param playerCount Número de jogadores.
+     * @return O estado capturado.
+     */
+    private static EstadoJogo captureState(long seed, int playerCount) {
+        MotorJogo game = new MotorJogo(createAIPlayers(playerCount), createRuleSet(playerCount), null,
+                new AleatorioJogo(seed));
+        while (!game.isRoundOver() && (game.getTurnCount() < 10 || game.getCurrentTurnAction() != null)) {
+            game.update(MotorJogo.HEADLESS_UPDATE_TIME);
+        }
+        EstadoJogo state = new EstadoJogo(new SplittableRandom(seed));
+        state.captureFrom(game);
+        return state;
+    }
+
+    /**
+     * Compra cartas de um baralho embaralhado com a semente indicada.
+     *
+     * @param seed  Semente do embaralhamento.
+     * @param count Número de cartas.
+     * @return As cartas codificadas compradas.
+     */
+    private static int[] drawCards(long seed, int count) {
+        Deck deck = new Deck(new SplittableRandom(seed));
+        int[] cards = new int[count];
+        for (int i = 0; i < count; i++) {
+            cards[i] = deck.drawCard();
+        }
+        return cards;
+    }
+
+    /**
+     * Cria um jogador com uma mão de cartas aleatórias.
+     *
+     * @param seed     Semente das cartas.
+     * @param handSize Número de cartas na mão.
+     * @param bounds   Região da mão, ou nula para um jogador sem desenho.
+     * @return O jogador criado.
+     */
+    private static Jogador createHand(long seed, int handSize, Retangulo bounds) {
+        Jogador player = new Jogador(0, "Bench", Jogador.PlayerType.AIJogador, bounds, false);
+        for (int card : drawCards(seed, handSize)) {
+            player.addCardToHand(card);
+        }
+        return player;
+    }
+
+    /**
+     * Cria os AIJogadors de uma partida, alternando as estratégias.
+     *
+     * @param playerCount Número de jogadores.
+     * @return Os jogadores criados.
+     */
+    private static List<Jogador> createAIPlayers(int playerCount) {
+        AIJogador.AIStrategy[] strategies = { AIJogador.AIStrategy.Ofensivo, AIJogador.AIStrategy.Defensivo,
+                AIJogador.AIStrategy.Caotico };
+        List<Jogador> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new AIJogador(i, "IA" + i, null, strategies[i % strategies.length], false));
+        }
+        return players;
+    }
+
+    /**
+     * Cria as regras padrão para o número de jogadores indicado.
+     *
+     * @param playerCount Número de jogadores.
+     * @return As regras da partida.
+     */
+    private static ConjuntoRegras createRuleSet(int playerCount) {
+        ConjuntoRegras ruleSet = new ConjuntoRegras();
+        ruleSet.setTwoPlayers(playerCount == 2);
+        return ruleSet;
+    }
+}
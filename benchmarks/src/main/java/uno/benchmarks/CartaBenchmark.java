@@ -0,0 +1,55 @@
+package uno.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uno
+ *
+ * Classe CartaBenchmark:
+ * Mede o desenho de uma carta em uma BufferedImage fora da tela.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CartaBenchmark {
+    /**
+     * Cenário de desenhar uma carta.
+     */
+    private IntSupplier paintCard;
+
+    /**
+     * Monta o cenário.
+     */
+    @Setup
+    public void setup() {
+        paintCard = Cenarios.create(IntSupplier.class, "paintCard");
+    }
+
+    /**
+     * Carta.paint de uma face e cor diferentes a cada operação.
+     *
+     * @return Um pixel da imagem desenhada.
+     */
+    @Benchmark
+    public int paint() {
+        return paintCard.getAsInt();
+    }
+}
@@ -0,0 +1,46 @@
+package uno.benchmarks;
+
+import java.lang.reflect.Method;
+
+/**
+ * Uno
+ *
+ * Classe Cenarios:
+ * Obtém os cenários de CenariosBenchmark, que fica no pacote padrão junto com
+ * as classes do jogo. A reflexão é usada apenas no @Setup; a interface
+ * funcional devolvida é chamada diretamente dentro do benchmark.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+final class Cenarios {
+    /**
+     * Não é instanciada; todos os métodos são estáticos.
+     */
+    private Cenarios() {
+    }
+
+    /**
+     * Cria um cenário chamando o método estático de mesmo nome em
+     * CenariosBenchmark.
+     *
+     * @param type      O tipo da interface funcional devolvida pelo cenário.
+     * @param name      O nome do método do cenário.
+     * @param arguments Os argumentos passados para o método.
+     * @param <T>       O tipo da interface funcional.
+     * @return O cenário pronto para ser chamado.
+     */
+    static <T> T create(Class<T> type, String name, Object... arguments) {
+        try {
+            Class<?> scenarios = Class.forName("CenariosBenchmark");
+            for (Method method : scenarios.getMethods()) {
+                if (method.getName().equals(name) && method.getParameterCount() == arguments.length) {
+                    return type.cast(method.invoke(null, arguments));
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Não foi possível criar o cenário " + name, e);
+        }
+        throw new IllegalArgumentException("Cenário desconhecido: " + name);
+    }
+}
@@ -0,0 +1,72 @@
+package uno.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uno
+ *
+ * Classe DeckBenchmark:
+ * Mede a compra de cartas (incluindo o reembaralhamento da pilha de descarte)
+ * e a criação de um baralho completo.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+    /**
+     * Compra e descarta uma carta por operação.
+     */
+    private IntSupplier drawCard;
+    /**
+     * Cria um baralho completo por operação.
+     */
+    private Supplier<?> fillDeck;
+
+    /**
+     * Monta os cenários.
+     */
+    @Setup
+    public void setup() {
+        drawCard = Cenarios.create(IntSupplier.class, "deckDrawCard", 1L);
+        fillDeck = Cenarios.create(Supplier.class, "deckFill", 1L);
+    }
+
+    /**
+     * Deck.drawCard seguido de Deck.discard.
+     *
+     * @return A carta comprada.
+     */
+    @Benchmark
+    public int drawCard() {
+        return drawCard.getAsInt();
+    }
+
+    /**
+     * new Deck: cria as 108 cartas e as embaralha.
+     *
+     * @return O baralho criado.
+     */
+    @Benchmark
+    public Object fillDeck() {
+        return fillDeck.get();
+    }
+}
@@ -0,0 +1,78 @@
+package uno.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uno
+ *
+ * Classe EstadoJogoBenchmark:
+ * Compara as duas formas de a busca voltar a um estado: copiar o EstadoJogo
+ * inteiro ou aplicar uma ação e desfazê-la com o log.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EstadoJogoBenchmark {
+    /**
+     * Número de jogadores na mesa.
+     */
+    @Param({ "2", "4" })
+    public int playerCount;
+
+    /**
+     * Cenário de copiar o estado.
+     */
+    private IntSupplier stateCopy;
+    /**
+     * Cenário de aplicar e desfazer uma ação.
+     */
+    private IntSupplier stateApplyUndo;
+
+    /**
+     * Monta os cenários.
+     */
+    @Setup
+    public void setup() {
+        stateCopy = Cenarios.create(IntSupplier.class, "stateCopy", 1L, playerCount);
+        stateApplyUndo = Cenarios.create(IntSupplier.class, "stateApplyUndo", 1L, playerCount);
+    }
+
+    /**
+     * EstadoJogo.copyFrom de um estado no meio da partida.
+     *
+     * @return O tamanho da mão do jogador atual na cópia.
+     */
+    @Benchmark
+    public int copy() {
+        return stateCopy.getAsInt();
+    }
+
+    /**
+     * EstadoJogo.mark, applyAction e undo.
+     *
+     * @return O tamanho da mão depois da ação.
+     */
+    @Benchmark
+    public int applyUndo() {
+        return stateApplyUndo.getAsInt();
+    }
+}
@@ -0,0 +1,126 @@
+package uno.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uno
+ *
+ * Classe JogadorBenchmark:
+ * Mede as operações de mão do Jogador para mãos de vários tamanhos. O custo de
+ * sortHand é sortHand menos fillHand.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JogadorBenchmark {
+    /**
+     * Número de cartas na mão.
+     */
+    @Param({ "7", "20", "60" })
+    public int handSize;
+
+    /**
+     * Cenário de getValidMoves.
+     */
+    private IntSupplier validMoves;
+    /**
+     * Cenário de MotorJogo.getLegalMoves.
+     */
+    private IntSupplier legalMoves;
+    /**
+     * Cenário de encher e ordenar a mão.
+     */
+    private IntSupplier sortHand;
+    /**
+     * Cenário de encher a mão sem ordenar.
+     */
+    private IntSupplier fillHand;
+    /**
+     * Cenário de mover o mouse sobre uma mão desenhada.
+     */
+    private IntSupplier recalculateCardPositions;
+
+    /**
+     * Monta os cenários para o tamanho de mão atual.
+     */
+    @Setup
+    public void setup() {
+        validMoves = Cenarios.create(IntSupplier.class, "validMoves", 1L, handSize);
+        legalMoves = Cenarios.create(IntSupplier.class, "legalMoves", 1L, handSize);
+        sortHand = Cenarios.create(IntSupplier.class, "sortHand", 1L, handSize);
+        fillHand = Cenarios.create(IntSupplier.class, "fillHand", 1L, handSize);
+        recalculateCardPositions = Cenarios.create(IntSupplier.class, "recalculateCardPositions", 1L, handSize);
+    }
+
+    /**
+     * Jogador.getValidMoves com uma carta do topo diferente a cada operação.
+     *
+     * @return O número de jogadas válidas.
+     */
+    @Benchmark
+    public int getValidMoves() {
+        return validMoves.getAsInt();
+    }
+
+    /**
+     * MotorJogo.getLegalMoves no início do turno, preenchendo sempre o mesmo
+     * array.
+     *
+     * @return O número de jogadas legais.
+     */
+    @Benchmark
+    public int getLegalMoves() {
+        return legalMoves.getAsInt();
+    }
+
+    /**
+     * Enche a mão em ordem aleatória e chama Jogador.sortHand.
+     *
+     * @return A primeira carta da mão ordenada.
+     */
+    @Benchmark
+    public int sortHand() {
+        return sortHand.getAsInt();
+    }
+
+    /**
+     * Enche a mão em ordem aleatória, base de comparação de sortHand.
+     *
+     * @return A primeira carta da mão.
+     */
+    @Benchmark
+    public int fillHand() {
+        return fillHand.getAsInt();
+    }
+
+    /**
+     * Jogador.updateHover, que procura a carta sob o mouse e reposiciona as
+     * cartas que ganharam ou perderam o foco. O nome foi mantido para comparar
+     * com os resultados anteriores.
+     *
+     * @return O tamanho da mão.
+     */
+    @Benchmark
+    public int recalculateCardPositions() {
+        return recalculateCardPositions.getAsInt();
+    }
+}
@@ -0,0 +1,63 @@
+package uno.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uno
+ *
+ * Classe PartidaBenchmark:
+ * Mede uma partida inteira de AIJogadors sem interface, do início ao
+ * vencedor.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartidaBenchmark {
+    /**
+     * Número de jogadores na mesa.
+     */
+    @Param({ "2", "4" })
+    public int playerCount;
+
+    /**
+     * Cenário de jogar uma partida inteira.
+     */
+    private IntSupplier fullGame;
+
+    /**
+     * Monta o cenário.
+     */
+    @Setup
+    public void setup() {
+        fullGame = Cenarios.create(IntSupplier.class, "fullGame", 1L, playerCount);
+    }
+
+    /**
+     * MotorJogo.playUntilRoundEnds com uma semente nova a cada operação.
+     *
+     * @return O número de turnos da partida.
+     */
+    @Benchmark
+    public int fullGame() {
+        return fullGame.getAsInt();
+    }
+}
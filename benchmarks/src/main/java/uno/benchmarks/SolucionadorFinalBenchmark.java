@@ -0,0 +1,64 @@
+package uno.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uno
+ *
+ * Classe SolucionadorFinalBenchmark:
+ * Mede quantas jogadas por segundo o SolucionadorFinal resolve no fim de uma
+ * rodada de dois jogadores, que deve caber com folga no atraso de 1500ms de
+ * um AIJogador.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolucionadorFinalBenchmark {
+    /**
+     * Número de cartas em cada mão.
+     */
+    @Param({ "2", "3" })
+    public int handSize;
+
+    /**
+     * Cenário de resolver a posição.
+     */
+    private IntSupplier endgameSolve;
+
+    /**
+     * Monta o cenário.
+     */
+    @Setup
+    public void setup() {
+        endgameSolve = Cenarios.create(IntSupplier.class, "endgameSolve", 1L, handSize);
+    }
+
+    /**
+     * SolucionadorFinal.solve no início do turno.
+     *
+     * @return A jogada escolhida.
+     */
+    @Benchmark
+    public int solve() {
+        return endgameSolve.getAsInt();
+    }
+}
@@ -0,0 +1,95 @@
+package uno.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uno
+ *
+ * Classe TurnActionBenchmark:
+ * Mede a criação das sequências de TurnActions e a sua execução dentro de uma
+ * partida de AIJogadors.
+ *
+ * @autor Cauet Damasceno
+ * @versão 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnActionBenchmark {
+    /**
+     * A face da carta jogada: 5 (número), 10 (+2), 13 (+4) ou 14 (curinga).
+     */
+    @Param({ "5", "10", "13", "14" })
+    public int faceValueID;
+
+    /**
+     * Cenário de criar a sequência de jogar uma carta.
+     */
+    private Supplier<?> playCardAsAction;
+    /**
+     * Cenário de criar a sequência de comprar uma carta.
+     */
+    private Supplier<?> drawCardAsAction;
+    /**
+     * Cenário de executar um turno de uma partida de IAs.
+     */
+    private IntSupplier aiTurn;
+
+    /**
+     * Monta os cenários.
+     */
+    @Setup
+    public void setup() {
+        playCardAsAction = Cenarios.create(Supplier.class, "playCardAsAction", faceValueID);
+        drawCardAsAction = Cenarios.create(Supplier.class, "drawCardAsAction");
+        aiTurn = Cenarios.create(IntSupplier.class, "aiTurn", 1L, 4);
+    }
+
+    /**
+     * TurnActionFactory.playCardAsAction.
+     *
+     * @return A sequência criada.
+     */
+    @Benchmark
+    public Object playCardAsAction() {
+        return playCardAsAction.get();
+    }
+
+    /**
+     * TurnActionFactory.drawCardAsAction.
+     *
+     * @return A sequência criada.
+     */
+    @Benchmark
+    public Object drawCardAsAction() {
+        return drawCardAsAction.get();
+    }
+
+    /**
+     * Um MotorJogo.update de uma partida de 4 IAs: a escolha da IA e a
+     * execução da sequência até a próxima decisão.
+     *
+     * @return O número de turnos da partida atual.
+     */
+    @Benchmark
+    public int executeTurn() {
+        return aiTurn.getAsInt();
+    }
+}